@@ -27,14 +27,16 @@ public final class DevCache {
 
     /**
      * 获取 DevCache
-     * @param cachePath 缓存文件夹路径
-     * @param cipher    通用加解密中间层
+     * @param cachePath   缓存文件夹路径
+     * @param cipher      通用加解密中间层
+     * @param storageType 存储方式
      */
     private DevCache(
             final String cachePath,
-            final Cipher cipher
+            final Cipher cipher,
+            final StorageType storageType
     ) {
-        mManager = new DevCacheManager(cachePath, cipher);
+        mManager = new DevCacheManager(cachePath, cipher, storageType);
     }
 
     // 数据类型
@@ -52,6 +54,17 @@ public final class DevCache {
     public static final int JSON_OBJECT  = 12;
     public static final int JSON_ARRAY   = 13;
 
+    /**
+     * detail: 存储方式
+     * @author Ttt
+     */
+    public enum StorageType {
+
+        FILE, // 每个 Key 存储 .data + .config 两个文件
+
+        JOURNAL, // 全部 Key 追加写入分段日志文件 ( 内存索引、后台压缩 ), 适合大量 Key, 不再使用时调用 close() 释放文件句柄
+    }
+
     // =============
     // = 对外公开方法 =
     // =============
@@ -64,7 +77,7 @@ public final class DevCache {
         DevCache cache = DevCacheManager.sInstanceMaps.get("");
         if (cache == null) {
             String cachePath = PathUtils.getAppExternal().getAppCachePath(DEFAULT_NAME);
-            cache = new DevCache(cachePath, null);
+            cache = new DevCache(cachePath, null, StorageType.FILE);
             DevCacheManager.sInstanceMaps.put("", cache);
             DevCacheManager.sInstanceMaps.put(cachePath, cache);
         }
@@ -89,13 +102,31 @@ public final class DevCache {
     public static DevCache newCache(
             final String cachePath,
             final Cipher cipher
+    ) {
+        return newCache(cachePath, cipher, StorageType.FILE);
+    }
+
+    /**
+     * 获取 DevCache
+     * <pre>
+     *     同一缓存文件夹只会创建一个 DevCache, 存储方式以首次创建为准
+     * </pre>
+     * @param cachePath   缓存文件夹路径
+     * @param cipher      通用加解密中间层
+     * @param storageType 存储方式
+     * @return {@link DevCache}
+     */
+    public static DevCache newCache(
+            final String cachePath,
+            final Cipher cipher,
+            final StorageType storageType
     ) {
         if (TextUtils.isEmpty(cachePath)) {
             return newCache();
         }
         DevCache cache = DevCacheManager.sInstanceMaps.get(cachePath);
         if (cache == null) {
-            cache = new DevCache(cachePath, cipher);
+            cache = new DevCache(cachePath, cipher, storageType);
             DevCacheManager.sInstanceMaps.put(cachePath, cache);
         }
         return cache;
@@ -211,6 +242,85 @@ public final class DevCache {
         return mManager.getSize();
     }
 
+    /**
+     * 关闭缓存 ( 释放文件句柄 )
+     * <pre>
+     *     {@link StorageType#JOURNAL} 分段文件保持打开, 不再使用时调用释放, 再次读写时自动重新打开
+     * </pre>
+     */
+    public void close() {
+        mManager.close();
+    }
+
+    // ==========
+    // = 容量配置 =
+    // ==========
+
+    /**
+     * 获取缓存最大占用空间
+     * @return 缓存最大占用空间 ( 小于等于 0 表示不限制 )
+     */
+    public long getMaxSize() {
+        return mManager.getMaxSize();
+    }
+
+    /**
+     * 设置缓存最大占用空间
+     * <pre>
+     *     超出时按最近最少使用 ( LRU ) 淘汰 Key 配置、数据文件
+     *     按有效数据大小统计, {@link StorageType#JOURNAL} 压缩前失效数据仍占用磁盘 ( 最多约 2 倍 )
+     * </pre>
+     * @param maxSize 缓存最大占用空间 ( 小于等于 0 表示不限制 )
+     * @return {@link DevCache}
+     */
+    public DevCache setMaxSize(final long maxSize) {
+        mManager.setMaxSize(maxSize);
+        return this;
+    }
+
+    /**
+     * 获取缓存最大数量
+     * @return 缓存最大数量 ( 小于等于 0 表示不限制 )
+     */
+    public int getMaxCount() {
+        return mManager.getMaxCount();
+    }
+
+    /**
+     * 设置缓存最大数量
+     * <pre>
+     *     超出时按最近最少使用 ( LRU ) 淘汰 Key 配置、数据文件
+     * </pre>
+     * @param maxCount 缓存最大数量 ( 小于等于 0 表示不限制 )
+     * @return {@link DevCache}
+     */
+    public DevCache setMaxCount(final int maxCount) {
+        mManager.setMaxCount(maxCount);
+        return this;
+    }
+
+    /**
+     * 获取内存缓存最大占用空间
+     * @return 内存缓存最大占用空间 ( 0 表示未开启 )
+     */
+    public int getMemoryCacheSize() {
+        return mManager.getMemoryCacheSize();
+    }
+
+    /**
+     * 设置内存缓存最大占用空间
+     * <pre>
+     *     开启后热点 Key 读取直接从内存返回 ( 解密后数据 ), 无需读取文件
+     *     重新设置会清空已有内存缓存
+     * </pre>
+     * @param maxSize 内存缓存最大占用空间 ( 小于等于 0 表示关闭 )
+     * @return {@link DevCache}
+     */
+    public DevCache setMemoryCacheSize(final int maxSize) {
+        mManager.setMemoryCacheSize(maxSize);
+        return this;
+    }
+
     // =======
     // = 存储 =
     // =======
@@ -718,8 +828,6 @@ public final class DevCache {
      */
     public static final class Data {
 
-        // 缓存地址
-        private final String mPath;
         // 存储 Key
         private final String mKey;
         // 存储类型
@@ -728,19 +836,21 @@ public final class DevCache {
         private       long   mSaveTime;
         // 有效期 ( 毫秒 )
         private       long   mValidTime;
+        // 数据大小
+        private       long   mSize;
 
         protected Data(
-                String path,
                 String key,
                 int type,
                 long saveTime,
-                long validTime
+                long validTime,
+                long size
         ) {
-            this.mPath      = path;
             this.mKey       = key;
             this.mType      = type;
             this.mSaveTime  = saveTime;
             this.mValidTime = validTime;
+            this.mSize      = size;
         }
 
         /**
@@ -774,7 +884,7 @@ public final class DevCache {
          * @return 文件大小
          */
         public long getSize() {
-            return DevCacheManager.getDataFileSize(mPath, mKey);
+            return mSize;
         }
 
         // =
@@ -820,6 +930,11 @@ public final class DevCache {
             return this;
         }
 
+        protected Data setSize(long size) {
+            this.mSize = size;
+            return this;
+        }
+
         // ==========
         // = 判断方法 =
         // ==========
@@ -0,0 +1,163 @@
+package dev.utils.app.cache;
+
+import android.text.TextUtils;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.utils.LogPrintUtils;
+import dev.utils.common.FileUtils;
+
+/**
+ * detail: 缓存文件存储
+ * @author Ttt
+ * <pre>
+ *     每个 Key 存储 key.data ( 数据 ) + key.config ( 配置 ) 两个文件
+ * </pre>
+ */
+final class DevCacheFileStorage
+        implements DevCacheStorage {
+
+    // 日志 TAG
+    private final        String TAG              = DevCacheFileStorage.class.getSimpleName();
+    // 文件后缀
+    private static final String DATA_EXTENSION   = ".data";
+    private static final String CONFIG_EXTENSION = ".config";
+    // 缓存地址
+    private final        String mCachePath;
+
+    public DevCacheFileStorage(final String cachePath) {
+        this.mCachePath = cachePath;
+    }
+
+    // ===================
+    // = DevCacheStorage =
+    // ===================
+
+    @Override
+    public List<DevCache.Data> loadAll() {
+        List<DevCache.Data> lists = new ArrayList<>();
+        if (mCachePath != null) {
+            File[] cachedFiles = new File(mCachePath).listFiles();
+            if (cachedFiles != null) {
+                for (File file : cachedFiles) {
+                    if (file != null && file.isFile()) {
+                        String fileName = file.getName();
+                        if (fileName.endsWith(CONFIG_EXTENSION)) {
+                            String        key  = FileUtils.getFileNotSuffix(fileName);
+                            DevCache.Data data = readData(key);
+                            if (data != null) lists.add(data);
+                        }
+                    }
+                }
+            }
+        }
+        return lists;
+    }
+
+    @Override
+    public DevCache.Data readData(final String key) {
+        if (!contains(key)) return null;
+        try {
+            File       configFile = configFileForKey(key);
+            String     config     = new String(FileUtils.readFileBytes(configFile));
+            JSONObject jsonObject = new JSONObject(config);
+            if (jsonObject.has("key")
+                    && jsonObject.has("type")
+                    && jsonObject.has("saveTime")
+                    && jsonObject.has("validTime")
+            ) {
+                String entryKey  = jsonObject.getString("key");
+                int    type      = jsonObject.getInt("type");
+                long   saveTime  = jsonObject.getLong("saveTime");
+                long   validTime = jsonObject.getLong("validTime");
+                return new DevCache.Data(entryKey, type, saveTime, validTime,
+                        FileUtils.getFileLength(dataFileForKey(key))
+                );
+            }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "readData");
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(final String key) {
+        if (TextUtils.isEmpty(key)) return false;
+        return FileUtils.isFileExists(dataFileForKey(key))
+                && FileUtils.isFileExists(configFileForKey(key));
+    }
+
+    @Override
+    public boolean write(
+            final DevCache.Data data,
+            final byte[] bytes
+    ) {
+        if (data == null || bytes == null) return false;
+        String key = data.getKey();
+        if (TextUtils.isEmpty(key)) return false;
+        boolean result = FileUtils.saveFile(dataFileForKey(key), bytes);
+        if (result) {
+            FileUtils.saveFile(configFileForKey(key), formatDataJson(data).getBytes());
+        }
+        return result;
+    }
+
+    @Override
+    public byte[] read(final String key) {
+        return FileUtils.readFileBytes(dataFileForKey(key));
+    }
+
+    @Override
+    public boolean delete(final String key) {
+        if (TextUtils.isEmpty(key)) return false;
+        return FileUtils.deleteFile(dataFileForKey(key))
+                && FileUtils.deleteFile(configFileForKey(key));
+    }
+
+    @Override
+    public void close() {
+        // 每次读写独立打开文件, 无需释放
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取 Key 数据文件
+     * @param key 存储 key
+     * @return Key 数据文件
+     */
+    private File dataFileForKey(final String key) {
+        if (TextUtils.isEmpty(key)) return null;
+        return FileUtils.getFile(mCachePath, key + DATA_EXTENSION);
+    }
+
+    /**
+     * 获取 Key 配置文件
+     * @param key 存储 key
+     * @return Key 配置文件
+     */
+    private File configFileForKey(final String key) {
+        if (TextUtils.isEmpty(key)) return null;
+        return FileUtils.getFile(mCachePath, key + CONFIG_EXTENSION);
+    }
+
+    /**
+     * Data Format JSON String
+     * @param data 数据源
+     * @return JSON String
+     */
+    private String formatDataJson(final DevCache.Data data) {
+        // Data JSON Format
+        return String.format(
+                "{\"key\":\"%s\",\"type\":%d,\"saveTime\":%d,\"validTime\":%d}",
+                data.getKey(), data.getType(),
+                data.getSaveTime(), data.getValidTime()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,772 @@
+package dev.utils.app.cache;
+
+import android.text.TextUtils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+import dev.utils.LogPrintUtils;
+import dev.utils.common.CloseUtils;
+import dev.utils.common.FileUtils;
+
+/**
+ * detail: 缓存日志存储 ( 单文件追加写入 )
+ * @author Ttt
+ * <pre>
+ *     全部 Key 追加写入分段日志文件 segment_{id}.log, 内存中维护 Key 索引 ( 分段 id + 偏移量 )
+ *     读取时根据索引直接定位读取, 覆盖、删除只追加新记录 ( 删除为墓碑记录 ), 不修改历史数据
+ *     <p></p>
+ *     分段文件达到 {@link #mSegmentSize} 后封存并写入 segment_{id}.hint 索引检查点
+ *     初始化时已封存分段直接读取 hint 重建索引, 只需扫描最后一个活跃分段
+ *     <p></p>
+ *     失效数据 ( 被覆盖、删除的记录 ) 超过阈值后在后台线程压缩, 将已封存分段中的有效记录
+ *     合并写入 segment_{maxId}.compact, 成功后替换原有分段
+ *     压缩前失效数据仍占用磁盘, 分段文件总大小最多约为有效数据的 2 倍 ( 失效数据小于 1MB 时不压缩 )
+ *     <p></p>
+ *     分段文件保持打开, 不再使用时调用 {@link #close()} 释放文件句柄, 再次读写时重新打开
+ *     <p></p>
+ *     记录格式: crc(4) + op(1) + keyLength(2) + type(4) + saveTime(8) + validTime(8) + valueLength(4) + key + value
+ * </pre>
+ */
+final class DevCacheJournalStorage
+        implements DevCacheStorage {
+
+    // 日志 TAG
+    private final        String TAG                  = DevCacheJournalStorage.class.getSimpleName();
+    // 文件前缀、后缀
+    private static final String SEGMENT_PREFIX       = "segment_";
+    private static final String SEGMENT_EXTENSION    = ".log";
+    private static final String HINT_EXTENSION       = ".hint";
+    private static final String COMPACT_EXTENSION    = ".compact";
+    private static final String TEMP_EXTENSION       = ".tmp";
+    // 记录操作类型
+    private static final byte   OP_PUT               = 1;
+    private static final byte   OP_DELETE            = 2;
+    // 记录头长度
+    private static final int    HEADER_SIZE          = 4 + 1 + 2 + 4 + 8 + 8 + 4;
+    // 默认分段文件大小 ( 4MB )
+    private static final long   DEFAULT_SEGMENT_SIZE = 4L * 1024L * 1024L;
+    // 触发压缩的最小失效数据大小 ( 1MB )
+    private static final long   COMPACT_THRESHOLD    = 1024L * 1024L;
+
+    // 缓存地址
+    private final String mCachePath;
+    // 分段文件大小
+    private final long   mSegmentSize;
+
+    // Key 索引
+    private final Map<String, Entry>              mIndexMaps  = new HashMap<>();
+    // 分段文件 ( 分段 id, 文件通道 )
+    private final TreeMap<Integer, FileChannel>   mSegments   = new TreeMap<>();
+    // 当前活跃分段 hint 数据 ( 封存时写入文件 )
+    private       ByteArrayOutputStream           mActiveHint;
+    // 当前活跃分段 id
+    private       int                             mActiveId;
+    // 当前活跃分段大小
+    private       long                            mActiveSize;
+    // 全部分段文件大小
+    private       long                            mTotalSize;
+    // 有效记录大小
+    private       long                            mLiveSize;
+    // 是否已初始化
+    private       boolean                         mOpened;
+    // 打开次数 ( 关闭后压缩结果不再替换分段, 由下次打开恢复 )
+    private       int                             mGeneration;
+    // 是否压缩中
+    private final AtomicBoolean                   mCompacting = new AtomicBoolean();
+
+    public DevCacheJournalStorage(final String cachePath) {
+        this(cachePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public DevCacheJournalStorage(
+            final String cachePath,
+            final long segmentSize
+    ) {
+        this.mCachePath   = cachePath;
+        this.mSegmentSize = segmentSize > 0L ? segmentSize : DEFAULT_SEGMENT_SIZE;
+    }
+
+    // ===================
+    // = DevCacheStorage =
+    // ===================
+
+    @Override
+    public synchronized List<DevCache.Data> loadAll() {
+        List<DevCache.Data> lists = new ArrayList<>();
+        if (!ensureOpen()) return lists;
+        for (Map.Entry<String, Entry> item : mIndexMaps.entrySet()) {
+            lists.add(item.getValue().toData(item.getKey()));
+        }
+        return lists;
+    }
+
+    @Override
+    public synchronized DevCache.Data readData(final String key) {
+        if (TextUtils.isEmpty(key) || !ensureOpen()) return null;
+        Entry entry = mIndexMaps.get(key);
+        return entry != null ? entry.toData(key) : null;
+    }
+
+    @Override
+    public synchronized boolean contains(final String key) {
+        if (TextUtils.isEmpty(key) || !ensureOpen()) return false;
+        return mIndexMaps.containsKey(key);
+    }
+
+    @Override
+    public boolean write(
+            final DevCache.Data data,
+            final byte[] bytes
+    ) {
+        if (data == null || bytes == null) return false;
+        String key = data.getKey();
+        if (TextUtils.isEmpty(key)) return false;
+        synchronized (this) {
+            if (!ensureOpen()) return false;
+            Entry entry = append(
+                    OP_PUT, key, data.getType(),
+                    data.getSaveTime(), data.getValidTime(), bytes
+            );
+            if (entry == null) return false;
+            Entry old = mIndexMaps.put(key, entry);
+            if (old != null) mLiveSize -= old.recordSize();
+            mLiveSize += entry.recordSize();
+        }
+        compactIfNeeded();
+        return true;
+    }
+
+    @Override
+    public synchronized byte[] read(final String key) {
+        if (TextUtils.isEmpty(key) || !ensureOpen()) return null;
+        Entry entry = mIndexMaps.get(key);
+        if (entry == null) return null;
+        FileChannel channel = mSegments.get(entry.segmentId);
+        if (channel == null) return null;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+            readFully(channel, buffer, entry.offset);
+            return buffer.array();
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "read");
+        }
+        return null;
+    }
+
+    @Override
+    public boolean delete(final String key) {
+        if (TextUtils.isEmpty(key)) return false;
+        synchronized (this) {
+            if (!ensureOpen()) return false;
+            Entry old = mIndexMaps.get(key);
+            if (old == null) return false;
+            Entry entry = append(OP_DELETE, key, 0, 0L, 0L, new byte[0]);
+            if (entry == null) return false;
+            mIndexMaps.remove(key);
+            mLiveSize -= old.recordSize();
+        }
+        compactIfNeeded();
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!mOpened) return;
+        closeSegments();
+        mIndexMaps.clear();
+        mActiveHint = null;
+        mActiveId   = 0;
+        mActiveSize = mTotalSize = mLiveSize = 0L;
+        mOpened     = false;
+        mGeneration++;
+    }
+
+    // ==========
+    // = 初始化 =
+    // ==========
+
+    /**
+     * 初始化 ( 恢复压缩文件、重建索引、打开活跃分段 )
+     * @return {@code true} success, {@code false} fail
+     */
+    private boolean ensureOpen() {
+        if (mOpened) return true;
+        if (mCachePath == null) return false;
+        try {
+            File folder = new File(mCachePath);
+            FileUtils.createFolder(folder);
+            recoverCompact(folder);
+            // 按分段 id 顺序重放, 后写入的记录覆盖先写入的记录
+            List<Integer> ids = listSegmentIds(folder, SEGMENT_EXTENSION);
+            for (int i = 0, len = ids.size(); i < len; i++) {
+                int     id     = ids.get(i);
+                boolean active = (i == len - 1);
+                File    file   = segmentFile(id, SEGMENT_EXTENSION);
+                FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+                mSegments.put(id, channel);
+                if (active || !loadHint(id)) {
+                    ByteArrayOutputStream hint = new ByteArrayOutputStream();
+                    long validSize = scanSegment(id, file, hint);
+                    // 截断末尾损坏、未写完的记录
+                    if (channel.size() > validSize) channel.truncate(validSize);
+                    if (active) {
+                        mActiveId   = id;
+                        mActiveSize = validSize;
+                        mActiveHint = hint;
+                    } else {
+                        writeHint(id, hint.toByteArray());
+                    }
+                }
+                mTotalSize += channel.size();
+            }
+            if (mActiveHint == null) {
+                openActiveSegment(ids.isEmpty() ? 1 : ids.get(ids.size() - 1) + 1);
+            }
+            mOpened = true;
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "ensureOpen");
+            closeSegments();
+            mIndexMaps.clear();
+            mTotalSize = mLiveSize = 0L;
+        }
+        return mOpened;
+    }
+
+    /**
+     * 恢复上次未完成的压缩
+     * <pre>
+     *     segment_{id}.compact 已包含 id 及之前分段的全部有效记录, 存在则替换原有分段
+     * </pre>
+     * @param folder 缓存文件夹
+     */
+    private void recoverCompact(final File folder) {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(TEMP_EXTENSION)) {
+                    FileUtils.deleteFile(file);
+                }
+            }
+        }
+        for (int compactId : listSegmentIds(folder, COMPACT_EXTENSION)) {
+            for (int id : listSegmentIds(folder, SEGMENT_EXTENSION)) {
+                if (id <= compactId) {
+                    FileUtils.deleteFile(segmentFile(id, SEGMENT_EXTENSION));
+                    FileUtils.deleteFile(segmentFile(id, HINT_EXTENSION));
+                }
+            }
+            segmentFile(compactId, COMPACT_EXTENSION).renameTo(
+                    segmentFile(compactId, SEGMENT_EXTENSION)
+            );
+        }
+    }
+
+    /**
+     * 扫描分段文件重建索引
+     * @param id   分段 id
+     * @param file 分段文件
+     * @param hint 分段 hint 数据
+     * @return 有效数据大小
+     */
+    private long scanSegment(
+            final int id,
+            final File file,
+            final ByteArrayOutputStream hint
+    ) throws IOException {
+        DataOutputStream hintStream = new DataOutputStream(hint);
+        DataInputStream  dis        = null;
+        long             position   = 0L;
+        try {
+            dis = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            byte[] header = new byte[HEADER_SIZE];
+            while (true) {
+                try {
+                    dis.readFully(header);
+                } catch (EOFException e) {
+                    break;
+                }
+                ByteBuffer buffer      = ByteBuffer.wrap(header);
+                int        crc         = buffer.getInt();
+                byte       op          = buffer.get();
+                int        keyLength   = buffer.getShort() & 0xFFFF;
+                int        type        = buffer.getInt();
+                long       saveTime    = buffer.getLong();
+                long       validTime   = buffer.getLong();
+                int        valueLength = buffer.getInt();
+                if ((op != OP_PUT && op != OP_DELETE) || valueLength < 0) break;
+                byte[] keyBytes   = new byte[keyLength];
+                byte[] valueBytes = new byte[valueLength];
+                try {
+                    dis.readFully(keyBytes);
+                    dis.readFully(valueBytes);
+                } catch (EOFException e) {
+                    break;
+                }
+                CRC32 crc32 = new CRC32();
+                crc32.update(header, 4, HEADER_SIZE - 4);
+                crc32.update(keyBytes);
+                crc32.update(valueBytes);
+                if ((int) crc32.getValue() != crc) break;
+                // 记录有效
+                String key = new String(keyBytes, StandardCharsets.UTF_8);
+                Entry entry = new Entry(
+                        id, position + HEADER_SIZE + keyLength, valueLength,
+                        keyLength, type, saveTime, validTime
+                );
+                applyRecord(op, key, entry);
+                writeHintRecord(hintStream, op, keyBytes, entry);
+                position += HEADER_SIZE + keyLength + valueLength;
+            }
+        } finally {
+            CloseUtils.closeIOQuietly(dis);
+        }
+        return position;
+    }
+
+    /**
+     * 读取 hint 文件重建索引
+     * @param id 分段 id
+     * @return {@code true} success, {@code false} fail
+     */
+    private boolean loadHint(final int id) {
+        byte[] bytes = FileUtils.readFileBytes(segmentFile(id, HINT_EXTENSION));
+        if (bytes == null || bytes.length < 4) return false;
+        // 校验末尾 CRC
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, bytes.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if ((int) crc32.getValue() != buffer.getInt(bytes.length - 4)) return false;
+        buffer.limit(bytes.length - 4);
+        List<String> keys    = new ArrayList<>();
+        List<Entry>  entries = new ArrayList<>();
+        try {
+            while (buffer.hasRemaining()) {
+                byte   op        = buffer.get();
+                int    keyLength = buffer.getShort() & 0xFFFF;
+                int    type      = buffer.getInt();
+                long   saveTime  = buffer.getLong();
+                long   validTime = buffer.getLong();
+                long   offset    = buffer.getLong();
+                int    length    = buffer.getInt();
+                byte[] keyBytes  = new byte[keyLength];
+                buffer.get(keyBytes);
+                keys.add(new String(keyBytes, StandardCharsets.UTF_8));
+                // 删除记录索引为 null
+                entries.add(op == OP_DELETE ? null : new Entry(
+                        id, offset, length, keyLength, type, saveTime, validTime
+                ));
+            }
+        } catch (Exception e) {
+            return false;
+        }
+        // 全部解析成功后再按顺序应用, 失败则回退到扫描分段
+        for (int i = 0, len = keys.size(); i < len; i++) {
+            Entry entry = entries.get(i);
+            applyRecord(entry != null ? OP_PUT : OP_DELETE, keys.get(i), entry);
+        }
+        return true;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 应用记录到索引
+     * @param op    操作类型
+     * @param key   存储 key
+     * @param entry 记录索引
+     */
+    private void applyRecord(
+            final byte op,
+            final String key,
+            final Entry entry
+    ) {
+        Entry old = (op == OP_PUT) ? mIndexMaps.put(key, entry) : mIndexMaps.remove(key);
+        if (old != null) mLiveSize -= old.recordSize();
+        if (op == OP_PUT) mLiveSize += entry.recordSize();
+    }
+
+    /**
+     * 追加记录到活跃分段
+     * @param op        操作类型
+     * @param key       存储 key
+     * @param type      存储类型
+     * @param saveTime  保存时间
+     * @param validTime 有效期
+     * @param value     存储数据
+     * @return 记录索引
+     */
+    private Entry append(
+            final byte op,
+            final String key,
+            final int type,
+            final long saveTime,
+            final long validTime,
+            final byte[] value
+    ) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) return null;
+        int recordSize = HEADER_SIZE + keyBytes.length + value.length;
+        try {
+            if (mActiveSize > 0L && mActiveSize + recordSize > mSegmentSize) {
+                sealActiveSegment();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(recordSize);
+            buffer.putInt(0).put(op).putShort((short) keyBytes.length)
+                    .putInt(type).putLong(saveTime).putLong(validTime)
+                    .putInt(value.length).put(keyBytes).put(value);
+            CRC32 crc32 = new CRC32();
+            crc32.update(buffer.array(), 4, recordSize - 4);
+            buffer.putInt(0, (int) crc32.getValue());
+            buffer.flip();
+
+            FileChannel channel  = mSegments.get(mActiveId);
+            long        position = mActiveSize;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+            Entry entry = new Entry(
+                    mActiveId, position + HEADER_SIZE + keyBytes.length, value.length,
+                    keyBytes.length, type, saveTime, validTime
+            );
+            writeHintRecord(new DataOutputStream(mActiveHint), op, keyBytes, entry);
+            mActiveSize += recordSize;
+            mTotalSize += recordSize;
+            return entry;
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "append");
+        }
+        return null;
+    }
+
+    /**
+     * 封存活跃分段 ( 写入 hint 并打开新分段 )
+     */
+    private void sealActiveSegment() throws IOException {
+        writeHint(mActiveId, mActiveHint.toByteArray());
+        openActiveSegment(mActiveId + 1);
+    }
+
+    /**
+     * 打开新的活跃分段
+     * @param id 分段 id
+     */
+    private void openActiveSegment(final int id) throws IOException {
+        File        file    = segmentFile(id, SEGMENT_EXTENSION);
+        FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+        channel.truncate(0L);
+        mSegments.put(id, channel);
+        mActiveId   = id;
+        mActiveSize = 0L;
+        mActiveHint = new ByteArrayOutputStream();
+    }
+
+    /**
+     * 关闭全部分段文件
+     */
+    private void closeSegments() {
+        for (FileChannel channel : mSegments.values()) {
+            CloseUtils.closeIOQuietly(channel);
+        }
+        mSegments.clear();
+    }
+
+    // ==========
+    // = 压缩处理 =
+    // ==========
+
+    /**
+     * 失效数据超过阈值则后台压缩
+     */
+    private void compactIfNeeded() {
+        long deadSize;
+        synchronized (this) {
+            deadSize = mTotalSize - mLiveSize;
+            if (deadSize < COMPACT_THRESHOLD || deadSize * 2L < mTotalSize) return;
+        }
+        if (mCompacting.compareAndSet(false, true)) {
+            new Thread(() -> {
+                try {
+                    compact();
+                } catch (Exception e) {
+                    LogPrintUtils.eTag(TAG, e, "compact");
+                } finally {
+                    mCompacting.set(false);
+                }
+            }).start();
+        }
+    }
+
+    /**
+     * 压缩已封存分段
+     * <pre>
+     *     1. 封存活跃分段, 快照已封存分段中的有效记录
+     *     2. 不持有锁复制有效记录到 segment_{maxId}.tmp ( 已封存分段只读不会变化 )
+     *     3. 持有锁替换原有分段并更新未被修改的索引
+     * </pre>
+     */
+    private void compact() throws IOException {
+        int                       maxId;
+        int                       generation;
+        Map<String, Entry>        lives    = new HashMap<>();
+        Map<Integer, FileChannel> channels = new HashMap<>();
+        synchronized (this) {
+            if (!mOpened) return;
+            generation = mGeneration;
+            if (mActiveSize > 0L) sealActiveSegment();
+            maxId = mActiveId - 1;
+            for (Map.Entry<String, Entry> item : mIndexMaps.entrySet()) {
+                if (item.getValue().segmentId <= maxId) {
+                    lives.put(item.getKey(), item.getValue());
+                }
+            }
+            channels.putAll(mSegments.headMap(maxId, true));
+        }
+        if (channels.isEmpty()) return;
+
+        // 复制有效记录 ( 无有效记录也生成空文件, 作为替换原有分段的标记 )
+        File                  tempFile  = segmentFile(maxId, TEMP_EXTENSION);
+        Map<String, Entry>    moves     = new HashMap<>();
+        ByteArrayOutputStream hintBytes = new ByteArrayOutputStream();
+        DataOutputStream      hint      = new DataOutputStream(hintBytes);
+        long                  totalSize = 0L;
+        RandomAccessFile      output    = new RandomAccessFile(tempFile, "rw");
+        try {
+            FileChannel outChannel = output.getChannel();
+            outChannel.truncate(0L);
+            for (Map.Entry<String, Entry> item : lives.entrySet()) {
+                Entry      entry    = item.getValue();
+                byte[]     keyBytes = item.getKey().getBytes(StandardCharsets.UTF_8);
+                int        start    = HEADER_SIZE + keyBytes.length;
+                ByteBuffer buffer   = ByteBuffer.allocate(start + entry.length);
+                // 原记录整体复制 ( 包含 CRC )
+                readFully(channels.get(entry.segmentId), buffer, entry.offset - start);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    outChannel.write(buffer, totalSize + buffer.position());
+                }
+                Entry moved = new Entry(
+                        maxId, totalSize + start, entry.length,
+                        entry.keyLength, entry.type, entry.saveTime, entry.validTime
+                );
+                writeHintRecord(hint, OP_PUT, keyBytes, moved);
+                moves.put(item.getKey(), moved);
+                totalSize += buffer.capacity();
+            }
+            outChannel.force(true);
+        } finally {
+            CloseUtils.closeIOQuietly(output);
+        }
+        if (!tempFile.renameTo(segmentFile(maxId, COMPACT_EXTENSION))) {
+            FileUtils.deleteFile(tempFile);
+            return;
+        }
+
+        // 替换原有分段
+        synchronized (this) {
+            // 压缩期间已关闭, segment_{maxId}.compact 由下次打开时恢复
+            if (!mOpened || generation != mGeneration) return;
+            for (Map.Entry<Integer, FileChannel> item : channels.entrySet()) {
+                int id = item.getKey();
+                mTotalSize -= item.getValue().size();
+                CloseUtils.closeIOQuietly(item.getValue());
+                mSegments.remove(id);
+                FileUtils.deleteFile(segmentFile(id, SEGMENT_EXTENSION));
+                FileUtils.deleteFile(segmentFile(id, HINT_EXTENSION));
+            }
+            File file = segmentFile(maxId, SEGMENT_EXTENSION);
+            segmentFile(maxId, COMPACT_EXTENSION).renameTo(file);
+            writeHint(maxId, hintBytes.toByteArray());
+            mSegments.put(maxId, new RandomAccessFile(file, "rw").getChannel());
+            mTotalSize += totalSize;
+            for (Map.Entry<String, Entry> item : moves.entrySet()) {
+                // 压缩期间未被覆盖、删除的 Key 才更新索引
+                if (mIndexMaps.get(item.getKey()) == lives.get(item.getKey())) {
+                    mIndexMaps.put(item.getKey(), item.getValue());
+                }
+            }
+        }
+    }
+
+    // ==========
+    // = 文件处理 =
+    // ==========
+
+    /**
+     * 获取分段相关文件
+     * @param id        分段 id
+     * @param extension 文件后缀
+     * @return 分段相关文件
+     */
+    private File segmentFile(
+            final int id,
+            final String extension
+    ) {
+        return new File(mCachePath, SEGMENT_PREFIX + id + extension);
+    }
+
+    /**
+     * 获取指定后缀的分段 id 集合 ( 升序 )
+     * @param folder    缓存文件夹
+     * @param extension 文件后缀
+     * @return 分段 id 集合
+     */
+    private List<Integer> listSegmentIds(
+            final File folder,
+            final String extension
+    ) {
+        List<Integer> ids   = new ArrayList<>();
+        File[]        files = folder.listFiles();
+        if (files == null) return ids;
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(extension)) {
+                try {
+                    ids.add(Integer.parseInt(name.substring(
+                            SEGMENT_PREFIX.length(), name.length() - extension.length()
+                    )));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * 写入 hint 文件 ( 末尾追加 CRC )
+     * @param id    分段 id
+     * @param bytes hint 数据
+     */
+    private void writeHint(
+            final int id,
+            final byte[] bytes
+    ) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 4);
+        buffer.put(bytes).putInt((int) crc32.getValue());
+        FileUtils.saveFile(segmentFile(id, HINT_EXTENSION), buffer.array());
+    }
+
+    /**
+     * 写入 hint 记录
+     * @param hint     hint 输出流
+     * @param op       操作类型
+     * @param keyBytes 存储 key
+     * @param entry    记录索引
+     */
+    private static void writeHintRecord(
+            final DataOutputStream hint,
+            final byte op,
+            final byte[] keyBytes,
+            final Entry entry
+    ) throws IOException {
+        hint.writeByte(op);
+        hint.writeShort(keyBytes.length);
+        hint.writeInt(entry.type);
+        hint.writeLong(entry.saveTime);
+        hint.writeLong(entry.validTime);
+        hint.writeLong(entry.offset);
+        hint.writeInt(entry.length);
+        hint.write(keyBytes);
+    }
+
+    /**
+     * 从指定位置读取数据直到填满 Buffer
+     * @param channel  文件通道
+     * @param buffer   {@link ByteBuffer}
+     * @param position 读取位置
+     */
+    private static void readFully(
+            final FileChannel channel,
+            final ByteBuffer buffer,
+            final long position
+    ) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException();
+        }
+    }
+
+    // ========
+    // = 实体类 =
+    // ========
+
+    /**
+     * detail: 记录索引
+     * @author Ttt
+     */
+    private static final class Entry {
+
+        // 分段 id
+        final int  segmentId;
+        // 数据偏移量
+        final long offset;
+        // 数据长度
+        final int  length;
+        // Key 长度
+        final int  keyLength;
+        // 存储类型
+        final int  type;
+        // 保存时间 ( 毫秒 )
+        final long saveTime;
+        // 有效期 ( 毫秒 )
+        final long validTime;
+
+        Entry(
+                int segmentId,
+                long offset,
+                int length,
+                int keyLength,
+                int type,
+                long saveTime,
+                long validTime
+        ) {
+            this.segmentId = segmentId;
+            this.offset    = offset;
+            this.length    = length;
+            this.keyLength = keyLength;
+            this.type      = type;
+            this.saveTime  = saveTime;
+            this.validTime = validTime;
+        }
+
+        /**
+         * 获取记录大小
+         * @return 记录大小
+         */
+        long recordSize() {
+            return HEADER_SIZE + keyLength + length;
+        }
+
+        /**
+         * 转换为 Data
+         * @param key 存储 key
+         * @return {@link DevCache.Data}
+         */
+        DevCache.Data toData(final String key) {
+            return new DevCache.Data(key, type, saveTime, validTime, length);
+        }
+    }
+}
\ No newline at end of file
@@ -5,21 +5,28 @@ import android.graphics.drawable.Drawable;
 import android.os.Parcel;
 import android.os.Parcelable;
 import android.text.TextUtils;
+import android.util.LruCache;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -27,7 +34,6 @@ import dev.utils.DevFinal;
 import dev.utils.LogPrintUtils;
 import dev.utils.app.image.ImageUtils;
 import dev.utils.common.CloseUtils;
-import dev.utils.common.FileUtils;
 import dev.utils.common.cipher.Cipher;
 
 /**
@@ -37,27 +43,42 @@ import dev.utils.common.cipher.Cipher;
 final class DevCacheManager {
 
     // 不同地址配置缓存对象
-    protected static final Map<String, DevCache> sInstanceMaps    = new HashMap<>();
+    protected static final Map<String, DevCache>      sInstanceMaps    = new HashMap<>();
     // 日志 TAG
-    private final          String                TAG              = DevCacheManager.class.getSimpleName();
-    // 文件后缀
-    private static final   String                DATA_EXTENSION   = ".data";
-    private static final   String                CONFIG_EXTENSION = ".config";
+    private final          String                   TAG              = DevCacheManager.class.getSimpleName();
     // 缓存地址
-    private final          String                mCachePath;
+    private final          String                   mCachePath;
+    // 缓存存储
+    private final          DevCacheStorage          mStorage;
     // 通用加解密中间层
-    private final          Cipher                mCipher;
+    private final          Cipher                   mCipher;
     // 总缓存大小
-    private final          AtomicLong            mCacheSize       = new AtomicLong();
+    private final          AtomicLong               mCacheSize       = new AtomicLong();
     // 总缓存的文件总数
-    private final          AtomicInteger         mCacheCount      = new AtomicInteger();
+    private final          AtomicInteger            mCacheCount      = new AtomicInteger();
+    // 缓存最大占用空间 ( 小于等于 0 表示不限制 )
+    private volatile       long                     mMaxSize         = 0L;
+    // 缓存最大数量 ( 小于等于 0 表示不限制 )
+    private volatile       int                      mMaxCount        = 0;
+    // 内存缓存 ( 热数据, 存储解密后的数据 ) 为 null 表示不开启
+    private volatile       LruCache<String, byte[]> mMemoryCache;
+    // 缓存整理线程 ( 单线程串行执行加载、淘汰, 空闲自动回收 )
+    private final          ExecutorService          mTrimExecutor    = createTrimExecutor();
+    // 是否已提交淘汰任务 ( 合并多次写入触发的淘汰 )
+    private final          AtomicBoolean            mTrimPending     = new AtomicBoolean();
 
     public DevCacheManager(
             String cachePath,
-            Cipher cipher
+            Cipher cipher,
+            DevCache.StorageType storageType
     ) {
         this.mCachePath = cachePath;
         this.mCipher    = cipher;
+        if (storageType == DevCache.StorageType.JOURNAL) {
+            this.mStorage = new DevCacheJournalStorage(cachePath);
+        } else {
+            this.mStorage = new DevCacheFileStorage(cachePath);
+        }
         // 计算文件信息
         calculateCacheSizeAndCacheCount();
     }
@@ -66,29 +87,46 @@ final class DevCacheManager {
      * 计算 cacheSize 和 cacheCount
      */
     private void calculateCacheSizeAndCacheCount() {
-        new Thread(() -> {
-            long size = 0, count = 0;
-            if (mCachePath != null) {
-                File[] cachedFiles = new File(mCachePath).listFiles();
-                if (cachedFiles != null) {
-                    for (File file : cachedFiles) {
-                        if (file != null && file.isFile()) {
-                            String fileName = file.getName();
-                            if (fileName.endsWith(CONFIG_EXTENSION)) {
-                                String        key  = FileUtils.getFileNotSuffix(fileName);
-                                DevCache.Data data = getOrPopulateCachedData(key);
-                                if (data != null) {
-                                    size += data.getSize();
-                                    count += 1;
-                                }
-                            }
-                        }
-                    }
-                    mCacheSize.set(size);
-                    mCacheCount.set((int) count);
+        mTrimExecutor.execute(() -> {
+            if (mCachePath == null) return;
+            long                size  = 0;
+            List<DevCache.Data> lists = new ArrayList<>();
+            for (DevCache.Data item : mStorage.loadAll()) {
+                DevCache.Data data = populateCachedData(item);
+                size += data.getSize();
+                lists.add(data);
+            }
+            mCacheSize.set(size);
+            mCacheCount.set(lists.size());
+            // 按保存时间排序访问顺序, 初始 LRU 顺序以最早保存优先淘汰
+            Collections.sort(lists, (o1, o2) -> Long.compare(
+                    o1.getSaveTime(), o2.getSaveTime()
+            ));
+            synchronized (mDataMaps) {
+                for (DevCache.Data data : lists) {
+                    mDataMaps.get(data.getKey());
                 }
             }
-        }).start();
+            trimToSize();
+        });
+    }
+
+    /**
+     * 创建缓存整理线程池
+     * @return {@link ExecutorService}
+     */
+    private static ExecutorService createTrimExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "DevCache-Trim");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     // =============
@@ -101,17 +139,49 @@ final class DevCacheManager {
 
     // =
 
-    public void remove(String key) {
-        if (TextUtils.isEmpty(key)) return;
-        File dataFile   = dataFileForKey(key);
-        File configFile = configFileForKey(key);
-        long size       = getDataFileSize(mCachePath, key);
-        if (FileUtils.deleteFile(dataFile)
-                && FileUtils.deleteFile(configFile)) {
-            mCacheSize.addAndGet(-size);
-            mCacheCount.addAndGet(-1);
-            mDataMaps.remove(key); // 移除缓存
+    public long getMaxSize() {
+        return mMaxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.mMaxSize = maxSize;
+        scheduleTrim();
+    }
+
+    public int getMaxCount() {
+        return mMaxCount;
+    }
+
+    public void setMaxCount(int maxCount) {
+        this.mMaxCount = maxCount;
+        scheduleTrim();
+    }
+
+    public int getMemoryCacheSize() {
+        LruCache<String, byte[]> memoryCache = mMemoryCache;
+        return memoryCache != null ? memoryCache.maxSize() : 0;
+    }
+
+    public void setMemoryCacheSize(int maxSize) {
+        if (maxSize <= 0) {
+            mMemoryCache = null;
+            return;
         }
+        mMemoryCache = new LruCache<String, byte[]>(maxSize) {
+            @Override
+            protected int sizeOf(
+                    String key,
+                    byte[] value
+            ) {
+                return value.length;
+            }
+        };
+    }
+
+    // =
+
+    public void remove(String key) {
+        removeEntry(key);
     }
 
     public void removeForKeys(String[] keys) {
@@ -122,7 +192,7 @@ final class DevCacheManager {
     }
 
     public boolean contains(String key) {
-        return keyEntryFilesExist(key);
+        return mStorage.contains(key);
     }
 
     public boolean isDue(String key) {
@@ -133,7 +203,7 @@ final class DevCacheManager {
 
     public void clear() {
         new Thread(() -> {
-            HashSet<String> keys = new HashSet<>(mDataMaps.keySet());
+            HashSet<String> keys = copyKeys();
             for (String key : keys) {
                 remove(key);
             }
@@ -142,7 +212,7 @@ final class DevCacheManager {
 
     public void clearDue() {
         new Thread(() -> {
-            HashSet<String> keys = new HashSet<>(mDataMaps.keySet());
+            HashSet<String> keys = copyKeys();
             for (String key : keys) {
                 if (isDue(key)) remove(key);
             }
@@ -151,7 +221,7 @@ final class DevCacheManager {
 
     public void clearType(int type) {
         new Thread(() -> {
-            HashSet<String> keys = new HashSet<>(mDataMaps.keySet());
+            HashSet<String> keys = copyKeys();
             for (String key : keys) {
                 DevCache.Data data = getOrPopulateCachedData(key);
                 if (data != null && data.getType() == type) {
@@ -166,12 +236,14 @@ final class DevCacheManager {
     }
 
     public List<DevCache.Data> getKeys() {
-        return new ArrayList<>(mDataMaps.values());
+        synchronized (mDataMaps) {
+            return new ArrayList<>(mDataMaps.values());
+        }
     }
 
     public List<DevCache.Data> getPermanentKeys() {
         List<DevCache.Data> lists = new ArrayList<>();
-        HashSet<String>     keys  = new HashSet<>(mDataMaps.keySet());
+        HashSet<String>     keys  = copyKeys();
         for (String key : keys) {
             DevCache.Data data = getOrPopulateCachedData(key);
             if (data != null && data.isPermanent()) {
@@ -189,6 +261,10 @@ final class DevCacheManager {
         return mCacheSize.get();
     }
 
+    public void close() {
+        mStorage.close();
+    }
+
     // =======
     // = 存储 =
     // =======
@@ -514,7 +590,12 @@ final class DevCacheManager {
                 remove(key);
             } else {
                 try {
-                    return readDecryptedPayload(key);
+                    byte[] bytes = readDecryptedPayload(key);
+                    // 内存缓存共享同一数组, 返回副本防止外部修改
+                    if (bytes != null && mMemoryCache != null) {
+                        return bytes.clone();
+                    }
+                    return bytes;
                 } catch (Exception e) {
                     LogPrintUtils.eTag(TAG, "getBytes");
                 }
@@ -652,120 +733,105 @@ final class DevCacheManager {
         return defaultValue;
     }
 
-    // ==========
-    // = 内部方法 =
-    // ==========
+    // ========
+    // = Data =
+    // ========
 
-    /**
-     * 获取 Key 数据文件
-     * @param key 存储 key
-     * @return Key 数据文件
-     */
-    private File dataFileForKey(final String key) {
+    // 缓存 Data ( 按访问顺序排序, 首位为最近最少使用 )
+    private final LinkedHashMap<String, DevCache.Data> mDataMaps = new LinkedHashMap<>(
+            16, 0.75F, true
+    );
+
+    private DevCache.Data getOrPopulateCachedData(final String key) {
         if (TextUtils.isEmpty(key)) return null;
-        return FileUtils.getFile(mCachePath, key + DATA_EXTENSION);
+        DevCache.Data data;
+        synchronized (mDataMaps) {
+            data = mDataMaps.get(key);
+        }
+        if (data == null) {
+            data = mStorage.readData(key);
+            if (data != null) {
+                data = populateCachedData(data);
+            }
+        }
+        return data;
     }
 
     /**
-     * 获取 Key 配置文件
-     * @param key 存储 key
-     * @return Key 配置文件
+     * 存储读取的 Data ( 已存在则使用已存在 Data )
+     * @param data 存储读取的 Data
+     * @return 缓存 Data
      */
-    private File configFileForKey(final String key) {
-        if (TextUtils.isEmpty(key)) return null;
-        return FileUtils.getFile(mCachePath, key + CONFIG_EXTENSION);
+    private DevCache.Data populateCachedData(final DevCache.Data data) {
+        synchronized (mDataMaps) {
+            DevCache.Data cached = mDataMaps.get(data.getKey());
+            if (cached != null) return cached;
+            mDataMaps.put(data.getKey(), data);
+        }
+        return data;
     }
 
     /**
-     * 获取存储数据大小
-     * @param path 文件地址
-     * @param key  存储 key
-     * @return 存储数据大小
+     * 获取 Data Key 集合副本
+     * @return Data Key 集合副本
      */
-    public static long getDataFileSize(
-            final String path,
-            final String key
-    ) {
-        if (TextUtils.isEmpty(key)) return 0L;
-        return FileUtils.getFileLength(
-                FileUtils.getFile(path, key + DATA_EXTENSION)
-        );
+    private HashSet<String> copyKeys() {
+        synchronized (mDataMaps) {
+            return new HashSet<>(mDataMaps.keySet());
+        }
     }
 
     /**
-     * 判断是否存在 Key 配置、数据文件
+     * 删除 Key 存储数据
      * @param key 存储 key
-     * @return {@code true} yes, {@code false} no
+     * @return {@code true} success, {@code false} fail
      */
-    private boolean keyEntryFilesExist(final String key) {
+    private boolean removeEntry(final String key) {
         if (TextUtils.isEmpty(key)) return false;
-        return FileUtils.isFileExists(dataFileForKey(key))
-                && FileUtils.isFileExists(configFileForKey(key));
-    }
-
-    // ========
-    // = Data =
-    // ========
-
-    // 缓存 Data
-    private final HashMap<String, DevCache.Data> mDataMaps = new HashMap<>();
-
-    private DevCache.Data getOrPopulateCachedData(final String key) {
-        if (TextUtils.isEmpty(key)) return null;
-        DevCache.Data data = mDataMaps.get(key);
-        if (data == null) {
-            data = readDataFromDisk(key);
-            if (data != null) {
-                mDataMaps.put(key, data);
-            }
+        LruCache<String, byte[]> memoryCache = mMemoryCache;
+        if (memoryCache != null) memoryCache.remove(key);
+        // 加锁移除索引, 只有移除索引的线程扣除统计, 避免并发删除同一 Key 重复扣除
+        DevCache.Data data;
+        synchronized (mDataMaps) {
+            data = mDataMaps.remove(key);
         }
-        return data;
+        if (data != null) {
+            mCacheSize.addAndGet(-data.getSize());
+            mCacheCount.addAndGet(-1);
+        }
+        // 文件删除失败时索引已移除, 下次加载时重新统计
+        return mStorage.delete(key);
     }
 
-    // =
-
     /**
-     * Data Format JSON String
-     * @param data 数据源
-     * @return JSON String
+     * 提交淘汰任务 ( 只在缓存整理线程执行, 未执行的淘汰任务只保留一个 )
      */
-    private String formatDataJson(final DevCache.Data data) {
-        // Data JSON Format
-        return String.format(
-                "{\"key\":\"%s\",\"type\":%d,\"saveTime\":%d,\"validTime\":%d}",
-                data.getKey(), data.getType(),
-                data.getSaveTime(), data.getValidTime()
-        );
+    private void scheduleTrim() {
+        if (mTrimPending.compareAndSet(false, true)) {
+            mTrimExecutor.execute(() -> {
+                mTrimPending.set(false);
+                trimToSize();
+            });
+        }
     }
 
     /**
-     * 读取配置初始化 Data
-     * @param key 存储 key
-     * @return {@link DevCache.Data}
+     * 按最近最少使用 ( LRU ) 淘汰数据, 直到满足最大占用空间、最大数量限制
      */
-    private DevCache.Data readDataFromDisk(final String key) {
-        if (!keyEntryFilesExist(key)) return null;
-        try {
-            File       configFile = configFileForKey(key);
-            String     config     = new String(FileUtils.readFileBytes(configFile));
-            JSONObject jsonObject = new JSONObject(config);
-            if (jsonObject.has("key")
-                    && jsonObject.has("type")
-                    && jsonObject.has("saveTime")
-                    && jsonObject.has("validTime")
-            ) {
-                String entryKey  = jsonObject.getString("key");
-                int    type      = jsonObject.getInt("type");
-                long   saveTime  = jsonObject.getLong("saveTime");
-                long   validTime = jsonObject.getLong("validTime");
-                return new DevCache.Data(mCachePath, entryKey,
-                        type, saveTime, validTime
-                );
+    private void trimToSize() {
+        long maxSize  = mMaxSize;
+        int  maxCount = mMaxCount;
+        if (maxSize <= 0L && maxCount <= 0) return;
+        while ((maxSize > 0L && mCacheSize.get() > maxSize)
+                || (maxCount > 0 && mCacheCount.get() > maxCount)) {
+            String eldestKey;
+            synchronized (mDataMaps) {
+                if (mDataMaps.isEmpty()) break;
+                eldestKey = mDataMaps.keySet().iterator().next();
             }
-        } catch (Exception e) {
-            LogPrintUtils.eTag(TAG, e, "readDataFromDisk");
+            // 删除失败也已移除索引, 不会重复淘汰同一 Key
+            removeEntry(eldestKey);
         }
-        return null;
     }
 
     // =
@@ -785,6 +851,11 @@ final class DevCacheManager {
             long validTime
     ) {
         if (TextUtils.isEmpty(key)) return false;
+        // 明文数据 ( 用于内存缓存, byte[] 类型为外部传入则存储副本 )
+        byte[] plainBytes = bytes;
+        if (plainBytes != null && type == DevCache.BYTES && mMemoryCache != null) {
+            plainBytes = plainBytes.clone();
+        }
         if (bytes != null && mCipher != null) {
             try {
                 bytes = mCipher.encrypt(bytes);
@@ -794,24 +865,34 @@ final class DevCacheManager {
             }
         }
         if (bytes == null) return false;
-        DevCache.Data data   = getOrPopulateCachedData(key);
-        long          size   = getDataFileSize(mCachePath, key);
-        boolean       result = FileUtils.saveFile(dataFileForKey(key), bytes);
+        // 加载已存储的 Data, 覆盖时按大小差值统计
+        getOrPopulateCachedData(key);
+        DevCache.Data newData = new DevCache.Data(key, type,
+                System.currentTimeMillis(), validTime, bytes.length
+        );
+        boolean       result  = mStorage.write(newData, bytes);
         if (result) {
-            if (data != null) {
-                data.setSaveTime(System.currentTimeMillis())
-                        .setType(type).setValidTime(validTime);
-                mCacheSize.addAndGet(-size);
-                mCacheSize.addAndGet(getDataFileSize(mCachePath, key));
-            } else {
-                data = new DevCache.Data(mCachePath, key, type,
-                        System.currentTimeMillis(), validTime
-                );
-                mCacheSize.addAndGet(getDataFileSize(mCachePath, key));
-                mCacheCount.incrementAndGet();
-                mDataMaps.put(key, data);
+            // 加锁判断索引并统计, 避免并发首次写入同一 Key 重复统计
+            synchronized (mDataMaps) {
+                DevCache.Data data = mDataMaps.get(key);
+                if (data != null) {
+                    long size = data.getSize();
+                    data.setSaveTime(newData.getSaveTime())
+                            .setType(type).setValidTime(validTime)
+                            .setSize(bytes.length);
+                    mCacheSize.addAndGet(bytes.length - size);
+                } else {
+                    mDataMaps.put(key, newData);
+                    mCacheSize.addAndGet(bytes.length);
+                    mCacheCount.incrementAndGet();
+                }
             }
-            FileUtils.saveFile(configFileForKey(key), formatDataJson(data).getBytes());
+            LruCache<String, byte[]> memoryCache = mMemoryCache;
+            if (memoryCache != null) memoryCache.put(key, plainBytes);
+            scheduleTrim();
+        } else {
+            LruCache<String, byte[]> memoryCache = mMemoryCache;
+            if (memoryCache != null) memoryCache.remove(key);
         }
         return result;
     }
@@ -822,7 +903,12 @@ final class DevCacheManager {
      * @return 保存的数据
      */
     private byte[] readDecryptedPayload(String key) {
-        byte[] bytes = FileUtils.readFileBytes(dataFileForKey(key));
+        LruCache<String, byte[]> memoryCache = mMemoryCache;
+        if (memoryCache != null) {
+            byte[] bytes = memoryCache.get(key);
+            if (bytes != null) return bytes;
+        }
+        byte[] bytes = mStorage.read(key);
         if (bytes != null && mCipher != null) {
             try {
                 bytes = mCipher.decrypt(bytes);
@@ -831,6 +917,9 @@ final class DevCacheManager {
                 bytes = null;
             }
         }
+        if (bytes != null && memoryCache != null) {
+            memoryCache.put(key, bytes);
+        }
         return bytes;
     }
 }
\ No newline at end of file
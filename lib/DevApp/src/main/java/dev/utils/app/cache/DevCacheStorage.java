@@ -0,0 +1,65 @@
+package dev.utils.app.cache;
+
+import java.util.List;
+
+/**
+ * detail: 缓存存储接口
+ * @author Ttt
+ * <pre>
+ *     {@link DevCacheManager} 只负责索引、淘汰、加解密, 具体数据读写由存储实现
+ *     {@link DevCacheFileStorage} 每个 Key 一个 .data + .config 文件
+ *     {@link DevCacheJournalStorage} 全部 Key 追加写入分段日志文件
+ * </pre>
+ */
+interface DevCacheStorage {
+
+    /**
+     * 加载全部存储 Data
+     * @return 全部存储 Data
+     */
+    List<DevCache.Data> loadAll();
+
+    /**
+     * 读取 Key 存储 Data
+     * @param key 存储 key
+     * @return {@link DevCache.Data}
+     */
+    DevCache.Data readData(String key);
+
+    /**
+     * 是否存在 Key
+     * @param key 存储 key
+     * @return {@code true} yes, {@code false} no
+     */
+    boolean contains(String key);
+
+    /**
+     * 写入数据
+     * @param data  存储 Data
+     * @param bytes 存储数据
+     * @return {@code true} success, {@code false} fail
+     */
+    boolean write(
+            DevCache.Data data,
+            byte[] bytes
+    );
+
+    /**
+     * 读取数据
+     * @param key 存储 key
+     * @return 存储数据
+     */
+    byte[] read(String key);
+
+    /**
+     * 删除数据
+     * @param key 存储 key
+     * @return {@code true} success, {@code false} fail
+     */
+    boolean delete(String key);
+
+    /**
+     * 关闭存储 ( 释放文件句柄, 再次读写时重新打开 )
+     */
+    void close();
+}
\ No newline at end of file
@@ -51,6 +51,14 @@ public final class DevLogger {
         sPrinter.initialize(logConfig);
     }
 
+    /**
+     * 获取异步输出丢弃日志数量 ( 缓冲区已满 )
+     * @return 丢弃日志数量
+     */
+    public static long getDroppedCount() {
+        return sPrinter.getDroppedCount();
+    }
+
     // =============================
     // = 使用默认 TAG ( 日志打印方法 ) =
     // =============================
@@ -35,6 +35,17 @@ public interface IPrinter {
      */
     void initialize(LogConfig logConfig);
 
+    /**
+     * 获取异步输出丢弃日志数量 ( 缓冲区已满 )
+     * <pre>
+     *     默认实现返回 0, 同步输出的自定义 IPrinter 无需实现
+     * </pre>
+     * @return 丢弃日志数量
+     */
+    default long getDroppedCount() {
+        return 0L;
+    }
+
     // =============================
     // = 使用默认 TAG ( 日志打印方法 ) =
     // =============================
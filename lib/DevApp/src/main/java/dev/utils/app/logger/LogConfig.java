@@ -31,6 +31,11 @@ public class LogConfig {
      */
     public boolean sortLog = LogConstants.JUDGE_SORT_LOG;
 
+    /**
+     * 是否异步打印日志 ( 调用线程只负责格式化并放入环形缓冲区, 由日志线程统一输出 )
+     */
+    public boolean async = LogConstants.JUDGE_ASYNC_LOG;
+
     /**
      * 日志级别 ( 只有 e, wtf 才进行显示 )
      */
@@ -227,6 +232,16 @@ public class LogConfig {
         return this;
     }
 
+    /**
+     * 设置是否异步打印日志
+     * @param async {@code true} yes, {@code false} no
+     * @return {@link LogConfig}
+     */
+    public LogConfig async(boolean async) {
+        this.async = async;
+        return this;
+    }
+
     /**
      * 设置日志级别
      * @param logLevel 日志级别
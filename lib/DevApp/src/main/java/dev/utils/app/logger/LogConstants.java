@@ -28,6 +28,11 @@ final class LogConstants {
      */
     public static final boolean JUDGE_DISPLAY_THREAD_LOG = false;
 
+    /**
+     * 判断是否异步打印日志
+     */
+    public static final boolean JUDGE_ASYNC_LOG = false;
+
     /**
      * 默认的日志 TAG
      */
@@ -71,6 +76,11 @@ final class LogConstants {
      */
     public static final int MIN_STACK_OFFSET = 3;
 
+    /**
+     * 异步日志环形缓冲区容量 ( 2 的幂, 满时丢弃新日志 )
+     */
+    public static final int ASYNC_BUFFER_SIZE = 1024;
+
     // =====================
     // = 绘制日志格式 ( 字符 ) =
     // =====================
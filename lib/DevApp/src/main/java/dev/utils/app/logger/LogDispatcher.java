@@ -0,0 +1,122 @@
+package dev.utils.app.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * detail: 异步日志分发
+ * @author Ttt
+ * <pre>
+ *     多生产者单消费者环形缓冲区, 调用线程 CAS 占位后写入槽位, 不持有锁
+ *     日志线程 ( 守护线程 ) 按顺序取出并输出, 无日志时挂起等待唤醒
+ *     缓冲区满时丢弃新日志并计数, 不阻塞调用线程
+ * </pre>
+ */
+final class LogDispatcher<T> {
+
+    /**
+     * detail: 日志消费者
+     * @author Ttt
+     */
+    interface Consumer<T> {
+
+        /**
+         * 输出日志
+         * @param event 日志事件
+         */
+        void accept(T event);
+    }
+
+    // 空闲挂起时长 ( 兜底唤醒 )
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // 环形缓冲区
+    private final AtomicReferenceArray<T>      mSlots;
+    // 缓冲区掩码
+    private final int                          mMask;
+    // 已占位序号 ( 生产者 )
+    private final AtomicLong                   mTail    = new AtomicLong();
+    // 已消费序号 ( 消费者 )
+    private final AtomicLong                   mHead    = new AtomicLong();
+    // 丢弃日志数量
+    private final AtomicLong                   mDropped = new AtomicLong();
+    // 日志消费者
+    private final Consumer<T>                  mConsumer;
+    // 日志线程
+    private final Thread                       mThread;
+    // 日志线程是否挂起等待
+    private volatile boolean                   mWaiting;
+
+    /**
+     * 构造函数
+     * @param capacity 缓冲区容量 ( 2 的幂 )
+     * @param consumer 日志消费者
+     */
+    LogDispatcher(
+            final int capacity,
+            final Consumer<T> consumer
+    ) {
+        int length = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mSlots    = new AtomicReferenceArray<>(length);
+        mMask     = length - 1;
+        mConsumer = consumer;
+        mThread   = new Thread(this::drain, "DevLogger-Dispatcher");
+        mThread.setDaemon(true);
+        mThread.start();
+    }
+
+    /**
+     * 放入日志事件
+     * @param event 日志事件
+     * @return {@code true} success, {@code false} fail ( 缓冲区已满 )
+     */
+    boolean offer(final T event) {
+        long sequence;
+        do {
+            sequence = mTail.get();
+            if (sequence - mHead.get() >= mSlots.length()) {
+                mDropped.incrementAndGet();
+                return false;
+            }
+        } while (!mTail.compareAndSet(sequence, sequence + 1));
+        mSlots.set((int) (sequence & mMask), event);
+        if (mWaiting) LockSupport.unpark(mThread);
+        return true;
+    }
+
+    /**
+     * 获取丢弃日志数量
+     * @return 丢弃日志数量
+     */
+    long getDroppedCount() {
+        return mDropped.get();
+    }
+
+    /**
+     * 日志线程循环
+     */
+    private void drain() {
+        long head = mHead.get();
+        while (true) {
+            int index = (int) (head & mMask);
+            T   event = mSlots.get(index);
+            if (event == null) {
+                // 生产者已占位但尚未写入、或无日志, 挂起等待
+                mWaiting = true;
+                if (mSlots.get(index) == null) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                mWaiting = false;
+                continue;
+            }
+            mSlots.lazySet(index, null);
+            mHead.lazySet(++head);
+            try {
+                mConsumer.accept(event);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.json.JSONObject;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Arrays;
 
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
@@ -30,6 +31,13 @@ final class LoggerPrinter
     // 每个线程的日志配置信息
     private static final ThreadLocal<LogConfig> LOCAL_LOG_CONFIGS = new ThreadLocal<>();
 
+    // 日志输出锁 ( 只在输出时持有 )
+    private final    Object                  mPrintLock = new Object();
+    // 日志拼接 ( 输出锁内复用 )
+    private final    StringBuilder           mBuilder   = new StringBuilder();
+    // 异步日志分发
+    private volatile LogDispatcher<LogEvent> mDispatcher;
+
     // ================================
     // = 实现 IPrinter 接口, 对外公开方法 =
     // ================================
@@ -82,6 +90,16 @@ final class LoggerPrinter
         initialize();
     }
 
+    /**
+     * 获取异步输出丢弃日志数量 ( 缓冲区已满 )
+     * @return 丢弃日志数量
+     */
+    @Override
+    public long getDroppedCount() {
+        LogDispatcher<LogEvent> dispatcher = mDispatcher;
+        return (dispatcher != null) ? dispatcher.getDroppedCount() : 0L;
+    }
+
     // =============================
     // = 使用默认 TAG ( 日志打印方法 ) =
     // =============================
@@ -679,14 +697,14 @@ final class LoggerPrinter
     }
 
     /**
-     * 日志处理方法 ( 此方法是同步的, 以避免混乱的日志的顺序 )
+     * 日志处理方法 ( 调用线程只负责判断、格式化及获取堆栈, 输出时加锁以避免混乱的日志的顺序 )
      * @param config  配置信息
      * @param tag     日志 TAG
      * @param logType 日志类型
      * @param msg     日志信息
      * @param args    占位符替换
      */
-    private synchronized void logHandle(
+    private void logHandle(
             final LogConfig config,
             final String tag,
             final int logType,
@@ -716,7 +734,10 @@ final class LoggerPrinter
         }
         // 判断是否显示排序后的日志 ( 如果不排序, 则显示默认 )
         if (!logConfig.sortLog) {
-            finalLogPrinter(logType, logTag, createMessage(msg, args));
+            dispatchLog(logConfig, new LogEvent(
+                    logType, logTag, createMessage(msg, args),
+                    false, 0, null, null
+            ));
             return;
         }
         // = 日志配置信息获取 =
@@ -736,38 +757,97 @@ final class LoggerPrinter
         String message = createMessage(msg, args);
         // 防止 null 处理
         if (message == null) return;
-        // 打印头部
-        logTopBorder(logType, logTag);
-        // 打印头部线程信息
-        logHeaderContent(logConfig, logType, logTag, methodCount, methodOffset);
-        // 获取系统的默认字符集的信息字节 (UTF-8)
-        byte[] bytes = message.getBytes();
-        // 获取字节总数
-        int length = bytes.length;
-        // 判断是否超过总数, 没有超过则一次性打印, 超过则遍历打印
-        if (length <= LogConstants.CHUNK_SIZE) {
-            if (methodCount > 0) {
-                logDivider(logType, logTag);
+        // 线程信息、堆栈信息需在调用线程获取
+        String              threadName = null;
+        StackTraceElement[] frames     = null;
+        // 判断是否显示日志线程信息
+        if (logConfig.displayThreadInfo) {
+            threadName = Thread.currentThread().getName();
+            // 只有需要打印方法时才获取堆栈
+            if (methodCount > 0 || logConfig.outputMethodAll) {
+                frames = getCallerFrames(
+                        new Throwable().getStackTrace(), methodCount,
+                        methodOffset, logConfig.outputMethodAll
+                );
             }
-            // 打印日志内容
-            logContent(logType, logTag, message);
-            // 打印结尾
-            logBottomBorder(logType, logTag);
+        }
+        dispatchLog(logConfig, new LogEvent(
+                logType, logTag, message, true,
+                methodCount, threadName, frames
+        ));
+    }
+
+    /**
+     * 分发日志事件
+     * @param logConfig 日志配置
+     * @param event     日志事件
+     */
+    private void dispatchLog(
+            final LogConfig logConfig,
+            final LogEvent event
+    ) {
+        if (logConfig.async) {
+            // 异步输出 ( 缓冲区满时丢弃, 不阻塞调用线程 )
+            getDispatcher().offer(event);
             return;
         }
-        // 打印换行符
-        if (methodCount > 0) {
-            // 换行
-            logDivider(logType, logTag);
+        printLog(event);
+    }
+
+    /**
+     * 获取异步日志分发 ( 首次使用时创建日志线程 )
+     * @return {@link LogDispatcher}
+     */
+    private LogDispatcher<LogEvent> getDispatcher() {
+        LogDispatcher<LogEvent> dispatcher = mDispatcher;
+        if (dispatcher == null) {
+            synchronized (mPrintLock) {
+                dispatcher = mDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new LogDispatcher<>(
+                            LogConstants.ASYNC_BUFFER_SIZE, this::printLog
+                    );
+                    mDispatcher = dispatcher;
+                }
+            }
         }
-        // 因为超过系统打印字节总数, 遍历打印
-        for (int i = 0; i < length; i += LogConstants.CHUNK_SIZE) {
-            int count = Math.min(length - i, LogConstants.CHUNK_SIZE);
-            // 创建系统的默认字符集的一个新的字符串 (UTF-8), 并打印日志内容
-            logContent(logType, logTag, new String(bytes, i, count));
+        return dispatcher;
+    }
+
+    /**
+     * 输出日志事件 ( 同一条日志连续输出, 避免混乱的日志的顺序 )
+     * @param event 日志事件
+     */
+    private void printLog(final LogEvent event) {
+        synchronized (mPrintLock) {
+            final int    logType = event.logType;
+            final String logTag  = event.tag;
+            final String message = event.message;
+            // 不排序则直接输出
+            if (!event.sortLog) {
+                finalLogPrinter(logType, logTag, message);
+                return;
+            }
+            // 打印头部
+            logTopBorder(logType, logTag);
+            // 打印头部线程信息
+            logHeaderContent(event);
+            // 打印换行符
+            if (event.methodCount > 0) {
+                logDivider(logType, logTag);
+            }
+            // 超过系统打印字节总数则分块打印 ( 按字符边界切分, 不会截断 UTF-8 字符 )
+            int length = message.length();
+            int start  = 0;
+            do {
+                int end = getChunkEnd(message, start);
+                // 打印日志内容
+                logContent(logType, logTag, message, start, end);
+                start = end;
+            } while (start < length);
+            // 打印结尾
+            logBottomBorder(logType, logTag);
         }
-        // 打印结尾
-        logBottomBorder(logType, logTag);
     }
 
     // =============
@@ -776,71 +856,42 @@ final class LoggerPrinter
 
     /**
      * 日志线程信息主体部分
-     * @param logConfig    日志配置
-     * @param logType      日志类型
-     * @param tag          日志 TAG
-     * @param methodCount  方法总数
-     * @param methodOffset 方法偏移索引
+     * @param event 日志事件
      */
-    private void logHeaderContent(
-            final LogConfig logConfig,
-            final int logType,
-            final String tag,
-            int methodCount,
-            int methodOffset
-    ) {
-        StackTraceElement[] trace = Thread.currentThread().getStackTrace();
+    private void logHeaderContent(final LogEvent event) {
         // 判断是否显示日志线程信息
-        if (!logConfig.displayThreadInfo) return;
+        if (event.threadName == null) return;
 
+        final int    logType = event.logType;
+        final String tag     = event.tag;
         // 打印线程信息 ( 线程名 )
-        finalLogPrinter(
-                logType, tag, LogConstants.HORIZONTAL_DOUBLE_LINE
-                        + " Thread: " + Thread.currentThread().getName()
-        );
+        mBuilder.setLength(0);
+        mBuilder.append(LogConstants.HORIZONTAL_DOUBLE_LINE)
+                .append(" Thread: ").append(event.threadName);
+        finalLogPrinter(logType, tag, mBuilder.toString());
         // 进行换行
         logDivider(logType, tag);
 
-        // 堆栈总数
-        int traceCount = trace.length;
-        // 获取堆栈偏移量
-        int stackOffset = getStackOffset(trace) + methodOffset;
-        // 对应的方法计数与当前堆栈可能超过, 进行堆栈跟踪
-        if (methodCount + stackOffset > traceCount) {
-            methodCount = traceCount - stackOffset - 1;
-        }
-        // 判断是否显示全部方法
-        if (logConfig.outputMethodAll) {
-            // 设置方法总数
-            methodCount = traceCount;
-            // 设置方法偏移索引为 0
-            stackOffset = 0;
-        } else if (methodCount <= 0) {
-            // 如果打印数小于等于 0, 则直接跳过
-            return;
-        }
-
-        // 手动进行偏移
-        StringBuilder traceLevel = new StringBuilder();
-        // 遍历打印的方法数量 ( 类名、行数、操作的方法名 )
-        for (int i = methodCount; i > 0; i--) {
-            int stackIndex = i + stackOffset;
-            if (stackIndex >= traceCount) {
-                continue;
-            }
+        final StackTraceElement[] frames = event.frames;
+        if (frames == null) return;
+        // 遍历打印的方法 ( 类名、行数、操作的方法名 ), 逐级缩进
+        for (int i = 0, len = frames.length; i < len; i++) {
+            StackTraceElement element = frames[i];
             // 拼接中间内容、操作的类名、行数、方法名等信息
-            StringBuilder builder = new StringBuilder();
-            builder.append("║ ").append(traceLevel);
-            builder.append(getSimpleClassName(trace[stackIndex].getClassName()));
-            builder.append(".").append(trace[stackIndex].getMethodName());
-            builder.append(" (");
-            builder.append(trace[stackIndex].getFileName());
-            builder.append(":");
-            builder.append(trace[stackIndex].getLineNumber());
-            builder.append(")");
-            traceLevel.append("   ");
+            mBuilder.setLength(0);
+            mBuilder.append("║ ");
+            for (int j = 0; j < i; j++) {
+                mBuilder.append("   ");
+            }
+            appendSimpleClassName(mBuilder, element.getClassName());
+            mBuilder.append(".").append(element.getMethodName());
+            mBuilder.append(" (");
+            mBuilder.append(element.getFileName());
+            mBuilder.append(":");
+            mBuilder.append(element.getLineNumber());
+            mBuilder.append(")");
             // 打印日志信息
-            finalLogPrinter(logType, tag, builder.toString());
+            finalLogPrinter(logType, tag, mBuilder.toString());
         }
     }
 
@@ -881,23 +932,36 @@ final class LoggerPrinter
     }
 
     /**
-     * 日志内容
+     * 日志内容 ( 按行打印, 忽略末尾空行 )
      * @param logType 日志类型
      * @param tag     日志 TAG
      * @param msg     日志信息
+     * @param start   开始索引
+     * @param end     结束索引 ( 不包含 )
      */
     private void logContent(
             final int logType,
             final String tag,
-            final String msg
+            final String msg,
+            final int start,
+            int end
     ) {
-        String[] lines = msg.split(DevFinal.SYMBOL.NEW_LINE);
-        for (String line : lines) {
-            finalLogPrinter(
-                    logType, tag,
-                    LogConstants.HORIZONTAL_DOUBLE_LINE + " " + line
-            );
+        final String newLine = DevFinal.SYMBOL.NEW_LINE;
+        // 去除末尾空行
+        while (end - newLine.length() >= start
+                && msg.startsWith(newLine, end - newLine.length())) {
+            end -= newLine.length();
         }
+        int index = start;
+        do {
+            int next = msg.indexOf(newLine, index);
+            if (next == -1 || next > end) next = end;
+            mBuilder.setLength(0);
+            mBuilder.append(LogConstants.HORIZONTAL_DOUBLE_LINE).append(' ')
+                    .append(msg, index, next);
+            finalLogPrinter(logType, tag, mBuilder.toString());
+            index = next + newLine.length();
+        } while (index <= end);
     }
 
     /**
@@ -912,25 +976,108 @@ final class LoggerPrinter
     ) {
         if (message != null) {
             try {
-                return args.length == 0 ? message : String.format(message, args);
+                return (args == null || args.length == 0) ? message : String.format(message, args);
             } catch (Exception ignored) {
             }
         }
         return "message is null";
     }
 
+    /**
+     * 获取日志块结束索引 ( 按 UTF-8 编码计算字节数, 只在字符边界切分 )
+     * @param message 日志信息
+     * @param start   开始索引
+     * @return 结束索引 ( 不包含 )
+     */
+    private static int getChunkEnd(
+            final String message,
+            final int start
+    ) {
+        int length = message.length();
+        // 每个字符最多 3 字节 ( 代理对 2 个字符 4 字节 ), 未超出则无需计算
+        if ((long) (length - start) * 3 <= LogConstants.CHUNK_SIZE) {
+            return length;
+        }
+        int bytes = 0;
+        int index = start;
+        while (index < length) {
+            char c    = message.charAt(index);
+            int  size = 3;
+            int  step = 1;
+            if (c < 0x80) {
+                size = 1;
+            } else if (c < 0x800) {
+                size = 2;
+            } else if (Character.isHighSurrogate(c) && index + 1 < length
+                    && Character.isLowSurrogate(message.charAt(index + 1))) {
+                size = 4;
+                step = 2;
+            }
+            if (bytes + size > LogConstants.CHUNK_SIZE) break;
+            bytes += size;
+            index += step;
+        }
+        return index;
+    }
+
     // =============
     // = 获取堆栈信息 =
     // =============
 
     /**
-     * 获取类名
-     * @param name 类.class
-     * @return ClassName
+     * 拼接类名
+     * @param builder {@link StringBuilder}
+     * @param name    类.class
      */
-    private String getSimpleClassName(final String name) {
+    private static void appendSimpleClassName(
+            final StringBuilder builder,
+            final String name
+    ) {
         int lastIndex = name.lastIndexOf('.');
-        return name.substring(lastIndex + 1);
+        builder.append(name, lastIndex + 1, name.length());
+    }
+
+    /**
+     * 获取需要打印的调用方法 ( 按打印顺序, 外层调用在前 )
+     * @param trace        堆栈
+     * @param methodCount  方法总数
+     * @param methodOffset 方法偏移索引
+     * @param allMethod    是否打印全部方法
+     * @return 调用方法
+     */
+    private static StackTraceElement[] getCallerFrames(
+            final StackTraceElement[] trace,
+            int methodCount,
+            final int methodOffset,
+            final boolean allMethod
+    ) {
+        // 堆栈总数
+        int traceCount = trace.length;
+        // 获取堆栈偏移量
+        int stackOffset = getStackOffset(trace) + methodOffset;
+        // 对应的方法计数与当前堆栈可能超过, 进行堆栈跟踪
+        if (methodCount + stackOffset > traceCount) {
+            methodCount = traceCount - stackOffset - 1;
+        }
+        // 判断是否显示全部方法
+        if (allMethod) {
+            // 设置方法总数
+            methodCount = traceCount;
+            // 设置方法偏移索引为 0
+            stackOffset = 0;
+        } else if (methodCount <= 0) {
+            return null;
+        }
+        StackTraceElement[] frames = new StackTraceElement[methodCount];
+        int                 count  = 0;
+        for (int i = methodCount; i > 0; i--) {
+            int stackIndex = i + stackOffset;
+            if (stackIndex >= traceCount) {
+                continue;
+            }
+            frames[count++] = trace[stackIndex];
+        }
+        return count == frames.length ? frames : Arrays.copyOf(frames, count);
     }
 
     /**
@@ -938,7 +1085,7 @@ final class LoggerPrinter
      * @param trace 堆栈
      * @return 堆栈跟踪索引
      */
-    private int getStackOffset(final StackTraceElement[] trace) {
+    private static int getStackOffset(final StackTraceElement[] trace) {
         for (int i = LogConstants.MIN_STACK_OFFSET, len = trace.length; i < len; i++) {
             StackTraceElement e    = trace[i];
             String            name = e.getClassName();
@@ -950,6 +1097,50 @@ final class LoggerPrinter
         return -1;
     }
 
+    // ==========
+    // = 日志事件 =
+    // ==========
+
+    /**
+     * detail: 日志事件 ( 调用线程创建, 输出时只读 )
+     * @author Ttt
+     */
+    private static final class LogEvent {
+
+        // 日志类型
+        final int                 logType;
+        // 日志 TAG
+        final String              tag;
+        // 日志信息
+        final String              message;
+        // 是否排序日志
+        final boolean             sortLog;
+        // 方法总数
+        final int                 methodCount;
+        // 线程名 ( null 表示不显示线程信息 )
+        final String              threadName;
+        // 调用方法 ( 按打印顺序 )
+        final StackTraceElement[] frames;
+
+        LogEvent(
+                final int logType,
+                final String tag,
+                final String message,
+                final boolean sortLog,
+                final int methodCount,
+                final String threadName,
+                final StackTraceElement[] frames
+        ) {
+            this.logType     = logType;
+            this.tag         = tag;
+            this.message     = message;
+            this.sortLog     = sortLog;
+            this.methodCount = methodCount;
+            this.threadName  = threadName;
+            this.frames      = frames;
+        }
+    }
+
     // =============
     // = 日志配置获取 =
     // =============
@@ -2,14 +2,16 @@ package dev.utils.app.timer;
 
 import android.os.Handler;
 
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * detail: 定时器
  * @author Ttt
+ * <pre>
+ *     全部定时器共用 {@link TimerWheel} 调度线程, 不再每次 start 创建 {@link java.util.Timer} 线程
+ *     同一时刻触发且 Handler 相同的定时器合并为一条 Message 回调
+ * </pre>
  */
 public class DevTimer {
 
@@ -154,21 +156,19 @@ public class DevTimer {
     // =============
 
     // uuid ( 一定程度上唯一 )
-    private final int           mUUID          = UUID.randomUUID().hashCode();
+    private final    int                mUUID          = UUID.randomUUID().hashCode();
     // 触发次数
-    private final AtomicInteger mTriggerNumber = new AtomicInteger();
+    private final    AtomicInteger      mTriggerNumber = new AtomicInteger();
     // 定时器是否运行中
-    private       boolean       mRunning;
+    private volatile boolean            mRunning;
     // 状态标识 ( 是否标记清除 )
-    private       boolean       mMarkSweep;
+    private volatile boolean            mMarkSweep;
     // UI Handler
-    private       Handler       mHandler;
+    private volatile Handler            mHandler;
     // 回调方法
-    private       Callback      mCallback;
-    // 定时器
-    private       Timer         mTimer;
-    // 定时器任务
-    private       TimerTask     mTimerTask;
+    private volatile Callback           mCallback;
+    // 时间轮定时任务
+    private volatile TimerWheel.Timeout mTimeout;
 
     /**
      * 获取 TAG
@@ -311,50 +311,24 @@ public class DevTimer {
      * 执行定时器
      * @return {@link DevTimer}
      */
-    private DevTimer startTimer() {
+    private synchronized DevTimer startTimer() {
         // 先关闭旧的定时器
         cancelTimer();
+        // 延迟时间、循环时间不合法则启动失败
+        if (mDelay < 0L || mPeriod <= 0L) {
+            // 关闭定时器, 进行标记需要回收
+            stop(); // 启动失败, 则进行标记需要回收
+            return this;
+        }
         // 表示运行定时器中
         mRunning = true;
         // 每次重置触发次数
         mTriggerNumber.set(0);
-        // 开启定时器
-        mTimer = new Timer(); // 每次重新 new 防止被取消
-        // 重新生成定时器, 防止出现 TimerTask is scheduled already 同一个定时器只能被放置一次
-        mTimerTask = new TimerTask() {
-            @Override
-            public void run() {
-                // 表示运行定时器中
-                mRunning = true;
-                // 累计触发次数
-                int _number = mTriggerNumber.incrementAndGet();
-                // 是否结束
-                boolean _end = isTriggerEnd();
-                // 是否无限循环
-                boolean _infinite = isInfinite();
-                // 关闭定时器, 进行标记需要回收
-                if (_end) stop();
-
-                if (mCallback != null) {
-                    // 判断是否 UI 线程通知
-                    if (mHandler != null) {
-                        mHandler.post(() -> mCallback.onTick(
-                                DevTimer.this, _number, _end, _infinite));
-                    } else {
-                        mCallback.onTick(DevTimer.this, _number, _end, _infinite);
-                    }
-                }
-            }
-        };
-        try {
-            // xx 毫秒后执行, 每隔 xx 毫秒再执行一次
-            mTimer.schedule(mTimerTask, mDelay, mPeriod);
-        } catch (Exception e) {
-            // 表示非运行定时器中
-            mRunning = false;
-            // 关闭定时器, 进行标记需要回收
-            stop(); // 启动失败, 则进行标记需要回收
-        }
+        // xx 毫秒后执行, 每隔 xx 毫秒再执行一次 ( 先保存再添加, 避免调度线程先触发 )
+        TimerWheel         wheel   = TimerWheel.get();
+        TimerWheel.Timeout timeout = wheel.newTimeout(this, mDelay);
+        mTimeout = timeout;
+        wheel.submit(timeout);
         return this;
     }
 
@@ -362,21 +336,42 @@ public class DevTimer {
      * 取消定时器
      * @return {@link DevTimer}
      */
-    private DevTimer cancelTimer() {
+    private synchronized DevTimer cancelTimer() {
         // 表示非运行定时器中
         mRunning = false;
-        try {
-            // 取消定时器
-            if (mTimer != null) {
-                mTimer.cancel();
-                mTimer = null;
-            }
-            if (mTimerTask != null) {
-                mTimerTask.cancel();
-                mTimerTask = null;
-            }
-        } catch (Exception ignored) {
+        // 取消定时器
+        if (mTimeout != null) {
+            TimerWheel.get().cancel(mTimeout);
+            mTimeout = null;
         }
         return this;
     }
+
+    /**
+     * 时间轮触发定时任务 ( 调度线程调用 )
+     * @param timeout 触发的定时任务
+     * @return 需要回调的事件, 无需回调则返回 null
+     */
+    TimerWheel.TickEvent onWheelTick(final TimerWheel.Timeout timeout) {
+        // 已重新 start 或已 stop 的旧定时任务不再触发
+        if (timeout != mTimeout) {
+            TimerWheel.get().cancel(timeout);
+            return null;
+        }
+        // 累计触发次数
+        int _number = mTriggerNumber.incrementAndGet();
+        // 是否结束
+        boolean _end = isTriggerEnd();
+        // 是否无限循环
+        boolean _infinite = isInfinite();
+        // 关闭定时器, 进行标记需要回收
+        if (_end) stop();
+
+        Callback callback = mCallback;
+        if (callback == null) return null;
+        // 判断是否 UI 线程通知
+        return new TimerWheel.TickEvent(
+                mHandler, this, callback, _number, _end, _infinite
+        );
+    }
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package dev.utils.app.timer;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import dev.utils.LogPrintUtils;
 
 /**
  * detail: 定时器管理类
  * @author Ttt
+ * <pre>
+ *     定时器按 TAG、UUID 建立索引, 获取、关闭指定 TAG、UUID 定时器无需遍历全部定时器
+ *     定时器集合、索引均按添加顺序保存 ( 写时复制 ), 遍历、获取无需加锁
+ * </pre>
  */
 public final class TimerManager {
 
@@ -20,17 +25,25 @@ public final class TimerManager {
     private static final String TAG = TimerManager.class.getSimpleName();
 
     // 内部保存定时器对象 ( 统一管理 )
-    protected static final List<DevTimer> mTimerLists = Collections.synchronizedList(new ArrayList<>());
+    protected static final List<DevTimer>               mTimerLists = new CopyOnWriteArrayList<>();
+    // TAG 索引
+    private static final   Map<String, List<DevTimer>>  mTagIndex   = new ConcurrentHashMap<>();
+    // UUID 索引
+    private static final   Map<Integer, List<DevTimer>> mUUIDIndex  = new ConcurrentHashMap<>();
 
     /**
      * 添加包含校验
      * @param timer 定时器
      */
     protected static void addContainsChecker(final DevTimer timer) {
+        if (timer == null) return;
         synchronized (mTimerLists) {
-            if (!mTimerLists.contains(timer)) {
-                mTimerLists.add(timer);
+            if (mTimerLists.contains(timer)) return;
+            mTimerLists.add(timer);
+            if (timer.getTag() != null) {
+                addIndex(mTagIndex, timer.getTag(), timer);
             }
+            addIndex(mUUIDIndex, timer.getUUID(), timer);
         }
     }
 
@@ -50,18 +63,14 @@ public final class TimerManager {
      * 回收定时器资源
      */
     public static void recycle() {
-        synchronized (mTimerLists) {
-            try {
-                Iterator<DevTimer> iterator = mTimerLists.iterator();
-                while (iterator.hasNext()) {
-                    DevTimer timer = iterator.next();
-                    if (timer == null || timer.isMarkSweep()) {
-                        iterator.remove();
-                    }
+        try {
+            for (DevTimer timer : mTimerLists) {
+                if (timer.isMarkSweep()) {
+                    removeTimer(timer);
                 }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "recycle");
             }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "recycle");
         }
     }
 
@@ -76,39 +85,18 @@ public final class TimerManager {
      */
     public static DevTimer getTimer(final String tag) {
         if (tag != null) {
-            synchronized (mTimerLists) {
-                try {
-                    for (DevTimer timer : mTimerLists) {
-                        if (timer != null && tag.equals(timer.getTag())) {
-                            return timer;
-                        }
-                    }
-                } catch (Exception e) {
-                    LogPrintUtils.eTag(TAG, e, "getTimer");
-                }
-            }
+            return firstIndex(mTagIndex, tag);
         }
         return null;
     }
 
     /**
      * 获取对应 UUID 定时器 ( 优先获取符合的 )
-     * @param uuid 判断 {@link DevTimer#getTag()}
+     * @param uuid 判断 {@link DevTimer#getUUID()}
      * @return {@link DevTimer}
      */
     public static DevTimer getTimer(final int uuid) {
-        synchronized (mTimerLists) {
-            try {
-                for (DevTimer timer : mTimerLists) {
-                    if (timer != null && uuid == timer.getUUID()) {
-                        return timer;
-                    }
-                }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "getTimer");
-            }
-        }
-        return null;
+        return firstIndex(mUUIDIndex, uuid);
     }
 
     // =
@@ -119,42 +107,19 @@ public final class TimerManager {
      * @return 定时器集合
      */
     public static List<DevTimer> getTimers(final String tag) {
-        List<DevTimer> lists = new ArrayList<>();
         if (tag != null) {
-            synchronized (mTimerLists) {
-                try {
-                    for (DevTimer timer : mTimerLists) {
-                        if (timer != null && tag.equals(timer.getTag())) {
-                            lists.add(timer);
-                        }
-                    }
-                } catch (Exception e) {
-                    LogPrintUtils.eTag(TAG, e, "getTimers");
-                }
-            }
+            return listIndex(mTagIndex, tag);
         }
-        return lists;
+        return new ArrayList<>();
     }
 
     /**
      * 获取对应 UUID 定时器集合
-     * @param uuid 判断 {@link DevTimer#getTag()}
+     * @param uuid 判断 {@link DevTimer#getUUID()}
      * @return 定时器集合
      */
     public static List<DevTimer> getTimers(final int uuid) {
-        List<DevTimer> lists = new ArrayList<>();
-        synchronized (mTimerLists) {
-            try {
-                for (DevTimer timer : mTimerLists) {
-                    if (timer != null && uuid == timer.getUUID()) {
-                        lists.add(timer);
-                    }
-                }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "getTimers");
-            }
-        }
-        return lists;
+        return listIndex(mUUIDIndex, uuid);
     }
 
     // ============
@@ -165,19 +130,13 @@ public final class TimerManager {
      * 关闭全部定时器
      */
     public static void closeAll() {
-        synchronized (mTimerLists) {
-            try {
-                Iterator<DevTimer> iterator = mTimerLists.iterator();
-                while (iterator.hasNext()) {
-                    DevTimer timer = iterator.next();
-                    if (timer != null) {
-                        timer.stop();
-                        iterator.remove();
-                    }
-                }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "closeAll");
+        try {
+            for (DevTimer timer : mTimerLists) {
+                timer.stop();
+                removeTimer(timer);
             }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "closeAll");
         }
     }
 
@@ -185,19 +144,15 @@ public final class TimerManager {
      * 关闭所有未运行的定时器
      */
     public static void closeAllNotRunning() {
-        synchronized (mTimerLists) {
-            try {
-                Iterator<DevTimer> iterator = mTimerLists.iterator();
-                while (iterator.hasNext()) {
-                    DevTimer timer = iterator.next();
-                    if (timer != null && !timer.isRunning()) {
-                        timer.stop();
-                        iterator.remove();
-                    }
+        try {
+            for (DevTimer timer : mTimerLists) {
+                if (!timer.isRunning()) {
+                    timer.stop();
+                    removeTimer(timer);
                 }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "closeAllNotRunning");
             }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "closeAllNotRunning");
         }
     }
 
@@ -205,19 +160,15 @@ public final class TimerManager {
      * 关闭所有无限循环的定时器
      */
     public static void closeAllInfinite() {
-        synchronized (mTimerLists) {
-            try {
-                Iterator<DevTimer> iterator = mTimerLists.iterator();
-                while (iterator.hasNext()) {
-                    DevTimer timer = iterator.next();
-                    if (timer != null && timer.isInfinite()) {
-                        timer.stop();
-                        iterator.remove();
-                    }
+        try {
+            for (DevTimer timer : mTimerLists) {
+                if (timer.isInfinite()) {
+                    timer.stop();
+                    removeTimer(timer);
                 }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "closeAllInfinite");
             }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "closeAllInfinite");
         }
     }
 
@@ -227,19 +178,13 @@ public final class TimerManager {
      */
     public static void closeAllTag(final String tag) {
         if (tag != null) {
-            synchronized (mTimerLists) {
-                try {
-                    Iterator<DevTimer> iterator = mTimerLists.iterator();
-                    while (iterator.hasNext()) {
-                        DevTimer timer = iterator.next();
-                        if (timer != null && tag.equals(timer.getTag())) {
-                            timer.stop();
-                            iterator.remove();
-                        }
-                    }
-                } catch (Exception e) {
-                    LogPrintUtils.eTag(TAG, e, "closeAllTag");
+            try {
+                for (DevTimer timer : listIndex(mTagIndex, tag)) {
+                    timer.stop();
+                    removeTimer(timer);
                 }
+            } catch (Exception e) {
+                LogPrintUtils.eTag(TAG, e, "closeAllTag");
             }
         }
     }
@@ -249,19 +194,13 @@ public final class TimerManager {
      * @param uuid 判断 {@link DevTimer#getUUID()}
      */
     public static void closeAllUUID(final int uuid) {
-        synchronized (mTimerLists) {
-            try {
-                Iterator<DevTimer> iterator = mTimerLists.iterator();
-                while (iterator.hasNext()) {
-                    DevTimer timer = iterator.next();
-                    if (timer != null && uuid == timer.getUUID()) {
-                        timer.stop();
-                        iterator.remove();
-                    }
-                }
-            } catch (Exception e) {
-                LogPrintUtils.eTag(TAG, e, "closeAllUUID");
+        try {
+            for (DevTimer timer : listIndex(mUUIDIndex, uuid)) {
+                timer.stop();
+                removeTimer(timer);
             }
+        } catch (Exception e) {
+            LogPrintUtils.eTag(TAG, e, "closeAllUUID");
         }
     }
 
@@ -284,4 +223,95 @@ public final class TimerManager {
     public static void stopTimer(final DevTimer timer) {
         if (timer != null) timer.stop();
     }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 移除定时器及其索引
+     * @param timer 定时器
+     */
+    private static void removeTimer(final DevTimer timer) {
+        synchronized (mTimerLists) {
+            if (!mTimerLists.remove(timer)) return;
+            if (timer.getTag() != null) {
+                removeIndex(mTagIndex, timer.getTag(), timer);
+            }
+            removeIndex(mUUIDIndex, timer.getUUID(), timer);
+        }
+    }
+
+    /**
+     * 添加索引
+     * @param index 索引
+     * @param key   索引 key
+     * @param timer 定时器
+     * @param <K>   泛型
+     */
+    private static <K> void addIndex(
+            final Map<K, List<DevTimer>> index,
+            final K key,
+            final DevTimer timer
+    ) {
+        index.compute(key, (k, timers) -> {
+            List<DevTimer> lists = (timers != null) ? timers : new CopyOnWriteArrayList<>();
+            lists.add(timer);
+            return lists;
+        });
+    }
+
+    /**
+     * 移除索引 ( 为空则移除 key )
+     * @param index 索引
+     * @param key   索引 key
+     * @param timer 定时器
+     * @param <K>   泛型
+     */
+    private static <K> void removeIndex(
+            final Map<K, List<DevTimer>> index,
+            final K key,
+            final DevTimer timer
+    ) {
+        index.computeIfPresent(key, (k, timers) -> {
+            timers.remove(timer);
+            return timers.isEmpty() ? null : timers;
+        });
+    }
+
+    /**
+     * 获取索引首个定时器 ( 最早添加的 )
+     * @param index 索引
+     * @param key   索引 key
+     * @param <K>   泛型
+     * @return {@link DevTimer}
+     */
+    private static <K> DevTimer firstIndex(
+            final Map<K, List<DevTimer>> index,
+            final K key
+    ) {
+        List<DevTimer> timers = index.get(key);
+        if (timers != null) {
+            for (DevTimer timer : timers) {
+                return timer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取索引定时器集合
+     * @param index 索引
+     * @param key   索引 key
+     * @param <K>   泛型
+     * @return 定时器集合
+     */
+    private static <K> List<DevTimer> listIndex(
+            final Map<K, List<DevTimer>> index,
+            final K key
+    ) {
+        List<DevTimer> timers = index.get(key);
+        if (timers != null) return new ArrayList<>(timers);
+        return new ArrayList<>();
+    }
 }
\ No newline at end of file
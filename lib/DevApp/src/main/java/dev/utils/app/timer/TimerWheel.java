@@ -0,0 +1,406 @@
+package dev.utils.app.timer;
+
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import dev.utils.LogPrintUtils;
+
+/**
+ * detail: 哈希时间轮 ( 全部 {@link DevTimer} 共用一个调度线程 )
+ * @author Ttt
+ * <pre>
+ *     时间轮 512 个槽, 每个槽 10 毫秒, 超过一圈的定时器记录剩余圈数
+ *     schedule、cancel 只入队 ( O(1) 无锁 ), 由调度线程在每个 tick 统一转移、移除
+ *     同一 tick 内到期的定时器按 Handler 合并为一条 Message 投递, 减少消息队列抖动
+ *     未设置 Handler 的定时器在调度线程直接回调
+ *     没有定时器时调度线程挂起, 不会空转
+ * </pre>
+ */
+final class TimerWheel {
+
+    // 日志 TAG
+    private static final String TAG = TimerWheel.class.getSimpleName();
+
+    // 每个槽时长 ( 毫秒 )
+    private static final long TICK_MILLIS = 10L;
+    // 槽数量 ( 2 的幂 )
+    private static final int  WHEEL_SIZE  = 512;
+
+    // 单例
+    private static volatile TimerWheel sInstance;
+
+    /**
+     * 获取时间轮单例
+     * @return {@link TimerWheel}
+     */
+    static TimerWheel get() {
+        if (sInstance == null) {
+            synchronized (TimerWheel.class) {
+                if (sInstance == null) {
+                    sInstance = new TimerWheel();
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    // 每个槽时长 ( 纳秒 )
+    private final long                           mTickNanos  = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    // 时间轮槽
+    private final Bucket[]                       mWheel      = new Bucket[WHEEL_SIZE];
+    // 待加入时间轮任务
+    private final ConcurrentLinkedQueue<Timeout> mPending    = new ConcurrentLinkedQueue<>();
+    // 待移除时间轮任务
+    private final ConcurrentLinkedQueue<Timeout> mCancelled  = new ConcurrentLinkedQueue<>();
+    // 有效任务数
+    private final AtomicInteger                  mCount      = new AtomicInteger();
+    // 时间轮开始时间 ( 纳秒 )
+    private final long                           mStartTime  = System.nanoTime();
+    // 调度线程
+    private final Thread                         mWorker;
+    // 当前 tick ( 仅调度线程访问 )
+    private       long                           mTick;
+
+    private TimerWheel() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            mWheel[i] = new Bucket();
+        }
+        mWorker = new Thread(this::loop, TAG);
+        mWorker.setDaemon(true);
+        mWorker.start();
+    }
+
+    // ==========
+    // = 调度方法 =
+    // ==========
+
+    /**
+     * 创建定时任务 ( 未添加到时间轮 )
+     * <pre>
+     *     调用方先保存返回的 {@link Timeout} 再调用 {@link #submit(Timeout)},
+     *     避免调度线程在保存前触发而判断为旧定时任务
+     * </pre>
+     * @param timer 定时器
+     * @param delay 延迟时间 ( 毫秒 )
+     * @return {@link Timeout}
+     */
+    Timeout newTimeout(
+            final DevTimer timer,
+            final long delay
+    ) {
+        return new Timeout(timer, elapsed() + TimeUnit.MILLISECONDS.toNanos(delay));
+    }
+
+    /**
+     * 添加定时任务到时间轮
+     * @param timeout {@link #newTimeout(DevTimer, long)} 创建的定时任务
+     */
+    void submit(final Timeout timeout) {
+        mCount.incrementAndGet();
+        mPending.add(timeout);
+        LockSupport.unpark(mWorker);
+    }
+
+    /**
+     * 取消定时任务
+     * @param timeout {@link Timeout}
+     */
+    void cancel(final Timeout timeout) {
+        if (timeout != null && timeout.mState.compareAndSet(Timeout.ACTIVE, Timeout.CANCELLED)) {
+            mCancelled.add(timeout);
+            mCount.decrementAndGet();
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取时间轮已运行时长 ( 纳秒 )
+     * @return 已运行时长
+     */
+    private long elapsed() {
+        return System.nanoTime() - mStartTime;
+    }
+
+    /**
+     * 调度线程循环
+     */
+    private void loop() {
+        List<Timeout>                  reschedules = new ArrayList<>();
+        Map<Handler, List<TickEvent>>  batches     = new IdentityHashMap<>();
+        List<TickEvent>                directs     = new ArrayList<>();
+        while (true) {
+            try {
+                if (mCount.get() == 0 && mPending.isEmpty()) {
+                    // 没有定时任务则挂起, schedule 时唤醒
+                    removeCancelled();
+                    LockSupport.park(this);
+                    // 挂起期间槽均为空, 直接对齐到当前 tick
+                    mTick = Math.max(mTick, elapsed() / mTickNanos);
+                    continue;
+                }
+                long deadline = (mTick + 1) * mTickNanos;
+                long sleep    = deadline - elapsed();
+                if (sleep > 0L) {
+                    LockSupport.parkNanos(this, sleep);
+                    continue;
+                }
+                removeCancelled();
+                transferPending();
+                expire(mWheel[(int) (mTick & (WHEEL_SIZE - 1))], deadline, reschedules, batches, directs);
+                // 先推进 tick, 剩余圈数按下一个处理的 tick 计算 ( 避免整圈时延迟一圈 )
+                mTick++;
+                for (Timeout timeout : reschedules) {
+                    place(timeout, mTick);
+                }
+                reschedules.clear();
+                deliver(batches, directs);
+            } catch (Throwable e) {
+                LogPrintUtils.eTag(TAG, e, "loop");
+            }
+        }
+    }
+
+    /**
+     * 移除已取消任务
+     */
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = mCancelled.poll()) != null) {
+            if (timeout.mBucket != null) timeout.mBucket.remove(timeout);
+        }
+    }
+
+    /**
+     * 待加入任务转移到时间轮
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = mPending.poll()) != null) {
+            if (timeout.mState.get() == Timeout.ACTIVE) {
+                place(timeout, mTick);
+            }
+        }
+    }
+
+    /**
+     * 放入对应槽
+     * @param timeout 定时任务
+     * @param minTick 最早 tick ( 即下一个处理的 tick, 剩余圈数相对该 tick 计算 )
+     */
+    private void place(
+            final Timeout timeout,
+            final long minTick
+    ) {
+        long calculated = Math.max(timeout.mDeadline / mTickNanos, minTick);
+        timeout.mRemainingRounds = (calculated - minTick) / WHEEL_SIZE;
+        mWheel[(int) (calculated & (WHEEL_SIZE - 1))].add(timeout);
+    }
+
+    /**
+     * 处理槽内到期任务
+     * @param bucket      槽
+     * @param deadline    当前 tick 截止时间 ( 纳秒 )
+     * @param reschedules 需重新放入的周期任务
+     * @param batches     按 Handler 合并的回调
+     * @param directs     调度线程直接回调
+     */
+    private void expire(
+            final Bucket bucket,
+            final long deadline,
+            final List<Timeout> reschedules,
+            final Map<Handler, List<TickEvent>> batches,
+            final List<TickEvent> directs
+    ) {
+        Timeout timeout = bucket.mHead;
+        while (timeout != null) {
+            Timeout next = timeout.mNext;
+            if (timeout.mState.get() != Timeout.ACTIVE) {
+                bucket.remove(timeout);
+            } else if (timeout.mRemainingRounds <= 0 && timeout.mDeadline <= deadline) {
+                bucket.remove(timeout);
+                TickEvent event = timeout.mTimer.onWheelTick(timeout);
+                if (event != null) {
+                    if (event.handler != null) {
+                        List<TickEvent> lists = batches.get(event.handler);
+                        if (lists == null) {
+                            lists = new ArrayList<>();
+                            batches.put(event.handler, lists);
+                        }
+                        lists.add(event);
+                    } else {
+                        directs.add(event);
+                    }
+                }
+                // 周期任务计算下次触发时间
+                if (timeout.mState.get() == Timeout.ACTIVE) {
+                    long period = TimeUnit.MILLISECONDS.toNanos(timeout.mTimer.getPeriod());
+                    timeout.mDeadline += period;
+                    // 落后超过一个周期则不补发
+                    if (timeout.mDeadline < deadline) {
+                        timeout.mDeadline = deadline + period;
+                    }
+                    reschedules.add(timeout);
+                }
+            } else {
+                timeout.mRemainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * 投递回调
+     * @param batches 按 Handler 合并的回调
+     * @param directs 调度线程直接回调
+     */
+    private void deliver(
+            final Map<Handler, List<TickEvent>> batches,
+            final List<TickEvent> directs
+    ) {
+        for (Map.Entry<Handler, List<TickEvent>> entry : batches.entrySet()) {
+            final List<TickEvent> events = entry.getValue();
+            entry.getKey().post(() -> {
+                for (TickEvent event : events) {
+                    event.dispatch();
+                }
+            });
+        }
+        batches.clear();
+        for (TickEvent event : directs) {
+            event.dispatch();
+        }
+        directs.clear();
+    }
+
+    // ==========
+    // = 内部类 =
+    // ==========
+
+    /**
+     * detail: 定时任务
+     * @author Ttt
+     */
+    static final class Timeout {
+
+        static final int ACTIVE    = 0;
+        static final int CANCELLED = 1;
+
+        // 定时器
+        final DevTimer      mTimer;
+        // 状态
+        final AtomicInteger mState = new AtomicInteger(ACTIVE);
+        // 触发时间 ( 相对时间轮开始时间, 纳秒 )
+        long                mDeadline;
+        // 剩余圈数
+        long                mRemainingRounds;
+        // 所在槽 ( 仅调度线程访问 )
+        Bucket              mBucket;
+        Timeout             mPrev;
+        Timeout             mNext;
+
+        Timeout(
+                final DevTimer timer,
+                final long deadline
+        ) {
+            this.mTimer    = timer;
+            this.mDeadline = deadline;
+        }
+    }
+
+    /**
+     * detail: 时间轮槽 ( 双向链表, O(1) 添加、移除 )
+     * @author Ttt
+     */
+    private static final class Bucket {
+
+        Timeout mHead;
+        Timeout mTail;
+
+        void add(final Timeout timeout) {
+            timeout.mBucket = this;
+            timeout.mPrev   = mTail;
+            timeout.mNext   = null;
+            if (mTail == null) {
+                mHead = timeout;
+            } else {
+                mTail.mNext = timeout;
+            }
+            mTail = timeout;
+        }
+
+        void remove(final Timeout timeout) {
+            if (timeout.mBucket != this) return;
+            if (timeout.mPrev != null) {
+                timeout.mPrev.mNext = timeout.mNext;
+            } else {
+                mHead = timeout.mNext;
+            }
+            if (timeout.mNext != null) {
+                timeout.mNext.mPrev = timeout.mPrev;
+            } else {
+                mTail = timeout.mPrev;
+            }
+            timeout.mBucket = null;
+            timeout.mPrev   = null;
+            timeout.mNext   = null;
+        }
+    }
+
+    /**
+     * detail: 定时触发回调事件
+     * @author Ttt
+     */
+    static final class TickEvent {
+
+        // 回调线程 Handler
+        final Handler           handler;
+        // 定时器
+        final DevTimer          timer;
+        // 回调
+        final DevTimer.Callback callback;
+        // 触发次数
+        final int               number;
+        // 是否结束
+        final boolean           end;
+        // 是否无限循环
+        final boolean           infinite;
+
+        TickEvent(
+                final Handler handler,
+                final DevTimer timer,
+                final DevTimer.Callback callback,
+                final int number,
+                final boolean end,
+                final boolean infinite
+        ) {
+            this.handler  = handler;
+            this.timer    = timer;
+            this.callback = callback;
+            this.number   = number;
+            this.end      = end;
+            this.infinite = infinite;
+        }
+
+        /**
+         * 触发回调
+         */
+        void dispatch() {
+            try {
+                callback.onTick(timer, number, end, infinite);
+            } catch (Exception e) {
+                LogPrintUtils.eTag(TAG, e, "dispatch");
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -7,6 +7,8 @@ import java.util.List;
 
 import dev.utils.DevFinal;
 import dev.utils.JCLogUtils;
+import dev.utils.common.assist.primitive.IntSet;
+import dev.utils.common.assist.primitive.LongSet;
 
 /**
  * detail: Array 数组工具类
@@ -16,6 +18,9 @@ import dev.utils.JCLogUtils;
  *     Arrays.sort(arrays);
  *     // 降序 ( 只能对对象数组降序 )
  *     Arrays.sort(arrays, Collections.reverseOrder());
+ *     <p></p>
+ *     int[]、long[] 集合运算 ( 并集、交集等 ) 使用 {@link IntSet}、{@link LongSet}, 不装箱
+ *     基础类型容器可使用 dev.utils.common.assist.primitive 包下 IntList、LongList、DoubleList
  * </pre>
  */
 public final class ArrayUtils {
@@ -26,6 +31,9 @@ public final class ArrayUtils {
     // 日志 TAG
     private static final String TAG = ArrayUtils.class.getSimpleName();
 
+    // 并行计算阈值
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     // =========
     // = Array =
     // =========
@@ -4080,4 +4088,337 @@ public final class ArrayUtils {
         }
         return total;
     }
+
+    // ==========
+    // = 并行计算 =
+    // ==========
+
+    /**
+     * 计算数组总和 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 数组总和
+     */
+    public static long sumArrayParallel(final int[] data) {
+        if (data == null) return 0L;
+        if (data.length < PARALLEL_THRESHOLD) {
+            long total = 0L;
+            for (int value : data) {
+                total += value;
+            }
+            return total;
+        }
+        return Arrays.stream(data).parallel().asLongStream().sum();
+    }
+
+    /**
+     * 获取数组中最小值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最小值
+     */
+    public static int getMinimumParallel(final int[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMinimum(data);
+        return Arrays.stream(data).parallel().min().getAsInt();
+    }
+
+    /**
+     * 获取数组中最大值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最大值
+     */
+    public static int getMaximumParallel(final int[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMaximum(data);
+        return Arrays.stream(data).parallel().max().getAsInt();
+    }
+
+    // =
+
+    /**
+     * 计算数组总和 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 数组总和
+     */
+    public static long sumArrayParallel(final long[] data) {
+        if (data == null) return 0L;
+        if (data.length < PARALLEL_THRESHOLD) {
+            long total = 0L;
+            for (long value : data) {
+                total += value;
+            }
+            return total;
+        }
+        return Arrays.stream(data).parallel().sum();
+    }
+
+    /**
+     * 获取数组中最小值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最小值
+     */
+    public static long getMinimumParallel(final long[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMinimum(data);
+        return Arrays.stream(data).parallel().min().getAsLong();
+    }
+
+    /**
+     * 获取数组中最大值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最大值
+     */
+    public static long getMaximumParallel(final long[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMaximum(data);
+        return Arrays.stream(data).parallel().max().getAsLong();
+    }
+
+    // =
+
+    /**
+     * 计算数组总和 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 数组总和
+     */
+    public static double sumArrayParallel(final double[] data) {
+        if (data == null) return 0D;
+        if (data.length < PARALLEL_THRESHOLD) {
+            double total = 0D;
+            for (double value : data) {
+                total += value;
+            }
+            return total;
+        }
+        return Arrays.stream(data).parallel().sum();
+    }
+
+    /**
+     * 获取数组中最小值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最小值
+     */
+    public static double getMinimumParallel(final double[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMinimum(data);
+        return Arrays.stream(data).parallel().min().getAsDouble();
+    }
+
+    /**
+     * 获取数组中最大值 ( 数据量较大时并行计算 )
+     * @param data 数组
+     * @return 最大值
+     */
+    public static double getMaximumParallel(final double[] data) {
+        if (data == null || data.length < PARALLEL_THRESHOLD) return getMaximum(data);
+        return Arrays.stream(data).parallel().max().getAsDouble();
+    }
+
+    // ================
+    // = 基础类型集合运算 =
+    // ================
+
+    /**
+     * 数组去重 ( 保留第一次出现顺序 )
+     * @param data 数组
+     * @return 去重后的数组
+     */
+    public static int[] distinct(final int[] data) {
+        if (data == null) return new int[0];
+        IntSet seen   = new IntSet(data.length);
+        int[]  result = new int[data.length];
+        int    count  = 0;
+        for (int value : data) {
+            if (seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组并集处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 并集数组
+     */
+    public static int[] union(
+            final int[] data1,
+            final int[] data2
+    ) {
+        int   length1 = length(data1);
+        int   length2 = length(data2);
+        int[] result  = new int[length1 + length2];
+        if (length1 != 0) System.arraycopy(data1, 0, result, 0, length1);
+        if (length2 != 0) System.arraycopy(data2, 0, result, length1, length2);
+        return distinct(result);
+    }
+
+    /**
+     * 两个数组交集处理 ( 去重, 按第二个数组顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 交集数组
+     */
+    public static int[] intersection(
+            final int[] data1,
+            final int[] data2
+    ) {
+        if (data1 == null || data2 == null) return new int[0];
+        IntSet contains = IntSet.of(data1);
+        IntSet seen     = new IntSet(Math.min(data1.length, data2.length));
+        int[]  result   = new int[Math.min(data1.length, data2.length)];
+        int    count    = 0;
+        for (int value : data2) {
+            if (contains.contains(value) && seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组交集的补集处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 交集的补集数组
+     */
+    public static int[] disjunction(
+            final int[] data1,
+            final int[] data2
+    ) {
+        IntSet set1 = IntSet.of(data1);
+        IntSet set2 = IntSet.of(data2);
+        IntSet seen = new IntSet(set1.size() + set2.size());
+        int[]  result = new int[length(data1) + length(data2)];
+        int    count  = 0;
+        if (data1 != null) {
+            for (int value : data1) {
+                if (!set2.contains(value) && seen.add(value)) result[count++] = value;
+            }
+        }
+        if (data2 != null) {
+            for (int value : data2) {
+                if (!set1.contains(value) && seen.add(value)) result[count++] = value;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组差集 ( 扣除 ) 处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组 ( 需扣除的数据 )
+     * @return 差集 ( 扣除 ) 数组
+     */
+    public static int[] subtract(
+            final int[] data1,
+            final int[] data2
+    ) {
+        if (data1 == null) return new int[0];
+        IntSet exclude = IntSet.of(data2);
+        IntSet seen    = new IntSet(data1.length);
+        int[]  result  = new int[data1.length];
+        int    count   = 0;
+        for (int value : data1) {
+            if (!exclude.contains(value) && seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    // =
+
+    /**
+     * 数组去重 ( 保留第一次出现顺序 )
+     * @param data 数组
+     * @return 去重后的数组
+     */
+    public static long[] distinct(final long[] data) {
+        if (data == null) return new long[0];
+        LongSet seen   = new LongSet(data.length);
+        long[]  result = new long[data.length];
+        int     count  = 0;
+        for (long value : data) {
+            if (seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组并集处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 并集数组
+     */
+    public static long[] union(
+            final long[] data1,
+            final long[] data2
+    ) {
+        int    length1 = length(data1);
+        int    length2 = length(data2);
+        long[] result  = new long[length1 + length2];
+        if (length1 != 0) System.arraycopy(data1, 0, result, 0, length1);
+        if (length2 != 0) System.arraycopy(data2, 0, result, length1, length2);
+        return distinct(result);
+    }
+
+    /**
+     * 两个数组交集处理 ( 去重, 按第二个数组顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 交集数组
+     */
+    public static long[] intersection(
+            final long[] data1,
+            final long[] data2
+    ) {
+        if (data1 == null || data2 == null) return new long[0];
+        LongSet contains = LongSet.of(data1);
+        LongSet seen     = new LongSet(Math.min(data1.length, data2.length));
+        long[]  result   = new long[Math.min(data1.length, data2.length)];
+        int     count    = 0;
+        for (long value : data2) {
+            if (contains.contains(value) && seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组交集的补集处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组
+     * @return 交集的补集数组
+     */
+    public static long[] disjunction(
+            final long[] data1,
+            final long[] data2
+    ) {
+        LongSet set1 = LongSet.of(data1);
+        LongSet set2 = LongSet.of(data2);
+        LongSet seen = new LongSet(set1.size() + set2.size());
+        long[]  result = new long[length(data1) + length(data2)];
+        int     count  = 0;
+        if (data1 != null) {
+            for (long value : data1) {
+                if (!set2.contains(value) && seen.add(value)) result[count++] = value;
+            }
+        }
+        if (data2 != null) {
+            for (long value : data2) {
+                if (!set1.contains(value) && seen.add(value)) result[count++] = value;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 两个数组差集 ( 扣除 ) 处理 ( 去重, 保留第一次出现顺序 )
+     * @param data1 第一个数组
+     * @param data2 第二个数组 ( 需扣除的数据 )
+     * @return 差集 ( 扣除 ) 数组
+     */
+    public static long[] subtract(
+            final long[] data1,
+            final long[] data2
+    ) {
+        if (data1 == null) return new long[0];
+        LongSet exclude = LongSet.of(data2);
+        LongSet seen    = new LongSet(data1.length);
+        long[]  result  = new long[data1.length];
+        int     count   = 0;
+        for (long value : data1) {
+            if (!exclude.contains(value) && seen.add(value)) result[count++] = value;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
 }
\ No newline at end of file
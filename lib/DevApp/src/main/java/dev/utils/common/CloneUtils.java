@@ -12,6 +12,10 @@ import dev.utils.JCLogUtils;
 /**
  * detail: 克隆工具类
  * @author Ttt
+ * <pre>
+ *     深拷贝优先使用反射拷贝 ( 按类缓存拷贝方案, 不经过序列化 ), 结果与序列化克隆一致
+ *     存在自定义序列化方法等反射拷贝不支持的类, 回退到序列化克隆
+ * </pre>
  */
 public final class CloneUtils {
 
@@ -29,7 +33,7 @@ public final class CloneUtils {
      */
     public static <T> T deepClone(final Serializable data) {
         if (data == null) return null;
-        return (T) ConvertUtils.bytesToObject(serializableToBytes(data));
+        return (T) cloneObject(data);
     }
 
     /**
@@ -75,9 +79,7 @@ public final class CloneUtils {
                     // 获取 key
                     K key = entry.getKey();
                     // 克隆对象
-                    V cloneObj = (V) ConvertUtils.bytesToObject(
-                            serializableToBytes((Serializable) entry.getValue())
-                    );
+                    V cloneObj = (V) cloneObject((Serializable) entry.getValue());
                     if (cloneObj != null) {
                         // 保存到集合
                         map.put(key, cloneObj);
@@ -107,9 +109,7 @@ public final class CloneUtils {
             while (iterator.hasNext()) {
                 try {
                     // 克隆对象
-                    T cloneObj = (T) ConvertUtils.bytesToObject(
-                            serializableToBytes((Serializable) iterator.next())
-                    );
+                    T cloneObj = (T) cloneObject((Serializable) iterator.next());
                     if (cloneObj != null) {
                         collection.add(cloneObj);
                     }
@@ -121,4 +121,20 @@ public final class CloneUtils {
         }
         return false;
     }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 克隆对象 ( 优先反射拷贝, 不支持则序列化克隆 )
+     * @param data Object implements {@link Serializable}
+     * @return 克隆后的对象
+     */
+    private static Object cloneObject(final Serializable data) {
+        if (data == null) return null;
+        Object copy = DeepCopier.copy(data);
+        if (copy != DeepCopier.UNSUPPORTED) return copy;
+        return ConvertUtils.bytesToObject(serializableToBytes(data));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package dev.utils.common;
 
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
 import static java.lang.Math.PI;
 
 /**
@@ -19,6 +22,9 @@ import static java.lang.Math.PI;
  *     绝大部分国内互联网地图提供商都是使用 GCJ-02 坐标系, 包括高德地图, 谷歌地图中国区等
  *     <p></p>
  *     3. BD09 坐标系: 即百度坐标系, 其在 GCJ-02 上多增加了一次变换, 用来保护用户隐私, 从百度产品中得到的坐标都是 BD-09 坐标系
+ *     <p></p>
+ *     批量转换 ( double[] 经度列、纬度列 ) 直接覆盖原数组, 不创建坐标对象, 数据量较大时分段并行处理
+ *     最近点、范围查询可使用 {@link CoordinateIndex}
  * </pre>
  */
 public final class CoordinateUtils {
@@ -30,6 +36,11 @@ public final class CoordinateUtils {
     private static final double A    = 6378245.0;
     private static final double EE   = 0.00669342162296594323;
 
+    // 并行处理阈值
+    private static final int PARALLEL_THRESHOLD = 8192;
+    // 并行处理分段大小
+    private static final int PARALLEL_CHUNK     = 2048;
+
     /**
      * BD09 坐标转 GCJ02 坐标
      * @param lng BD09 坐标纬度
@@ -40,13 +51,9 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        double x      = lng - 0.0065;
-        double y      = lat - 0.006;
-        double z      = Math.sqrt(x * x + y * y) - 0.00002 * Math.sin(y * X_PI);
-        double theta  = Math.atan2(y, x) - 0.000003 * Math.cos(x * X_PI);
-        double gg_lng = z * Math.cos(theta);
-        double gg_lat = z * Math.sin(theta);
-        return new double[]{gg_lng, gg_lat};
+        double[] point = new double[]{lng, lat};
+        bd09ToGcj02(point, 0, point, 1);
+        return point;
     }
 
     /**
@@ -59,11 +66,9 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        double z      = Math.sqrt(lng * lng + lat * lat) + 0.00002 * Math.sin(lat * X_PI);
-        double theta  = Math.atan2(lat, lng) + 0.000003 * Math.cos(lng * X_PI);
-        double bd_lng = z * Math.cos(theta) + 0.0065;
-        double bd_lat = z * Math.sin(theta) + 0.006;
-        return new double[]{bd_lng, bd_lat};
+        double[] point = new double[]{lng, lat};
+        gcj02ToBd09(point, 0, point, 1);
+        return point;
     }
 
     /**
@@ -76,18 +81,9 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        if (outOfChina(lng, lat)) return new double[]{lng, lat};
-        double dlat   = transformLat(lng - 105.0, lat - 35.0);
-        double dlng   = transformLng(lng - 105.0, lat - 35.0);
-        double radlat = lat / 180.0 * PI;
-        double magic  = Math.sin(radlat);
-        magic = 1 - EE * magic * magic;
-        double sqrtmagic = Math.sqrt(magic);
-        dlat = (dlat * 180.0) / ((A * (1 - EE)) / (magic * sqrtmagic) * PI);
-        dlng = (dlng * 180.0) / (A / sqrtmagic * Math.cos(radlat) * PI);
-        double mglat = lat + dlat;
-        double mglng = lng + dlng;
-        return new double[]{lng * 2 - mglng, lat * 2 - mglat};
+        double[] point = new double[]{lng, lat};
+        gcj02ToWGS84(point, 0, point, 1);
+        return point;
     }
 
     /**
@@ -100,18 +96,9 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        if (outOfChina(lng, lat)) return new double[]{lng, lat};
-        double dlat   = transformLat(lng - 105.0, lat - 35.0);
-        double dlng   = transformLng(lng - 105.0, lat - 35.0);
-        double radlat = lat / 180.0 * PI;
-        double magic  = Math.sin(radlat);
-        magic = 1 - EE * magic * magic;
-        double sqrtmagic = Math.sqrt(magic);
-        dlat = (dlat * 180.0) / ((A * (1 - EE)) / (magic * sqrtmagic) * PI);
-        dlng = (dlng * 180.0) / (A / sqrtmagic * Math.cos(radlat) * PI);
-        double mglat = lat + dlat;
-        double mglng = lng + dlng;
-        return new double[]{mglng, mglat};
+        double[] point = new double[]{lng, lat};
+        wgs84ToGcj02(point, 0, point, 1);
+        return point;
     }
 
     /**
@@ -124,8 +111,10 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        double[] gcj = bd09ToGcj02(lng, lat);
-        return gcj02ToWGS84(gcj[0], gcj[1]);
+        double[] point = new double[]{lng, lat};
+        bd09ToGcj02(point, 0, point, 1);
+        gcj02ToWGS84(point, 0, point, 1);
+        return point;
     }
 
     /**
@@ -138,8 +127,227 @@ public final class CoordinateUtils {
             final double lng,
             final double lat
     ) {
-        double[] gcj = wgs84ToGcj02(lng, lat);
-        return gcj02ToBd09(gcj[0], gcj[1]);
+        double[] point = new double[]{lng, lat};
+        wgs84ToGcj02(point, 0, point, 1);
+        gcj02ToBd09(point, 0, point, 1);
+        return point;
+    }
+
+    // ==========
+    // = 批量转换 =
+    // ==========
+
+    /**
+     * BD09 坐标批量转 GCJ02 坐标 ( 覆盖原数组 )
+     * @param lngs BD09 坐标经度数组
+     * @param lats BD09 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean bd09ToGcj02(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> bd09ToGcj02(lngs, index, lats, index));
+    }
+
+    /**
+     * GCJ02 坐标批量转 BD09 坐标 ( 覆盖原数组 )
+     * @param lngs GCJ02 坐标经度数组
+     * @param lats GCJ02 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean gcj02ToBd09(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> gcj02ToBd09(lngs, index, lats, index));
+    }
+
+    /**
+     * GCJ02 坐标批量转 WGS84 坐标 ( 覆盖原数组 )
+     * @param lngs GCJ02 坐标经度数组
+     * @param lats GCJ02 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean gcj02ToWGS84(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> gcj02ToWGS84(lngs, index, lats, index));
+    }
+
+    /**
+     * WGS84 坐标批量转 GCJ02 坐标 ( 覆盖原数组 )
+     * @param lngs WGS84 坐标经度数组
+     * @param lats WGS84 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean wgs84ToGcj02(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> wgs84ToGcj02(lngs, index, lats, index));
+    }
+
+    /**
+     * BD09 坐标批量转 WGS84 坐标 ( 覆盖原数组 )
+     * @param lngs BD09 坐标经度数组
+     * @param lats BD09 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean bd09ToWGS84(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> {
+            bd09ToGcj02(lngs, index, lats, index);
+            gcj02ToWGS84(lngs, index, lats, index);
+        });
+    }
+
+    /**
+     * WGS84 坐标批量转 BD09 坐标 ( 覆盖原数组 )
+     * @param lngs WGS84 坐标经度数组
+     * @param lats WGS84 坐标纬度数组
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean wgs84ToBd09(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return transform(lngs, lats, index -> {
+            wgs84ToGcj02(lngs, index, lats, index);
+            gcj02ToBd09(lngs, index, lats, index);
+        });
+    }
+
+    /**
+     * 批量处理坐标
+     * @param lngs      经度数组
+     * @param lats      纬度数组
+     * @param transform 单个坐标处理 ( 传入索引 )
+     * @return {@code true} success, {@code false} fail
+     */
+    private static boolean transform(
+            final double[] lngs,
+            final double[] lats,
+            final IntConsumer transform
+    ) {
+        if (lngs == null || lats == null || lngs.length != lats.length) return false;
+        final int length = lngs.length;
+        if (length >= PARALLEL_THRESHOLD) {
+            int chunks = (length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                for (int i = chunk * PARALLEL_CHUNK, end = Math.min(length, i + PARALLEL_CHUNK); i < end; i++) {
+                    transform.accept(i);
+                }
+            });
+        } else {
+            for (int i = 0; i < length; i++) {
+                transform.accept(i);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * BD09 坐标转 GCJ02 坐标 ( 覆盖原数组 )
+     * @param lngs     经度所在数组
+     * @param lngIndex 经度索引
+     * @param lats     纬度所在数组
+     * @param latIndex 纬度索引
+     */
+    private static void bd09ToGcj02(
+            final double[] lngs,
+            final int lngIndex,
+            final double[] lats,
+            final int latIndex
+    ) {
+        double x     = lngs[lngIndex] - 0.0065;
+        double y     = lats[latIndex] - 0.006;
+        double z     = Math.sqrt(x * x + y * y) - 0.00002 * Math.sin(y * X_PI);
+        double theta = Math.atan2(y, x) - 0.000003 * Math.cos(x * X_PI);
+        lngs[lngIndex] = z * Math.cos(theta);
+        lats[latIndex] = z * Math.sin(theta);
+    }
+
+    /**
+     * GCJ02 坐标转 BD09 坐标 ( 覆盖原数组 )
+     * @param lngs     经度所在数组
+     * @param lngIndex 经度索引
+     * @param lats     纬度所在数组
+     * @param latIndex 纬度索引
+     */
+    private static void gcj02ToBd09(
+            final double[] lngs,
+            final int lngIndex,
+            final double[] lats,
+            final int latIndex
+    ) {
+        double lng   = lngs[lngIndex];
+        double lat   = lats[latIndex];
+        double z     = Math.sqrt(lng * lng + lat * lat) + 0.00002 * Math.sin(lat * X_PI);
+        double theta = Math.atan2(lat, lng) + 0.000003 * Math.cos(lng * X_PI);
+        lngs[lngIndex] = z * Math.cos(theta) + 0.0065;
+        lats[latIndex] = z * Math.sin(theta) + 0.006;
+    }
+
+    /**
+     * GCJ02 坐标转 WGS84 坐标 ( 覆盖原数组 )
+     * @param lngs     经度所在数组
+     * @param lngIndex 经度索引
+     * @param lats     纬度所在数组
+     * @param latIndex 纬度索引
+     */
+    private static void gcj02ToWGS84(
+            final double[] lngs,
+            final int lngIndex,
+            final double[] lats,
+            final int latIndex
+    ) {
+        double lng = lngs[lngIndex];
+        double lat = lats[latIndex];
+        if (outOfChina(lng, lat)) return;
+        double dlat   = transformLat(lng - 105.0, lat - 35.0);
+        double dlng   = transformLng(lng - 105.0, lat - 35.0);
+        double radlat = lat / 180.0 * PI;
+        double magic  = Math.sin(radlat);
+        magic = 1 - EE * magic * magic;
+        double sqrtmagic = Math.sqrt(magic);
+        dlat = (dlat * 180.0) / ((A * (1 - EE)) / (magic * sqrtmagic) * PI);
+        dlng = (dlng * 180.0) / (A / sqrtmagic * Math.cos(radlat) * PI);
+        double mglat = lat + dlat;
+        double mglng = lng + dlng;
+        lngs[lngIndex] = lng * 2 - mglng;
+        lats[latIndex] = lat * 2 - mglat;
+    }
+
+    /**
+     * WGS84 坐标转 GCJ02 坐标 ( 覆盖原数组 )
+     * @param lngs     经度所在数组
+     * @param lngIndex 经度索引
+     * @param lats     纬度所在数组
+     * @param latIndex 纬度索引
+     */
+    private static void wgs84ToGcj02(
+            final double[] lngs,
+            final int lngIndex,
+            final double[] lats,
+            final int latIndex
+    ) {
+        double lng = lngs[lngIndex];
+        double lat = lats[latIndex];
+        if (outOfChina(lng, lat)) return;
+        double dlat   = transformLat(lng - 105.0, lat - 35.0);
+        double dlng   = transformLng(lng - 105.0, lat - 35.0);
+        double radlat = lat / 180.0 * PI;
+        double magic  = Math.sin(radlat);
+        magic = 1 - EE * magic * magic;
+        double sqrtmagic = Math.sqrt(magic);
+        dlat = (dlat * 180.0) / ((A * (1 - EE)) / (magic * sqrtmagic) * PI);
+        dlng = (dlng * 180.0) / (A / sqrtmagic * Math.cos(radlat) * PI);
+        lngs[lngIndex] = lng + dlng;
+        lats[latIndex] = lat + dlat;
     }
 
     /**
@@ -196,14 +404,14 @@ public final class CoordinateUtils {
     // ==========
 
     // 赤道半径
-    private static final double EARTH_RADIUS = 6378.137;
+    static final double EARTH_RADIUS = 6378.137;
 
     /**
      * 计算弧度角
      * @param degree 度数
      * @return 弧度角
      */
-    private static double rad(final double degree) {
+    static double rad(final double degree) {
         return degree * Math.PI / 180.0;
     }
 
@@ -226,13 +434,77 @@ public final class CoordinateUtils {
     ) {
         double radLat1 = rad(originLat);
         double radLat2 = rad(targetLat);
-        double a       = radLat1 - radLat2;
-        double b       = rad(originLng) - rad(targetLng);
+        return roundDistance(distance(
+                radLat1, Math.cos(radLat1), rad(originLng),
+                radLat2, Math.cos(radLat2), rad(targetLng)
+        ));
+    }
+
+    /**
+     * 批量计算坐标与起点相距距离 ( 单位: 米 )
+     * <pre>
+     *     结果与 {@link #getDistance(double, double, double, double)} 一致, 起点只计算一次
+     * </pre>
+     * @param originLng 起点经度
+     * @param originLat 起点纬度
+     * @param lngs      目标经度数组
+     * @param lats      目标纬度数组
+     * @param distances 距离存储数组 ( 长度需大于等于坐标数 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean getDistances(
+            final double originLng,
+            final double originLat,
+            final double[] lngs,
+            final double[] lats,
+            final double[] distances
+    ) {
+        if (distances == null || (lngs != null && distances.length < lngs.length)) return false;
+        final double radLat1 = rad(originLat);
+        final double cosLat1 = Math.cos(radLat1);
+        final double radLng1 = rad(originLng);
+        return transform(lngs, lats, index -> {
+            double radLat2 = rad(lats[index]);
+            distances[index] = roundDistance(distance(
+                    radLat1, cosLat1, radLng1,
+                    radLat2, Math.cos(radLat2), rad(lngs[index])
+            ));
+        });
+    }
+
+    /**
+     * 计算两个坐标球面距离 ( Haversine, 单位: 千米 )
+     * @param radLat1 起点纬度弧度
+     * @param cosLat1 起点纬度余弦
+     * @param radLng1 起点经度弧度
+     * @param radLat2 目标纬度弧度
+     * @param cosLat2 目标纬度余弦
+     * @param radLng2 目标经度弧度
+     * @return 两个坐标球面距离 ( 未取整 )
+     */
+    static double distance(
+            final double radLat1,
+            final double cosLat1,
+            final double radLng1,
+            final double radLat2,
+            final double cosLat2,
+            final double radLng2
+    ) {
+        double a = radLat1 - radLat2;
+        double b = radLng1 - radLng2;
         double s = 2 * Math.asin(Math.sqrt(Math.pow(Math.sin(a / 2), 2)
-                + Math.cos(radLat1) * Math.cos(radLat2) * Math.pow(Math.sin(b / 2), 2)));
-        s = s * EARTH_RADIUS;
+                + cosLat1 * cosLat2 * Math.pow(Math.sin(b / 2), 2)));
+        return s * EARTH_RADIUS;
+    }
+
+    /**
+     * 距离取整 ( 千米保留两位小数后转为米 )
+     * @param kilometers 距离 ( 单位: 千米 )
+     * @return 距离 ( 单位: 米 )
+     */
+    private static double roundDistance(final double kilometers) {
         // 保留两位小数
-        s = Math.round(s * 100D) / 100D;
+        double s = Math.round(kilometers * 100D) / 100D;
         s = s * 1000;
         return s;
     }
@@ -11,10 +11,15 @@ import java.util.Map;
 
 import dev.utils.DevFinal;
 import dev.utils.JCLogUtils;
+import dev.utils.common.format.DateFastFormatter;
 
 /**
  * detail: 日期工具类
  * @author Ttt
+ * <pre>
+ *     传入时间格式 ( String pattern ) 的方法优先使用全局共享的 {@link DateFastFormatter},
+ *     不支持的格式、超出范围的时间再使用线程安全 SimpleDateFormat
+ * </pre>
  */
 public final class DateUtils {
 
@@ -97,7 +102,7 @@ public final class DateUtils {
      * @return {@link Calendar}
      */
     public static Calendar getCalendar(final String time) {
-        return getCalendar(parseLong(time, getDefaultFormat()));
+        return getCalendar(parseLong(time));
     }
 
     /**
@@ -110,7 +115,7 @@ public final class DateUtils {
             final String time,
             final String pattern
     ) {
-        return getCalendar(parseLong(time, getSafeDateFormat(pattern)));
+        return getCalendar(parseLong(time, pattern));
     }
 
     /**
@@ -133,7 +138,7 @@ public final class DateUtils {
      * @return 当前时间 Date
      */
     public static Date getCurrentTime() {
-        return Calendar.getInstance().getTime();
+        return new Date();
     }
 
     /**
@@ -141,7 +146,7 @@ public final class DateUtils {
      * @return 当前时间毫秒
      */
     public static long getCurrentTimeMillis() {
-        return getDateTime(Calendar.getInstance().getTime());
+        return System.currentTimeMillis();
     }
 
     /**
@@ -161,7 +166,7 @@ public final class DateUtils {
      * @return 当前时间的字符串
      */
     public static String getDateNow() {
-        return formatTime(getCurrentTimeMillis(), getDefaultFormat());
+        return formatTime(getCurrentTimeMillis());
     }
 
     /**
@@ -170,7 +175,7 @@ public final class DateUtils {
      * @return 当前时间的字符串
      */
     public static String getDateNow(final String pattern) {
-        return formatTime(getCurrentTimeMillis(), getSafeDateFormat(pattern));
+        return formatTime(getCurrentTimeMillis(), pattern);
     }
 
     /**
@@ -190,7 +195,7 @@ public final class DateUtils {
      * @return 按照指定格式的日期字符串
      */
     public static String formatDate(final Date date) {
-        return formatTime(getDateTime(date), getDefaultFormat());
+        return formatTime(getDateTime(date));
     }
 
     /**
@@ -203,7 +208,7 @@ public final class DateUtils {
             final Date date,
             final String pattern
     ) {
-        return formatTime(getDateTime(date), getSafeDateFormat(pattern));
+        return formatTime(getDateTime(date), pattern);
     }
 
     /**
@@ -227,7 +232,7 @@ public final class DateUtils {
      * @return 按照指定格式的日期字符串
      */
     public static String formatTime(final long millis) {
-        return formatTime(millis, getDefaultFormat());
+        return formatTime(millis, DevFinal.TIME.yyyyMMddHHmmss_HYPHEN);
     }
 
     /**
@@ -240,6 +245,12 @@ public final class DateUtils {
             final long millis,
             final String pattern
     ) {
+        if (millis == -1L || pattern == null) return null;
+        DateFastFormatter formatter = DateFastFormatter.get(pattern);
+        if (formatter != null) {
+            String value = formatter.format(millis);
+            if (value != null) return value;
+        }
         return formatTime(millis, getSafeDateFormat(pattern));
     }
 
@@ -262,6 +273,31 @@ public final class DateUtils {
         return null;
     }
 
+    /**
+     * 将时间毫秒转换日期字符串并追加到 StringBuilder
+     * <pre>
+     *     支持的时间格式直接写入 builder, 不创建中间字符串
+     * </pre>
+     * @param builder 追加目标
+     * @param millis  时间毫秒
+     * @param pattern 时间格式
+     * @return {@link StringBuilder}
+     */
+    public static StringBuilder appendTime(
+            final StringBuilder builder,
+            final long millis,
+            final String pattern
+    ) {
+        if (builder == null || millis == -1L || pattern == null) return builder;
+        DateFastFormatter formatter = DateFastFormatter.get(pattern);
+        if (formatter != null && formatter.formatTo(millis, builder)) {
+            return builder;
+        }
+        String value = formatTime(millis, getSafeDateFormat(pattern));
+        if (value != null) builder.append(value);
+        return builder;
+    }
+
     // =
 
     /**
@@ -280,7 +316,7 @@ public final class DateUtils {
      * @return {@link Date}
      */
     public static Date parseDate(final String time) {
-        return parseDate(parseLong(time, getDefaultFormat()));
+        return parseDate(parseLong(time));
     }
 
     /**
@@ -293,7 +329,7 @@ public final class DateUtils {
             final String time,
             final String pattern
     ) {
-        return parseDate(parseLong(time, getSafeDateFormat(pattern)));
+        return parseDate(parseLong(time, pattern));
     }
 
     /**
@@ -317,7 +353,7 @@ public final class DateUtils {
      * @return 毫秒时间
      */
     public static long parseLong(final String time) {
-        return parseLong(time, getDefaultFormat());
+        return parseLong(time, DevFinal.TIME.yyyyMMddHHmmss_HYPHEN);
     }
 
     /**
@@ -330,6 +366,12 @@ public final class DateUtils {
             final String time,
             final String pattern
     ) {
+        if (time == null || pattern == null) return -1L;
+        DateFastFormatter formatter = DateFastFormatter.get(pattern);
+        if (formatter != null) {
+            long value = formatter.parse(time);
+            if (value != -1L) return value;
+        }
         return parseLong(time, getSafeDateFormat(pattern));
     }
 
@@ -365,8 +407,7 @@ public final class DateUtils {
             final String pattern
     ) {
         return parseString(
-                time, getDefaultFormat(),
-                getSafeDateFormat(pattern)
+                time, DevFinal.TIME.yyyyMMddHHmmss_HYPHEN, pattern
         );
     }
 
@@ -397,10 +438,16 @@ public final class DateUtils {
             final String timePattern,
             final String pattern
     ) {
-        return parseString(
-                time, getSafeDateFormat(timePattern),
-                getSafeDateFormat(pattern)
-        );
+        if (time != null && timePattern != null && pattern != null) {
+            try {
+                long timeLong = parseLong(time, timePattern);
+                // 把时间转为所需格式字符串
+                return formatTime(timeLong, pattern);
+            } catch (Exception e) {
+                JCLogUtils.eTag(TAG, e, "parseString");
+            }
+        }
+        return null;
     }
 
     /**
@@ -2016,8 +2063,8 @@ public final class DateUtils {
             final String time2
     ) {
         return getTimeDiff(
-                time1, getDefaultFormat(),
-                time2, getDefaultFormat()
+                time1, DevFinal.TIME.yyyyMMddHHmmss_HYPHEN,
+                time2, DevFinal.TIME.yyyyMMddHHmmss_HYPHEN
         );
     }
 
@@ -2035,10 +2082,11 @@ public final class DateUtils {
             final String time2,
             final String pattern2
     ) {
-        return getTimeDiff(
-                time1, getSafeDateFormat(pattern1),
-                time2, getSafeDateFormat(pattern2)
-        );
+        long timeLong1 = parseLong(time1, pattern1);
+        if (timeLong1 == -1L) return -1L;
+        long timeLong2 = parseLong(time2, pattern2);
+        if (timeLong2 == -1L) return -1L;
+        return timeLong1 - timeLong2;
     }
 
     /**
@@ -0,0 +1,581 @@
+package dev.utils.common;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * detail: 反射深拷贝 ( 不经过序列化 )
+ * @author Ttt
+ * <pre>
+ *     按 Class 缓存拷贝方案, 通过 IdentityHashMap 处理循环引用、共享引用
+ *     String、包装类型、枚举等不可变对象直接共享, 数组、常用集合直接复制, 不支持拷贝的比较器直接共享
+ *     拷贝结果与 Java 序列化一致: 只拷贝 Serializable 类的非 static、非 transient 变量, transient 变量为默认值
+ *     对象与序列化相同, 只执行第一个非 Serializable 父类的无参构造函数, 本类及 Serializable 父类构造函数不执行
+ *     运行环境不支持创建序列化构造函数 ( sun.reflect.ReflectionFactory ) 时, 对象类型不支持拷贝
+ *     存在自定义序列化方法 ( writeObject、readResolve 等 )、Externalizable、父类无参构造函数不可访问的类不支持,
+ *     返回 {@link #UNSUPPORTED} 由调用方回退到序列化
+ * </pre>
+ */
+final class DeepCopier {
+
+    // 不支持拷贝标记
+    static final Object UNSUPPORTED = new Object();
+
+    // 拷贝方案类型
+    private static final int KIND_IMMUTABLE       = 0;
+    private static final int KIND_PRIMITIVE_ARRAY = 1;
+    private static final int KIND_OBJECT_ARRAY    = 2;
+    private static final int KIND_COLLECTION      = 3;
+    private static final int KIND_MAP             = 4;
+    private static final int KIND_DATE            = 5;
+    private static final int KIND_OBJECT          = 6;
+    private static final int KIND_UNSUPPORTED     = 7;
+
+    // 不可变类型 ( 精确类型 )
+    private static final Set<Class<?>> IMMUTABLES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Locale.class
+    ));
+
+    // 不支持拷贝方案
+    private static final Plan                               UNSUPPORTED_PLAN      = new Plan(KIND_UNSUPPORTED);
+    // 拷贝方案缓存
+    private static final Map<Class<?>, SoftReference<Plan>> PLANS                 = new WeakHashMap<>();
+    // 不支持拷贝异常 ( 无堆栈, 仅用于中断拷贝 )
+    private static final UnsupportedException               UNSUPPORTED_EXCEPTION = new UnsupportedException();
+    // sun.reflect.ReflectionFactory 实例 ( 不支持则为 null )
+    private static final Object                             REFLECTION_FACTORY;
+    // ReflectionFactory.newConstructorForSerialization 方法 ( 不支持则为 null )
+    private static final Method                             SERIAL_CONSTRUCTOR;
+
+    static {
+        Object factory = null;
+        Method method  = null;
+        try {
+            Class<?> clazz = Class.forName("sun.reflect.ReflectionFactory");
+            factory = clazz.getMethod("getReflectionFactory").invoke(null);
+            method  = clazz.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        } catch (Throwable ignored) {
+            factory = null;
+            method  = null;
+        }
+        REFLECTION_FACTORY = factory;
+        SERIAL_CONSTRUCTOR = method;
+    }
+
+    // 已拷贝对象 ( 原对象 - 拷贝对象 )
+    private final IdentityHashMap<Object, Object> mCopies = new IdentityHashMap<>();
+    // 本次拷贝使用的方案 ( 减少全局缓存锁竞争 )
+    private final IdentityHashMap<Class<?>, Plan> mPlans  = new IdentityHashMap<>();
+
+    private DeepCopier() {
+    }
+
+    /**
+     * 深拷贝对象
+     * @param object 待拷贝对象
+     * @return 拷贝后的对象, 不支持拷贝则返回 {@link #UNSUPPORTED}
+     */
+    static Object copy(final Object object) {
+        if (object == null) return null;
+        try {
+            return new DeepCopier().copyValue(object);
+        } catch (Exception | StackOverflowError e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    // ==========
+    // = 拷贝方法 =
+    // ==========
+
+    /**
+     * 拷贝值
+     * @param value 待拷贝值
+     * @return 拷贝后的值
+     * @throws Exception 不支持拷贝或拷贝失败
+     */
+    private Object copyValue(final Object value)
+            throws Exception {
+        if (value == null) return null;
+        Plan plan = plan(value.getClass());
+        if (plan.kind == KIND_IMMUTABLE) return value;
+        Object copy = mCopies.get(value);
+        if (copy != null) return copy;
+        switch (plan.kind) {
+            case KIND_PRIMITIVE_ARRAY:
+                return copyPrimitiveArray(value);
+            case KIND_OBJECT_ARRAY:
+                return copyObjectArray((Object[]) value);
+            case KIND_COLLECTION:
+                return copyCollection((Collection<?>) value);
+            case KIND_MAP:
+                return copyMap((Map<?, ?>) value);
+            case KIND_DATE:
+                copy = new Date(((Date) value).getTime());
+                mCopies.put(value, copy);
+                return copy;
+            case KIND_OBJECT:
+                return copyObject(value, plan);
+            default:
+                throw UNSUPPORTED_EXCEPTION;
+        }
+    }
+
+    /**
+     * 拷贝基本类型数组
+     * @param array 数组
+     * @return 拷贝后的数组
+     */
+    private Object copyPrimitiveArray(final Object array) {
+        int    length = Array.getLength(array);
+        Object copy   = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        mCopies.put(array, copy);
+        return copy;
+    }
+
+    /**
+     * 拷贝对象数组
+     * @param array 数组
+     * @return 拷贝后的数组
+     * @throws Exception 不支持拷贝或拷贝失败
+     */
+    private Object copyObjectArray(final Object[] array)
+            throws Exception {
+        Object[] copy = (Object[]) Array.newInstance(array.getClass().getComponentType(), array.length);
+        mCopies.put(array, copy);
+        for (int i = 0; i < array.length; i++) {
+            copy[i] = copyValue(array[i]);
+        }
+        return copy;
+    }
+
+    /**
+     * 拷贝集合
+     * @param collection 集合
+     * @return 拷贝后的集合
+     * @throws Exception 不支持拷贝或拷贝失败
+     */
+    private Object copyCollection(final Collection<?> collection)
+            throws Exception {
+        Class<?>           clazz = collection.getClass();
+        Collection<Object> copy;
+        if (clazz == ArrayList.class) {
+            copy = new ArrayList<>(collection.size());
+        } else if (clazz == LinkedList.class) {
+            copy = new LinkedList<>();
+        } else if (clazz == ArrayDeque.class) {
+            copy = new ArrayDeque<>(collection.size());
+        } else if (clazz == HashSet.class) {
+            copy = new HashSet<>(Math.max((int) (collection.size() / .75f) + 1, 16));
+        } else if (clazz == LinkedHashSet.class) {
+            copy = new LinkedHashSet<>(Math.max((int) (collection.size() / .75f) + 1, 16));
+        } else if (clazz == TreeSet.class) {
+            copy = new TreeSet<>(copyComparator(((TreeSet<?>) collection).comparator()));
+        } else {
+            // CopyOnWriteArrayList 先拷贝元素再一次性添加, 避免逐个添加复制数组
+            CopyOnWriteArrayList<Object> list = new CopyOnWriteArrayList<>();
+            mCopies.put(collection, list);
+            List<Object> elements = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                elements.add(copyValue(element));
+            }
+            list.addAll(elements);
+            return list;
+        }
+        mCopies.put(collection, copy);
+        for (Object element : collection) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    /**
+     * 拷贝 Map
+     * @param map Map
+     * @return 拷贝后的 Map
+     * @throws Exception 不支持拷贝或拷贝失败
+     */
+    @SuppressWarnings("unchecked")
+    private Object copyMap(final Map<?, ?> map)
+            throws Exception {
+        Class<?>            clazz    = map.getClass();
+        int                 capacity = Math.max((int) (map.size() / .75f) + 1, 16);
+        Map<Object, Object> copy;
+        if (clazz == HashMap.class) {
+            copy = new HashMap<>(capacity);
+        } else if (clazz == LinkedHashMap.class) {
+            // clone 保留 accessOrder, 清空后重新放入拷贝数据
+            copy = (Map<Object, Object>) ((LinkedHashMap<?, ?>) map).clone();
+            copy.clear();
+        } else if (clazz == TreeMap.class) {
+            copy = new TreeMap<>(copyComparator(((TreeMap<?, ?>) map).comparator()));
+        } else {
+            copy = new ConcurrentHashMap<>(capacity);
+        }
+        mCopies.put(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * 拷贝比较器 ( 无状态、不支持拷贝的比较器直接共享 )
+     * @param comparator 比较器
+     * @return 拷贝后的比较器
+     * @throws Exception 拷贝失败
+     */
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> copyComparator(final Comparator<?> comparator)
+            throws Exception {
+        if (comparator == null) return null;
+        if (plan(comparator.getClass()).kind != KIND_OBJECT) {
+            return (Comparator<Object>) comparator;
+        }
+        return (Comparator<Object>) copyValue(comparator);
+    }
+
+    /**
+     * 拷贝对象 ( 逐个变量拷贝 )
+     * @param object 对象
+     * @param plan   拷贝方案
+     * @return 拷贝后的对象
+     * @throws Exception 不支持拷贝或拷贝失败
+     */
+    private Object copyObject(
+            final Object object,
+            final Plan plan
+    )
+            throws Exception {
+        Object copy = plan.constructor.newInstance();
+        mCopies.put(object, copy);
+        for (Field field : plan.transients) {
+            resetField(field, copy);
+        }
+        Field[] fields = plan.fields;
+        for (int i = 0, len = fields.length; i < len; i++) {
+            Field field = fields[i];
+            switch (plan.types[i]) {
+                case 'Z':
+                    field.setBoolean(copy, field.getBoolean(object));
+                    break;
+                case 'B':
+                    field.setByte(copy, field.getByte(object));
+                    break;
+                case 'C':
+                    field.setChar(copy, field.getChar(object));
+                    break;
+                case 'S':
+                    field.setShort(copy, field.getShort(object));
+                    break;
+                case 'I':
+                    field.setInt(copy, field.getInt(object));
+                    break;
+                case 'J':
+                    field.setLong(copy, field.getLong(object));
+                    break;
+                case 'F':
+                    field.setFloat(copy, field.getFloat(object));
+                    break;
+                case 'D':
+                    field.setDouble(copy, field.getDouble(object));
+                    break;
+                default:
+                    field.set(copy, copyValue(field.get(object)));
+                    break;
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * 重置 transient 变量为默认值
+     * @param field  变量
+     * @param object 对象
+     * @throws Exception 设置失败
+     */
+    private static void resetField(
+            final Field field,
+            final Object object
+    )
+            throws Exception {
+        Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            field.set(object, null);
+        } else if (type == boolean.class) {
+            field.setBoolean(object, false);
+        } else if (type == char.class) {
+            field.setChar(object, (char) 0);
+        } else if (type == long.class) {
+            field.setLong(object, 0L);
+        } else if (type == float.class) {
+            field.setFloat(object, 0F);
+        } else if (type == double.class) {
+            field.setDouble(object, 0D);
+        } else {
+            field.set(object, (byte) 0);
+        }
+    }
+
+    // ==========
+    // = 拷贝方案 =
+    // ==========
+
+    /**
+     * 获取拷贝方案
+     * @param clazz 类
+     * @return 拷贝方案
+     */
+    private Plan plan(final Class<?> clazz) {
+        Plan plan = mPlans.get(clazz);
+        if (plan == null) {
+            synchronized (PLANS) {
+                SoftReference<Plan> reference = PLANS.get(clazz);
+                plan = (reference != null) ? reference.get() : null;
+            }
+            if (plan == null) {
+                plan = createPlan(clazz);
+                synchronized (PLANS) {
+                    PLANS.put(clazz, new SoftReference<>(plan));
+                }
+            }
+            mPlans.put(clazz, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * 创建拷贝方案
+     * @param clazz 类
+     * @return 拷贝方案
+     */
+    private static Plan createPlan(final Class<?> clazz) {
+        if (IMMUTABLES.contains(clazz) || Enum.class.isAssignableFrom(clazz) || clazz == Class.class) {
+            return new Plan(KIND_IMMUTABLE);
+        }
+        if (clazz.isArray()) {
+            return new Plan(clazz.getComponentType().isPrimitive() ? KIND_PRIMITIVE_ARRAY : KIND_OBJECT_ARRAY);
+        }
+        if (clazz == ArrayList.class || clazz == LinkedList.class || clazz == ArrayDeque.class
+                || clazz == HashSet.class || clazz == LinkedHashSet.class || clazz == TreeSet.class
+                || clazz == CopyOnWriteArrayList.class) {
+            return new Plan(KIND_COLLECTION);
+        }
+        if (clazz == HashMap.class || clazz == LinkedHashMap.class
+                || clazz == TreeMap.class || clazz == ConcurrentHashMap.class) {
+            return new Plan(KIND_MAP);
+        }
+        if (clazz == Date.class) {
+            return new Plan(KIND_DATE);
+        }
+        return createObjectPlan(clazz);
+    }
+
+    /**
+     * 创建对象拷贝方案
+     * @param clazz 类
+     * @return 拷贝方案
+     */
+    private static Plan createObjectPlan(final Class<?> clazz) {
+        // 与序列化保持一致, 非 Serializable 不可拷贝
+        if (!Serializable.class.isAssignableFrom(clazz) || Externalizable.class.isAssignableFrom(clazz)
+                || clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            return UNSUPPORTED_PLAN;
+        }
+        Constructor<?> constructor = serialConstructor(clazz);
+        if (constructor == null) return UNSUPPORTED_PLAN;
+        List<Field> fields     = new ArrayList<>();
+        List<Field> transients = new ArrayList<>();
+        for (Class<?> type = clazz; type != null && Serializable.class.isAssignableFrom(type);
+             type = type.getSuperclass()) {
+            if (hasSerialMethod(type)) return UNSUPPORTED_PLAN;
+            for (Field field : ReflectCache.getDeclaredFields(type)) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    // 自定义序列化变量
+                    if ("serialPersistentFields".equals(field.getName())) return UNSUPPORTED_PLAN;
+                    continue;
+                }
+                if (!accessible(field)) return UNSUPPORTED_PLAN;
+                if (Modifier.isTransient(modifiers)) {
+                    transients.add(field);
+                } else {
+                    fields.add(field);
+                }
+            }
+        }
+        Plan plan = new Plan(KIND_OBJECT);
+        plan.constructor = constructor;
+        plan.fields      = fields.toArray(new Field[0]);
+        plan.transients  = transients.toArray(new Field[0]);
+        plan.types       = new char[plan.fields.length];
+        for (int i = 0; i < plan.fields.length; i++) {
+            plan.types[i] = typeCode(plan.fields[i].getType());
+        }
+        return plan;
+    }
+
+    /**
+     * 获取序列化构造函数 ( 与序列化一致, 只执行第一个非 Serializable 父类的无参构造函数 )
+     * @param clazz 类
+     * @return 序列化构造函数, 不支持则返回 null
+     */
+    private static Constructor<?> serialConstructor(final Class<?> clazz) {
+        if (SERIAL_CONSTRUCTOR == null) return null;
+        Class<?> type = clazz;
+        while (type != null && Serializable.class.isAssignableFrom(type)) {
+            type = type.getSuperclass();
+        }
+        if (type == null) return null;
+        Constructor<?> superConstructor = ReflectCache.getDeclaredConstructor(type);
+        if (superConstructor == null) return null;
+        // 与序列化一致, 父类无参构造函数需对本类可访问
+        int modifiers = superConstructor.getModifiers();
+        if (Modifier.isPrivate(modifiers)) return null;
+        if (!Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers)
+                && !packageName(type).equals(packageName(clazz))) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = (Constructor<?>) SERIAL_CONSTRUCTOR.invoke(
+                    REFLECTION_FACTORY, clazz, superConstructor
+            );
+            return (constructor != null && accessible(constructor)) ? constructor : null;
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取包名
+     * @param clazz 类
+     * @return 包名
+     */
+    private static String packageName(final Class<?> clazz) {
+        String name  = clazz.getName();
+        int    index = name.lastIndexOf('.');
+        return (index != -1) ? name.substring(0, index) : "";
+    }
+
+    /**
+     * 设置对象可访问
+     * @param accessible 对象
+     * @return {@code true} success, {@code false} fail
+     */
+    private static boolean accessible(final AccessibleObject accessible) {
+        try {
+            accessible.setAccessible(true);
+            return true;
+        } catch (Exception ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * 是否声明自定义序列化方法
+     * @param clazz 类
+     * @return {@code true} yes, {@code false} no
+     */
+    private static boolean hasSerialMethod(final Class<?> clazz) {
+        for (Method method : ReflectCache.getDeclaredMethods(clazz)) {
+            switch (method.getName()) {
+                case "writeObject":
+                case "readObject":
+                case "readObjectNoData":
+                case "writeReplace":
+                case "readResolve":
+                    if (!Modifier.isStatic(method.getModifiers())) return true;
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取类型编码
+     * @param type 类型
+     * @return 基本类型 JVM 签名字符, 引用类型返回 'L'
+     */
+    private static char typeCode(final Class<?> type) {
+        if (type == boolean.class) return 'Z';
+        if (type == byte.class) return 'B';
+        if (type == char.class) return 'C';
+        if (type == short.class) return 'S';
+        if (type == int.class) return 'I';
+        if (type == long.class) return 'J';
+        if (type == float.class) return 'F';
+        if (type == double.class) return 'D';
+        return 'L';
+    }
+
+    /**
+     * detail: 拷贝方案
+     * @author Ttt
+     */
+    private static final class Plan {
+
+        // 方案类型
+        final int      kind;
+        // 序列化构造函数
+        Constructor<?> constructor;
+        // 需拷贝变量
+        Field[]        fields;
+        // 变量类型编码
+        char[]         types;
+        // transient 变量 ( 重置为默认值 )
+        Field[]        transients;
+
+        Plan(final int kind) {
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * detail: 不支持拷贝异常
+     * @author Ttt
+     */
+    private static final class UnsupportedException
+            extends Exception {
+
+        private static final long serialVersionUID = -3189204675843471925L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -45,8 +45,7 @@ public final class Reflect2Utils {
     ) {
         if (object == null || fieldName == null) return false;
         try {
-            Field field = object.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
+            Field field = getDeclaredField(object.getClass(), fieldName);
             field.set(object, value);
             return true;
         } catch (Exception e) {
@@ -68,8 +67,7 @@ public final class Reflect2Utils {
     ) {
         if (object == null || fieldName == null) return null;
         try {
-            Field field = object.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
+            Field field = getDeclaredField(object.getClass(), fieldName);
             return (T) field.get(object);
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "getProperty");
@@ -125,8 +123,7 @@ public final class Reflect2Utils {
         if (className == null || fieldName == null) return null;
         try {
             Class<?> clazz = Class.forName(className);
-            Field    field = clazz.getDeclaredField(fieldName);
-            field.setAccessible(true);
+            Field    field = getDeclaredField(clazz, fieldName);
             return (T) field.get(clazz);
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "getStaticProperty");
@@ -188,15 +185,13 @@ public final class Reflect2Utils {
             Class<?> clazz = object.getClass();
             if (args != null && argsClass != null) { // 参数、参数类型不为 null, 并且数量相等
                 if (args.length == argsClass.length && args.length != 0) {
-                    Method method = clazz.getDeclaredMethod(methodName, argsClass);
-                    method.setAccessible(true);
+                    Method method = getDeclaredMethod(clazz, methodName, argsClass);
                     return (T) method.invoke(object, args);
                 }
             } else {
                 // 无参数、参数类型, 才执行
                 if (args == null && argsClass == null) {
-                    Method method = clazz.getDeclaredMethod(methodName);
-                    method.setAccessible(true);
+                    Method method = getDeclaredMethod(clazz, methodName);
                     return (T) method.invoke(object);
                 }
             }
@@ -368,15 +363,13 @@ public final class Reflect2Utils {
             Class<?> clazz = Class.forName(className);
             if (args != null && argsClass != null) { // 参数、参数类型不为 null, 并且数量相等
                 if (args.length == argsClass.length && args.length != 0) {
-                    Method method = clazz.getDeclaredMethod(methodName, argsClass);
-                    method.setAccessible(true);
+                    Method method = getDeclaredMethod(clazz, methodName, argsClass);
                     return (T) method.invoke(clazz, args);
                 }
             } else {
                 // 无参数、参数类型, 才执行
                 if (args == null && argsClass == null) {
-                    Method method = clazz.getDeclaredMethod(methodName);
-                    method.setAccessible(true);
+                    Method method = getDeclaredMethod(clazz, methodName);
                     return (T) method.invoke(clazz);
                 }
             }
@@ -523,9 +516,9 @@ public final class Reflect2Utils {
         try {
             Class<?> newClass = Class.forName(className);
             if (args == null) {
-                return (T) newClass.newInstance();
+                return (T) getConstructor(newClass).newInstance();
             } else {
-                Constructor cons = newClass.getConstructor(argsClass);
+                Constructor<?> cons = getConstructor(newClass, argsClass);
                 return (T) cons.newInstance(args);
             }
         } catch (Exception e) {
@@ -676,24 +669,80 @@ public final class Reflect2Utils {
             Field    field = null;
             Class<?> clazz = object.getClass();
             for (; clazz != Object.class; clazz = clazz.getSuperclass()) {
-                try {
-                    field = clazz.getDeclaredField(fieldName);
+                // 查找结果按类缓存, 不存在时不再抛出异常
+                Field declaredField = ReflectCache.getDeclaredField(clazz, fieldName);
+                if (declaredField != null) {
+                    field = declaredField;
                     number++;
-                } catch (Exception e) {
-                    // 这里甚么都不要做, 并且这里的异常必须这样写, 不能抛出去
-                    // 如果这里的异常打印或者往外抛, 则就不会执行 clazz = clazz.getSuperclass(), 最后就不会进入到父类中了
                 }
                 if (number >= limitNumber) {
-                    return field;
+                    return ReflectCache.copy(field);
                 }
             }
             // 负数表示跟到最后
-            if (fieldNumber < 0) {
-                return field;
+            if (fieldNumber < 0 && field != null) {
+                return ReflectCache.copy(field);
             }
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "getDeclaredFieldParent");
         }
         return null;
     }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取本类声明的变量 ( 按类缓存, 已设置可访问 )
+     * @param clazz     类
+     * @param fieldName 属性名
+     * @return {@link Field}
+     * @throws NoSuchFieldException 变量不存在
+     */
+    private static Field getDeclaredField(
+            final Class<?> clazz,
+            final String fieldName
+    )
+            throws NoSuchFieldException {
+        Field field = ReflectCache.getDeclaredField(clazz, fieldName);
+        if (field == null) throw new NoSuchFieldException(fieldName);
+        return field;
+    }
+
+    /**
+     * 获取本类声明的方法 ( 按类缓存, 已设置可访问 )
+     * @param clazz      类
+     * @param methodName 方法名
+     * @param argsClass  参数类型
+     * @return {@link Method}
+     * @throws NoSuchMethodException 方法不存在
+     */
+    private static Method getDeclaredMethod(
+            final Class<?> clazz,
+            final String methodName,
+            final Class<?>... argsClass
+    )
+            throws NoSuchMethodException {
+        Method method = ReflectCache.getDeclaredMethod(clazz, methodName, argsClass);
+        if (method == null) throw new NoSuchMethodException(clazz.getName() + "." + methodName);
+        return method;
+    }
+
+    /**
+     * 获取 public 构造函数 ( 按类缓存 )
+     * @param clazz     类
+     * @param argsClass 参数类型
+     * @return {@link Constructor}
+     * @throws NoSuchMethodException 构造函数不存在
+     */
+    private static Constructor<?> getConstructor(
+            final Class<?> clazz,
+            final Class<?>... argsClass
+    )
+            throws NoSuchMethodException {
+        Constructor<?> constructor = ReflectCache.getConstructor(clazz, argsClass);
+        if (constructor == null) throw new NoSuchMethodException(clazz.getName() + ".<init>");
+        return constructor;
+    }
 }
\ No newline at end of file
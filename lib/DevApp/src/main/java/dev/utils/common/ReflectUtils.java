@@ -154,21 +154,26 @@ public final class ReflectUtils {
             throws ReflectException {
         Class<?>[] types = getArgsType(args);
         try {
-            Constructor<?> constructor = type().getDeclaredConstructor(types);
-            return newInstance(constructor, args);
-        } catch (NoSuchMethodException e) {
+            Constructor<?> constructor = ReflectCache.getDeclaredConstructor(type(), types);
+            if (constructor != null) {
+                return newInstance(constructor, args);
+            }
             List<Constructor<?>> list = new ArrayList<>();
-            for (Constructor<?> constructor : type().getDeclaredConstructors()) {
-                if (match(constructor.getParameterTypes(), types)) {
-                    list.add(constructor);
+            for (Constructor<?> declared : ReflectCache.getDeclaredConstructors(type())) {
+                if (match(declared.getParameterTypes(), types)) {
+                    list.add(declared);
                 }
             }
             if (list.isEmpty()) {
-                throw new ReflectException(e);
+                throw new ReflectException(new NoSuchMethodException(
+                        type().getName() + ".<init>" + Arrays.toString(types)
+                ));
             } else {
                 sortConstructors(list);
                 return newInstance(list.get(0), args);
             }
+        } catch (ReflectException e) {
+            throw e;
         } catch (Exception e) {
             throw new ReflectException(e);
         }
@@ -294,6 +299,8 @@ public final class ReflectUtils {
         Field field = getAccessibleField(name);
         if ((field.getModifiers() & Modifier.FINAL) == Modifier.FINAL) {
             try {
+                // 缓存的 Field 为共享对象, 重新获取副本后再去除 final 修饰
+                field = accessible(ReflectCache.copy(field));
                 Field modifiersField = Field.class.getDeclaredField("modifiers");
                 modifiersField.setAccessible(true);
                 modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
@@ -315,17 +322,18 @@ public final class ReflectUtils {
             throws ReflectException {
         Class<?> type = type();
         try {
-            return accessible(type.getField(name));
-        } catch (NoSuchFieldException e) {
+            Field field = ReflectCache.getField(type, name);
+            if (field != null) return accessible(field);
             do {
-                try {
-                    return accessible(type.getDeclaredField(name));
-                } catch (NoSuchFieldException ignored) {
-                }
+                field = ReflectCache.getDeclaredField(type, name);
+                if (field != null) return accessible(field);
                 type = type.getSuperclass();
             } while (type != null);
+            NoSuchFieldException e = new NoSuchFieldException(name);
             JCLogUtils.eTag(TAG, e, "getAccessibleField");
             throw new ReflectException(e);
+        } catch (ReflectException e) {
+            throw e;
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "getAccessibleField");
             throw new ReflectException(e);
@@ -448,20 +456,19 @@ public final class ReflectUtils {
             final Class<?>[] types
     )
             throws ReflectException {
-        Class<?> type = type();
-        try {
-            return type.getMethod(name, types);
-        } catch (Exception e) {
-            do {
-                try {
-                    return type.getDeclaredMethod(name, types);
-                } catch (Exception ignored) {
-                }
-                type = type.getSuperclass();
-            } while (type != null);
-            JCLogUtils.eTag(TAG, e, "exactMethod");
-            throw new ReflectException(e);
-        }
+        Class<?> type   = type();
+        Method   method = ReflectCache.getMethod(type, name, types);
+        if (method != null) return method;
+        do {
+            method = ReflectCache.getDeclaredMethod(type, name, types);
+            if (method != null) return method;
+            type = type.getSuperclass();
+        } while (type != null);
+        NoSuchMethodException e = new NoSuchMethodException(
+                type().getName() + "." + name + Arrays.toString(types)
+        );
+        JCLogUtils.eTag(TAG, e, "exactMethod");
+        throw new ReflectException(e);
     }
 
     /**
@@ -478,7 +485,7 @@ public final class ReflectUtils {
             throws ReflectException {
         Class<?>     type    = type();
         List<Method> methods = new ArrayList<>();
-        for (Method method : type.getMethods()) {
+        for (Method method : ReflectCache.getMethods(type)) {
             if (isSimilarSignature(method, name, types)) {
                 methods.add(method);
             }
@@ -488,7 +495,7 @@ public final class ReflectUtils {
             return methods.get(0);
         }
         do {
-            for (Method method : type.getDeclaredMethods()) {
+            for (Method method : ReflectCache.getDeclaredMethods(type)) {
                 if (isSimilarSignature(method, name, types)) {
                     methods.add(method);
                 }
@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import dev.utils.DevFinal;
 import dev.utils.JCLogUtils;
+import dev.utils.common.assist.StringReplacer;
 
 /**
  * detail: 字符串工具类
@@ -2078,6 +2079,9 @@ public final class StringUtils {
 
     /**
      * 替换字符串
+     * <pre>
+     *     suffix 为正则表达式, 不含正则特殊字符时按字面量替换 ( 不编译正则 )
+     * </pre>
      * @param str     待处理字符串
      * @param suffix  匹配判断字符串
      * @param replace 替换的内容
@@ -2091,6 +2095,9 @@ public final class StringUtils {
         // 如果替换的内容或者判断的字符串为 null, 则直接跳过
         if (!isEmpty(str) && !isEmpty(suffix) && replace != null && !suffix.equals(replace)) {
             try {
+                if (isLiteralReplace(suffix, replace)) {
+                    return str.replace(suffix, replace);
+                }
                 return str.replaceAll(suffix, replace);
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "replaceAll");
@@ -2101,6 +2108,9 @@ public final class StringUtils {
 
     /**
      * 替换字符串
+     * <pre>
+     *     suffix 为正则表达式, 不含正则特殊字符时按字面量替换 ( 不编译正则 )
+     * </pre>
      * @param str     待处理字符串
      * @param suffix  匹配判断字符串
      * @param replace 替换的内容
@@ -2114,6 +2124,9 @@ public final class StringUtils {
         // 如果替换的内容或者判断的字符串为 null, 则直接跳过
         if (!isEmpty(str) && !isEmpty(suffix) && replace != null && !suffix.equals(replace)) {
             try {
+                if (isLiteralReplace(suffix, replace)) {
+                    return str.replace(suffix, replace);
+                }
                 return str.replaceAll(suffix, replace);
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "replaceAllToNull");
@@ -2124,6 +2137,10 @@ public final class StringUtils {
 
     /**
      * 替换字符串
+     * <pre>
+     *     按字面量一次遍历替换全部关键字 ( 最左最长匹配, 替换后的内容不会再次匹配 )
+     *     相同数组复用已构建的 {@link StringReplacer}
+     * </pre>
      * @param str           待处理字符串
      * @param suffixArrays  匹配判断字符串数组
      * @param replaceArrays 准备替换的字符串数组
@@ -2136,24 +2153,34 @@ public final class StringUtils {
     ) {
         // 防止数据为 null
         if (str != null && suffixArrays != null && replaceArrays != null) {
-            String tempString = str;
-            // 替换的特殊字符串长度
-            int spCount = suffixArrays.length;
-            // 替换的内容长度
-            int reCount = replaceArrays.length;
             // 相同才进行处理
-            if (spCount == reCount) {
-                // 遍历进行判断
-                for (int i = 0; i < spCount; i++) {
-                    // 进行替换字符串
-                    tempString = replaceAll(tempString, suffixArrays[i], replaceArrays[i]);
+            if (suffixArrays.length == replaceArrays.length) {
+                try {
+                    return StringReplacer.get(suffixArrays, replaceArrays).replace(str);
+                } catch (Exception e) {
+                    JCLogUtils.eTag(TAG, e, "replaceAlls");
                 }
-                return tempString;
             }
         }
         return null;
     }
 
+    /**
+     * 是否可按字面量替换 ( 不含正则特殊字符 )
+     * @param suffix  匹配判断字符串
+     * @param replace 替换的内容
+     * @return {@code true} yes, {@code false} no
+     */
+    private static boolean isLiteralReplace(
+            final String suffix,
+            final String replace
+    ) {
+        for (int i = 0, len = suffix.length(); i < len; i++) {
+            if (".$|()[]{}^?*+\\".indexOf(suffix.charAt(i)) != -1) return false;
+        }
+        return replace.indexOf('$') == -1 && replace.indexOf('\\') == -1;
+    }
+
     /**
      * 拆分字符串
      * @param str   待处理字符串
@@ -2,15 +2,34 @@ package dev.utils.common;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
@@ -30,7 +49,19 @@ public final class ZipUtils {
     private static final String TAG = ZipUtils.class.getSimpleName();
 
     // 缓存大小
-    private static final int BUFFER_LEN = 8192;
+    private static final int         BUFFER_LEN         = 8192;
+    // 并行压缩大文件阈值 ( 超过则在写入线程流式压缩, 不整体读入内存 )
+    private static final long        LARGE_ENTRY_LENGTH = 1024L * 1024L;
+    // 并行压缩同时在内存中的条目原始大小上限 ( 每个条目另需不超过原始大小的压缩缓存 )
+    private static final long        WINDOW_BYTES       = 8L * 1024L * 1024L;
+    // 默认存储 ( STORED ) 不压缩的文件后缀 ( 已压缩的媒体、归档文件 )
+    private static final Set<String> STORED_SUFFIXES    = new HashSet<>(Arrays.asList(
+            "jpg", "jpeg", "png", "gif", "webp", "heic", "heif", "avif",
+            "mp3", "m4a", "aac", "ogg", "opus", "flac", "amr",
+            "mp4", "m4v", "mkv", "webm", "mov", "3gp", "avi", "flv",
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "zst",
+            "apk", "aab", "jar", "aar", "woff", "woff2"
+    ));
 
     /**
      * 批量压缩文件
@@ -453,4 +484,578 @@ public final class ZipUtils {
         }
         return comments;
     }
+
+    // ==========
+    // = 并行压缩 =
+    // ==========
+
+    /**
+     * 并行批量压缩文件
+     * @param resFilePaths 待压缩文件路径集合
+     * @param zipFilePath  压缩文件路径
+     * @param comment      压缩文件的注释
+     * @param level        压缩级别 ( 0-9, -1 为默认级别 )
+     * @param threadCount  并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} 压缩成功, {@code false} 压缩失败
+     * @throws Exception 异常时抛出
+     */
+    public static boolean zipFilesParallel(
+            final Collection<String> resFilePaths,
+            final String zipFilePath,
+            final String comment,
+            final int level,
+            final int threadCount
+    )
+            throws Exception {
+        if (resFilePaths == null || zipFilePath == null) return false;
+        return zipFilesParallel(
+                FileUtils.convertFiles(new ArrayList<>(resFilePaths)),
+                FileUtils.getFileByPath(zipFilePath), comment, level, threadCount
+        );
+    }
+
+    /**
+     * 并行批量压缩文件
+     * <pre>
+     *     工作线程并行 Deflate 各文件条目, 写入线程按原顺序写入同一压缩文件
+     *     已压缩的媒体、归档文件 ( 或压缩后未变小的文件 ) 自动使用 STORED 存储
+     *     超过 1MB 的文件在写入线程流式压缩, 不整体读入内存
+     *     并行压缩中的条目原始大小合计不超过 8MB, 内存占用按字节数而非条目数限制
+     *     条目数超过 65535 或文件总大小超过 4GB 时 ( 需 Zip64 ) 回退使用 {@link #zipFiles(Collection, File, String)}
+     * </pre>
+     * @param resFiles    待压缩文件集合
+     * @param zipFile     压缩文件
+     * @param comment     压缩文件的注释
+     * @param level       压缩级别 ( 0-9, -1 为默认级别 )
+     * @param threadCount 并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} 压缩成功, {@code false} 压缩失败
+     * @throws Exception 异常时抛出
+     */
+    public static boolean zipFilesParallel(
+            final Collection<File> resFiles,
+            final File zipFile,
+            final String comment,
+            final int level,
+            final int threadCount
+    )
+            throws Exception {
+        if (resFiles == null || zipFile == null) return false;
+        // 获取全部压缩条目
+        List<ParallelEntry> entries = new ArrayList<>();
+        for (File resFile : resFiles) {
+            if (resFile == null) return false;
+            collectEntries(resFile, "", entries);
+        }
+        // 未实现 Zip64, 超出限制回退使用 ZipOutputStream
+        long totalLength = 0L;
+        for (ParallelEntry entry : entries) {
+            totalLength += entry.length;
+        }
+        if (entries.size() >= 0xFFFF || totalLength >= 0xFFFFFFFFL) {
+            return zipFiles(resFiles, zipFile, comment);
+        }
+        int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        threads = Math.max(1, threads);
+
+        ExecutorService   executor = Executors.newFixedThreadPool(threads);
+        ParallelZipWriter writer   = null;
+        try {
+            writer = new ParallelZipWriter(zipFile, comment);
+            // 按顺序写入, 限制同时在内存中的条目数及原始大小合计
+            ArrayDeque<Future<DeflatedEntry>> window      = new ArrayDeque<>();
+            long                              windowBytes = 0L;
+            for (final ParallelEntry entry : entries) {
+                if (entry.length > LARGE_ENTRY_LENGTH) {
+                    while (!window.isEmpty()) {
+                        windowBytes -= writer.writeEntry(window.poll().get());
+                    }
+                    writer.writeLargeEntry(entry, level);
+                    continue;
+                }
+                while (!window.isEmpty() && (window.size() >= threads * 2
+                        || windowBytes + entry.length > WINDOW_BYTES)) {
+                    windowBytes -= writer.writeEntry(window.poll().get());
+                }
+                window.add(executor.submit(() -> deflateEntry(entry, level)));
+                windowBytes += entry.length;
+            }
+            while (!window.isEmpty()) {
+                writer.writeEntry(window.poll().get());
+            }
+            writer.finish();
+            return true;
+        } finally {
+            executor.shutdownNow();
+            if (writer != null) writer.close();
+        }
+    }
+
+    /**
+     * 并行解压文件
+     * @param zipFilePath 待解压文件路径
+     * @param destDirPath 目标目录路径
+     * @param threadCount 并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return 文件链表
+     * @throws Exception 异常时抛出
+     */
+    public static List<File> unzipFileParallel(
+            final String zipFilePath,
+            final String destDirPath,
+            final int threadCount
+    )
+            throws Exception {
+        return unzipFileParallel(
+                FileUtils.getFileByPath(zipFilePath),
+                FileUtils.getFileByPath(destDirPath),
+                threadCount
+        );
+    }
+
+    /**
+     * 并行解压文件
+     * <pre>
+     *     先顺序创建全部文件夹 ( 含文件条目上级目录 ), 再由多线程并行解压文件条目 ( ZipFile 支持并发读取条目 )
+     *     返回的文件链表顺序与压缩文件条目顺序不一定一致
+     * </pre>
+     * @param zipFile     待解压文件
+     * @param destDir     目标目录
+     * @param threadCount 并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return 文件链表
+     * @throws Exception 异常时抛出
+     */
+    public static List<File> unzipFileParallel(
+            final File zipFile,
+            final File destDir,
+            final int threadCount
+    )
+            throws Exception {
+        if (zipFile == null || destDir == null) return null;
+        final List<File> files = Collections.synchronizedList(new ArrayList<>());
+        int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        threads = Math.max(1, threads);
+
+        final ZipFile           zip      = new ZipFile(zipFile);
+        ExecutorService         executor = Executors.newFixedThreadPool(threads);
+        List<Callable<Boolean>> tasks    = new ArrayList<>();
+        try {
+            Enumeration<?> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                final ZipEntry entry     = ((ZipEntry) entries.nextElement());
+                final String   entryName = entry.getName();
+                if (entryName.contains("../")) {
+                    JCLogUtils.dTag(TAG, "entryName: %s is dangerous!", entryName);
+                    continue;
+                }
+                if (entry.isDirectory()) {
+                    if (!unzipChildFile(destDir, files, zip, entry, entryName)) return files;
+                } else {
+                    // 预先创建上级目录, 防止多线程同时创建同一目录失败
+                    if (!FileUtils.createOrExistsDir(new File(destDir, entryName).getParentFile())) {
+                        return files;
+                    }
+                    tasks.add(() -> unzipChildFile(destDir, files, zip, entry, entryName));
+                }
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                if (!Boolean.TRUE.equals(future.get())) return files;
+            }
+            return files;
+        } finally {
+            executor.shutdownNow();
+            CloseUtils.closeIOQuietly(zip);
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取压缩条目
+     * @param resFile  待压缩文件
+     * @param rootPath 相对于压缩文件的路径
+     * @param entries  压缩条目集合
+     */
+    private static void collectEntries(
+            final File resFile,
+            final String rootPath,
+            final List<ParallelEntry> entries
+    ) {
+        String filePath = rootPath + (StringUtils.isEmpty(rootPath) ? "" : "/") + resFile.getName();
+        if (resFile.isDirectory()) {
+            File[] fileList = resFile.listFiles();
+            // 如果是空文件夹那么创建它
+            if (fileList == null || fileList.length == 0) {
+                entries.add(new ParallelEntry(resFile, filePath + '/', true));
+            } else {
+                for (File file : fileList) {
+                    collectEntries(file, filePath, entries);
+                }
+            }
+        } else {
+            entries.add(new ParallelEntry(resFile, filePath, false));
+        }
+    }
+
+    /**
+     * 是否使用 STORED 存储 ( 不压缩 )
+     * @param file  文件
+     * @param level 压缩级别
+     * @return {@code true} yes, {@code false} no
+     */
+    private static boolean isStored(
+            final File file,
+            final int level
+    ) {
+        if (level == Deflater.NO_COMPRESSION) return true;
+        String suffix = FileUtils.getFileSuffix(file.getName());
+        return suffix != null && STORED_SUFFIXES.contains(suffix.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * 压缩条目 ( 工作线程 )
+     * @param entry 压缩条目
+     * @param level 压缩级别
+     * @return {@link DeflatedEntry}
+     * @throws Exception 异常时抛出
+     */
+    private static DeflatedEntry deflateEntry(
+            final ParallelEntry entry,
+            final int level
+    )
+            throws Exception {
+        if (entry.directory) {
+            return new DeflatedEntry(entry, ZipEntry.STORED, 0L, 0L, new byte[0], 0);
+        }
+        byte[]          bytes = new byte[(int) entry.length];
+        FileInputStream fis   = null;
+        try {
+            fis = new FileInputStream(entry.file);
+            int offset = 0, len;
+            while (offset < bytes.length && (len = fis.read(bytes, offset, bytes.length - offset)) != -1) {
+                offset += len;
+            }
+            if (offset != bytes.length) bytes = Arrays.copyOf(bytes, offset);
+        } finally {
+            CloseUtils.closeIOQuietly(fis);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        if (!isStored(entry.file, level)) {
+            Deflater deflater = new Deflater(level, true);
+            try {
+                deflater.setInput(bytes);
+                deflater.finish();
+                // 直接压缩至与原始大小相同的缓存, 写满仍未完成则说明压缩后未变小
+                byte[] output = new byte[bytes.length];
+                int    length = 0;
+                while (!deflater.finished() && length < output.length) {
+                    length += deflater.deflate(output, length, output.length - length);
+                }
+                // 压缩后未变小则使用 STORED 存储
+                if (deflater.finished() && length < bytes.length) {
+                    return new DeflatedEntry(
+                            entry, ZipEntry.DEFLATED, crc.getValue(), bytes.length, output, length
+                    );
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        return new DeflatedEntry(entry, ZipEntry.STORED, crc.getValue(), bytes.length, bytes, bytes.length);
+    }
+
+    /**
+     * 获取 DOS 格式时间
+     * @param time 毫秒时间
+     * @return DOS 格式时间
+     */
+    private static long toDosTime(final long time) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(time);
+        int year = calendar.get(Calendar.YEAR);
+        if (year < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return ((year - 1980) << 25) | ((calendar.get(Calendar.MONTH) + 1) << 21)
+                | (calendar.get(Calendar.DAY_OF_MONTH) << 16)
+                | (calendar.get(Calendar.HOUR_OF_DAY) << 11)
+                | (calendar.get(Calendar.MINUTE) << 5)
+                | (calendar.get(Calendar.SECOND) >> 1);
+    }
+
+    // ========
+    // = 内部类 =
+    // ========
+
+    /**
+     * detail: 并行压缩条目
+     * @author Ttt
+     */
+    private static final class ParallelEntry {
+
+        // 文件
+        final File    file;
+        // 条目名
+        final String  name;
+        // 是否文件夹
+        final boolean directory;
+        // 文件大小 ( 获取条目时记录 )
+        final long    length;
+
+        ParallelEntry(
+                File file,
+                String name,
+                boolean directory
+        ) {
+            this.file      = file;
+            this.name      = name;
+            this.directory = directory;
+            this.length    = directory ? 0L : file.length();
+        }
+    }
+
+    /**
+     * detail: 已压缩条目
+     * @author Ttt
+     */
+    private static final class DeflatedEntry {
+
+        // 压缩条目
+        final ParallelEntry entry;
+        // 压缩方式
+        final int           method;
+        // CRC32 值
+        final long          crc;
+        // 原始大小
+        final long          size;
+        // 压缩后数据
+        final byte[]        data;
+        // 压缩后数据长度 ( data 有效长度 )
+        final int           length;
+
+        DeflatedEntry(
+                ParallelEntry entry,
+                int method,
+                long crc,
+                long size,
+                byte[] data,
+                int length
+        ) {
+            this.entry  = entry;
+            this.method = method;
+            this.crc    = crc;
+            this.size   = size;
+            this.data   = data;
+            this.length = length;
+        }
+    }
+
+    /**
+     * detail: 并行压缩写入 ( 按顺序写入已压缩条目, 生成中央目录 )
+     * @author Ttt
+     */
+    private static final class ParallelZipWriter {
+
+        // 通用标记 ( 文件名 UTF-8 编码 )
+        private static final int FLAG_UTF8 = 0x0800;
+
+        // 压缩文件
+        private final RandomAccessFile      mFile;
+        private final FileChannel           mChannel;
+        // 条目注释
+        private final byte[]                mComment;
+        // 中央目录数据
+        private final ByteArrayOutputStream mCentral = new ByteArrayOutputStream();
+        // 条目数
+        private       int                   mCount;
+
+        ParallelZipWriter(
+                final File zipFile,
+                final String comment
+        )
+                throws Exception {
+            FileUtils.deleteFile(zipFile);
+            this.mFile    = new RandomAccessFile(zipFile, "rw");
+            this.mChannel = mFile.getChannel();
+            this.mComment = (comment != null) ? comment.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+
+        /**
+         * 写入已压缩条目
+         * @param entry 已压缩条目
+         * @return 条目原始文件大小 ( 用于释放并行压缩窗口 )
+         * @throws Exception 异常时抛出
+         */
+        long writeEntry(final DeflatedEntry entry)
+                throws Exception {
+            long   offset  = mChannel.position();
+            byte[] name    = entry.entry.name.getBytes(StandardCharsets.UTF_8);
+            long   dosTime = toDosTime(entry.entry.file.lastModified());
+            write(localHeader(name, entry.method, dosTime, entry.crc, entry.length, entry.size));
+            write(entry.data, entry.length);
+            addCentral(name, entry.method, dosTime, entry.crc, entry.length,
+                    entry.size, offset, entry.entry.directory
+            );
+            return entry.entry.length;
+        }
+
+        /**
+         * 流式压缩写入大文件条目 ( 写入后回填 CRC32、大小 )
+         * @param entry 压缩条目
+         * @param level 压缩级别
+         * @throws Exception 异常时抛出
+         */
+        void writeLargeEntry(
+                final ParallelEntry entry,
+                final int level
+        )
+                throws Exception {
+            long    offset  = mChannel.position();
+            byte[]  name    = entry.name.getBytes(StandardCharsets.UTF_8);
+            long    dosTime = toDosTime(entry.file.lastModified());
+            boolean stored  = isStored(entry.file, level);
+            int     method  = stored ? ZipEntry.STORED : ZipEntry.DEFLATED;
+            write(localHeader(name, method, dosTime, 0L, 0L, 0L));
+
+            CRC32           crc      = new CRC32();
+            Deflater        deflater = stored ? null : new Deflater(level, true);
+            byte[]          input    = new byte[BUFFER_LEN * 8];
+            byte[]          output   = new byte[BUFFER_LEN * 8];
+            long            size     = 0L;
+            long            start    = mChannel.position();
+            FileInputStream fis      = null;
+            try {
+                fis = new FileInputStream(entry.file);
+                int len;
+                while ((len = fis.read(input)) != -1) {
+                    crc.update(input, 0, len);
+                    size += len;
+                    if (deflater == null) {
+                        write(input, len);
+                    } else {
+                        deflater.setInput(input, 0, len);
+                        while (!deflater.needsInput()) {
+                            write(output, deflater.deflate(output));
+                        }
+                    }
+                }
+                if (deflater != null) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        write(output, deflater.deflate(output));
+                    }
+                }
+            } finally {
+                CloseUtils.closeIOQuietly(fis);
+                if (deflater != null) deflater.end();
+            }
+            long compressedSize = mChannel.position() - start;
+            // 回填本地文件头 CRC32、压缩后大小、原始大小
+            ByteBuffer patch = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            patch.putInt((int) crc.getValue()).putInt((int) compressedSize).putInt((int) size);
+            patch.flip();
+            mChannel.write(patch, offset + 14);
+            addCentral(name, method, dosTime, crc.getValue(), compressedSize, size, offset, false);
+        }
+
+        /**
+         * 写入中央目录及结束记录
+         * @throws Exception 异常时抛出
+         */
+        void finish()
+                throws Exception {
+            long offset = mChannel.position();
+            write(mCentral.toByteArray());
+            ByteBuffer end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+            end.putInt(0x06054b50).putShort((short) 0).putShort((short) 0)
+                    .putShort((short) mCount).putShort((short) mCount)
+                    .putInt(mCentral.size()).putInt((int) offset).putShort((short) 0);
+            write(end.array());
+        }
+
+        /**
+         * 关闭文件
+         */
+        void close() {
+            CloseUtils.closeIOQuietly(mChannel, mFile);
+        }
+
+        /**
+         * 获取本地文件头
+         * @param name           条目名
+         * @param method         压缩方式
+         * @param dosTime        DOS 格式时间
+         * @param crc            CRC32 值
+         * @param compressedSize 压缩后大小
+         * @param size           原始大小
+         * @return 本地文件头
+         */
+        private byte[] localHeader(
+                final byte[] name,
+                final int method,
+                final long dosTime,
+                final long crc,
+                final long compressedSize,
+                final long size
+        ) {
+            ByteBuffer header = ByteBuffer.allocate(30 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0x04034b50).putShort((short) 20).putShort((short) FLAG_UTF8)
+                    .putShort((short) method).putInt((int) dosTime).putInt((int) crc)
+                    .putInt((int) compressedSize).putInt((int) size)
+                    .putShort((short) name.length).putShort((short) 0).put(name);
+            return header.array();
+        }
+
+        /**
+         * 添加中央目录记录
+         * @param name           条目名
+         * @param method         压缩方式
+         * @param dosTime        DOS 格式时间
+         * @param crc            CRC32 值
+         * @param compressedSize 压缩后大小
+         * @param size           原始大小
+         * @param offset         本地文件头位置
+         * @param directory      是否文件夹
+         */
+        private void addCentral(
+                final byte[] name,
+                final int method,
+                final long dosTime,
+                final long crc,
+                final long compressedSize,
+                final long size,
+                final long offset,
+                final boolean directory
+        ) {
+            ByteBuffer header = ByteBuffer.allocate(46 + name.length + mComment.length)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0x02014b50).putShort((short) 20).putShort((short) 20)
+                    .putShort((short) FLAG_UTF8).putShort((short) method)
+                    .putInt((int) dosTime).putInt((int) crc)
+                    .putInt((int) compressedSize).putInt((int) size)
+                    .putShort((short) name.length).putShort((short) 0)
+                    .putShort((short) mComment.length).putShort((short) 0).putShort((short) 0)
+                    .putInt(directory ? 0x10 : 0).putInt((int) offset)
+                    .put(name).put(mComment);
+            mCentral.write(header.array(), 0, header.capacity());
+            mCount++;
+        }
+
+        private void write(final byte[] bytes)
+                throws Exception {
+            write(bytes, bytes.length);
+        }
+
+        private void write(
+                final byte[] bytes,
+                final int length
+        )
+                throws Exception {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+            while (buffer.hasRemaining()) {
+                mChannel.write(buffer);
+            }
+        }
+    }
 }
\ No newline at end of file
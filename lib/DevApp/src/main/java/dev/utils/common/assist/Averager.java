@@ -1,23 +1,25 @@
 package dev.utils.common.assist;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * detail: 均值计算 ( 用以统计平均数 ) 辅助类
  * @author Ttt
+ * <pre>
+ *     基于 {@link StreamingStatistics} 在线统计, 不保存原始数据, 内存占用固定
+ *     add 无锁可多线程并发调用
+ * </pre>
  */
 public class Averager {
 
-    private final List<Number> mNumLists = new ArrayList<>();
+    // 流式统计
+    private final StreamingStatistics mStatistics = new StreamingStatistics();
 
     /**
      * 添加一个数字
      * @param number Number
      * @return {@link Averager}
      */
-    public synchronized Averager add(final Number number) {
-        mNumLists.add(number);
+    public Averager add(final Number number) {
+        mStatistics.add(number);
         return this;
     }
 
@@ -26,7 +28,7 @@ public class Averager {
      * @return {@link Averager}
      */
     public Averager clear() {
-        mNumLists.clear();
+        mStatistics.clear();
         return this;
     }
 
@@ -35,7 +37,7 @@ public class Averager {
      * @return 参与均值计算的数字个数
      */
     public Number size() {
-        return mNumLists.size();
+        return (int) Math.min(Integer.MAX_VALUE, mStatistics.getCount());
     }
 
     /**
@@ -43,22 +45,56 @@ public class Averager {
      * @return 全部数字平均数
      */
     public Number getAverage() {
-        if (mNumLists.size() == 0) {
-            return 0;
-        } else {
-            float sum = 0F;
-            for (int i = 0, len = mNumLists.size(); i < len; i++) {
-                sum = sum + mNumLists.get(i).floatValue();
-            }
-            return sum / mNumLists.size();
-        }
+        if (mStatistics.getCount() == 0L) return 0;
+        return (float) mStatistics.getMean();
+    }
+
+    /**
+     * 获取标准差
+     * @return 标准差
+     */
+    public double getStandardDeviation() {
+        return mStatistics.getStandardDeviation();
+    }
+
+    /**
+     * 获取最小值
+     * @return 最小值, 无数据则返回 NaN
+     */
+    public double getMin() {
+        return mStatistics.getMin();
+    }
+
+    /**
+     * 获取最大值
+     * @return 最大值, 无数据则返回 NaN
+     */
+    public double getMax() {
+        return mStatistics.getMax();
+    }
+
+    /**
+     * 获取分位数
+     * @param quantile 分位 [0, 1], 如 0.99D 获取 p99
+     * @return 分位数, 无数据则返回 NaN
+     */
+    public double getQuantile(final double quantile) {
+        return mStatistics.getQuantile(quantile);
+    }
+
+    /**
+     * 获取流式统计
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics getStatistics() {
+        return mStatistics;
     }
 
     /**
-     * 输出参与均值计算的数字
-     * @return 参与均值计算的数字
+     * 输出统计信息
+     * @return 统计信息
      */
     public String print() {
-        return "printList(" + size() + "): " + mNumLists;
+        return "print(" + size() + "): " + mStatistics;
     }
 }
\ No newline at end of file
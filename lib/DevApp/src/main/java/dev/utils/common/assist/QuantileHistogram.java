@@ -0,0 +1,266 @@
+package dev.utils.common.assist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * detail: 分位数统计直方图
+ * @author Ttt
+ * <pre>
+ *     对数线性分桶 ( HDR 方式 ), 每个二进制数量级 ( 2^e ~ 2^(e+1) ) 线性划分为 32 个桶
+ *     分位数相对误差不超过 1/32 ( 约 3% ), 内存与数据量无关
+ *     <p></p>
+ *     数量级范围 2^-64 ~ 2^64, 绝对值小于 2^-64 计入零值桶, 大于 2^64 计入最大桶
+ *     每个数量级的桶数组首次写入时创建, 耗时、帧间隔等集中分布的数据只占用少量内存
+ *     <p></p>
+ *     add 无锁可并发调用, 相同配置的直方图可通过 merge 合并 ( 如按线程分别统计后汇总 )
+ *     累计数据可通过 copy 获取快照, 两次快照 subtract 得到区间数据
+ * </pre>
+ */
+public class QuantileHistogram {
+
+    // 每个数量级线性分桶位数
+    private static final int SUB_BITS  = 5;
+    // 每个数量级桶数
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // 最小数量级
+    private static final int MIN_EXP   = -64;
+    // 最大数量级
+    private static final int MAX_EXP   = 63;
+    // 每个符号的数量级数
+    private static final int EXP_COUNT = MAX_EXP - MIN_EXP + 1;
+    // 尾数右移位数 ( 保留高 SUB_BITS 位 )
+    private static final int SHIFT     = 52 - SUB_BITS;
+
+    // 分桶计数 ( 负数 [0, EXP_COUNT)、正数 [EXP_COUNT, 2 * EXP_COUNT) )
+    private final AtomicReferenceArray<AtomicLongArray> mBuckets = new AtomicReferenceArray<>(
+            EXP_COUNT * 2
+    );
+    // 零值计数
+    private final LongAdder                             mZero    = new LongAdder();
+    // 总数
+    private final LongAdder                             mCount   = new LongAdder();
+    // 数值总和
+    private final DoubleAdder                           mSum     = new DoubleAdder();
+
+    /**
+     * 添加一个数值
+     * @param value 数值 ( NaN 忽略 )
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram add(final double value) {
+        return add(value, 1L);
+    }
+
+    /**
+     * 添加数值
+     * @param value 数值 ( NaN 忽略 )
+     * @param count 次数
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram add(
+            final double value,
+            final long count
+    ) {
+        if (Double.isNaN(value) || count <= 0L) return this;
+        double abs      = Math.abs(value);
+        int    exponent = Math.getExponent(abs);
+        if (abs == 0D || exponent < MIN_EXP) {
+            mZero.add(count);
+        } else {
+            int sub;
+            if (exponent > MAX_EXP) {
+                exponent = MAX_EXP;
+                sub      = SUB_COUNT - 1;
+            } else {
+                sub = (int) ((Double.doubleToRawLongBits(abs) >>> SHIFT) & (SUB_COUNT - 1));
+            }
+            int slot = exponent - MIN_EXP + (value < 0D ? 0 : EXP_COUNT);
+            bucket(slot).addAndGet(sub, count);
+        }
+        mCount.add(count);
+        mSum.add(value * count);
+        return this;
+    }
+
+    /**
+     * 合并其他直方图数据
+     * @param other {@link QuantileHistogram}
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram merge(final QuantileHistogram other) {
+        if (other == null || other == this) return this;
+        combine(other, 1L);
+        return this;
+    }
+
+    /**
+     * 减去其他直方图数据
+     * <pre>
+     *     other 需为当前直方图的早期快照 ( {@link #copy()} ), 用于计算两次快照之间的区间数据
+     * </pre>
+     * @param other {@link QuantileHistogram}
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram subtract(final QuantileHistogram other) {
+        if (other == null) return this;
+        if (other == this) return clear();
+        combine(other, -1L);
+        return this;
+    }
+
+    /**
+     * 获取直方图快照
+     * @return 新的 {@link QuantileHistogram}
+     */
+    public QuantileHistogram copy() {
+        return new QuantileHistogram().merge(this);
+    }
+
+    /**
+     * 清除全部
+     * <pre>
+     *     与 add 并发调用时, 并发写入的数据可能部分保留
+     * </pre>
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram clear() {
+        for (int slot = 0, len = mBuckets.length(); slot < len; slot++) {
+            mBuckets.set(slot, null);
+        }
+        mZero.reset();
+        mCount.reset();
+        mSum.reset();
+        return this;
+    }
+
+    /**
+     * 获取数值总数
+     * @return 数值总数
+     */
+    public long getCount() {
+        return mCount.sum();
+    }
+
+    /**
+     * 获取数值总和
+     * @return 数值总和
+     */
+    public double getSum() {
+        return mSum.sum();
+    }
+
+    /**
+     * 获取分位数
+     * <pre>
+     *     返回所在桶的中间值, 如 getQuantile(0.99D) 获取 p99
+     * </pre>
+     * @param quantile 分位 [0, 1]
+     * @return 分位数, 无数据则返回 NaN
+     */
+    public double getQuantile(final double quantile) {
+        // 先快照计数, 避免并发写入导致累计值超出总数
+        long[][] snapshot = new long[mBuckets.length()][];
+        long     total    = mZero.sum();
+        long     zero     = total;
+        for (int slot = 0, len = mBuckets.length(); slot < len; slot++) {
+            AtomicLongArray bucket = mBuckets.get(slot);
+            if (bucket == null) continue;
+            long[] counts = new long[SUB_COUNT];
+            for (int sub = 0; sub < SUB_COUNT; sub++) {
+                counts[sub] = bucket.get(sub);
+                total += counts[sub];
+            }
+            snapshot[slot] = counts;
+        }
+        if (total == 0L) return Double.NaN;
+        double q    = Math.min(1D, Math.max(0D, quantile));
+        long   rank = Math.max(1L, (long) Math.ceil(q * total));
+        long   seen = 0L;
+        // 负数按绝对值从大到小
+        for (int slot = EXP_COUNT - 1; slot >= 0; slot--) {
+            long[] counts = snapshot[slot];
+            if (counts == null) continue;
+            for (int sub = SUB_COUNT - 1; sub >= 0; sub--) {
+                seen += counts[sub];
+                if (seen >= rank) return -midpoint(slot, sub);
+            }
+        }
+        seen += zero;
+        if (seen >= rank) return 0D;
+        // 正数从小到大
+        for (int slot = EXP_COUNT, len = EXP_COUNT * 2; slot < len; slot++) {
+            long[] counts = snapshot[slot];
+            if (counts == null) continue;
+            for (int sub = 0; sub < SUB_COUNT; sub++) {
+                seen += counts[sub];
+                if (seen >= rank) return midpoint(slot - EXP_COUNT, sub);
+            }
+        }
+        return Double.NaN;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 合并其他直方图数据
+     * @param other {@link QuantileHistogram}
+     * @param sign  1 合并、-1 减去
+     */
+    private void combine(
+            final QuantileHistogram other,
+            final long sign
+    ) {
+        for (int slot = 0, len = other.mBuckets.length(); slot < len; slot++) {
+            AtomicLongArray source = other.mBuckets.get(slot);
+            if (source == null) continue;
+            AtomicLongArray target = null;
+            for (int sub = 0; sub < SUB_COUNT; sub++) {
+                long value = source.get(sub);
+                if (value == 0L) continue;
+                if (target == null) target = bucket(slot);
+                target.addAndGet(sub, sign * value);
+                mCount.add(sign * value);
+            }
+        }
+        long zero = other.mZero.sum();
+        if (zero != 0L) {
+            mZero.add(sign * zero);
+            mCount.add(sign * zero);
+        }
+        mSum.add(sign * other.mSum.sum());
+    }
+
+    /**
+     * 获取数量级桶数组 ( 不存在则创建 )
+     * @param slot 数量级索引
+     * @return 桶数组
+     */
+    private AtomicLongArray bucket(final int slot) {
+        AtomicLongArray bucket = mBuckets.get(slot);
+        if (bucket == null) {
+            AtomicLongArray create = new AtomicLongArray(SUB_COUNT);
+            if (mBuckets.compareAndSet(slot, null, create)) return create;
+            bucket = mBuckets.get(slot);
+        }
+        return bucket;
+    }
+
+    /**
+     * 获取桶中间值 ( 绝对值 )
+     * @param index 数量级索引 ( 不区分符号 )
+     * @param sub   线性分桶索引
+     * @return 桶中间值
+     */
+    private static double midpoint(
+            final int index,
+            final int sub
+    ) {
+        double base = Math.scalb(1D, index + MIN_EXP);
+        return base + base * (sub + 0.5D) / SUB_COUNT;
+    }
+}
\ No newline at end of file
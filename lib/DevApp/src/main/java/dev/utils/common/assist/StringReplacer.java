@@ -0,0 +1,435 @@
+package dev.utils.common.assist;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.utils.JCLogUtils;
+
+/**
+ * detail: 多关键字字面量替换 ( Aho-Corasick 自动机 )
+ * @author Ttt
+ * <pre>
+ *     关键字按字面量匹配 ( 非正则 ), 自动机构建一次可重复使用 ( 线程安全 )
+ *     一次遍历输入完成全部关键字替换, 耗时与关键字数量无关
+ *     匹配规则: 最左最长、互不重叠, 替换后的内容不会再次匹配
+ *     流式替换只缓存未决的最长关键字长度字符
+ * </pre>
+ */
+public final class StringReplacer {
+
+    // 日志 TAG
+    private static final String TAG = StringReplacer.class.getSimpleName();
+
+    // 根节点
+    private static final int ROOT           = 0;
+    // 失败节点 ( 最左最长匹配已确定 )
+    private static final int DEAD           = -1;
+    // 无匹配
+    private static final int NO_MATCH       = -1;
+    // ASCII 快速跳转表大小
+    private static final int ASCII_SIZE     = 128;
+    // 流式替换缓冲区大小
+    private static final int BUFFER_SIZE    = 8192;
+    // 线性查找子节点阈值
+    private static final int LINEAR_LIMIT   = 8;
+    // 替换器缓存上限
+    private static final int CACHE_MAX_SIZE = 32;
+
+    // 替换器缓存 ( 匹配关键字 + 替换内容 )
+    private static final Map<List<String>, StringReplacer> CACHE = new ConcurrentHashMap<>();
+
+    // 替换内容
+    private final String[] mReplaces;
+    // 关键字长度
+    private final int[]    mLengths;
+    // 最长关键字长度
+    private final int      mMaxLength;
+    // 根节点 ASCII 跳转表
+    private final int[]    mRootAscii;
+    // 节点子节点起始索引
+    private final int[]    mEdgeStart;
+    // 节点子节点数量
+    private final int[]    mEdgeCount;
+    // 子节点字符 ( 同一节点内有序 )
+    private final char[]   mEdgeChars;
+    // 子节点索引
+    private final int[]    mEdgeTargets;
+    // 失败跳转节点
+    private final int[]    mFail;
+    // 节点深度
+    private final int[]    mDepth;
+    // 节点匹配关键字索引
+    private final int[]    mMatch;
+
+    private StringReplacer(
+            final List<String> searchs,
+            final List<String> replaces
+    ) {
+        int count = searchs.size();
+        mReplaces = replaces.toArray(new String[0]);
+        mLengths  = new int[count];
+
+        // 构建 Trie
+        List<TreeMap<Character, Integer>> trie    = new ArrayList<>();
+        List<Integer>                     depths  = new ArrayList<>();
+        List<Integer>                     matches = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        depths.add(0);
+        matches.add(NO_MATCH);
+        int maxLength = 0;
+        for (int i = 0; i < count; i++) {
+            String search = searchs.get(i);
+            int    node   = ROOT;
+            for (int j = 0, len = search.length(); j < len; j++) {
+                Integer next = trie.get(node).get(search.charAt(j));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    depths.add(j + 1);
+                    matches.add(NO_MATCH);
+                    trie.get(node).put(search.charAt(j), next);
+                }
+                node = next;
+            }
+            // 重复关键字以首个为准
+            if (matches.get(node) == NO_MATCH) matches.set(node, i);
+            mLengths[i] = search.length();
+            maxLength   = Math.max(maxLength, search.length());
+        }
+        mMaxLength = maxLength;
+
+        // 转换为紧凑数组
+        int size  = trie.size();
+        int edges = size - 1;
+        mEdgeStart   = new int[size];
+        mEdgeCount   = new int[size];
+        mEdgeChars   = new char[edges];
+        mEdgeTargets = new int[edges];
+        mFail        = new int[size];
+        mDepth       = new int[size];
+        mMatch       = new int[size];
+        mRootAscii   = new int[ASCII_SIZE];
+        int offset = 0;
+        for (int node = 0; node < size; node++) {
+            mEdgeStart[node] = offset;
+            mEdgeCount[node] = trie.get(node).size();
+            mDepth[node]     = depths.get(node);
+            mMatch[node]     = matches.get(node);
+            for (Map.Entry<Character, Integer> entry : trie.get(node).entrySet()) {
+                mEdgeChars[offset]   = entry.getKey();
+                mEdgeTargets[offset] = entry.getValue();
+                offset++;
+            }
+        }
+        for (char c = 0; c < ASCII_SIZE; c++) {
+            int next = child(ROOT, c);
+            mRootAscii[c] = (next >= 0) ? next : ROOT;
+        }
+
+        // 计算失败跳转 ( 最左最长语义: 匹配节点及其后代失败即结束匹配 )
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        mFail[ROOT] = ROOT;
+        for (int i = mEdgeStart[ROOT], end = i + mEdgeCount[ROOT]; i < end; i++) {
+            int next = mEdgeTargets[i];
+            mFail[next] = (mMatch[next] != NO_MATCH) ? DEAD : ROOT;
+            queue.add(next);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = mEdgeStart[node], end = i + mEdgeCount[node]; i < end; i++) {
+                int next = mEdgeTargets[i];
+                queue.add(next);
+                if (mMatch[next] != NO_MATCH) {
+                    mFail[next] = DEAD;
+                    continue;
+                }
+                int fail = mFail[node];
+                while (fail != DEAD && fail != ROOT && child(fail, mEdgeChars[i]) < 0) {
+                    fail = mFail[fail];
+                }
+                if (fail != DEAD) {
+                    int target = child(fail, mEdgeChars[i]);
+                    fail = (target >= 0) ? target : ROOT;
+                    // 继承后缀匹配
+                    mMatch[next] = mMatch[fail];
+                }
+                mFail[next] = fail;
+            }
+        }
+    }
+
+    // ==========
+    // = 构建方法 =
+    // ==========
+
+    /**
+     * 创建多关键字替换器
+     * <pre>
+     *     为 null、空字符串的关键字以及为 null 的替换内容会被忽略
+     * </pre>
+     * @param searchs  匹配关键字数组
+     * @param replaces 替换内容数组
+     * @return {@link StringReplacer}, 数组为 null 或长度不一致则返回 null
+     */
+    public static StringReplacer create(
+            final String[] searchs,
+            final String[] replaces
+    ) {
+        if (searchs == null || replaces == null || searchs.length != replaces.length) return null;
+        List<String> searchLists  = new ArrayList<>(searchs.length);
+        List<String> replaceLists = new ArrayList<>(searchs.length);
+        for (int i = 0; i < searchs.length; i++) {
+            if (searchs[i] != null && searchs[i].length() != 0 && replaces[i] != null) {
+                searchLists.add(searchs[i]);
+                replaceLists.add(replaces[i]);
+            }
+        }
+        return new StringReplacer(searchLists, replaceLists);
+    }
+
+    /**
+     * 创建多关键字替换器
+     * @param maps 匹配关键字 - 替换内容
+     * @return {@link StringReplacer}
+     */
+    public static StringReplacer create(final Map<String, String> maps) {
+        if (maps == null) return null;
+        List<String> searchLists  = new ArrayList<>(maps.size());
+        List<String> replaceLists = new ArrayList<>(maps.size());
+        for (Map.Entry<String, String> entry : maps.entrySet()) {
+            if (entry.getKey() != null && entry.getKey().length() != 0 && entry.getValue() != null) {
+                searchLists.add(entry.getKey());
+                replaceLists.add(entry.getValue());
+            }
+        }
+        return new StringReplacer(searchLists, replaceLists);
+    }
+
+    /**
+     * 获取多关键字替换器 ( 相同关键字、替换内容复用已构建的自动机 )
+     * @param searchs  匹配关键字数组
+     * @param replaces 替换内容数组
+     * @return {@link StringReplacer}, 数组为 null 或长度不一致则返回 null
+     */
+    public static StringReplacer get(
+            final String[] searchs,
+            final String[] replaces
+    ) {
+        if (searchs == null || replaces == null || searchs.length != replaces.length) return null;
+        List<String> key = new ArrayList<>(searchs.length << 1);
+        key.addAll(Arrays.asList(searchs));
+        key.addAll(Arrays.asList(replaces));
+        StringReplacer replacer = CACHE.get(key);
+        if (replacer == null) {
+            replacer = create(searchs, replaces);
+            if (CACHE.size() >= CACHE_MAX_SIZE) CACHE.clear();
+            CACHE.put(key, replacer);
+        }
+        return replacer;
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 获取关键字数量
+     * @return 关键字数量
+     */
+    public int getCount() {
+        return mReplaces.length;
+    }
+
+    /**
+     * 获取最长关键字长度
+     * @return 最长关键字长度
+     */
+    public int getMaxLength() {
+        return mMaxLength;
+    }
+
+    /**
+     * 替换字符串
+     * @param str 待处理字符串
+     * @return 处理后的字符串
+     */
+    public String replace(final String str) {
+        if (str == null || mMaxLength == 0) return str;
+        StringBuilder builder = new StringBuilder(str.length() + 16);
+        scan(str, 0, str.length(), true, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 替换字符串并追加到 StringBuilder
+     * @param input   待处理字符串
+     * @param builder 输出 StringBuilder
+     * @return 输出 StringBuilder
+     */
+    public StringBuilder replace(
+            final CharSequence input,
+            final StringBuilder builder
+    ) {
+        if (input == null || builder == null) return builder;
+        if (mMaxLength == 0) return builder.append(input);
+        scan(input, 0, input.length(), true, builder);
+        return builder;
+    }
+
+    /**
+     * 流式替换 ( 完成后 flush writer, 不关闭流, 由调用方关闭 )
+     * @param reader {@link Reader}
+     * @param writer {@link Writer}
+     * @return {@code true} success, {@code false} fail
+     */
+    public boolean replace(
+            final Reader reader,
+            final Writer writer
+    ) {
+        if (reader == null || writer == null) return false;
+        try {
+            char[]        buffer  = new char[Math.max(BUFFER_SIZE, mMaxLength << 1)];
+            StringBuilder builder = new StringBuilder(buffer.length + 16);
+            CharBuffer    chars   = CharBuffer.wrap(buffer);
+            // 未决字符数 ( 可能与后续输入组成关键字, 保留到下次读取 )
+            int pending = 0;
+            int read;
+            while ((read = reader.read(buffer, pending, buffer.length - pending)) != -1) {
+                int length = pending + read;
+                int safe   = scan(chars, 0, length, false, builder);
+                writer.append(builder);
+                builder.setLength(0);
+                pending = length - safe;
+                System.arraycopy(buffer, safe, buffer, 0, pending);
+            }
+            scan(chars, 0, pending, true, builder);
+            writer.append(builder);
+            writer.flush();
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "replace");
+        }
+        return false;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取子节点
+     * @param node 节点
+     * @param c    字符
+     * @return 子节点, 不存在则返回 -1
+     */
+    private int child(
+            final int node,
+            final char c
+    ) {
+        int low  = mEdgeStart[node];
+        int high = low + mEdgeCount[node] - 1;
+        if (high - low < LINEAR_LIMIT) {
+            for (int i = low; i <= high; i++) {
+                if (mEdgeChars[i] == c) return mEdgeTargets[i];
+            }
+            return -1;
+        }
+        while (low <= high) {
+            int  mid   = (low + high) >>> 1;
+            char value = mEdgeChars[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return mEdgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 状态转移
+     * @param node 当前节点
+     * @param c    字符
+     * @return 下一节点, 最左最长匹配已确定则返回 {@link #DEAD}
+     */
+    private int transition(
+            final int node,
+            final char c
+    ) {
+        if (node == ROOT) {
+            if (c < ASCII_SIZE) return mRootAscii[c];
+            int next = child(ROOT, c);
+            return (next >= 0) ? next : ROOT;
+        }
+        int state = node;
+        while (true) {
+            int next = child(state, c);
+            if (next >= 0) return next;
+            state = mFail[state];
+            if (state == DEAD) return DEAD;
+            if (state == ROOT) return transition(ROOT, c);
+        }
+    }
+
+    /**
+     * 遍历替换
+     * <pre>
+     *     eof 为 false 时, 末尾可能与后续输入组成关键字的字符不输出
+     * </pre>
+     * @param input   输入
+     * @param from    开始索引
+     * @param to      结束索引
+     * @param eof     是否输入结尾
+     * @param builder 输出
+     * @return 已处理输出的结束索引
+     */
+    private int scan(
+            final CharSequence input,
+            final int from,
+            final int to,
+            final boolean eof,
+            final StringBuilder builder
+    ) {
+        int cursor     = from;
+        int index      = from;
+        int state      = ROOT;
+        int matchIndex = NO_MATCH;
+        int matchEnd   = 0;
+        while (true) {
+            if (index < to) {
+                int next = transition(state, input.charAt(index));
+                if (next != DEAD) {
+                    state = next;
+                    index++;
+                    if (mMatch[state] != NO_MATCH) {
+                        matchIndex = mMatch[state];
+                        matchEnd   = index;
+                    }
+                    continue;
+                }
+            } else if (matchIndex == NO_MATCH || !eof) {
+                break;
+            }
+            // 输出已确定的匹配, 并从匹配结尾重新开始
+            builder.append(input, cursor, matchEnd - mLengths[matchIndex]);
+            builder.append(mReplaces[matchIndex]);
+            cursor     = matchEnd;
+            index      = matchEnd;
+            state      = ROOT;
+            matchIndex = NO_MATCH;
+        }
+        int safe = eof ? to : index - mDepth[state];
+        builder.append(input, cursor, safe);
+        return safe;
+    }
+}
\ No newline at end of file
@@ -3,20 +3,28 @@ package dev.utils.common.assist;
 /**
  * detail: 时间均值计算辅助类
  * @author Ttt
+ * <pre>
+ *     使用 System.nanoTime 计时, 统计数据统一以毫秒 ( 含小数 ) 存储、返回
+ *     average() 与旧版本一致返回 Float, 需要 double 精度可通过 getStatistics().getMean() 获取
+ * </pre>
  */
 public class TimeAverager {
 
-    // 计时器
-    private final TimeCounter mTimeCounter = new TimeCounter();
-    // 均值器
-    private final Averager    mAverager    = new Averager();
+    // 纳秒转毫秒
+    private static final double NANOS_PER_MILLIS = 1000000D;
+
+    // 均值器 ( 毫秒 )
+    private final    Averager mAverager   = new Averager();
+    // 开始时间 ( 纳秒 )
+    private volatile long     mStartNanos = System.nanoTime();
 
     /**
      * 开始计时 ( 毫秒 )
      * @return 开始时间 ( 毫秒 )
      */
     public long start() {
-        return mTimeCounter.start();
+        mStartNanos = System.nanoTime();
+        return System.currentTimeMillis();
     }
 
     /**
@@ -24,9 +32,9 @@ public class TimeAverager {
      * @return 结束时间 ( 毫秒 )
      */
     public long end() {
-        long time = mTimeCounter.duration();
-        mAverager.add(time);
-        return time;
+        long nanos = System.nanoTime() - mStartNanos;
+        mAverager.add(nanos / NANOS_PER_MILLIS);
+        return nanos / 1000000L;
     }
 
     /**
@@ -34,22 +42,41 @@ public class TimeAverager {
      * @return 距离上次计时的时间差 ( 毫秒 )
      */
     public long endAndRestart() {
-        long time = mTimeCounter.durationRestart();
-        mAverager.add(time);
-        return time;
+        long now   = System.nanoTime();
+        long nanos = now - mStartNanos;
+        mStartNanos = now;
+        mAverager.add(nanos / NANOS_PER_MILLIS);
+        return nanos / 1000000L;
     }
 
     /**
      * 求全部计时均值
-     * @return 全部计时时间均值
+     * @return 全部计时时间均值 ( 毫秒, Float )
      */
     public Number average() {
         return mAverager.getAverage();
     }
 
     /**
-     * 输出全部时间值
-     * @return 计时信息
+     * 获取计时分位数
+     * @param quantile 分位 [0, 1], 如 0.99D 获取 p99
+     * @return 计时分位数 ( 毫秒 ), 无数据则返回 NaN
+     */
+    public double quantile(final double quantile) {
+        return mAverager.getQuantile(quantile);
+    }
+
+    /**
+     * 获取计时统计 ( 毫秒 )
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics getStatistics() {
+        return mAverager.getStatistics();
+    }
+
+    /**
+     * 输出计时统计信息
+     * @return 计时信息 ( 毫秒 )
      */
     public String print() {
         return mAverager.print();
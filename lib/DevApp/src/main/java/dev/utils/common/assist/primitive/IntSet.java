@@ -0,0 +1,244 @@
+package dev.utils.common.assist.primitive;
+
+import java.util.Arrays;
+
+/**
+ * detail: int Set ( 开放寻址 )
+ * @author Ttt
+ * <pre>
+ *     线性探测开放寻址哈希表, 直接存储 int 不装箱, 不创建 Entry 对象
+ *     0 作为空槽标记, 值 0 单独记录; 删除使用后移回填, 不产生墓碑
+ *     负载因子 0.5, 迭代顺序 ( toArray ) 不固定
+ *     非线程安全
+ * </pre>
+ */
+public final class IntSet {
+
+    // 默认容量
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // 哈希表 ( 0 为空槽 )
+    private int[]   mTable;
+    // 哈希表掩码
+    private int     mMask;
+    // 非 0 值数量
+    private int     mSize;
+    // 是否包含 0
+    private boolean mHasZero;
+
+    public IntSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造函数
+     * @param expectedSize 预计数量
+     */
+    public IntSet(final int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    /**
+     * 创建 Set 并添加数组全部值
+     * @param values int[]
+     * @return {@link IntSet}
+     */
+    public static IntSet of(final int... values) {
+        IntSet set = new IntSet(values == null ? 0 : values.length);
+        set.addAll(values);
+        return set;
+    }
+
+    /**
+     * 获取数量
+     * @return 数量
+     */
+    public int size() {
+        return mHasZero ? mSize + 1 : mSize;
+    }
+
+    /**
+     * 判断是否为空
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 判断是否包含值
+     * @param value 值
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean contains(final int value) {
+        if (value == 0) return mHasZero;
+        final int[] table = mTable;
+        int         index = hash(value) & mMask;
+        while (true) {
+            int current = table[index];
+            if (current == value) return true;
+            if (current == 0) return false;
+            index = (index + 1) & mMask;
+        }
+    }
+
+    /**
+     * 添加值
+     * @param value 值
+     * @return {@code true} 添加成功, {@code false} 已存在
+     */
+    public boolean add(final int value) {
+        if (value == 0) {
+            if (mHasZero) return false;
+            mHasZero = true;
+            return true;
+        }
+        int index = hash(value) & mMask;
+        while (true) {
+            int current = mTable[index];
+            if (current == value) return false;
+            if (current == 0) break;
+            index = (index + 1) & mMask;
+        }
+        mTable[index] = value;
+        if (++mSize > (mTable.length >>> 1)) rehash(mTable.length << 1);
+        return true;
+    }
+
+    /**
+     * 添加数组全部值
+     * @param values int[]
+     * @return {@link IntSet}
+     */
+    public IntSet addAll(final int... values) {
+        if (values != null) {
+            ensureCapacity(size() + values.length);
+            for (int value : values) {
+                add(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 移除值
+     * @param value 值
+     * @return {@code true} 移除成功, {@code false} 不存在
+     */
+    public boolean remove(final int value) {
+        if (value == 0) {
+            if (!mHasZero) return false;
+            mHasZero = false;
+            return true;
+        }
+        int index = hash(value) & mMask;
+        while (true) {
+            int current = mTable[index];
+            if (current == 0) return false;
+            if (current == value) break;
+            index = (index + 1) & mMask;
+        }
+        // 后移回填: 将探测链后续值移到空出位置
+        int gap  = index;
+        int next = (gap + 1) & mMask;
+        while (true) {
+            int current = mTable[next];
+            if (current == 0) break;
+            int home = hash(current) & mMask;
+            // home 不在 (gap, next] 循环区间内时可回填到 gap
+            if (((next - home) & mMask) >= ((next - gap) & mMask)) {
+                mTable[gap] = current;
+                gap         = next;
+            }
+            next = (next + 1) & mMask;
+        }
+        mTable[gap] = 0;
+        mSize--;
+        return true;
+    }
+
+    /**
+     * 清除全部
+     * @return {@link IntSet}
+     */
+    public IntSet clear() {
+        Arrays.fill(mTable, 0);
+        mSize    = 0;
+        mHasZero = false;
+        return this;
+    }
+
+    /**
+     * 转换为数组 ( 顺序不固定 )
+     * @return int[]
+     */
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int   count  = 0;
+        if (mHasZero) result[count++] = 0;
+        for (int value : mTable) {
+            if (value != 0) result[count++] = value;
+        }
+        return result;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 确保可容纳指定数量, 避免逐步扩容
+     * @param expectedSize 预计数量
+     */
+    private void ensureCapacity(final int expectedSize) {
+        int length = tableSize(expectedSize);
+        if (length > mTable.length) rehash(length);
+    }
+
+    /**
+     * 重新分配哈希表
+     * @param length 哈希表长度
+     */
+    private void rehash(final int length) {
+        int[] old = mTable;
+        allocate(length);
+        for (int value : old) {
+            if (value == 0) continue;
+            int index = hash(value) & mMask;
+            while (mTable[index] != 0) {
+                index = (index + 1) & mMask;
+            }
+            mTable[index] = value;
+        }
+    }
+
+    /**
+     * 分配哈希表
+     * @param length 哈希表长度 ( 2 的幂 )
+     */
+    private void allocate(final int length) {
+        mTable = new int[length];
+        mMask  = length - 1;
+    }
+
+    /**
+     * 计算哈希表长度 ( 负载因子 0.5 )
+     * @param expectedSize 预计数量
+     * @return 哈希表长度
+     */
+    private static int tableSize(final int expectedSize) {
+        long length = Math.max(DEFAULT_CAPACITY, (long) Math.max(0, expectedSize) * 2L);
+        if (length > (1 << 30)) return 1 << 30;
+        return Integer.highestOneBit((int) length - 1) << 1;
+    }
+
+    /**
+     * 哈希扰动 ( 避免连续值聚集 )
+     * @param value 值
+     * @return 哈希值
+     */
+    private static int hash(final int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
\ No newline at end of file
@@ -19,13 +19,17 @@ public final class FileRecordUtils {
     }
 
     // 成功常量字符串
-    private static final String       RECORD_SUCCESS    = "record successful";
+    private static final String           RECORD_SUCCESS    = "record successful";
+    // 异步写入入队成功常量字符串
+    private static final String           RECORD_ENQUEUED   = "record enqueued";
     // 全局是否启用文件日志记录
-    private static       boolean      sRecordingEnabled = true;
+    private static       boolean          sRecordingEnabled = true;
     // 日志记录插入信息
-    private static       RecordInsert sRecordInsert     = null;
+    private static       RecordInsert     sRecordInsert     = null;
     // 文件记录回调
-    private static       Callback     sCallback         = null;
+    private static       Callback         sCallback         = null;
+    // 异步写入器 ( 为 null 表示在调用线程同步写入 )
+    private static       FileRecordWriter sWriter           = null;
 
     // ==========
     // = 接口回调 =
@@ -103,11 +107,14 @@ public final class FileRecordUtils {
 
         StringBuilder builder = new StringBuilder();
         if (headerData) {
-            builder.append(DevFinal.SYMBOL.NEW_LINE_X2)
-                    // 获取当前时间
-                    .append(DateUtils.getDateNow())
-                    // 追加边距、换行
-                    .append(" =>");
+            builder.append(DevFinal.SYMBOL.NEW_LINE_X2);
+            // 获取当前时间
+            DateUtils.appendTime(
+                    builder, System.currentTimeMillis(),
+                    DevFinal.TIME.yyyyMMddHHmmss_HYPHEN
+            );
+            // 追加边距、换行
+            builder.append(" =>");
         }
         // 循环追加内容
         for (int i = 0, len = logs.length; i < len; i++) {
@@ -147,8 +154,10 @@ public final class FileRecordUtils {
         // 判断是否存在日志内容
         if (logs == null || logs.length == 0) return "no data record";
 
-        // 文件路径
-        String filePath = config.getFinalPath();
+        // 异步写入器
+        FileRecordWriter writer = sWriter;
+        // 文件路径 ( 异步写入由写入线程创建文件夹 )
+        String filePath = (writer != null) ? config.getIntervalTimePath() : config.getFinalPath();
         // 文件名
         String fileName = config.getFileName();
         // 文件路径、文件名为 null 则不处理
@@ -161,8 +170,27 @@ public final class FileRecordUtils {
         // 拼接最终内容
         String finalLogContent = concatInsertLog(recordInsert, logContent);
 
+        // 异步写入
+        if (writer != null) {
+            FileRecordWriter.Item item = new FileRecordWriter.Item(
+                    config, filePath, fileName,
+                    (recordInsert != null) ? recordInsert.getFileInfo() : null,
+                    finalLogContent, logs
+            );
+            return writer.enqueue(item) ? RECORD_ENQUEUED : "record dropped";
+        }
+
         // 获取存储文件
-        File file = FileUtils.getFile(filePath, fileName);
+        File   file  = FileUtils.getFile(filePath, fileName);
+        byte[] bytes = StringUtils.getBytes(finalLogContent);
+        // 超出单个文件最大大小则滚动文件
+        long maxFileSize = config.getMaxFileSize();
+        if (maxFileSize > 0L && bytes != null) {
+            long fileLength = FileUtils.getFileLength(file);
+            if (fileLength > 0L && fileLength + bytes.length > maxFileSize) {
+                rotateFile(file);
+            }
+        }
         // 文件不存在则进行追加文件信息
         if (!FileUtils.isFileExists(file)) {
             if (recordInsert != null) {
@@ -174,14 +202,53 @@ public final class FileRecordUtils {
             }
         }
         // 追加日志内容
-        boolean result = FileUtils.appendFile(file, StringUtils.getBytes(finalLogContent));
+        boolean result = FileUtils.appendFile(file, bytes);
 
-        if (sCallback != null) {
-            sCallback.onRecordCompleted(result, config, filePath, fileName, finalLogContent, logs);
-        }
+        dispatchCompleted(result, config, filePath, fileName, finalLogContent, logs);
         return result ? RECORD_SUCCESS : "record failed";
     }
 
+    /**
+     * 滚动文件 ( 当前文件重命名为 name_1.suffix、name_2.suffix ... )
+     * @param file 文件
+     * @return {@code true} success, {@code false} fail
+     */
+    static boolean rotateFile(final File file) {
+        if (!FileUtils.isFileExists(file)) return false;
+        String name   = FileUtils.getFileNotSuffix(file);
+        String suffix = FileUtils.getFileSuffix(file.getName());
+        suffix = (suffix != null) ? "." + suffix : "";
+        for (int i = 1; ; i++) {
+            String newFileName = name + "_" + i + suffix;
+            if (!new File(file.getParent(), newFileName).exists()) {
+                return FileUtils.rename(file, newFileName);
+            }
+        }
+    }
+
+    /**
+     * 回调日志写入文件结果
+     * @param result     保存结果
+     * @param config     日志记录配置信息
+     * @param filePath   存储路径
+     * @param fileName   文件名 ( 含后缀 )
+     * @param logContent 日志信息
+     * @param logs       原始日志内容数组
+     */
+    static void dispatchCompleted(
+            final boolean result,
+            final RecordConfig config,
+            final String filePath,
+            final String fileName,
+            final String logContent,
+            final Object... logs
+    ) {
+        Callback callback = sCallback;
+        if (callback != null) {
+            callback.onRecordCompleted(result, config, filePath, fileName, logContent, logs);
+        }
+    }
+
     // =============
     // = 对外公开方法 =
     // =============
@@ -192,11 +259,14 @@ public final class FileRecordUtils {
 
     /**
      * 校验记录方法返回字符串是否成功
+     * <pre>
+     *     异步写入时入队成功即返回 true, 实际写入结果通过 {@link Callback} 回调
+     * </pre>
      * @param value 待校验值
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isSuccessful(final String value) {
-        return RECORD_SUCCESS.equals(value);
+        return RECORD_SUCCESS.equals(value) || RECORD_ENQUEUED.equals(value);
     }
 
     /**
@@ -239,6 +309,26 @@ public final class FileRecordUtils {
         FileRecordUtils.sCallback = callback;
     }
 
+    /**
+     * 获取异步写入器
+     * @return {@link FileRecordWriter}
+     */
+    public static FileRecordWriter getWriter() {
+        return sWriter;
+    }
+
+    /**
+     * 设置异步写入器
+     * <pre>
+     *     设置后记录方法只在调用线程拼接日志内容, 文件写入由写入线程批量处理
+     *     传入 null 则恢复在调用线程同步写入
+     * </pre>
+     * @param writer {@link FileRecordWriter}
+     */
+    public static void setWriter(final FileRecordWriter writer) {
+        FileRecordUtils.sWriter = writer;
+    }
+
     // ==========
     // = 快捷方法 =
     // ==========
@@ -28,6 +28,8 @@ public final class RecordConfig {
     private       boolean      mInsertHeaderData;
     // 日志记录插入信息
     private       RecordInsert mRecordInsert;
+    // 单个文件最大大小 ( 超出后滚动到新文件, 小于等于 0 表示不限制 )
+    private       long         mMaxFileSize;
 
     // =======
     // = 枚举 =
@@ -249,6 +251,28 @@ public final class RecordConfig {
         return this;
     }
 
+    /**
+     * 获取单个文件最大大小
+     * @return 单个文件最大大小 ( 小于等于 0 表示不限制 )
+     */
+    public long getMaxFileSize() {
+        return mMaxFileSize;
+    }
+
+    /**
+     * 设置单个文件最大大小
+     * <pre>
+     *     在 {@link TIME} 时间间隔文件夹基础上按大小滚动
+     *     超出后当前文件重命名为 log_record_1.txt、log_record_2.txt ..., 继续写入新的 log_record.txt
+     * </pre>
+     * @param maxFileSize 单个文件最大大小 ( 小于等于 0 表示不限制 )
+     * @return {@link RecordConfig}
+     */
+    public RecordConfig setMaxFileSize(final long maxFileSize) {
+        this.mMaxFileSize = maxFileSize;
+        return this;
+    }
+
     // =
 
     /**
@@ -262,6 +286,19 @@ public final class RecordConfig {
         return FileUtils.getAbsolutePath(file);
     }
 
+    /**
+     * 获取文件地址 ( 不创建文件夹 )
+     * <pre>
+     *     异步写入时在调用线程确定时间间隔文件夹, 由写入线程创建文件夹
+     * </pre>
+     * @return 文件地址
+     */
+    String getIntervalTimePath() {
+        return FileUtils.getAbsolutePath(
+                FileUtils.getFile(mStoragePath, getIntervalTimeFolder())
+        );
+    }
+
     // ==========
     // = 内部方法 =
     // ==========
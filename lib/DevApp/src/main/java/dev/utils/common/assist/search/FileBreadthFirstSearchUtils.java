@@ -13,6 +13,9 @@ import dev.utils.JCLogUtils;
 /**
  * detail: 文件广度优先搜索算法 ( 多线程 + 队列, 搜索某个目录下的全部文件 )
  * @author Ttt
+ * <pre>
+ *     大目录推荐使用 {@link FileParallelSearchUtils} ( ForkJoin 工作窃取, 无轮询延迟 )
+ * </pre>
  */
 public final class FileBreadthFirstSearchUtils {
 
@@ -54,7 +57,7 @@ public final class FileBreadthFirstSearchUtils {
          * @param file 文件
          * @return 文件信息 {@link FileItem}
          */
-        private synchronized FileItem put(final File file) {
+        synchronized FileItem put(final File file) {
             if (mapChilds == null) {
                 mapChilds = new HashMap<>();
             }
@@ -0,0 +1,36 @@
+package dev.utils.common.comparator.sort;
+
+import java.util.Comparator;
+
+/**
+ * detail: 排序 Key 比较器
+ * @author Ttt
+ * <pre>
+ *     每个元素只计算一次排序 Key ( 如文件名分词、文件属性 ), 排序时只比较 Key
+ *     {@link dev.utils.common.comparator.ComparatorUtils#sort} 会自动使用排序 Key 排序
+ *     大数据量时并行计算 Key、并行排序, 实现类需保证线程安全
+ * </pre>
+ * @param <T> 排序数据类型
+ * @param <K> 排序 Key 类型
+ */
+public interface CollationKeyComparator<T, K>
+        extends Comparator<T> {
+
+    /**
+     * 获取排序 Key
+     * @param value 排序数据
+     * @return 排序 Key
+     */
+    K getCollationKey(T value);
+
+    /**
+     * 比较排序 Key
+     * @param key1 排序 Key
+     * @param key2 排序 Key
+     * @return 比较结果, 与 {@link #compare(Object, Object)} 一致
+     */
+    int compareCollationKey(
+            K key1,
+            K key2
+    );
+}
\ No newline at end of file
@@ -1,14 +1,13 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: Windows 目录资源文件排序比较器
  * @author Ttt
  */
 public class WindowsExplorerFileSimpleComparator2
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, WindowsExplorerStringSimpleComparator2.CollationKey> {
 
     private final WindowsExplorerStringSimpleComparator2 COMPARATOR = new WindowsExplorerStringSimpleComparator2();
 
@@ -22,4 +21,18 @@ public class WindowsExplorerFileSimpleComparator2
         }
         return COMPARATOR.compare(f.getName(), f1.getName());
     }
+
+    @Override
+    public WindowsExplorerStringSimpleComparator2.CollationKey getCollationKey(File value) {
+        if (value == null) return null;
+        return COMPARATOR.getCollationKey(value.getName());
+    }
+
+    @Override
+    public int compareCollationKey(
+            WindowsExplorerStringSimpleComparator2.CollationKey key1,
+            WindowsExplorerStringSimpleComparator2.CollationKey key2
+    ) {
+        return COMPARATOR.compareCollationKey(key1, key2);
+    }
 }
\ No newline at end of file
@@ -7,10 +7,16 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import dev.utils.JCLogUtils;
 import dev.utils.common.CloseUtils;
 import dev.utils.common.FileUtils;
+import dev.utils.common.encrypt.FileDigestUtils;
 
 /**
  * detail: 文件分片工具类
@@ -208,7 +214,7 @@ public final class FilePartUtils {
     /**
      * 文件拆分
      * <pre>
-     *     慎用, 防止内存溢出
+     *     慎用, 防止内存溢出 ( 大文件推荐使用 {@link #fileSplitSavesParallel} 直接拆分存储 )
      * </pre>
      * @param file  文件
      * @param start 分片字节开始索引
@@ -224,10 +230,10 @@ public final class FilePartUtils {
             RandomAccessFile raf = null;
             try {
                 raf = new RandomAccessFile(file, "r");
-                if (end > raf.length()) return null;
+                if (end > raf.length() || end - start > Integer.MAX_VALUE) return null;
                 raf.seek(start);
                 byte[] bytes = new byte[(int) (end - start)];
-                raf.read(bytes);
+                raf.readFully(bytes);
                 return bytes;
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "fileSplit");
@@ -344,8 +350,7 @@ public final class FilePartUtils {
                 inputChannel  = fis.getChannel();
                 fos           = new FileOutputStream(new File(destFolderPath, partName));
                 outputChannel = fos.getChannel();
-                inputChannel.transferTo(start, (int) (end - start), outputChannel);
-                return true;
+                return transferTo(inputChannel, start, end - start, outputChannel);
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "fileSplitSave");
             } finally {
@@ -759,4 +764,283 @@ public final class FilePartUtils {
         }
         return false;
     }
+
+    // ===============
+    // = 并行拆分、合并 =
+    // ===============
+
+    /**
+     * 并行文件拆分并存储
+     * @param filePath       文件路径
+     * @param assist         {@link FilePartAssist}
+     * @param destFolderPath 存储目标文件夹地址
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean fileSplitSavesParallel(
+            final String filePath,
+            final FilePartAssist assist,
+            final String destFolderPath,
+            final int threadCount
+    ) {
+        return fileSplitSavesParallel(FileUtils.getFile(filePath), assist, destFolderPath, threadCount);
+    }
+
+    /**
+     * 并行文件拆分并存储
+     * <pre>
+     *     多线程共享同一 FileChannel 定位 transferTo 写入各分片文件, 分片数据不经过堆内存
+     * </pre>
+     * @param file           文件
+     * @param assist         {@link FilePartAssist}
+     * @param destFolderPath 存储目标文件夹地址
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean fileSplitSavesParallel(
+            final File file,
+            final FilePartAssist assist,
+            final String destFolderPath,
+            final int threadCount
+    ) {
+        if (file == null || assist == null || destFolderPath == null) return false;
+        if (!assist.existsPart() || !file.exists()) return false;
+        String fileName = FileUtils.getFileName(file);
+        if (fileName == null) return false;
+        FileUtils.createFolder(destFolderPath);
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(file, "r");
+            final FileChannel inputChannel = raf.getChannel();
+            final long        length       = inputChannel.size();
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (final FilePartItem item : assist.getFilePartItems()) {
+                if (item.start < 0 || item.end < item.start || item.end > length) return false;
+                final File partFile = new File(destFolderPath, item.getPartName(fileName));
+                tasks.add(() -> {
+                    RandomAccessFile output = null;
+                    try {
+                        output = new RandomAccessFile(partFile, "rw");
+                        output.setLength(0L);
+                        return transferTo(
+                                inputChannel, item.start, item.end - item.start, output.getChannel()
+                        );
+                    } finally {
+                        CloseUtils.closeIOQuietly(output);
+                    }
+                });
+            }
+            return invokeAll(tasks, threadCount);
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "fileSplitSavesParallel");
+        } finally {
+            CloseUtils.closeIOQuietly(raf);
+        }
+        return false;
+    }
+
+    /**
+     * 并行分片合并
+     * @param filePath       文件路径
+     * @param assist         {@link FilePartAssist}
+     * @param destFolderPath 分片所在文件夹地址
+     * @param fileName       原文件名
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean fileSplitMergeParallel(
+            final String filePath,
+            final FilePartAssist assist,
+            final String destFolderPath,
+            final String fileName,
+            final int threadCount
+    ) {
+        return fileSplitMergeParallel(
+                FileUtils.getFile(filePath), assist, destFolderPath,
+                fileName, threadCount, null, null
+        );
+    }
+
+    /**
+     * 并行分片合并
+     * @param file           文件
+     * @param assist         {@link FilePartAssist}
+     * @param destFolderPath 分片所在文件夹地址
+     * @param fileName       原文件名
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean fileSplitMergeParallel(
+            final File file,
+            final FilePartAssist assist,
+            final String destFolderPath,
+            final String fileName,
+            final int threadCount
+    ) {
+        return fileSplitMergeParallel(
+                file, assist, destFolderPath, fileName, threadCount, null, null
+        );
+    }
+
+    /**
+     * 并行分片合并并校验
+     * <pre>
+     *     先校验各分片文件大小与分片信息一致, 再预分配临时文件并由多线程定位 transferFrom 写入
+     *     传入摘要算法与期望摘要值时, 合并完成后校验摘要, 一致才替换目标文件
+     *     任意步骤失败都会删除临时文件, 不会残留不完整的目标文件
+     * </pre>
+     * @param file           文件
+     * @param assist         {@link FilePartAssist}
+     * @param destFolderPath 分片所在文件夹地址
+     * @param fileName       原文件名
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @param algorithm      摘要算法 ( 如 MD5、SHA-256, 为 null 则不校验摘要 )
+     * @param digestHex      期望摘要十六进制字符串 ( 为 null 则不校验摘要 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean fileSplitMergeParallel(
+            final File file,
+            final FilePartAssist assist,
+            final String destFolderPath,
+            final String fileName,
+            final int threadCount,
+            final String algorithm,
+            final String digestHex
+    ) {
+        if (file == null || assist == null || destFolderPath == null || fileName == null) {
+            return false;
+        }
+        if (!assist.existsPart()) return false;
+        List<FilePartItem> items = assist.getFilePartItems();
+        // 校验分片文件大小
+        final List<File> partFiles = new ArrayList<>(items.size());
+        for (FilePartItem item : items) {
+            File partFile = new File(destFolderPath, item.getPartName(fileName));
+            if (!partFile.isFile() || partFile.length() != item.end - item.start) return false;
+            partFiles.add(partFile);
+        }
+        File             tempFile = new File(file.getPath() + ".merge");
+        RandomAccessFile raf      = null;
+        boolean          result   = false;
+        try {
+            raf = new RandomAccessFile(tempFile, "rw");
+            raf.setLength(items.get(items.size() - 1).end);
+            final FileChannel outputChannel = raf.getChannel();
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0, len = items.size(); i < len; i++) {
+                final FilePartItem item     = items.get(i);
+                final File         partFile = partFiles.get(i);
+                tasks.add(() -> {
+                    FileInputStream fis = null;
+                    try {
+                        fis = new FileInputStream(partFile);
+                        return transferFrom(
+                                fis.getChannel(), outputChannel, item.start, item.end - item.start
+                        );
+                    } finally {
+                        CloseUtils.closeIOQuietly(fis);
+                    }
+                });
+            }
+            result = invokeAll(tasks, threadCount);
+            CloseUtils.closeIOQuietly(raf);
+            raf = null;
+            // 校验合并文件摘要
+            if (result && algorithm != null && digestHex != null) {
+                Map<String, String> digests = FileDigestUtils.digestToHexString(
+                        tempFile, null, algorithm
+                );
+                result = digests != null && digestHex.equalsIgnoreCase(digests.get(algorithm));
+            }
+            if (result) {
+                FileUtils.deleteFile(file);
+                result = tempFile.renameTo(file);
+            }
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "fileSplitMergeParallel");
+            result = false;
+        } finally {
+            CloseUtils.closeIOQuietly(raf);
+            if (!result) FileUtils.deleteFile(tempFile);
+        }
+        return result;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 定位传输数据 ( 循环直到传输完成, 不修改输入通道 position )
+     * @param input    输入通道
+     * @param position 输入开始位置
+     * @param count    传输字节数
+     * @param output   输出通道
+     * @return {@code true} success, {@code false} fail
+     * @throws Exception 传输异常
+     */
+    private static boolean transferTo(
+            final FileChannel input,
+            final long position,
+            final long count,
+            final FileChannel output
+    ) throws Exception {
+        long transferred = 0L;
+        while (transferred < count) {
+            long length = input.transferTo(position + transferred, count - transferred, output);
+            if (length <= 0L) return false;
+            transferred += length;
+        }
+        return true;
+    }
+
+    /**
+     * 定位写入数据 ( 循环直到传输完成, 不修改输出通道 position )
+     * @param input    输入通道
+     * @param output   输出通道
+     * @param position 输出开始位置
+     * @param count    传输字节数
+     * @return {@code true} success, {@code false} fail
+     * @throws Exception 传输异常
+     */
+    private static boolean transferFrom(
+            final FileChannel input,
+            final FileChannel output,
+            final long position,
+            final long count
+    ) throws Exception {
+        long transferred = 0L;
+        while (transferred < count) {
+            long length = output.transferFrom(input, position + transferred, count - transferred);
+            if (length <= 0L) return false;
+            transferred += length;
+        }
+        return true;
+    }
+
+    /**
+     * 并行执行任务
+     * @param tasks       任务集合
+     * @param threadCount 并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @return {@code true} 全部任务成功, {@code false} 存在失败任务
+     * @throws Exception 执行异常
+     */
+    private static boolean invokeAll(
+            final List<Callable<Boolean>> tasks,
+            final int threadCount
+    ) throws Exception {
+        if (tasks.isEmpty()) return false;
+        int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        threads = Math.max(1, Math.min(threads, tasks.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            boolean result = true;
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                if (!Boolean.TRUE.equals(future.get())) result = false;
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,566 @@
+package dev.utils.common.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * detail: 预编译日期格式化
+ * @author Ttt
+ * <pre>
+ *     按时间格式预编译为数字字段、字面量片段, 实例不可变, 全局共享无需 ThreadLocal
+ *     格式化直接由毫秒计算年月日时分秒写入 StringBuilder、char[], 解析直接读取数字, 不创建 Calendar、Date
+ *     仅支持数字字段 ( y、M ( 1-2 位 )、d、H、m、s、S ) 与字面量, 覆盖 {@link dev.utils.DevFinal.TIME} 全部时间格式
+ *     不支持的格式 {@link #get(String)} 返回 null, 超出范围 ( 格里高利历切换前、9999 年后 ) 或无法严格解析返回失败,
+ *     由调用方回退 {@link java.text.SimpleDateFormat}, 结果与 SimpleDateFormat 一致
+ *     <p></p>
+ *     未使用 java.time DateTimeFormatter ( 需 Android API 26, 当前 minSdk 24 )
+ * </pre>
+ */
+public final class DateFastFormatter {
+
+    // 预编译缓存 ( 全局共享 )
+    private static final ConcurrentHashMap<String, DateFastFormatter> CACHE = new ConcurrentHashMap<>();
+
+    // 不支持的格式占位
+    private static final DateFastFormatter UNSUPPORTED = new DateFastFormatter(null, null, 0);
+
+    // 一天毫秒数
+    private static final long DAY_MS           = 86400000L;
+    // 格里高利历切换时间 ( 1582-10-15 00:00:00 UTC )
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+    // 支持的最大年份
+    private static final int  MAX_YEAR          = 9999;
+    // 默认时区刷新间隔 ( 毫秒 )
+    private static final long ZONE_REFRESH_MS   = 1000L;
+
+    // 片段类型
+    private static final int TYPE_LITERAL = 0;
+    private static final int TYPE_YEAR    = 1;
+    private static final int TYPE_MONTH   = 2;
+    private static final int TYPE_DAY     = 3;
+    private static final int TYPE_HOUR    = 4;
+    private static final int TYPE_MINUTE  = 5;
+    private static final int TYPE_SECOND  = 6;
+    private static final int TYPE_MILLIS  = 7;
+
+    // 默认时区 ( TimeZone.getDefault() 每次返回克隆对象, 按间隔刷新 )
+    private static volatile TimeZone sZone;
+    // 默认时区刷新时间
+    private static volatile long     sZoneTime;
+
+    // 时间格式
+    private final String    mPattern;
+    // 预编译片段
+    private final Segment[] mSegments;
+    // 格式化最大长度
+    private final int       mMaxLength;
+
+    private DateFastFormatter(
+            final String pattern,
+            final Segment[] segments,
+            final int maxLength
+    ) {
+        this.mPattern   = pattern;
+        this.mSegments  = segments;
+        this.mMaxLength = maxLength;
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 获取预编译日期格式化
+     * @param pattern 时间格式
+     * @return {@link DateFastFormatter}, 不支持的格式返回 null
+     */
+    public static DateFastFormatter get(final String pattern) {
+        if (pattern == null) return null;
+        DateFastFormatter formatter = CACHE.get(pattern);
+        if (formatter == null) {
+            formatter = compile(pattern);
+            DateFastFormatter previous = CACHE.putIfAbsent(pattern, formatter);
+            if (previous != null) formatter = previous;
+        }
+        return (formatter != UNSUPPORTED) ? formatter : null;
+    }
+
+    /**
+     * 获取时间格式
+     * @return 时间格式
+     */
+    public String getPattern() {
+        return mPattern;
+    }
+
+    /**
+     * 获取格式化最大长度
+     * @return 格式化最大长度
+     */
+    public int getMaxLength() {
+        return mMaxLength;
+    }
+
+    /**
+     * 格式化时间
+     * @param millis 时间毫秒
+     * @return 格式化时间字符串, 超出支持范围返回 null
+     */
+    public String format(final long millis) {
+        char[] buffer = new char[mMaxLength];
+        int    length = formatTo(millis, buffer, 0);
+        if (length < 0) return null;
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * 格式化时间并追加到 StringBuilder
+     * @param millis  时间毫秒
+     * @param builder 追加目标
+     * @return {@code true} success, {@code false} fail ( 超出支持范围, builder 不变 )
+     */
+    public boolean formatTo(
+            final long millis,
+            final StringBuilder builder
+    ) {
+        if (builder == null) return false;
+        int start = builder.length();
+        builder.setLength(start + mMaxLength);
+        int length = write(millis, null, builder, start);
+        builder.setLength(length < 0 ? start : start + length);
+        return length >= 0;
+    }
+
+    /**
+     * 格式化时间并写入 char[]
+     * @param millis 时间毫秒
+     * @param buffer 写入目标 ( 剩余长度需大于等于 {@link #getMaxLength()} )
+     * @param offset 写入起始位置
+     * @return 写入长度, 超出支持范围返回 -1
+     */
+    public int formatTo(
+            final long millis,
+            final char[] buffer,
+            final int offset
+    ) {
+        if (buffer == null || offset < 0 || buffer.length - offset < mMaxLength) return -1;
+        return write(millis, buffer, null, offset);
+    }
+
+    /**
+     * 解析时间字符串
+     * @param text 时间字符串
+     * @return 时间毫秒, 无法严格解析返回 -1
+     */
+    public long parse(final CharSequence text) {
+        if (text == null) return -1L;
+        int length = text.length();
+        int index  = 0;
+        int year   = 1970, month = 1, day = 1;
+        int hour   = 0, minute = 0, second = 0, millis = 0;
+        for (int i = 0, len = mSegments.length; i < len; i++) {
+            Segment segment = mSegments[i];
+            if (segment.type == TYPE_LITERAL) {
+                String literal = segment.literal;
+                int    size    = literal.length();
+                if (index + size > length) return -1L;
+                for (int j = 0; j < size; j++) {
+                    if (text.charAt(index + j) != literal.charAt(j)) return -1L;
+                }
+                index += size;
+                continue;
+            }
+            // 后面紧接数字字段则固定长度, 否则读取全部连续数字
+            boolean abutting = (i + 1 < len && mSegments[i + 1].type != TYPE_LITERAL);
+            int     end      = index;
+            int     limit    = abutting ? Math.min(length, index + segment.count) : length;
+            int     value    = 0;
+            while (end < limit) {
+                char ch = text.charAt(end);
+                if (ch < '0' || ch > '9') break;
+                if (end - index >= 9) return -1L;
+                value = value * 10 + (ch - '0');
+                end++;
+            }
+            int digits = end - index;
+            if (digits == 0 || (abutting && digits != segment.count)) return -1L;
+            index = end;
+            switch (segment.type) {
+                case TYPE_YEAR:
+                    if (segment.count == 2 && digits == 2) {
+                        year = resolveTwoDigitYear(value);
+                        if (year < 0) return -1L;
+                    } else {
+                        year = value;
+                    }
+                    break;
+                case TYPE_MONTH:
+                    month = value;
+                    break;
+                case TYPE_DAY:
+                    day = value;
+                    break;
+                case TYPE_HOUR:
+                    hour = value;
+                    break;
+                case TYPE_MINUTE:
+                    minute = value;
+                    break;
+                case TYPE_SECOND:
+                    second = value;
+                    break;
+                case TYPE_MILLIS:
+                    millis = value;
+                    break;
+            }
+        }
+        if (index != length) return -1L;
+        // 严格校验 ( SimpleDateFormat 默认宽松解析, 超出范围交由其处理 )
+        if (year < 1583 || year > MAX_YEAR || month < 1 || month > 12
+                || day < 1 || day > daysInMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59 || millis > 999) {
+            return -1L;
+        }
+        long local = daysFromCivil(year, month, day) * DAY_MS
+                + hour * 3600000L + minute * 60000L + second * 1000L + millis;
+        return localToUTC(local);
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 格式化时间
+     * <pre>
+     *     buffer 不为 null 写入 buffer, 否则写入 builder ( 需预先扩展长度 )
+     * </pre>
+     * @param millis  时间毫秒
+     * @param buffer  写入目标
+     * @param builder 写入目标
+     * @param offset  写入起始位置
+     * @return 写入长度, 超出支持范围返回 -1
+     */
+    private int write(
+            final long millis,
+            final char[] buffer,
+            final StringBuilder builder,
+            final int offset
+    ) {
+        if (millis < GREGORIAN_CUTOVER) return -1;
+        long local = millis + defaultZone().getOffset(millis);
+        long days  = Math.floorDiv(local, DAY_MS);
+        int  time  = (int) Math.floorMod(local, DAY_MS);
+        // 由天数计算年月日
+        long z     = days + 719468L;
+        long era   = Math.floorDiv(z, 146097L);
+        int  doe   = (int) (z - era * 146097L);
+        int  yoe   = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int  doy   = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int  mp    = (5 * doy + 2) / 153;
+        int  day   = doy - (153 * mp + 2) / 5 + 1;
+        int  month = (mp < 10) ? mp + 3 : mp - 9;
+        long year  = yoe + era * 400L + (month <= 2 ? 1 : 0);
+        if (year > MAX_YEAR) return -1;
+
+        int position = offset;
+        for (Segment segment : mSegments) {
+            int value;
+            switch (segment.type) {
+                case TYPE_LITERAL:
+                    String literal = segment.literal;
+                    for (int i = 0, size = literal.length(); i < size; i++) {
+                        put(buffer, builder, position++, literal.charAt(i));
+                    }
+                    continue;
+                case TYPE_YEAR:
+                    value = (segment.count == 2) ? (int) (year % 100) : (int) year;
+                    break;
+                case TYPE_MONTH:
+                    value = month;
+                    break;
+                case TYPE_DAY:
+                    value = day;
+                    break;
+                case TYPE_HOUR:
+                    value = time / 3600000;
+                    break;
+                case TYPE_MINUTE:
+                    value = time / 60000 % 60;
+                    break;
+                case TYPE_SECOND:
+                    value = time / 1000 % 60;
+                    break;
+                default:
+                    value = time % 1000;
+                    break;
+            }
+            position = writeNumber(buffer, builder, position, value, segment.count);
+        }
+        return position - offset;
+    }
+
+    /**
+     * 写入数字 ( 不足位数补 0 )
+     * @param buffer   写入目标
+     * @param builder  写入目标
+     * @param position 写入位置
+     * @param value    数值 ( 0-9999 )
+     * @param count    最少位数
+     * @return 写入后位置
+     */
+    private static int writeNumber(
+            final char[] buffer,
+            final StringBuilder builder,
+            final int position,
+            final int value,
+            final int count
+    ) {
+        int digits = (value >= 1000) ? 4 : (value >= 100) ? 3 : (value >= 10) ? 2 : 1;
+        int width  = Math.max(digits, count);
+        int end    = position + width;
+        int number = value;
+        for (int i = end - 1; i >= position; i--) {
+            put(buffer, builder, i, (char) ('0' + number % 10));
+            number /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * 写入字符
+     * @param buffer   写入目标
+     * @param builder  写入目标
+     * @param position 写入位置
+     * @param ch       字符
+     */
+    private static void put(
+            final char[] buffer,
+            final StringBuilder builder,
+            final int position,
+            final char ch
+    ) {
+        if (buffer != null) {
+            buffer[position] = ch;
+        } else {
+            builder.setCharAt(position, ch);
+        }
+    }
+
+    /**
+     * 本地时间转换 UTC 毫秒
+     * <pre>
+     *     前后一天内存在夏令时切换返回 -1, 交由 SimpleDateFormat 处理重叠、跳过时间
+     * </pre>
+     * @param local 本地时间毫秒
+     * @return UTC 毫秒
+     */
+    private static long localToUTC(final long local) {
+        TimeZone zone   = defaultZone();
+        long     guess  = local - zone.getRawOffset();
+        int      before = zone.getOffset(guess - DAY_MS);
+        int      after  = zone.getOffset(guess + DAY_MS);
+        if (before != after) return -1L;
+        long utc = local - before;
+        if (zone.getOffset(utc) != before) return -1L;
+        return utc;
+    }
+
+    /**
+     * 两位年份转换 ( 与 SimpleDateFormat 一致, 以当前时间前 80 年为起始 )
+     * @param value 两位年份
+     * @return 完整年份, 起始年份需比较月日时返回 -1
+     */
+    private static int resolveTwoDigitYear(final int value) {
+        long local     = System.currentTimeMillis();
+        int  startYear = (int) (1970 + Math.floorDiv(local, 31556952000L)) - 80;
+        int  year      = (startYear / 100) * 100 + value;
+        if (year < startYear) year += 100;
+        // 靠近起始年份需按完整日期比较, 交由 SimpleDateFormat 处理
+        if (Math.abs(year - startYear) <= 1 || Math.abs(year - startYear - 100) <= 1) return -1;
+        return year;
+    }
+
+    /**
+     * 获取默认时区
+     * @return {@link TimeZone}
+     */
+    private static TimeZone defaultZone() {
+        TimeZone zone = sZone;
+        long     now  = System.currentTimeMillis();
+        if (zone == null || now - sZoneTime >= ZONE_REFRESH_MS || now < sZoneTime) {
+            zone      = TimeZone.getDefault();
+            sZone     = zone;
+            sZoneTime = now;
+        }
+        return zone;
+    }
+
+    /**
+     * 年月日转换天数 ( 1970-01-01 为 0 )
+     * @param year  年
+     * @param month 月
+     * @param day   日
+     * @return 天数
+     */
+    private static long daysFromCivil(
+            final int year,
+            final int month,
+            final int day
+    ) {
+        int  y   = (month <= 2) ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        int  yoe = (int) (y - era * 400L);
+        int  doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int  doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468L;
+    }
+
+    /**
+     * 获取月份天数
+     * @param year  年
+     * @param month 月
+     * @return 月份天数
+     */
+    private static int daysInMonth(
+            final int year,
+            final int month
+    ) {
+        if (month == 2) {
+            boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return leap ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    // =
+
+    /**
+     * 预编译时间格式
+     * @param pattern 时间格式
+     * @return {@link DateFastFormatter}
+     */
+    private static DateFastFormatter compile(final String pattern) {
+        List<Segment> segments  = new ArrayList<>();
+        StringBuilder literal   = new StringBuilder();
+        int           maxLength = 0;
+        int           length    = pattern.length();
+        int           index     = 0;
+        while (index < length) {
+            char ch = pattern.charAt(index);
+            if (ch == '\'') {
+                // 引号内为字面量, 两个单引号表示单引号
+                int end = index + 1;
+                if (end < length && pattern.charAt(end) == '\'') {
+                    literal.append('\'');
+                    index += 2;
+                    continue;
+                }
+                while (true) {
+                    if (end >= length) return UNSUPPORTED;
+                    char quoted = pattern.charAt(end);
+                    if (quoted == '\'') {
+                        if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(quoted);
+                    end++;
+                }
+                index = end + 1;
+                continue;
+            }
+            if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+                int end = index + 1;
+                while (end < length && pattern.charAt(end) == ch) end++;
+                int count = end - index;
+                int type  = fieldType(ch, count);
+                if (type == TYPE_LITERAL) return UNSUPPORTED;
+                if (literal.length() != 0) {
+                    segments.add(new Segment(literal.toString()));
+                    maxLength += literal.length();
+                    literal.setLength(0);
+                }
+                segments.add(new Segment(type, count));
+                maxLength += Math.max(count, (type == TYPE_YEAR) ? 4 : (type == TYPE_MILLIS) ? 3 : 2);
+                index = end;
+                continue;
+            }
+            literal.append(ch);
+            index++;
+        }
+        if (literal.length() != 0) {
+            segments.add(new Segment(literal.toString()));
+            maxLength += literal.length();
+        }
+        return new DateFastFormatter(pattern, segments.toArray(new Segment[0]), maxLength);
+    }
+
+    /**
+     * 获取字段类型
+     * @param ch    格式字符
+     * @param count 字符数量
+     * @return 字段类型, 不支持返回 {@link #TYPE_LITERAL}
+     */
+    private static int fieldType(
+            final char ch,
+            final int count
+    ) {
+        switch (ch) {
+            case 'y':
+                return TYPE_YEAR;
+            case 'M':
+                return (count <= 2) ? TYPE_MONTH : TYPE_LITERAL;
+            case 'd':
+                return TYPE_DAY;
+            case 'H':
+                return TYPE_HOUR;
+            case 'm':
+                return TYPE_MINUTE;
+            case 's':
+                return TYPE_SECOND;
+            case 'S':
+                return TYPE_MILLIS;
+            default:
+                return TYPE_LITERAL;
+        }
+    }
+
+    // ==========
+    // = 内部类 =
+    // ==========
+
+    /**
+     * detail: 预编译片段
+     * @author Ttt
+     */
+    private static final class Segment {
+
+        // 片段类型
+        final int    type;
+        // 字段字符数量
+        final int    count;
+        // 字面量
+        final String literal;
+
+        Segment(final String literal) {
+            this.type    = TYPE_LITERAL;
+            this.count   = 0;
+            this.literal = literal;
+        }
+
+        Segment(
+                final int type,
+                final int count
+        ) {
+            this.type    = type;
+            this.count   = count;
+            this.literal = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+package dev.utils.common.thread;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.utils.common.assist.QuantileHistogram;
+
+/**
+ * detail: 可监控线程池
+ * @author Ttt
+ * <pre>
+ *     记录队列深度、排队等待耗时、执行耗时分布、拒绝数、失败数、活跃线程数
+ *     通过 {@link #getMetrics()} 获取指标快照, 配合 {@link DevThreadPoolAdaptive} 可根据指标自动调整核心线程数
+ *     <p></p>
+ *     任务入队时包装为统计耗时任务, {@link #getQueue()} 返回的队列中为包装后的任务 ( toString 与原始任务一致 )
+ *     {@link #shutdownNow()}、{@link #remove(Runnable)}、拒绝策略均使用调用方提交的原始任务
+ *     <p></p>
+ *     new DevThreadPool(new DevMetricsExecutor("io", 4, 4));
+ *     new DevThreadPool(DevThreadPool.DevThreadPoolType.INSTRUMENTED);
+ * </pre>
+ */
+public class DevMetricsExecutor
+        extends ThreadPoolExecutor {
+
+    // 纳秒转微秒
+    private static final double NANOS_PER_MICROS = 1000D;
+
+    // 线程池名
+    private final String            mName;
+    // 排队等待耗时 ( 微秒 )
+    private final QuantileHistogram mWaitTime       = new QuantileHistogram();
+    // 执行耗时 ( 微秒 )
+    private final QuantileHistogram mRunTime        = new QuantileHistogram();
+    // 提交任务数 ( 不包含被拒绝任务 )
+    private final AtomicLong        mSubmittedCount = new AtomicLong();
+    // 执行失败任务数
+    private final AtomicLong        mFailedCount    = new AtomicLong();
+    // 历史最大队列深度
+    private final AtomicInteger     mMaxQueueSize   = new AtomicInteger();
+    // 拒绝任务数
+    private final AtomicLong        mRejectedCount;
+
+    /**
+     * 构造函数 ( 无界队列 )
+     * @param name            线程池名
+     * @param corePoolSize    核心线程数
+     * @param maximumPoolSize 最大线程数
+     */
+    public DevMetricsExecutor(
+            final String name,
+            final int corePoolSize,
+            final int maximumPoolSize
+    ) {
+        this(
+                name, corePoolSize, Math.max(corePoolSize, maximumPoolSize),
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Executors.defaultThreadFactory(), new AbortPolicy()
+        );
+    }
+
+    /**
+     * 构造函数
+     * @param name            线程池名
+     * @param corePoolSize    核心线程数
+     * @param maximumPoolSize 最大线程数
+     * @param keepAliveTime   空闲线程存活时间
+     * @param unit            时间单位
+     * @param workQueue       任务队列
+     * @param threadFactory   线程工厂
+     * @param handler         拒绝策略
+     */
+    public DevMetricsExecutor(
+            final String name,
+            final int corePoolSize,
+            final int maximumPoolSize,
+            final long keepAliveTime,
+            final TimeUnit unit,
+            final BlockingQueue<Runnable> workQueue,
+            final ThreadFactory threadFactory,
+            final RejectedExecutionHandler handler
+    ) {
+        this(
+                name, corePoolSize, maximumPoolSize, keepAliveTime, unit,
+                workQueue, threadFactory, handler, new AtomicLong()
+        );
+    }
+
+    private DevMetricsExecutor(
+            final String name,
+            final int corePoolSize,
+            final int maximumPoolSize,
+            final long keepAliveTime,
+            final TimeUnit unit,
+            final BlockingQueue<Runnable> workQueue,
+            final ThreadFactory threadFactory,
+            final RejectedExecutionHandler handler,
+            final AtomicLong rejectedCount
+    ) {
+        super(
+                corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory,
+                new CountingRejectedHandler(handler, rejectedCount)
+        );
+        this.mName          = (name != null) ? name : DevMetricsExecutor.class.getSimpleName();
+        this.mRejectedCount = rejectedCount;
+    }
+
+    // ======================
+    // = ThreadPoolExecutor =
+    // ======================
+
+    @Override
+    public void execute(final Runnable command) {
+        if (command == null) throw new NullPointerException();
+        MetricsRunnable task = new MetricsRunnable(command);
+        super.execute(task);
+        // 拒绝策略未抛出异常 ( 如 DiscardPolicy ) 时不计入提交数
+        if (task.mRejected) return;
+        mSubmittedCount.incrementAndGet();
+        int queueSize = getQueue().size();
+        if (queueSize > mMaxQueueSize.get()) {
+            mMaxQueueSize.accumulateAndGet(queueSize, Math::max);
+        }
+    }
+
+    /**
+     * 立即关闭线程池
+     * @return 未执行的原始任务 ( 非统计耗时包装任务 )
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        for (int i = 0, len = tasks.size(); i < len; i++) {
+            tasks.set(i, unwrap(tasks.get(i)));
+        }
+        return tasks;
+    }
+
+    /**
+     * 从队列中移除任务
+     * @param task 调用方提交的原始任务
+     * @return {@code true} success, {@code false} fail
+     */
+    @Override
+    public boolean remove(final Runnable task) {
+        if (task == null) return false;
+        for (Runnable runnable : getQueue()) {
+            if (runnable instanceof MetricsRunnable
+                    && task.equals(((MetricsRunnable) runnable).mTask)) {
+                return super.remove(runnable);
+            }
+        }
+        return super.remove(task);
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 获取线程池名
+     * @return 线程池名
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * 获取指标快照
+     * @return {@link DevThreadPoolMetrics}
+     */
+    public DevThreadPoolMetrics getMetrics() {
+        return new DevThreadPoolMetrics(
+                mName, System.currentTimeMillis(), getCorePoolSize(), getMaximumPoolSize(),
+                getPoolSize(), getActiveCount(), getLargestPoolSize(), getQueue().size(),
+                mMaxQueueSize.get(), mSubmittedCount.get(), getCompletedTaskCount(),
+                mRejectedCount.get(), mFailedCount.get(),
+                new DevThreadPoolMetrics.Latency(mWaitTime.copy()),
+                new DevThreadPoolMetrics.Latency(mRunTime.copy())
+        );
+    }
+
+    /**
+     * 调整核心线程数 ( 超过最大线程数时同步提高最大线程数 )
+     * @param corePoolSize 核心线程数
+     */
+    public synchronized void resize(final int corePoolSize) {
+        if (corePoolSize <= 0 || corePoolSize == getCorePoolSize()) return;
+        if (corePoolSize > getMaximumPoolSize()) {
+            setMaximumPoolSize(corePoolSize);
+            setCorePoolSize(corePoolSize);
+        } else {
+            setCorePoolSize(corePoolSize);
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * detail: 统计耗时任务
+     * @author Ttt
+     */
+    private final class MetricsRunnable
+            implements Runnable {
+
+        // 原始任务
+        private final Runnable mTask;
+        // 入队时间
+        private final long     mEnqueueTime = System.nanoTime();
+        // 是否被拒绝 ( 拒绝策略在提交线程调用 )
+        private       boolean  mRejected;
+
+        MetricsRunnable(final Runnable task) {
+            this.mTask = task;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            mWaitTime.add(Math.max(0L, start - mEnqueueTime) / NANOS_PER_MICROS);
+            boolean failed = true;
+            try {
+                mTask.run();
+                failed = isFailed(mTask);
+            } finally {
+                mRunTime.add((System.nanoTime() - start) / NANOS_PER_MICROS);
+                if (failed) mFailedCount.incrementAndGet();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return mTask.toString();
+        }
+    }
+
+    /**
+     * 获取原始任务
+     * @param runnable 任务
+     * @return 调用方提交的原始任务
+     */
+    private static Runnable unwrap(final Runnable runnable) {
+        if (runnable instanceof MetricsRunnable) {
+            return ((MetricsRunnable) runnable).mTask;
+        }
+        return runnable;
+    }
+
+    /**
+     * 判断 submit 提交的任务是否执行异常
+     * @param task 任务
+     * @return {@code true} yes, {@code false} no
+     */
+    private static boolean isFailed(final Runnable task) {
+        if (task instanceof Future) {
+            Future<?> future = (Future<?>) task;
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    return true;
+                } catch (CancellationException | InterruptedException ignored) {
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * detail: 统计拒绝数拒绝策略
+     * @author Ttt
+     */
+    private static final class CountingRejectedHandler
+            implements RejectedExecutionHandler {
+
+        // 原始拒绝策略
+        private final RejectedExecutionHandler mHandler;
+        // 拒绝任务数
+        private final AtomicLong               mRejectedCount;
+
+        CountingRejectedHandler(
+                final RejectedExecutionHandler handler,
+                final AtomicLong rejectedCount
+        ) {
+            this.mHandler       = (handler != null) ? handler : new AbortPolicy();
+            this.mRejectedCount = rejectedCount;
+        }
+
+        @Override
+        public void rejectedExecution(
+                Runnable runnable,
+                ThreadPoolExecutor executor
+        ) {
+            mRejectedCount.incrementAndGet();
+            if (runnable instanceof MetricsRunnable) {
+                ((MetricsRunnable) runnable).mRejected = true;
+            }
+            // 使用原始任务, 避免 DiscardOldestPolicy 等重新提交时重复包装
+            mHandler.rejectedExecution(unwrap(runnable), executor);
+        }
+    }
+}
\ No newline at end of file
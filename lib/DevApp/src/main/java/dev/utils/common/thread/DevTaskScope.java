@@ -0,0 +1,303 @@
+package dev.utils.common.thread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * detail: 结构化任务作用域
+ * @author Ttt
+ * <pre>
+ *     fork 提交的子任务属于同一作用域, join 等待全部子任务完成
+ *     任一子任务失败立即取消其他子任务并抛出异常, close 取消全部未完成子任务
+ *     并发数由信号量限制, 与线程池大小无关 ( 适合虚拟线程、可缓存线程池执行阻塞 IO )
+ *     <p></p>
+ *     try (DevTaskScope scope = devThreadPool.newScope(16)) {
+ *         Future&lt;String&gt; a = scope.fork(callableA);
+ *         Future&lt;String&gt; b = scope.fork(callableB);
+ *         scope.join();
+ *     }
+ * </pre>
+ */
+public final class DevTaskScope
+        implements AutoCloseable {
+
+    // 执行线程池
+    private final ExecutorService                   mExecutor;
+    // 子任务完成队列 ( 仅 fork 子任务 )
+    private final ExecutorCompletionService<Object> mCompletionService;
+    // 并发数限制
+    private final Semaphore                         mSemaphore;
+    // 已提交子任务
+    private final List<Future<Object>>              mFutures       = new ArrayList<>();
+    // invokeAll、invokeAny 执行中任务 ( close 时取消 )
+    private final List<Future<?>>                   mInvokeFutures = new ArrayList<>();
+    // 已完成子任务数
+    private       int                               mJoinedCount;
+    // 是否已关闭
+    private       boolean                           mClosed;
+
+    /**
+     * 构造函数
+     * @param executor       执行线程池
+     * @param maxConcurrency 最大并发数 ( 小于等于 0 则不限制 )
+     */
+    public DevTaskScope(
+            final ExecutorService executor,
+            final int maxConcurrency
+    ) {
+        if (executor == null) throw new NullPointerException("executor is null");
+        this.mExecutor          = executor;
+        this.mCompletionService = new ExecutorCompletionService<>(executor);
+        this.mSemaphore         = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 提交子任务
+     * @param task 子任务
+     * @param <T>  泛型
+     * @return 子任务 Future
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Future<T> fork(final Callable<T> task) {
+        if (task == null) throw new NullPointerException("task is null");
+        if (mClosed) throw new IllegalStateException("scope is closed");
+        Callable<T>    limited = limit(task);
+        Future<Object> future  = mCompletionService.submit(limited::call);
+        mFutures.add(future);
+        return (Future<T>) future;
+    }
+
+    /**
+     * 等待全部子任务完成 ( 任一子任务失败则取消其他子任务 )
+     * @throws InterruptedException 等待中断
+     * @throws ExecutionException   子任务执行失败
+     */
+    public void join()
+            throws InterruptedException, ExecutionException {
+        try {
+            join(-1L, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ignored) {
+            // 无超时不会抛出
+        }
+    }
+
+    /**
+     * 等待全部子任务完成 ( 任一子任务失败或等待超时则取消其他子任务 )
+     * @param timeout 最长等待时间 ( 小于 0 则一直等待 )
+     * @param unit    时间单位
+     * @throws InterruptedException 等待中断
+     * @throws ExecutionException   子任务执行失败
+     * @throws TimeoutException     等待超时
+     */
+    public void join(
+            final long timeout,
+            final TimeUnit unit
+    )
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = timeout < 0L ? 0L : System.nanoTime() + unit.toNanos(timeout);
+        try {
+            while (true) {
+                synchronized (this) {
+                    if (mJoinedCount >= mFutures.size()) return;
+                }
+                Future<Object> future = take(timeout < 0L, deadline);
+                synchronized (this) {
+                    mJoinedCount++;
+                }
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            cancelAll();
+            throw e;
+        } catch (CancellationException e) {
+            cancelAll();
+            throw new ExecutionException(e);
+        }
+    }
+
+    /**
+     * 取消全部未完成子任务并关闭作用域
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            mClosed = true;
+        }
+        cancelAll();
+    }
+
+    // =
+
+    /**
+     * 执行全部任务并返回结果 ( 任一任务失败则取消其他任务 )
+     * <pre>
+     *     使用独立完成队列, 不影响 fork 子任务、join
+     * </pre>
+     * @param tasks 任务集合
+     * @param <T>   泛型
+     * @return 结果集合 ( 与任务顺序一致 )
+     * @throws InterruptedException 等待中断
+     * @throws ExecutionException   任务执行失败
+     */
+    public <T> List<T> invokeAll(final Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        ExecutorCompletionService<T> service = new ExecutorCompletionService<>(mExecutor);
+        List<Future<T>>              futures = submitAll(service, tasks);
+        try {
+            for (int i = 0, len = futures.size(); i < len; i++) {
+                try {
+                    service.take().get();
+                } catch (CancellationException e) {
+                    throw new ExecutionException(e);
+                }
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    /**
+     * 返回最先成功完成的任务结果 ( 取消其他任务 )
+     * <pre>
+     *     使用独立完成队列, 不影响 fork 子任务、join
+     * </pre>
+     * @param tasks 任务集合
+     * @param <T>   泛型
+     * @return 最先成功完成的任务结果
+     * @throws InterruptedException 等待中断
+     * @throws ExecutionException   全部任务执行失败
+     */
+    public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        if (tasks.isEmpty()) throw new IllegalArgumentException("tasks is empty");
+        ExecutorCompletionService<T> service = new ExecutorCompletionService<>(mExecutor);
+        List<Future<T>>              futures = submitAll(service, tasks);
+        ExecutionException           failure = null;
+        try {
+            for (int i = 0, len = futures.size(); i < len; i++) {
+                try {
+                    return service.take().get();
+                } catch (ExecutionException e) {
+                    failure = e;
+                } catch (CancellationException e) {
+                    failure = new ExecutionException(e);
+                }
+            }
+        } finally {
+            cancel(futures);
+        }
+        throw failure;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 包装并发数限制
+     * @param task 任务
+     * @param <T>  泛型
+     * @return 受并发数限制的任务
+     */
+    private <T> Callable<T> limit(final Callable<T> task) {
+        return () -> {
+            if (mSemaphore == null) return task.call();
+            mSemaphore.acquire();
+            try {
+                return task.call();
+            } finally {
+                mSemaphore.release();
+            }
+        };
+    }
+
+    /**
+     * 提交 invokeAll、invokeAny 任务
+     * @param service 独立完成队列
+     * @param tasks   任务集合
+     * @param <T>     泛型
+     * @return 任务 Future 集合
+     */
+    private synchronized <T> List<Future<T>> submitAll(
+            final ExecutorCompletionService<T> service,
+            final Collection<? extends Callable<T>> tasks
+    ) {
+        if (mClosed) throw new IllegalStateException("scope is closed");
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                if (task == null) throw new NullPointerException("task is null");
+                Future<T> future = service.submit(limit(task));
+                futures.add(future);
+                mInvokeFutures.add(future);
+            }
+        } catch (RuntimeException e) {
+            cancel(futures);
+            throw e;
+        }
+        return futures;
+    }
+
+    /**
+     * 取消 invokeAll、invokeAny 任务
+     * @param futures 任务 Future 集合
+     */
+    private synchronized void cancel(final List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone()) future.cancel(true);
+        }
+        mInvokeFutures.removeAll(futures);
+    }
+
+    /**
+     * 获取已完成子任务
+     * @param forever  是否一直等待
+     * @param deadline 等待截止时间 ( 纳秒 )
+     * @return 已完成子任务
+     * @throws InterruptedException 等待中断
+     * @throws TimeoutException     等待超时
+     */
+    private Future<Object> take(
+            final boolean forever,
+            final long deadline
+    )
+            throws InterruptedException, TimeoutException {
+        if (forever) return mCompletionService.take();
+        long           remaining = deadline - System.nanoTime();
+        Future<Object> future    = remaining > 0L
+                ? mCompletionService.poll(remaining, TimeUnit.NANOSECONDS) : mCompletionService.poll();
+        if (future == null) throw new TimeoutException();
+        return future;
+    }
+
+    /**
+     * 取消全部未完成子任务
+     */
+    private synchronized void cancelAll() {
+        for (Future<Object> future : mFutures) {
+            if (!future.isDone()) future.cancel(true);
+        }
+        for (Future<?> future : mInvokeFutures) {
+            if (!future.isDone()) future.cancel(true);
+        }
+    }
+}
\ No newline at end of file
@@ -100,4 +100,19 @@ public final class DevThreadManager {
     public static void removeConfig(final String key) {
         sConfigMaps.remove(key);
     }
+
+    // =
+
+    /**
+     * 获取全部可监控线程池指标快照
+     * @return key - 指标快照 Map
+     */
+    public static synchronized Map<String, DevThreadPoolMetrics> getMetrics() {
+        Map<String, DevThreadPoolMetrics> maps = new LinkedHashMap<>();
+        for (Map.Entry<String, DevThreadPool> entry : sThreadMaps.entrySet()) {
+            DevThreadPoolMetrics metrics = entry.getValue().getMetrics();
+            if (metrics != null) maps.put(entry.getKey(), metrics);
+        }
+        return maps;
+    }
 }
\ No newline at end of file
@@ -39,6 +39,8 @@ public final class DevThreadPool {
     private final ExecutorService          mThreadPool;
     // 定时任务线程池
     private       ScheduledExecutorService mScheduleExec;
+    // 核心线程数自适应调整
+    private       DevThreadPoolAdaptive    mAdaptive;
 
     /**
      * 构造函数
@@ -88,6 +90,12 @@ public final class DevThreadPool {
                 case CACHE:
                     mThreadPool = Executors.newCachedThreadPool();
                     break;
+                case INSTRUMENTED:
+                    mThreadPool = new DevMetricsExecutor(null, getThreads(), getThreads());
+                    break;
+                case VIRTUAL:
+                    mThreadPool = newVirtualThreadExecutor();
+                    break;
                 default:
                     mThreadPool = Executors.newFixedThreadPool(getThreads());
                     break;
@@ -112,6 +120,10 @@ public final class DevThreadPool {
 
         CACHE, // 可缓存线程池
 
+        INSTRUMENTED, // 可监控线程池 ( 根据 CPU 计算线程数, 记录队列深度、耗时分布等指标 )
+
+        VIRTUAL, // 虚拟线程 ( 每个任务一个虚拟线程, 运行时不支持则使用可缓存线程池 )
+
 //        1 newCachedThreadPool: 创建一个可缓存线程池, 如果线程池长度超过处理需要, 可灵活回收空闲线程, 若无可回收, 则新建线程
 //        2 newFixedThreadPool: 创建一个固定数目的、可重用的线程池
 //        3 newScheduledThreadPool: 创建一个定长线程池, 支持定时及周期性任务执行
@@ -149,6 +161,49 @@ public final class DevThreadPool {
         }
     }
 
+    /**
+     * 当前运行时是否支持虚拟线程 ( JDK 21+ )
+     * @return {@code true} yes, {@code false} no
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadHolder.FACTORY != null;
+    }
+
+    /**
+     * 创建虚拟线程线程池
+     * <pre>
+     *     通过反射调用 Executors.newVirtualThreadPerTaskExecutor() ( 编译目标为 Java 11 )
+     *     运行时不支持 ( JDK 21 以下、Android ) 则返回可缓存线程池
+     * </pre>
+     * @return {@link ExecutorService}
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (VirtualThreadHolder.FACTORY != null) {
+            try {
+                return (ExecutorService) VirtualThreadHolder.FACTORY.invoke(null);
+            } catch (Exception ignored) {
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * detail: 虚拟线程线程池创建方法
+     * @author Ttt
+     */
+    private static final class VirtualThreadHolder {
+
+        static final Method FACTORY = findFactory();
+
+        private static Method findFactory() {
+            try {
+                return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
     // =
 
     /**
@@ -480,4 +535,72 @@ public final class DevThreadPool {
         }
         return null;
     }
+
+    /**
+     * 创建结构化任务作用域
+     * <pre>
+     *     并发数由信号量限制, 推荐配合 {@link DevThreadPoolType#VIRTUAL} 执行阻塞 IO 任务
+     * </pre>
+     * @param maxConcurrency 最大并发数 ( 小于等于 0 则不限制 )
+     * @return {@link DevTaskScope}
+     */
+    public DevTaskScope newScope(final int maxConcurrency) {
+        return new DevTaskScope(mThreadPool, maxConcurrency);
+    }
+
+    // ===========
+    // = 线程池监控 =
+    // ===========
+
+    /**
+     * 是否可监控线程池
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean isInstrumented() {
+        return mThreadPool instanceof DevMetricsExecutor;
+    }
+
+    /**
+     * 获取线程池指标快照
+     * @return {@link DevThreadPoolMetrics}, 非可监控线程池返回 null
+     */
+    public DevThreadPoolMetrics getMetrics() {
+        if (mThreadPool instanceof DevMetricsExecutor) {
+            return ((DevMetricsExecutor) mThreadPool).getMetrics();
+        }
+        return null;
+    }
+
+    /**
+     * 开启核心线程数自适应调整 ( 仅支持可监控线程池 )
+     * @param minCorePoolSize  最小核心线程数
+     * @param maxCorePoolSize  最大核心线程数
+     * @param targetWaitMillis 目标排队等待时间 ( 毫秒 )
+     * @param periodMillis     调整周期 ( 毫秒 )
+     * @return {@link DevThreadPoolAdaptive}, 非可监控线程池返回 null
+     */
+    public synchronized DevThreadPoolAdaptive startAdaptive(
+            final int minCorePoolSize,
+            final int maxCorePoolSize,
+            final long targetWaitMillis,
+            final long periodMillis
+    ) {
+        if (!(mThreadPool instanceof DevMetricsExecutor) || mScheduleExec == null) return null;
+        stopAdaptive();
+        mAdaptive = new DevThreadPoolAdaptive(
+                (DevMetricsExecutor) mThreadPool, minCorePoolSize,
+                maxCorePoolSize, targetWaitMillis
+        ).start(mScheduleExec, periodMillis);
+        return mAdaptive;
+    }
+
+    /**
+     * 关闭核心线程数自适应调整
+     */
+    public synchronized void stopAdaptive() {
+        if (mAdaptive != null) {
+            mAdaptive.stop();
+            mAdaptive = null;
+        }
+    }
 }
\ No newline at end of file
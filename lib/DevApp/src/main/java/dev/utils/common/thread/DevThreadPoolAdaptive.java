@@ -0,0 +1,178 @@
+package dev.utils.common.thread;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import dev.utils.JCLogUtils;
+
+/**
+ * detail: 线程池核心线程数自适应调整
+ * @author Ttt
+ * <pre>
+ *     定时获取 {@link DevMetricsExecutor} 区间指标并调整核心线程数
+ *     扩容: 队列存在积压且区间排队等待 P90 超过目标等待时间, 按当前核心线程数 25% ( 至少 1 ) 扩容
+ *     缩容: 连续多个周期队列为空、活跃线程不足一半且排队等待 P90 低于目标 1/4, 每次减少 1
+ *     核心线程数始终限制在 [minCorePoolSize, maxCorePoolSize] 区间内
+ * </pre>
+ */
+public final class DevThreadPoolAdaptive {
+
+    // 日志 TAG
+    private static final String TAG = DevThreadPoolAdaptive.class.getSimpleName();
+
+    // 连续空闲多少个周期才缩容
+    private static final int IDLE_PERIODS = 3;
+
+    // 可监控线程池
+    private final DevMetricsExecutor   mExecutor;
+    // 最小核心线程数
+    private final int                  mMinCorePoolSize;
+    // 最大核心线程数
+    private final int                  mMaxCorePoolSize;
+    // 目标排队等待时间 ( 微秒 )
+    private final long                 mTargetWaitMicros;
+    // 上一次指标快照
+    private       DevThreadPoolMetrics mPrevious;
+    // 连续空闲周期数
+    private       int                  mIdlePeriods;
+    // 定时任务
+    private       ScheduledFuture<?>   mFuture;
+    // 调整回调
+    private       OnAdjustListener     mListener;
+
+    /**
+     * 构造函数
+     * @param executor         可监控线程池
+     * @param minCorePoolSize  最小核心线程数
+     * @param maxCorePoolSize  最大核心线程数
+     * @param targetWaitMillis 目标排队等待时间 ( 毫秒 )
+     */
+    public DevThreadPoolAdaptive(
+            final DevMetricsExecutor executor,
+            final int minCorePoolSize,
+            final int maxCorePoolSize,
+            final long targetWaitMillis
+    ) {
+        this.mExecutor         = executor;
+        this.mMinCorePoolSize  = Math.max(1, minCorePoolSize);
+        this.mMaxCorePoolSize  = Math.max(mMinCorePoolSize, maxCorePoolSize);
+        this.mTargetWaitMicros = Math.max(1L, targetWaitMillis) * 1000L;
+    }
+
+    /**
+     * detail: 核心线程数调整回调
+     * @author Ttt
+     */
+    public interface OnAdjustListener {
+
+        /**
+         * 核心线程数调整回调
+         * @param oldCorePoolSize 调整前核心线程数
+         * @param newCorePoolSize 调整后核心线程数
+         * @param metrics         区间指标
+         */
+        void onAdjust(
+                int oldCorePoolSize,
+                int newCorePoolSize,
+                DevThreadPoolMetrics metrics
+        );
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 设置核心线程数调整回调
+     * @param listener 核心线程数调整回调
+     * @return {@link DevThreadPoolAdaptive}
+     */
+    public DevThreadPoolAdaptive setOnAdjustListener(final OnAdjustListener listener) {
+        this.mListener = listener;
+        return this;
+    }
+
+    /**
+     * 开始定时调整
+     * @param scheduler    定时任务线程池
+     * @param periodMillis 调整周期 ( 毫秒 )
+     * @return {@link DevThreadPoolAdaptive}
+     */
+    public synchronized DevThreadPoolAdaptive start(
+            final ScheduledExecutorService scheduler,
+            final long periodMillis
+    ) {
+        if (scheduler == null || mExecutor == null || mFuture != null) return this;
+        long period = Math.max(periodMillis, 1L);
+        mPrevious = mExecutor.getMetrics();
+        mFuture   = scheduler.scheduleWithFixedDelay(
+                this::adjust, period, period, TimeUnit.MILLISECONDS
+        );
+        return this;
+    }
+
+    /**
+     * 停止定时调整
+     */
+    public synchronized void stop() {
+        if (mFuture != null) {
+            mFuture.cancel(false);
+            mFuture = null;
+        }
+    }
+
+    /**
+     * 是否定时调整中
+     * @return {@code true} yes, {@code false} no
+     */
+    public synchronized boolean isRunning() {
+        return mFuture != null;
+    }
+
+    /**
+     * 根据区间指标调整一次核心线程数
+     * @return 调整后核心线程数
+     */
+    public synchronized int adjust() {
+        if (mExecutor == null || mExecutor.isShutdown()) {
+            stop();
+            return 0;
+        }
+        try {
+            DevThreadPoolMetrics current = mExecutor.getMetrics();
+            DevThreadPoolMetrics window  = current.since(mPrevious);
+            mPrevious = current;
+
+            int  corePoolSize = current.getCorePoolSize();
+            int  target       = corePoolSize;
+            long waitP90      = window.getWaitTime().getP90();
+            if (window.getQueueSize() > 0 && waitP90 > mTargetWaitMicros) {
+                // 队列积压且等待超过目标, 扩容
+                mIdlePeriods = 0;
+                target       = corePoolSize + Math.max(1, corePoolSize / 4);
+            } else if (window.getQueueSize() == 0
+                    && window.getActiveCount() * 2 < corePoolSize
+                    && waitP90 * 4 < mTargetWaitMicros) {
+                // 连续空闲, 缩容
+                if (++mIdlePeriods >= IDLE_PERIODS) {
+                    mIdlePeriods = 0;
+                    target       = corePoolSize - 1;
+                }
+            } else {
+                mIdlePeriods = 0;
+            }
+            target = Math.max(mMinCorePoolSize, Math.min(mMaxCorePoolSize, target));
+            if (target != corePoolSize) {
+                mExecutor.resize(target);
+                if (mListener != null) {
+                    mListener.onAdjust(corePoolSize, target, window);
+                }
+            }
+            return target;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "adjust");
+        }
+        return mExecutor.getCorePoolSize();
+    }
+}
\ No newline at end of file
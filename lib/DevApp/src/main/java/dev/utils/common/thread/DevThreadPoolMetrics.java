@@ -0,0 +1,341 @@
+package dev.utils.common.thread;
+
+import java.util.Locale;
+
+import dev.utils.common.assist.QuantileHistogram;
+
+/**
+ * detail: 线程池指标快照
+ * @author Ttt
+ * <pre>
+ *     由 {@link DevMetricsExecutor#getMetrics()} 创建, 创建后不可变
+ *     计数类指标 ( 提交、完成、拒绝、失败数、耗时分布 ) 为累计值
+ *     可通过 {@link #since(DevThreadPoolMetrics)} 获取两次快照之间的区间指标
+ *     耗时单位为微秒, 百分位基于 {@link QuantileHistogram} 对数线性分桶统计 ( 相对误差约 3% )
+ * </pre>
+ */
+public final class DevThreadPoolMetrics {
+
+    // 线程池名
+    private final String  mName;
+    // 快照时间
+    private final long    mTime;
+    // 核心线程数
+    private final int     mCorePoolSize;
+    // 最大线程数
+    private final int     mMaximumPoolSize;
+    // 当前线程数
+    private final int     mPoolSize;
+    // 活跃线程数
+    private final int     mActiveCount;
+    // 历史最大线程数
+    private final int     mLargestPoolSize;
+    // 当前队列深度
+    private final int     mQueueSize;
+    // 历史最大队列深度
+    private final int     mMaxQueueSize;
+    // 提交任务数
+    private final long    mSubmittedCount;
+    // 完成任务数
+    private final long    mCompletedCount;
+    // 拒绝任务数
+    private final long    mRejectedCount;
+    // 执行失败任务数
+    private final long    mFailedCount;
+    // 排队等待耗时
+    private final Latency mWaitTime;
+    // 执行耗时
+    private final Latency mRunTime;
+
+    DevThreadPoolMetrics(
+            final String name,
+            final long time,
+            final int corePoolSize,
+            final int maximumPoolSize,
+            final int poolSize,
+            final int activeCount,
+            final int largestPoolSize,
+            final int queueSize,
+            final int maxQueueSize,
+            final long submittedCount,
+            final long completedCount,
+            final long rejectedCount,
+            final long failedCount,
+            final Latency waitTime,
+            final Latency runTime
+    ) {
+        this.mName            = name;
+        this.mTime            = time;
+        this.mCorePoolSize    = corePoolSize;
+        this.mMaximumPoolSize = maximumPoolSize;
+        this.mPoolSize        = poolSize;
+        this.mActiveCount     = activeCount;
+        this.mLargestPoolSize = largestPoolSize;
+        this.mQueueSize       = queueSize;
+        this.mMaxQueueSize    = maxQueueSize;
+        this.mSubmittedCount  = submittedCount;
+        this.mCompletedCount  = completedCount;
+        this.mRejectedCount   = rejectedCount;
+        this.mFailedCount     = failedCount;
+        this.mWaitTime        = waitTime;
+        this.mRunTime         = runTime;
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 获取两次快照之间的区间指标
+     * <pre>
+     *     计数类指标、耗时分布为区间差值, 线程数、队列深度等为当前快照值
+     * </pre>
+     * @param previous 上一次快照
+     * @return 区间指标
+     */
+    public DevThreadPoolMetrics since(final DevThreadPoolMetrics previous) {
+        if (previous == null) return this;
+        return new DevThreadPoolMetrics(
+                mName, mTime, mCorePoolSize, mMaximumPoolSize, mPoolSize,
+                mActiveCount, mLargestPoolSize, mQueueSize, mMaxQueueSize,
+                mSubmittedCount - previous.mSubmittedCount,
+                mCompletedCount - previous.mCompletedCount,
+                mRejectedCount - previous.mRejectedCount,
+                mFailedCount - previous.mFailedCount,
+                mWaitTime.since(previous.mWaitTime),
+                mRunTime.since(previous.mRunTime)
+        );
+    }
+
+    /**
+     * 获取线程池名
+     * @return 线程池名
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * 获取快照时间
+     * @return 快照时间 ( 毫秒 )
+     */
+    public long getTime() {
+        return mTime;
+    }
+
+    /**
+     * 获取核心线程数
+     * @return 核心线程数
+     */
+    public int getCorePoolSize() {
+        return mCorePoolSize;
+    }
+
+    /**
+     * 获取最大线程数
+     * @return 最大线程数
+     */
+    public int getMaximumPoolSize() {
+        return mMaximumPoolSize;
+    }
+
+    /**
+     * 获取当前线程数
+     * @return 当前线程数
+     */
+    public int getPoolSize() {
+        return mPoolSize;
+    }
+
+    /**
+     * 获取活跃线程数
+     * @return 活跃线程数
+     */
+    public int getActiveCount() {
+        return mActiveCount;
+    }
+
+    /**
+     * 获取历史最大线程数
+     * @return 历史最大线程数
+     */
+    public int getLargestPoolSize() {
+        return mLargestPoolSize;
+    }
+
+    /**
+     * 获取当前队列深度
+     * @return 当前队列深度
+     */
+    public int getQueueSize() {
+        return mQueueSize;
+    }
+
+    /**
+     * 获取历史最大队列深度
+     * @return 历史最大队列深度
+     */
+    public int getMaxQueueSize() {
+        return mMaxQueueSize;
+    }
+
+    /**
+     * 获取提交任务数
+     * @return 提交任务数
+     */
+    public long getSubmittedCount() {
+        return mSubmittedCount;
+    }
+
+    /**
+     * 获取完成任务数
+     * @return 完成任务数
+     */
+    public long getCompletedCount() {
+        return mCompletedCount;
+    }
+
+    /**
+     * 获取拒绝任务数
+     * @return 拒绝任务数
+     */
+    public long getRejectedCount() {
+        return mRejectedCount;
+    }
+
+    /**
+     * 获取执行失败任务数
+     * @return 执行失败任务数
+     */
+    public long getFailedCount() {
+        return mFailedCount;
+    }
+
+    /**
+     * 获取排队等待耗时
+     * @return {@link Latency}
+     */
+    public Latency getWaitTime() {
+        return mWaitTime;
+    }
+
+    /**
+     * 获取执行耗时
+     * @return {@link Latency}
+     */
+    public Latency getRunTime() {
+        return mRunTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ENGLISH,
+                "%s{core=%d, max=%d, pool=%d, active=%d, largest=%d, queue=%d, maxQueue=%d, "
+                        + "submitted=%d, completed=%d, rejected=%d, failed=%d, wait=%s, run=%s}",
+                mName, mCorePoolSize, mMaximumPoolSize, mPoolSize, mActiveCount,
+                mLargestPoolSize, mQueueSize, mMaxQueueSize, mSubmittedCount,
+                mCompletedCount, mRejectedCount, mFailedCount, mWaitTime, mRunTime
+        );
+    }
+
+    // ==========
+    // = 耗时分布 =
+    // ==========
+
+    /**
+     * detail: 耗时分布 ( 微秒 )
+     * @author Ttt
+     */
+    public static final class Latency {
+
+        // 耗时直方图 ( 快照, 不再修改 )
+        private final QuantileHistogram mHistogram;
+        // 总次数
+        private final long              mCount;
+        // 总耗时
+        private final long              mSum;
+
+        Latency(final QuantileHistogram histogram) {
+            this.mHistogram = histogram;
+            this.mCount     = histogram.getCount();
+            this.mSum       = (long) histogram.getSum();
+        }
+
+        /**
+         * 获取区间耗时分布
+         * @param previous 上一次耗时分布
+         * @return 区间耗时分布
+         */
+        Latency since(final Latency previous) {
+            return new Latency(mHistogram.copy().subtract(previous.mHistogram));
+        }
+
+        /**
+         * 获取总次数
+         * @return 总次数
+         */
+        public long getCount() {
+            return mCount;
+        }
+
+        /**
+         * 获取平均耗时
+         * @return 平均耗时 ( 微秒 )
+         */
+        public long getMean() {
+            return mCount == 0L ? 0L : mSum / mCount;
+        }
+
+        /**
+         * 获取百分位耗时
+         * @param percentile 百分位 ( 0-100 )
+         * @return 百分位耗时 ( 微秒, 分桶中间值 )
+         */
+        public long getPercentile(final double percentile) {
+            if (mCount <= 0L) return 0L;
+            double value = mHistogram.getQuantile(Math.max(0D, Math.min(100D, percentile)) / 100D);
+            return Double.isNaN(value) ? 0L : Math.round(value);
+        }
+
+        /**
+         * 获取 P50 耗时
+         * @return P50 耗时 ( 微秒 )
+         */
+        public long getP50() {
+            return getPercentile(50D);
+        }
+
+        /**
+         * 获取 P90 耗时
+         * @return P90 耗时 ( 微秒 )
+         */
+        public long getP90() {
+            return getPercentile(90D);
+        }
+
+        /**
+         * 获取 P99 耗时
+         * @return P99 耗时 ( 微秒 )
+         */
+        public long getP99() {
+            return getPercentile(99D);
+        }
+
+        /**
+         * 获取最大耗时
+         * @return 最大耗时 ( 微秒, 分桶上界 )
+         */
+        public long getMax() {
+            return getPercentile(100D);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    Locale.ENGLISH, "{count=%d, mean=%dus, p50=%dus, p90=%dus, p99=%dus, max=%dus}",
+                    mCount, getMean(), getP50(), getP90(), getP99(), getMax()
+            );
+        }
+    }
+}
\ No newline at end of file
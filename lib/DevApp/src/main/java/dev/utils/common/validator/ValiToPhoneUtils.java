@@ -1,5 +1,7 @@
 package dev.utils.common.validator;
 
+import dev.utils.common.StringUtils;
+
 /**
  * detail: 检验联系 ( 手机号码、座机 ) 工具类
  * @author Ttt
@@ -29,7 +31,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneSimple(final String phone) {
-        return ValidatorUtils.match(CHAIN_PHONE_SIMPLE, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isPhoneSimple(phone);
     }
 
     /**
@@ -38,7 +40,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhone(final String phone) {
-        return ValidatorUtils.match(CHINA_PHONE_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_ALL);
     }
 
     /**
@@ -47,7 +49,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaMobile(final String phone) {
-        return ValidatorUtils.match(CHINA_MOBILE_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_MOBILE);
     }
 
     /**
@@ -56,7 +58,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaUnicom(final String phone) {
-        return ValidatorUtils.match(CHINA_UNICOM_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_UNICOM);
     }
 
     /**
@@ -65,7 +67,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaTelecom(final String phone) {
-        return ValidatorUtils.match(CHINA_TELECOM_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_TELECOM);
     }
 
     /**
@@ -74,7 +76,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaBroadcast(final String phone) {
-        return ValidatorUtils.match(CHINA_BROADCAST_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_BROADCAST);
     }
 
     /**
@@ -83,7 +85,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaVirtual(final String phone) {
-        return ValidatorUtils.match(CHINA_VIRTUAL_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isChinaPhone(phone, ValidatorScanner.PHONE_VIRTUAL);
     }
 
     // =
@@ -94,7 +96,7 @@ public final class ValiToPhoneUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPhoneToChinaHkMobile(final String phone) {
-        return ValidatorUtils.match(CHINA_HK_PHONE_PATTERN, phone);
+        return !StringUtils.isEmpty(phone) && ValidatorScanner.isHkPhone(phone);
     }
 
     /**
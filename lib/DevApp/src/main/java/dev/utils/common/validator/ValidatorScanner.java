@@ -0,0 +1,440 @@
+package dev.utils.common.validator;
+
+/**
+ * detail: 单次遍历校验
+ * @author Ttt
+ * <pre>
+ *     按字符 ( 码点 ) 单次遍历实现常用校验, 与 {@link dev.utils.DevFinal.REGEX}、{@link ValiToPhoneUtils} 正则校验结果一致
+ *     不创建 Pattern、Matcher, 不进行回溯
+ * </pre>
+ */
+final class ValidatorScanner {
+
+    private ValidatorScanner() {
+    }
+
+    // 中国手机号码前三位
+    private static final boolean[] CHINA_PHONE     = prefixes(
+            "130 131 132 133 134 135 136 137 138 139 145 146 147 148 149 150 151 152 153 155 156 157 158 159 "
+                    + "162 165 166 167 170 171 172 173 174 175 176 177 178 180 181 182 183 184 185 186 187 188 189 "
+                    + "190 191 192 193 195 196 198 199"
+    );
+    // 中国移动号码前三位
+    private static final boolean[] CHINA_MOBILE    = prefixes(
+            "134 135 136 137 138 139 147 148 150 151 152 157 158 159 172 178 182 183 184 187 188 195 198"
+    );
+    // 中国联通号码前三位
+    private static final boolean[] CHINA_UNICOM    = prefixes(
+            "130 131 132 145 146 155 156 166 167 171 175 176 185 186 196"
+    );
+    // 中国电信号码前三位
+    private static final boolean[] CHINA_TELECOM   = prefixes(
+            "133 149 153 173 174 177 180 181 189 190 191 193 199"
+    );
+    // 中国广电号码前三位
+    private static final boolean[] CHINA_BROADCAST = prefixes("192");
+    // 中国虚拟运营商号码前三位
+    private static final boolean[] CHINA_VIRTUAL   = prefixes("162 165 167 170 171");
+
+    // 手机号码运营商类型
+    static final int PHONE_ALL       = 0;
+    static final int PHONE_MOBILE    = 1;
+    static final int PHONE_UNICOM    = 2;
+    static final int PHONE_TELECOM   = 3;
+    static final int PHONE_BROADCAST = 4;
+    static final int PHONE_VIRTUAL   = 5;
+
+    // ==========
+    // = 字符类型 =
+    // ==========
+
+    static boolean isDigit(final int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    static boolean isLetter(final int ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    static boolean isLetterOrDigit(final int ch) {
+        return isLetter(ch) || isDigit(ch);
+    }
+
+    static boolean isWord(final int ch) {
+        return isLetterOrDigit(ch) || ch == '_';
+    }
+
+    static boolean isChinese(final int ch) {
+        return ch >= 0x4E00 && ch <= 0x9FA5;
+    }
+
+    static boolean isChineseAll(final int ch) {
+        return ch >= 0x0391 && ch <= 0xFFE5;
+    }
+
+    // ===========
+    // = 字符串校验 =
+    // ===========
+
+    /**
+     * 是否全部为数字 ( ^[0-9]*$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isNumber(final String str) {
+        for (int i = 0, len = str.length(); i < len; i++) {
+            if (!isDigit(str.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 是否数字或包含小数点 ( ^[0-9]*[.]?[0-9]*$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isNumberDecimal(final String str) {
+        boolean point = false;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch == '.') {
+                if (point) return false;
+                point = true;
+            } else if (!isDigit(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否全部为字母 ( ^[A-Za-z]+$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isLetter(final String str) {
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            if (!isLetter(str.charAt(i))) return false;
+        }
+        return len != 0;
+    }
+
+    /**
+     * 是否只含字母和数字 ( ^[A-Za-z0-9]+$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isNumberLetter(final String str) {
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            if (!isLetterOrDigit(str.charAt(i))) return false;
+        }
+        return len != 0;
+    }
+
+    /**
+     * 是否包含数字 ( .*\d+.* , . 不匹配换行符 )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isContainNumber(final String str) {
+        boolean digit = false;
+        for (int i = 0, len = str.length(); i < len; i++) {
+            char ch = str.charAt(i);
+            if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029') {
+                return false;
+            }
+            if (isDigit(ch)) digit = true;
+        }
+        return digit;
+    }
+
+    /**
+     * 是否只含汉字、字母、数字 ( 可选下划线 )
+     * @param str        待校验的字符串
+     * @param underscore 是否允许下划线
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isChineseLetterDigit(
+            final String str,
+            final boolean underscore
+    ) {
+        int len = str.length();
+        for (int i = 0; i < len; i++) {
+            char ch = str.charAt(i);
+            if (!(isLetterOrDigit(ch) || isChinese(ch) || (underscore && ch == '_'))) {
+                return false;
+            }
+        }
+        return len != 0;
+    }
+
+    /**
+     * 是否微信号 ( ^[a-zA-Z]{1}[-_a-zA-Z0-9]{5,19}+$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isWx(final String str) {
+        int len = str.length();
+        if (len < 6 || len > 20 || !isLetter(str.charAt(0))) return false;
+        for (int i = 1; i < len; i++) {
+            char ch = str.charAt(i);
+            if (!(isLetterOrDigit(ch) || ch == '-' || ch == '_')) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 是否真实姓名 ( 汉字开头, 分隔符 • 或 · 不可混用 )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isRealName(final String str) {
+        int len = str.length();
+        if (len == 0 || !isChinese(str.charAt(0))) return false;
+        char separator = 0;
+        for (int i = 1; i < len; i++) {
+            char ch = str.charAt(i);
+            if (isChinese(ch)) continue;
+            if (ch != '•' && ch != '·') return false;
+            if (separator == 0) {
+                separator = ch;
+            } else if (separator != ch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否用户名 ( ^[a-zA-Z]\w{5,17}$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isUserName(final String str) {
+        int len = str.length();
+        if (len < 6 || len > 18 || !isLetter(str.charAt(0))) return false;
+        for (int i = 1; i < len; i++) {
+            if (!isWord(str.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 是否密码 ( ^[a-zA-Z0-9]{6,18}$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isPassword(final String str) {
+        int len = str.length();
+        return len >= 6 && len <= 18 && isNumberLetter(str);
+    }
+
+    /**
+     * 是否邮箱
+     * <pre>
+     *     用户名: 字母数字开头结尾, 中间可含 - | . 但不可连续, 至少 2 位
+     *     域名: 每段字母数字, 最多含一个不在首尾的 -, 顶级域名为至少 2 位字母
+     * </pre>
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isEmail(final String str) {
+        int len = str.length();
+        int at  = str.indexOf('@');
+        if (at < 2) return false;
+        // 用户名
+        boolean separator = true;
+        for (int i = 0; i < at; i++) {
+            char ch = str.charAt(i);
+            if (isLetterOrDigit(ch)) {
+                separator = false;
+            } else if (ch == '-' || ch == '|' || ch == '.') {
+                if (separator) return false;
+                separator = true;
+            } else {
+                return false;
+            }
+        }
+        if (separator) return false;
+        // 域名
+        int lastDot = str.lastIndexOf('.');
+        if (lastDot <= at + 1 || len - lastDot - 1 < 2) return false;
+        for (int i = lastDot + 1; i < len; i++) {
+            if (!isLetter(str.charAt(i))) return false;
+        }
+        int     labelStart = at + 1;
+        boolean hyphen     = false;
+        for (int i = labelStart; i <= lastDot; i++) {
+            char ch = str.charAt(i);
+            if (ch == '.') {
+                if (i == labelStart || str.charAt(i - 1) == '-') return false;
+                labelStart = i + 1;
+                hyphen     = false;
+            } else if (ch == '-') {
+                if (hyphen || i == labelStart) return false;
+                hyphen = true;
+            } else if (!isLetterOrDigit(ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否 IP 地址 ( 四段 0-255, 三位数不可 0 开头 )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isIPAddress(final String str) {
+        int len   = str.length();
+        int parts = 0;
+        int index = 0;
+        while (index <= len) {
+            int start = index;
+            int value = 0;
+            while (index < len && isDigit(str.charAt(index))) {
+                value = value * 10 + (str.charAt(index) - '0');
+                index++;
+                if (index - start > 3) return false;
+            }
+            int digits = index - start;
+            if (digits == 0) return false;
+            if (digits == 3 && (str.charAt(start) == '0' || value > 255)) return false;
+            parts++;
+            if (index == len) break;
+            if (str.charAt(index) != '.' || parts == 4) return false;
+            index++;
+        }
+        return parts == 4;
+    }
+
+    /**
+     * 是否全部为汉字 ( 按码点判断 )
+     * @param str 待校验的字符串
+     * @param all 是否包含双角符号 ( [Α-￥] )
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isChinese(
+            final String str,
+            final boolean all
+    ) {
+        int len = str.length();
+        int i   = 0;
+        while (i < len) {
+            int codePoint = str.codePointAt(i);
+            if (!(all ? isChineseAll(codePoint) : isChinese(codePoint))) return false;
+            i += Character.charCount(codePoint);
+        }
+        return len != 0;
+    }
+
+    /**
+     * 是否包含汉字、中文字符标点等 ( 按字符判断 )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isContainChinese(final String str) {
+        for (int i = 0, len = str.length(); i < len; i++) {
+            if (isChineseAll(str.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // ==========
+    // = 号码校验 =
+    // ==========
+
+    /**
+     * 是否简单手机号码 ( ^(?:\+86)?1\d{10}$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isPhoneSimple(final String str) {
+        int start = str.startsWith("+86") ? 3 : 0;
+        if (str.length() - start != 11 || str.charAt(start) != '1') return false;
+        for (int i = start + 1, len = str.length(); i < len; i++) {
+            if (!isDigit(str.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 是否中国手机号码 ( 11 位数字, 前三位属于对应运营商号段 )
+     * @param str  待校验的字符串
+     * @param type 运营商类型
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isChinaPhone(
+            final String str,
+            final int type
+    ) {
+        if (str.length() != 11 || str.charAt(0) != '1' || !isNumber(str)) return false;
+        int prefix = (str.charAt(1) - '0') * 10 + (str.charAt(2) - '0');
+        switch (type) {
+            case PHONE_MOBILE:
+                return CHINA_MOBILE[prefix];
+            case PHONE_UNICOM:
+                return CHINA_UNICOM[prefix];
+            case PHONE_TELECOM:
+                return CHINA_TELECOM[prefix];
+            case PHONE_BROADCAST:
+                return CHINA_BROADCAST[prefix];
+            case PHONE_VIRTUAL:
+                return CHINA_VIRTUAL[prefix];
+            default:
+                return CHINA_PHONE[prefix];
+        }
+    }
+
+    /**
+     * 是否中国香港手机号码 ( ^(5|6|8|9)\d{7}$ )
+     * @param str 待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isHkPhone(final String str) {
+        if (str.length() != 8) return false;
+        char first = str.charAt(0);
+        return (first == '5' || first == '6' || first == '8' || first == '9') && isNumber(str);
+    }
+
+    /**
+     * 18 位身份证号码校验 ( 前 17 位数字加权求和与校验位单次遍历比较 )
+     * @param str     待校验的字符串
+     * @param weights 加权因子
+     * @return {@code true} yes, {@code false} no
+     */
+    static boolean isIdCard18(
+            final String str,
+            final int[] weights
+    ) {
+        if (str.length() != 18) return false;
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            char ch = str.charAt(i);
+            if (!isDigit(ch)) return false;
+            sum += (ch - '0') * weights[i];
+        }
+        char check = "10x98765432".charAt(sum % 11);
+        char last  = str.charAt(17);
+        return last == check || (check == 'x' && last == 'X');
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 号段转换为前两位 ( 去除首位 1 ) 查找表
+     * @param prefixes 号段 ( 空格分隔 )
+     * @return 查找表
+     */
+    private static boolean[] prefixes(final String prefixes) {
+        boolean[] table = new boolean[100];
+        for (String prefix : prefixes.split(" ")) {
+            table[Integer.parseInt(prefix.substring(1))] = true;
+        }
+        return table;
+    }
+}
\ No newline at end of file
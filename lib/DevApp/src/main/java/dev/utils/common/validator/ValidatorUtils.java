@@ -1,5 +1,11 @@
 package dev.utils.common.validator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import dev.utils.DevFinal;
@@ -9,6 +15,11 @@ import dev.utils.common.StringUtils;
 /**
  * detail: 校验工具类
  * @author Ttt
+ * <pre>
+ *     正则表达式首次使用时编译并缓存 ( LRU, 最多 64 个 ), Matcher 按线程复用 ( LRU, 每个线程最多 16 个 )
+ *     常用校验 ( 数字、字母、汉字、邮箱等 ) 使用单次遍历实现, 不经过正则
+ *     批量校验 {@link #validate(Collection, Validator)}、{@link #match(String, Collection)}
+ * </pre>
  */
 public final class ValidatorUtils {
 
@@ -18,6 +29,75 @@ public final class ValidatorUtils {
     // 日志 TAG
     private static final String TAG = ValidatorUtils.class.getSimpleName();
 
+    // 已编译正则表达式缓存数量
+    private static final int PATTERN_CACHE_SIZE = 64;
+    // 每个线程复用 Matcher 数量
+    private static final int MATCHER_CACHE_SIZE = 16;
+
+    // 已编译正则表达式 ( 正则表达式可由调用方传入, 需限制数量 )
+    private static final Map<String, Pattern> PATTERN_CACHE = new LinkedHashMap<String, Pattern>(
+            PATTERN_CACHE_SIZE, 0.75F, true
+    ) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
+
+    // 线程复用 Matcher
+    private static final ThreadLocal<Map<Pattern, Matcher>> MATCHER_THREAD_LOCAL
+            = new ThreadLocal<Map<Pattern, Matcher>>() {
+        @Override
+        protected Map<Pattern, Matcher> initialValue() {
+            return new LinkedHashMap<Pattern, Matcher>(MATCHER_CACHE_SIZE, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Pattern, Matcher> eldest) {
+                    return size() > MATCHER_CACHE_SIZE;
+                }
+            };
+        }
+    };
+
+    /**
+     * detail: 校验接口
+     * @author Ttt
+     */
+    public interface Validator {
+
+        /**
+         * 校验字符串
+         * @param str 待校验的字符串
+         * @return {@code true} yes, {@code false} no
+         */
+        boolean validate(String str);
+    }
+
+    /**
+     * 获取已编译正则表达式
+     * @param regex 正则表达式
+     * @return {@link Pattern}
+     */
+    public static Pattern getPattern(final String regex) {
+        if (regex == null) return null;
+        Pattern pattern;
+        synchronized (PATTERN_CACHE) {
+            pattern = PATTERN_CACHE.get(regex);
+        }
+        if (pattern == null) {
+            // 编译不持有锁
+            try {
+                pattern = Pattern.compile(regex);
+            } catch (Exception e) {
+                JCLogUtils.eTag(TAG, e, "getPattern");
+                return null;
+            }
+            synchronized (PATTERN_CACHE) {
+                PATTERN_CACHE.put(regex, pattern);
+            }
+        }
+        return pattern;
+    }
+
     /**
      * 通用匹配函数
      * @param regex 正则表达式
@@ -29,15 +109,129 @@ public final class ValidatorUtils {
             final String input
     ) {
         if (!StringUtils.isEmpty(input)) {
+            return match(getPattern(regex), input);
+        }
+        return false;
+    }
+
+    /**
+     * 通用匹配函数
+     * @param pattern {@link Pattern}
+     * @param input   待校验的字符串
+     * @return {@code true} yes, {@code false} no
+     */
+    public static boolean match(
+            final Pattern pattern,
+            final String input
+    ) {
+        if (pattern != null && !StringUtils.isEmpty(input)) {
+            Map<Pattern, Matcher> matchers = MATCHER_THREAD_LOCAL.get();
+            Matcher               matcher  = matchers.remove(pattern);
             try {
-                return Pattern.matches(regex, input);
+                if (matcher == null) {
+                    matcher = pattern.matcher(input);
+                } else {
+                    matcher.reset(input);
+                }
+                return matcher.matches();
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "match");
+            } finally {
+                if (matcher != null) {
+                    // 不持有待校验字符串
+                    matcher.reset("");
+                    matchers.put(pattern, matcher);
+                }
             }
         }
         return false;
     }
 
+    // ==========
+    // = 批量校验 =
+    // ==========
+
+    /**
+     * 批量校验
+     * @param inputs    待校验的字符串集合
+     * @param validator 校验接口 ( 如 ValidatorUtils::isEmail )
+     * @return 校验结果数组 ( 与集合顺序一致 )
+     */
+    public static boolean[] validate(
+            final Collection<String> inputs,
+            final Validator validator
+    ) {
+        if (inputs == null || validator == null) return new boolean[0];
+        boolean[] results = new boolean[inputs.size()];
+        int       index   = 0;
+        for (String input : inputs) {
+            results[index++] = input != null && validator.validate(input);
+        }
+        return results;
+    }
+
+    /**
+     * 批量校验指定列
+     * @param rows      待校验的行数据集合
+     * @param column    列索引
+     * @param validator 校验接口
+     * @return 校验结果数组 ( 与行顺序一致, 列不存在为 false )
+     */
+    public static boolean[] validateColumn(
+            final List<String[]> rows,
+            final int column,
+            final Validator validator
+    ) {
+        if (rows == null || validator == null || column < 0) return new boolean[0];
+        boolean[] results = new boolean[rows.size()];
+        int       index   = 0;
+        for (String[] row : rows) {
+            String input = (row != null && column < row.length) ? row[column] : null;
+            results[index++] = input != null && validator.validate(input);
+        }
+        return results;
+    }
+
+    /**
+     * 批量校验并获取校验失败索引
+     * @param inputs    待校验的字符串集合
+     * @param validator 校验接口
+     * @return 校验失败索引集合
+     */
+    public static List<Integer> getInvalidIndexes(
+            final Collection<String> inputs,
+            final Validator validator
+    ) {
+        List<Integer> indexes = new ArrayList<>();
+        boolean[]     results = validate(inputs, validator);
+        for (int i = 0; i < results.length; i++) {
+            if (!results[i]) indexes.add(i);
+        }
+        return indexes;
+    }
+
+    /**
+     * 批量正则匹配 ( 整批复用同一个 Matcher )
+     * @param regex  正则表达式
+     * @param inputs 待校验的字符串集合
+     * @return 匹配结果数组 ( 与集合顺序一致 )
+     */
+    public static boolean[] match(
+            final String regex,
+            final Collection<String> inputs
+    ) {
+        if (inputs == null) return new boolean[0];
+        boolean[] results = new boolean[inputs.size()];
+        Pattern   pattern = getPattern(regex);
+        if (pattern == null) return results;
+        Matcher matcher = pattern.matcher("");
+        int     index   = 0;
+        for (String input : inputs) {
+            results[index++] = !StringUtils.isEmpty(input) && matcher.reset(input).matches();
+        }
+        return results;
+    }
+
     // =
 
     /**
@@ -46,7 +240,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isNumber(final String str) {
-        return match(DevFinal.REGEX.NUMBER, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isNumber(str);
     }
 
     /**
@@ -55,7 +249,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isNumberDecimal(final String str) {
-        return match(DevFinal.REGEX.NUMBER_OR_DECIMAL, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isNumberDecimal(str);
     }
 
     /**
@@ -64,7 +258,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isLetter(final String str) {
-        return match(DevFinal.REGEX.LETTER, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isLetter(str);
     }
 
     /**
@@ -73,7 +267,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isContainNumber(final String str) {
-        return match(DevFinal.REGEX.CONTAIN_NUMBER, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isContainNumber(str);
     }
 
     /**
@@ -82,7 +276,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isNumberLetter(final String str) {
-        return match(DevFinal.REGEX.NUMBER_OR_LETTER, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isNumberLetter(str);
     }
 
     /**
@@ -91,7 +285,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isSpec(final String str) {
-        return match(DevFinal.REGEX.SPECIAL, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isChineseLetterDigit(str, false);
     }
 
     /**
@@ -100,7 +294,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isWx(final String str) {
-        return match(DevFinal.REGEX.WX, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isWx(str);
     }
 
     /**
@@ -109,7 +303,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isRealName(final String str) {
-        return match(DevFinal.REGEX.REALNAME, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isRealName(str);
     }
 
     /**
@@ -118,7 +312,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isNickName(final String str) {
-        return match(DevFinal.REGEX.NICKNAME, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isChineseLetterDigit(str, true);
     }
 
     /**
@@ -127,7 +321,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isUserName(final String str) {
-        return match(DevFinal.REGEX.USERNAME, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isUserName(str);
     }
 
     /**
@@ -136,7 +330,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isPassword(final String str) {
-        return match(DevFinal.REGEX.PASSWORD, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isPassword(str);
     }
 
     /**
@@ -145,7 +339,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isEmail(final String str) {
-        return match(DevFinal.REGEX.EMAIL, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isEmail(str);
     }
 
     /**
@@ -166,7 +360,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isIPAddress(final String str) {
-        return match(DevFinal.REGEX.IP_ADDRESS, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isIPAddress(str);
     }
 
     /**
@@ -175,7 +369,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isChinese(final String str) {
-        return match(DevFinal.REGEX.CHINESE, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isChinese(str, false);
     }
 
     /**
@@ -184,7 +378,7 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isChineseAll(final String str) {
-        return match(DevFinal.REGEX.CHINESE_ALL, str);
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isChinese(str, true);
     }
 
     /**
@@ -193,22 +387,6 @@ public final class ValidatorUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean isContainChinese(final String str) {
-        if (!StringUtils.isEmpty(str)) {
-            try {
-                int length = str.length();
-                if (length != 0) {
-                    char[] dChar = str.toCharArray();
-                    for (int i = 0; i < length; i++) {
-                        boolean flag = String.valueOf(dChar[i]).matches(DevFinal.REGEX.CHINESE_ALL2);
-                        if (flag) {
-                            return true;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                JCLogUtils.eTag(TAG, e, "isContainChinese");
-            }
-        }
-        return false;
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isContainChinese(str);
     }
 }
\ No newline at end of file
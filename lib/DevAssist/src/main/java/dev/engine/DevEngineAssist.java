@@ -1,5 +1,6 @@
 package dev.engine;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -8,11 +9,14 @@ import dev.utils.DevFinal;
 /**
  * detail: DevEngine Generic Assist
  * @author Ttt
+ * <pre>
+ *     写时复制: 设置、移除 Engine 时加锁复制并替换 Map, 获取 Engine 直接读取当前 Map 无需加锁
+ * </pre>
  */
 public class DevEngineAssist<Engine> {
 
-    // Engine Map
-    private final Map<String, Engine> mEngineMaps = new LinkedHashMap<>();
+    // Engine Map ( 只读快照 )
+    private volatile Map<String, Engine> mEngineMaps = Collections.emptyMap();
 
     /**
      * 获取 Engine
@@ -50,7 +54,11 @@ public class DevEngineAssist<Engine> {
             final String key,
             final Engine engine
     ) {
-        mEngineMaps.put(key, engine);
+        synchronized (this) {
+            Map<String, Engine> maps = new LinkedHashMap<>(mEngineMaps);
+            maps.put(key, engine);
+            mEngineMaps = Collections.unmodifiableMap(maps);
+        }
         return engine;
     }
 
@@ -66,7 +74,12 @@ public class DevEngineAssist<Engine> {
      * @param key key
      */
     public void removeEngine(final String key) {
-        mEngineMaps.remove(key);
+        synchronized (this) {
+            if (!mEngineMaps.containsKey(key)) return;
+            Map<String, Engine> maps = new LinkedHashMap<>(mEngineMaps);
+            maps.remove(key);
+            mEngineMaps = Collections.unmodifiableMap(maps);
+        }
     }
 
     // ==========
@@ -74,7 +87,7 @@ public class DevEngineAssist<Engine> {
     // ==========
 
     /**
-     * 获取 Engine Map
+     * 获取 Engine Map ( 只读快照 )
      * @return Engine Map
      */
     public Map<String, Engine> getEngineMaps() {
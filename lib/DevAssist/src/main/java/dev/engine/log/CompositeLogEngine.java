@@ -0,0 +1,546 @@
+package dev.engine.log;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * detail: 组合 Log Engine
+ * @author Ttt
+ * <pre>
+ *     同一条日志分发到多个输出端 ( 如 Logcat、文件记录、崩溃上报 )
+ *     每个输出端可单独配置日志级别、采样率、限流、异步输出 {@link LogSink}
+ *     输出端列表写时复制, 分发日志时直接读取当前数组无需加锁
+ *     全部输出端过滤不通过时不创建日志事件
+ *     使用: DevLogEngine.setEngine(new CompositeLogEngine().addSink(sink))
+ * </pre>
+ */
+public class CompositeLogEngine
+        implements ILogEngine {
+
+    // 输出端数组 ( 只读快照 )
+    private volatile LogSink[] mSinks = new LogSink[0];
+
+    // ============
+    // = 输出端管理 =
+    // ============
+
+    /**
+     * 添加输出端
+     * @param sink {@link LogSink}
+     * @return {@link CompositeLogEngine}
+     */
+    public CompositeLogEngine addSink(final LogSink sink) {
+        if (sink == null) return this;
+        synchronized (this) {
+            LogSink[] sinks = Arrays.copyOf(mSinks, mSinks.length + 1);
+            sinks[sinks.length - 1] = sink;
+            mSinks = sinks;
+        }
+        return this;
+    }
+
+    /**
+     * 添加输出端
+     * @param engine {@link ILogEngine}
+     * @return {@link LogSink} 用于配置过滤条件
+     */
+    public LogSink addSink(final ILogEngine engine) {
+        LogSink sink = new LogSink(engine);
+        addSink(sink);
+        return sink;
+    }
+
+    /**
+     * 移除输出端
+     * @param sink {@link LogSink}
+     * @return {@code true} success, {@code false} fail
+     */
+    public boolean removeSink(final LogSink sink) {
+        synchronized (this) {
+            List<LogSink> lists = new ArrayList<>(Arrays.asList(mSinks));
+            if (!lists.remove(sink)) return false;
+            mSinks = lists.toArray(new LogSink[0]);
+        }
+        return true;
+    }
+
+    /**
+     * 移除全部输出端
+     */
+    public void clearSinks() {
+        synchronized (this) {
+            mSinks = new LogSink[0];
+        }
+    }
+
+    /**
+     * 获取全部输出端
+     * @return 输出端集合
+     */
+    public List<LogSink> getSinks() {
+        return Collections.unmodifiableList(Arrays.asList(mSinks));
+    }
+
+    // ==================
+    // = ILogEngine 实现 =
+    // ==================
+
+    /**
+     * 判断是否打印日志 ( 任意输出端打印则为 true )
+     * @return {@code true} yes, {@code false} no
+     */
+    @Override
+    public boolean isPrintLog() {
+        for (LogSink sink : mSinks) {
+            if (sink.getEngine().isPrintLog()) return true;
+        }
+        return false;
+    }
+
+    // =============================
+    // = 使用默认 TAG ( 日志打印方法 ) =
+    // =============================
+
+    /**
+     * 打印 Log.DEBUG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void d(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.DEBUG, LogEvent.D, false, null, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void e(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ERROR, LogEvent.E, false, null, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param throwable 异常
+     */
+    @Override
+    public void e(final Throwable throwable) {
+        dispatch(Log.ERROR, LogEvent.E_THROWABLE, false, null, throwable, null, null);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param throwable 异常
+     * @param message   日志信息
+     * @param args      格式化参数
+     */
+    @Override
+    public void e(
+            final Throwable throwable,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ERROR, LogEvent.E_THROWABLE_MESSAGE, false, null, throwable, message, args);
+    }
+
+    /**
+     * 打印 Log.WARN
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void w(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.WARN, LogEvent.W, false, null, null, message, args);
+    }
+
+    /**
+     * 打印 Log.INFO
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void i(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.INFO, LogEvent.I, false, null, null, message, args);
+    }
+
+    /**
+     * 打印 Log.VERBOSE
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void v(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.VERBOSE, LogEvent.V, false, null, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ASSERT
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void wtf(
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ASSERT, LogEvent.WTF, false, null, null, message, args);
+    }
+
+    /**
+     * 格式化 JSON 格式数据, 并打印
+     * @param json JSON 格式字符串
+     */
+    @Override
+    public void json(final String json) {
+        dispatch(Log.DEBUG, LogEvent.JSON, false, null, null, json, null);
+    }
+
+    /**
+     * 格式化 XML 格式数据, 并打印
+     * @param xml XML 格式字符串
+     */
+    @Override
+    public void xml(final String xml) {
+        dispatch(Log.DEBUG, LogEvent.XML, false, null, null, xml, null);
+    }
+
+    // ==============================
+    // = 使用自定义 TAG ( 日志打印方法 ) =
+    // ==============================
+
+    /**
+     * 打印 Log.DEBUG
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void dTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.DEBUG, LogEvent.D, true, tag, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void eTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ERROR, LogEvent.E, true, tag, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param tag       日志 TAG
+     * @param throwable 异常
+     */
+    @Override
+    public void eTag(
+            final String tag,
+            final Throwable throwable
+    ) {
+        dispatch(Log.ERROR, LogEvent.E_THROWABLE, true, tag, throwable, null, null);
+    }
+
+    /**
+     * 打印 Log.ERROR
+     * @param tag       日志 TAG
+     * @param throwable 异常
+     * @param message   日志信息
+     * @param args      格式化参数
+     */
+    @Override
+    public void eTag(
+            final String tag,
+            final Throwable throwable,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ERROR, LogEvent.E_THROWABLE_MESSAGE, true, tag, throwable, message, args);
+    }
+
+    /**
+     * 打印 Log.WARN
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void wTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.WARN, LogEvent.W, true, tag, null, message, args);
+    }
+
+    /**
+     * 打印 Log.INFO
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void iTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.INFO, LogEvent.I, true, tag, null, message, args);
+    }
+
+    /**
+     * 打印 Log.VERBOSE
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void vTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.VERBOSE, LogEvent.V, true, tag, null, message, args);
+    }
+
+    /**
+     * 打印 Log.ASSERT
+     * @param tag     日志 TAG
+     * @param message 日志信息
+     * @param args    格式化参数
+     */
+    @Override
+    public void wtfTag(
+            final String tag,
+            final String message,
+            final Object... args
+    ) {
+        dispatch(Log.ASSERT, LogEvent.WTF, true, tag, null, message, args);
+    }
+
+    /**
+     * 格式化 JSON 格式数据, 并打印
+     * @param tag  日志 TAG
+     * @param json JSON 格式字符串
+     */
+    @Override
+    public void jsonTag(
+            final String tag,
+            final String json
+    ) {
+        dispatch(Log.DEBUG, LogEvent.JSON, true, tag, null, json, null);
+    }
+
+    /**
+     * 格式化 XML 格式数据, 并打印
+     * @param tag 日志 TAG
+     * @param xml XML 格式字符串
+     */
+    @Override
+    public void xmlTag(
+            final String tag,
+            final String xml
+    ) {
+        dispatch(Log.DEBUG, LogEvent.XML, true, tag, null, xml, null);
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 分发日志 ( 只在存在通过过滤的输出端时创建日志事件 )
+     * @param level     日志级别
+     * @param kind      日志方法
+     * @param tagged    是否使用自定义 TAG
+     * @param tag       日志 TAG
+     * @param throwable 异常
+     * @param message   日志信息
+     * @param args      格式化参数
+     */
+    private void dispatch(
+            final int level,
+            final int kind,
+            final boolean tagged,
+            final String tag,
+            final Throwable throwable,
+            final String message,
+            final Object[] args
+    ) {
+        LogEvent event = null;
+        for (LogSink sink : mSinks) {
+            if (!sink.accept(level)) continue;
+            if (event == null) {
+                event = new LogEvent(kind, tagged, tag, throwable, message, args);
+            }
+            try {
+                sink.dispatch(event);
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    /**
+     * detail: 日志事件 ( 创建后只读, 可在多个输出端、线程间共享 )
+     * @author Ttt
+     */
+    static final class LogEvent {
+
+        static final int D                   = 0;
+        static final int E                   = 1;
+        static final int E_THROWABLE         = 2;
+        static final int E_THROWABLE_MESSAGE = 3;
+        static final int W                   = 4;
+        static final int I                   = 5;
+        static final int V                   = 6;
+        static final int WTF                 = 7;
+        static final int JSON                = 8;
+        static final int XML                 = 9;
+
+        // 日志方法
+        private final int       kind;
+        // 是否使用自定义 TAG
+        private final boolean   tagged;
+        // 日志 TAG
+        private final String    tag;
+        // 异常
+        private final Throwable throwable;
+        // 日志信息 ( JSON、XML 格式字符串 )
+        private final String    message;
+        // 格式化参数
+        private final Object[]  args;
+
+        LogEvent(
+                final int kind,
+                final boolean tagged,
+                final String tag,
+                final Throwable throwable,
+                final String message,
+                final Object[] args
+        ) {
+            this.kind      = kind;
+            this.tagged    = tagged;
+            this.tag       = tag;
+            this.throwable = throwable;
+            this.message   = message;
+            this.args      = args;
+        }
+
+        /**
+         * 输出到指定 Log Engine
+         * @param engine {@link ILogEngine}
+         */
+        void dispatch(final ILogEngine engine) {
+            if (tagged) {
+                dispatchTag(engine);
+                return;
+            }
+            switch (kind) {
+                case D:
+                    engine.d(message, args);
+                    break;
+                case E:
+                    engine.e(message, args);
+                    break;
+                case E_THROWABLE:
+                    engine.e(throwable);
+                    break;
+                case E_THROWABLE_MESSAGE:
+                    engine.e(throwable, message, args);
+                    break;
+                case W:
+                    engine.w(message, args);
+                    break;
+                case I:
+                    engine.i(message, args);
+                    break;
+                case V:
+                    engine.v(message, args);
+                    break;
+                case WTF:
+                    engine.wtf(message, args);
+                    break;
+                case JSON:
+                    engine.json(message);
+                    break;
+                case XML:
+                    engine.xml(message);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * 输出到指定 Log Engine ( 自定义 TAG )
+         * @param engine {@link ILogEngine}
+         */
+        private void dispatchTag(final ILogEngine engine) {
+            switch (kind) {
+                case D:
+                    engine.dTag(tag, message, args);
+                    break;
+                case E:
+                    engine.eTag(tag, message, args);
+                    break;
+                case E_THROWABLE:
+                    engine.eTag(tag, throwable);
+                    break;
+                case E_THROWABLE_MESSAGE:
+                    engine.eTag(tag, throwable, message, args);
+                    break;
+                case W:
+                    engine.wTag(tag, message, args);
+                    break;
+                case I:
+                    engine.iTag(tag, message, args);
+                    break;
+                case V:
+                    engine.vTag(tag, message, args);
+                    break;
+                case WTF:
+                    engine.wtfTag(tag, message, args);
+                    break;
+                case JSON:
+                    engine.jsonTag(tag, message);
+                    break;
+                case XML:
+                    engine.xmlTag(tag, message);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
\ No newline at end of file
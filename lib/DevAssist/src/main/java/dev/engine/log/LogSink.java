@@ -0,0 +1,227 @@
+package dev.engine.log;
+
+import android.util.Log;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * detail: Log Engine 输出端
+ * @author Ttt
+ * <pre>
+ *     包装 {@link ILogEngine} 并配置过滤条件, 供 {@link CompositeLogEngine} 分发使用
+ *     过滤顺序: 日志级别 -> {@link ILogEngine#isPrintLog()} -> 采样 -> 限流, 未通过则不创建日志事件
+ *     异步输出端使用单线程有界队列, 队列满时丢弃并计数, 不阻塞调用线程
+ *     异步输出时格式化参数在输出线程处理, 请勿传入会被修改的参数
+ * </pre>
+ */
+public final class LogSink {
+
+    // Log Engine
+    private final    ILogEngine         mEngine;
+    // 最低日志级别 ( Log.VERBOSE - Log.ASSERT )
+    private volatile int                mMinLevel     = Log.VERBOSE;
+    // 采样率 ( 0 - 1, 1 为全部输出 )
+    private volatile float              mSampleRate   = 1F;
+    // 每秒最大输出数量 ( 小于等于 0 则不限制 )
+    private volatile int                mMaxPerSecond = 0;
+    // 异步输出线程池 ( null 则同步输出 )
+    private volatile ThreadPoolExecutor mExecutor;
+    // 限流状态 ( 高 32 位时间窗口 ( 秒 ), 低 32 位窗口内输出数量 )
+    private final    AtomicLong         mWindow       = new AtomicLong();
+    // 丢弃日志数量 ( 限流、异步队列已满 )
+    private final    AtomicLong         mDropped      = new AtomicLong();
+
+    /**
+     * 构造函数
+     * @param engine {@link ILogEngine}
+     */
+    public LogSink(final ILogEngine engine) {
+        if (engine == null) throw new NullPointerException("engine is null");
+        this.mEngine = engine;
+    }
+
+    // ==========
+    // = 配置方法 =
+    // ==========
+
+    /**
+     * 获取 Log Engine
+     * @return {@link ILogEngine}
+     */
+    public ILogEngine getEngine() {
+        return mEngine;
+    }
+
+    /**
+     * 获取最低日志级别
+     * @return 最低日志级别
+     */
+    public int getMinLevel() {
+        return mMinLevel;
+    }
+
+    /**
+     * 设置最低日志级别
+     * @param minLevel 最低日志级别 ( 如 Log.ERROR 则只输出 e、wtf )
+     * @return {@link LogSink}
+     */
+    public LogSink minLevel(final int minLevel) {
+        this.mMinLevel = minLevel;
+        return this;
+    }
+
+    /**
+     * 获取采样率
+     * @return 采样率
+     */
+    public float getSampleRate() {
+        return mSampleRate;
+    }
+
+    /**
+     * 设置采样率
+     * @param sampleRate 采样率 ( 0 - 1, 如 0.1 则随机输出 10% 日志 )
+     * @return {@link LogSink}
+     */
+    public LogSink sampleRate(final float sampleRate) {
+        this.mSampleRate = Math.max(0F, Math.min(1F, sampleRate));
+        return this;
+    }
+
+    /**
+     * 获取每秒最大输出数量
+     * @return 每秒最大输出数量
+     */
+    public int getMaxPerSecond() {
+        return mMaxPerSecond;
+    }
+
+    /**
+     * 设置每秒最大输出数量
+     * @param maxPerSecond 每秒最大输出数量 ( 小于等于 0 则不限制 )
+     * @return {@link LogSink}
+     */
+    public LogSink maxPerSecond(final int maxPerSecond) {
+        this.mMaxPerSecond = maxPerSecond;
+        return this;
+    }
+
+    /**
+     * 是否异步输出
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean isAsync() {
+        return mExecutor != null;
+    }
+
+    /**
+     * 设置异步输出 ( 适用于文件、网络等耗时输出端 )
+     * @param queueSize 队列容量 ( 小于等于 0 则同步输出 )
+     * @return {@link LogSink}
+     */
+    public LogSink async(final int queueSize) {
+        ThreadPoolExecutor executor = null;
+        if (queueSize > 0) {
+            executor = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "DevLogEngine-Sink");
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, pool) -> mDropped.incrementAndGet()
+            );
+        }
+        ThreadPoolExecutor old = mExecutor;
+        mExecutor = executor;
+        if (old != null) old.shutdown();
+        return this;
+    }
+
+    /**
+     * 获取丢弃日志数量 ( 限流、异步队列已满 )
+     * @return 丢弃日志数量
+     */
+    public long getDroppedCount() {
+        return mDropped.get();
+    }
+
+    /**
+     * 关闭异步输出 ( 已放入队列的日志继续输出 )
+     */
+    public void shutdown() {
+        ThreadPoolExecutor executor = mExecutor;
+        mExecutor = null;
+        if (executor != null) executor.shutdown();
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 判断是否输出日志
+     * @param level 日志级别
+     * @return {@code true} yes, {@code false} no
+     */
+    boolean accept(final int level) {
+        if (level < mMinLevel) return false;
+        if (!mEngine.isPrintLog()) return false;
+        // 采样
+        float sampleRate = mSampleRate;
+        if (sampleRate < 1F && ThreadLocalRandom.current().nextFloat() >= sampleRate) return false;
+        // 限流
+        int maxPerSecond = mMaxPerSecond;
+        if (maxPerSecond > 0 && !tryAcquire(maxPerSecond)) {
+            mDropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 输出日志事件
+     * @param event 日志事件
+     */
+    void dispatch(final CompositeLogEngine.LogEvent event) {
+        ThreadPoolExecutor executor = mExecutor;
+        if (executor == null) {
+            event.dispatch(mEngine);
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                event.dispatch(mEngine);
+            } catch (Throwable ignored) {
+                // 异步输出端异常不抛出到线程池线程, 避免进程崩溃
+            }
+        });
+    }
+
+    /**
+     * 获取限流许可 ( 固定 1 秒时间窗口, 窗口与数量同一次 CAS 更新 )
+     * @param maxPerSecond 每秒最大输出数量
+     * @return {@code true} success, {@code false} fail
+     */
+    private boolean tryAcquire(final int maxPerSecond) {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()) & 0xFFFFFFFFL;
+        while (true) {
+            long state = mWindow.get();
+            long next;
+            if ((state >>> 32) != second) {
+                // 新时间窗口, 数量从 1 开始
+                next = (second << 32) | 1L;
+            } else if ((int) state >= maxPerSecond) {
+                return false;
+            } else {
+                next = state + 1L;
+            }
+            if (mWindow.compareAndSet(state, next)) return true;
+        }
+    }
+}
\ No newline at end of file
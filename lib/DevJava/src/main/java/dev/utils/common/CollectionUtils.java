@@ -3,6 +3,7 @@ package dev.utils.common;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -23,6 +24,9 @@ import dev.utils.JCLogUtils;
  *     // 创建不可修改集合
  *     Collections.unmodifiableList()
  *     Arrays.asList()
+ *     <p></p>
+ *     int、long、double 数据可使用 dev.utils.common.assist.primitive 包下基础类型容器
+ *     以及 {@link ArrayUtils} 数组集合运算, 避免装箱
  * </pre>
  */
 public final class CollectionUtils {
@@ -1268,8 +1272,8 @@ public final class CollectionUtils {
                 // 专门用于返回中转的集合
                 Set<T> sets = new LinkedHashSet<>();
 
-                // 初始化新的集合, 默认保存第一个集合的数据
-                Set<T> setsTemp = new LinkedHashSet<>(collection1);
+                // 第一个集合用于判断是否存在 ( 本身为 HashSet 则直接使用 )
+                Set<T> setsTemp = toLookupSet(collection1);
                 // 循环第二个集合
                 for (T value : collection2) {
                     // 判断是否存在, 存在则保存
@@ -1300,21 +1304,21 @@ public final class CollectionUtils {
             final Collection<T> collection1,
             final Collection<T> collection2
     ) {
+        if (collection1 == null && collection2 == null) return null;
+        // 存在 null 集合时交集即为另一集合, 补集为空
+        if (collection1 == null || collection2 == null) return new LinkedHashSet<>();
         try {
-            // 先进行并集处理
-            Collection<T> unionC = union(collection1, collection2);
-            // 在进行交集处理
-            Collection<T> intersectionC = intersection(collection1, collection2);
-            // 再进行移除处理
-            if (unionC != null && intersectionC != null) {
-                try {
-                    // 移除数据
-                    unionC.removeAll(intersectionC);
-                    return unionC;
-                } catch (Exception e) {
-                    JCLogUtils.eTag(TAG, e, "disjunction");
-                }
+            Set<T> setsTemp1 = toLookupSet(collection1);
+            Set<T> setsTemp2 = toLookupSet(collection2);
+            // 按并集顺序保存只存在于其中一个集合的数据
+            Set<T> sets = new LinkedHashSet<>();
+            for (T value : collection1) {
+                if (!setsTemp2.contains(value)) sets.add(value);
             }
+            for (T value : collection2) {
+                if (!setsTemp1.contains(value)) sets.add(value);
+            }
+            return sets;
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "disjunction");
         }
@@ -1332,23 +1336,37 @@ public final class CollectionUtils {
             final Collection<T> collection1,
             final Collection<T> collection2
     ) {
+        if (collection1 == null) return null;
+        // 第二个集合为 null 时交集为第一个集合, 扣除后为空
+        if (collection2 == null) return new LinkedHashSet<>();
         try {
-            // 先进行交集处理
-            Collection<T> intersectionC = intersection(collection1, collection2);
-            if (intersectionC != null) {
-                // 保存到新的集合中
-                Set<T> sets = new LinkedHashSet<>(collection1);
-                // 进行移除
-                sets.removeAll(intersectionC);
-                // 返回集合
-                return sets;
+            Set<T> setsTemp = toLookupSet(collection2);
+            // 保存第一个集合中不存在于第二个集合的数据
+            Set<T> sets = new LinkedHashSet<>();
+            for (T value : collection1) {
+                if (!setsTemp.contains(value)) sets.add(value);
             }
+            return sets;
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "subtract");
         }
         return null;
     }
 
+    /**
+     * 获取用于判断是否存在的 Set
+     * <pre>
+     *     集合本身为 HashSet ( equals 判断 ) 则直接使用, 否则复制到 HashSet
+     * </pre>
+     * @param collection 集合
+     * @param <T>        泛型
+     * @return 用于判断是否存在的 Set
+     */
+    private static <T> Set<T> toLookupSet(final Collection<T> collection) {
+        if (collection instanceof HashSet) return (Set<T>) collection;
+        return new HashSet<>(collection);
+    }
+
     // ==========
     // = 快捷方法 =
     // ==========
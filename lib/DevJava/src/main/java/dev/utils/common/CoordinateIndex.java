@@ -0,0 +1,699 @@
+package dev.utils.common;
+
+import java.util.Arrays;
+
+/**
+ * detail: 坐标空间索引 ( 经纬度网格 )
+ * @author Ttt
+ * <pre>
+ *     按固定经纬度网格划分坐标, 坐标索引按网格排序后连续存储, 不创建坐标对象
+ *     网格大小未指定时按坐标范围、数量计算 ( 平均每格约 4 个坐标 )
+ *     <p></p>
+ *     最近点查询由所在网格逐圈向外扩展, 剩余区域的最小距离大于当前结果时结束
+ *     网格不跨 180 度经线, 查询坐标远离全部坐标 ( 如位于另一半球 ) 时退化为遍历全部坐标
+ *     范围查询只计算半径覆盖的网格
+ *     <p></p>
+ *     距离使用 {@link CoordinateUtils#getDistance} 相同的球面距离计算, 但不取整 ( 单位: 米 )
+ *     创建后不可修改, 可多线程查询
+ * </pre>
+ */
+public final class CoordinateIndex {
+
+    // 平均每格坐标数
+    private static final int    POINTS_PER_CELL = 4;
+    // 最小网格大小 ( 度 )
+    private static final double MIN_CELL_SIZE   = 0.00001D;
+    // 最大网格大小 ( 度 )
+    private static final double MAX_CELL_SIZE   = 10D;
+    // 地球半径 ( 米 )
+    private static final double EARTH_RADIUS_M  = CoordinateUtils.EARTH_RADIUS * 1000D;
+    // 单次网格查找开销 ( 相对单次距离计算 )
+    private static final int    LOOKUP_COST     = 4;
+
+    // 网格大小 ( 度 )
+    private final double   mCellSize;
+    // 网格列数
+    private final long     mColumns;
+    // 网格行数
+    private final long     mRows;
+    // 坐标纬度弧度
+    private final double[] mRadLats;
+    // 坐标纬度余弦
+    private final double[] mCosLats;
+    // 坐标经度弧度
+    private final double[] mRadLngs;
+    // 网格 key ( 升序, 不重复 )
+    private final long[]   mCellKeys;
+    // 网格坐标起始位置 ( 长度为网格数 + 1 )
+    private final int[]    mCellStarts;
+    // 按网格排序后的坐标索引
+    private final int[]    mPoints;
+    // 坐标所在最小行
+    private final long     mMinRow;
+    // 坐标所在最大行
+    private final long     mMaxRow;
+    // 坐标所在最小列
+    private final long     mMinCol;
+    // 坐标所在最大列
+    private final long     mMaxCol;
+    // 坐标最小经度
+    private final double   mMinLng;
+    // 坐标最大经度
+    private final double   mMaxLng;
+    // 坐标最小纬度
+    private final double   mMinLat;
+    // 坐标最大纬度
+    private final double   mMaxLat;
+
+    /**
+     * 构造函数
+     * @param lngs     经度数组
+     * @param lats     纬度数组
+     * @param cellSize 网格大小 ( 度, 小于等于 0 则自动计算 )
+     */
+    private CoordinateIndex(
+            final double[] lngs,
+            final double[] lats,
+            final double cellSize
+    ) {
+        int    length = lngs.length;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            minLng = Math.min(minLng, lngs[i]);
+            maxLng = Math.max(maxLng, lngs[i]);
+            minLat = Math.min(minLat, lats[i]);
+            maxLat = Math.max(maxLat, lats[i]);
+        }
+        double size = cellSize;
+        if (!(size > 0D)) {
+            // 按坐标范围面积计算网格大小
+            double area = Math.max(maxLng - minLng, MIN_CELL_SIZE)
+                    * Math.max(maxLat - minLat, MIN_CELL_SIZE);
+            size = Math.sqrt(area * POINTS_PER_CELL / Math.max(1, length));
+        }
+        mCellSize = Math.min(MAX_CELL_SIZE, Math.max(MIN_CELL_SIZE, size));
+        mColumns  = (long) Math.ceil(360D / mCellSize) + 1L;
+        mRows     = (long) Math.ceil(180D / mCellSize) + 1L;
+        mMinLng   = minLng;
+        mMaxLng   = maxLng;
+        mMinLat   = minLat;
+        mMaxLat   = maxLat;
+
+        mRadLats = new double[length];
+        mCosLats = new double[length];
+        mRadLngs = new double[length];
+        long[] keys   = new long[length];
+        long   minRow = Long.MAX_VALUE;
+        long   maxRow = Long.MIN_VALUE;
+        long   minCol = Long.MAX_VALUE;
+        long   maxCol = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            mRadLats[i] = CoordinateUtils.rad(lats[i]);
+            mCosLats[i] = Math.cos(mRadLats[i]);
+            mRadLngs[i] = CoordinateUtils.rad(lngs[i]);
+            long row = row(lats[i]);
+            long col = column(lngs[i]);
+            minRow  = Math.min(minRow, row);
+            maxRow  = Math.max(maxRow, row);
+            minCol  = Math.min(minCol, col);
+            maxCol  = Math.max(maxCol, col);
+            keys[i] = row * mColumns + col;
+        }
+        mMinRow = minRow;
+        mMaxRow = maxRow;
+        mMinCol = minCol;
+        mMaxCol = maxCol;
+
+        // 按网格 key 排序坐标索引 ( key 高位 + 索引低位, 避免装箱排序 )
+        long[]  order  = new long[length];
+        int     bits   = 64 - Long.numberOfLeadingZeros(Math.max(1, length - 1));
+        boolean packed = (64 - Long.numberOfLeadingZeros(mRows * mColumns)) + bits <= 63;
+        if (packed) {
+            for (int i = 0; i < length; i++) {
+                order[i] = (keys[i] << bits) | i;
+            }
+            Arrays.sort(order);
+        }
+        mPoints = new int[length];
+        if (packed) {
+            long mask = (1L << bits) - 1L;
+            for (int i = 0; i < length; i++) {
+                mPoints[i] = (int) (order[i] & mask);
+            }
+        } else {
+            Integer[] boxed = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, (index1, index2) -> Long.compare(keys[index1], keys[index2]));
+            for (int i = 0; i < length; i++) {
+                mPoints[i] = boxed[i];
+            }
+        }
+        int cells = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || keys[mPoints[i]] != keys[mPoints[i - 1]]) cells++;
+        }
+        mCellKeys   = new long[cells];
+        mCellStarts = new int[cells + 1];
+        int cell = -1;
+        for (int i = 0; i < length; i++) {
+            long key = keys[mPoints[i]];
+            if (cell < 0 || mCellKeys[cell] != key) {
+                mCellKeys[++cell] = key;
+                mCellStarts[cell] = i;
+            }
+        }
+        mCellStarts[cells] = length;
+    }
+
+    /**
+     * 创建坐标空间索引 ( 自动计算网格大小 )
+     * @param lngs 经度数组
+     * @param lats 纬度数组
+     * @return {@link CoordinateIndex}, 参数异常则返回 null
+     */
+    public static CoordinateIndex create(
+            final double[] lngs,
+            final double[] lats
+    ) {
+        return create(lngs, lats, 0D);
+    }
+
+    /**
+     * 创建坐标空间索引
+     * @param lngs     经度数组
+     * @param lats     纬度数组
+     * @param cellSize 网格大小 ( 度, 小于等于 0 则自动计算 )
+     * @return {@link CoordinateIndex}, 参数异常则返回 null
+     */
+    public static CoordinateIndex create(
+            final double[] lngs,
+            final double[] lats,
+            final double cellSize
+    ) {
+        if (lngs == null || lats == null || lngs.length != lats.length) return null;
+        return new CoordinateIndex(lngs, lats, cellSize);
+    }
+
+    /**
+     * 获取坐标数量
+     * @return 坐标数量
+     */
+    public int size() {
+        return mPoints.length;
+    }
+
+    /**
+     * 获取网格大小
+     * @return 网格大小 ( 度 )
+     */
+    public double getCellSize() {
+        return mCellSize;
+    }
+
+    /**
+     * 计算坐标与指定索引坐标相距距离 ( 单位: 米, 不取整 )
+     * @param lng   经度
+     * @param lat   纬度
+     * @param index 坐标索引
+     * @return 相距距离 ( 单位: 米 )
+     */
+    public double getDistance(
+            final double lng,
+            final double lat,
+            final int index
+    ) {
+        double radLat = CoordinateUtils.rad(lat);
+        return distance(radLat, Math.cos(radLat), CoordinateUtils.rad(lng), index);
+    }
+
+    /**
+     * 查询最近坐标
+     * @param lng 经度
+     * @param lat 纬度
+     * @return 最近坐标索引, 无坐标则返回 -1
+     */
+    public int nearest(
+            final double lng,
+            final double lat
+    ) {
+        int[] result = nearest(lng, lat, 1);
+        return result.length == 0 ? -1 : result[0];
+    }
+
+    /**
+     * 查询最近的 count 个坐标
+     * @param lng   经度
+     * @param lat   纬度
+     * @param count 查询数量
+     * @return 坐标索引数组 ( 按距离升序 )
+     */
+    public int[] nearest(
+            final double lng,
+            final double lat,
+            final int count
+    ) {
+        int limit = Math.min(count, mPoints.length);
+        if (limit <= 0) return new int[0];
+        final double radLat = CoordinateUtils.rad(lat);
+        final double cosLat = Math.cos(radLat);
+        final double radLng = CoordinateUtils.rad(lng);
+        final long   row    = row(lat);
+        final long   col    = column(lng);
+
+        // 当前结果 ( 最大堆, 堆顶为第 limit 近坐标 )
+        final Heap heap = new Heap(limit);
+        // 无坐标的内圈直接跳过
+        long ring = Math.max(
+                Math.max(mMinRow - row, row - mMaxRow),
+                Math.max(mMinCol - col, col - mMaxCol)
+        );
+        ring = Math.max(0L, ring);
+        // 网格查找次数
+        long lookups = 0L;
+        while (true) {
+            visitRing(row, col, ring, (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    int point = mPoints[i];
+                    heap.offer(point, distance(radLat, cosLat, radLng, point));
+                }
+            });
+            boolean full  = heap.size() == limit;
+            double  bound = outsideBound(radLat, cosLat, radLng, row, col, ring);
+            if (bound == Double.POSITIVE_INFINITY || (full && bound >= heap.peekDistance())) {
+                break;
+            }
+            ring++;
+            lookups += 2L * (Math.min(mMaxRow, row + ring) - Math.max(mMinRow, row - ring) + 1L);
+            if (lookups * LOOKUP_COST > mPoints.length) {
+                // 远离坐标范围 ( 如跨 180 度经线 ) 时逐圈查找开销大于遍历, 改为遍历全部坐标
+                Heap scan = new Heap(limit);
+                for (int point = 0, len = mPoints.length; point < len; point++) {
+                    scan.offer(point, distance(radLat, cosLat, radLng, point));
+                }
+                return scan.sorted();
+            }
+        }
+        return heap.sorted();
+    }
+
+    /**
+     * 查询范围内坐标
+     * @param lng    经度
+     * @param lat    纬度
+     * @param radius 半径 ( 单位: 米 )
+     * @return 坐标索引数组 ( 按距离升序 )
+     */
+    public int[] radius(
+            final double lng,
+            final double lat,
+            final double radius
+    ) {
+        if (mPoints.length == 0 || !(radius >= 0D)) return new int[0];
+        final double radLat = CoordinateUtils.rad(lat);
+        final double cosLat = Math.cos(radLat);
+        final double radLng = CoordinateUtils.rad(lng);
+        // 半径对应的纬度、经度范围 ( 度 )
+        double angle    = radius / EARTH_RADIUS_M;
+        double latDelta = Math.toDegrees(angle);
+        double lngDelta;
+        if (angle >= Math.PI || lat + latDelta >= 90D || lat - latDelta <= -90D) {
+            lngDelta = 180D;
+        } else {
+            lngDelta = Math.toDegrees(Math.asin(Math.min(1D, Math.sin(angle) / cosLat)));
+        }
+        long rowStart = Math.max(mMinRow, row(lat - latDelta));
+        long rowEnd   = Math.min(mMaxRow, row(lat + latDelta));
+
+        final int[]    found     = new int[mPoints.length];
+        final double[] distances = new double[mPoints.length];
+        final int[]    size      = new int[1];
+        SpanVisitor visitor = (start, end) -> {
+            for (int i = start; i < end; i++) {
+                int    point    = mPoints[i];
+                double distance = distance(radLat, cosLat, radLng, point);
+                if (distance <= radius) {
+                    found[size[0]]     = point;
+                    distances[size[0]] = distance;
+                    size[0]++;
+                }
+            }
+        };
+        if (lngDelta >= 180D) {
+            visitRows(rowStart, rowEnd, mMinCol, mMaxCol, visitor);
+        } else {
+            double west = lng - lngDelta;
+            double east = lng + lngDelta;
+            if (west < -180D) {
+                visitRows(rowStart, rowEnd, mMinCol, column(east), visitor);
+                visitRows(rowStart, rowEnd, column(west + 360D), mMaxCol, visitor);
+            } else if (east > 180D) {
+                visitRows(rowStart, rowEnd, column(west), mMaxCol, visitor);
+                visitRows(rowStart, rowEnd, mMinCol, column(east - 360D), visitor);
+            } else {
+                visitRows(rowStart, rowEnd, column(west), column(east), visitor);
+            }
+        }
+        return sortByDistance(found, distances, size[0]);
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取纬度所在行
+     * @param lat 纬度
+     * @return 行
+     */
+    private long row(final double lat) {
+        double value = Math.min(90D, Math.max(-90D, lat));
+        return (long) Math.floor((value + 90D) / mCellSize);
+    }
+
+    /**
+     * 获取经度所在列
+     * @param lng 经度
+     * @return 列
+     */
+    private long column(final double lng) {
+        double value = Math.min(180D, Math.max(-180D, lng));
+        return (long) Math.floor((value + 180D) / mCellSize);
+    }
+
+    /**
+     * 计算坐标与指定索引坐标相距距离 ( 单位: 米 )
+     * @param radLat 纬度弧度
+     * @param cosLat 纬度余弦
+     * @param radLng 经度弧度
+     * @param index  坐标索引
+     * @return 相距距离 ( 单位: 米 )
+     */
+    private double distance(
+            final double radLat,
+            final double cosLat,
+            final double radLng,
+            final int index
+    ) {
+        return CoordinateUtils.distance(
+                radLat, cosLat, radLng,
+                mRadLats[index], mCosLats[index], mRadLngs[index]
+        ) * 1000D;
+    }
+
+    /**
+     * 遍历第 ring 圈网格 ( 只遍历坐标所在行列范围 )
+     * @param row     中心行
+     * @param col     中心列
+     * @param ring    圈数
+     * @param visitor 网格坐标遍历
+     */
+    private void visitRing(
+            final long row,
+            final long col,
+            final long ring,
+            final SpanVisitor visitor
+    ) {
+        long top    = row - ring;
+        long bottom = row + ring;
+        long left   = col - ring;
+        long right  = col + ring;
+        if (ring == 0L) {
+            visitRows(row, row, col, col, visitor);
+            return;
+        }
+        // 上下两行完整遍历
+        visitRows(top, top, left, right, visitor);
+        visitRows(bottom, bottom, left, right, visitor);
+        // 中间行只遍历左右两列
+        long rowStart = Math.max(mMinRow, top + 1L);
+        long rowEnd   = Math.min(mMaxRow, bottom - 1L);
+        for (long r = rowStart; r <= rowEnd; r++) {
+            visitRows(r, r, left, left, visitor);
+            visitRows(r, r, right, right, visitor);
+        }
+    }
+
+    /**
+     * 遍历行列范围内网格 ( 自动限制在坐标所在行列范围 )
+     * @param rowStart 起始行
+     * @param rowEnd   结束行
+     * @param colStart 起始列
+     * @param colEnd   结束列
+     * @param visitor  网格坐标遍历
+     */
+    private void visitRows(
+            final long rowStart,
+            final long rowEnd,
+            final long colStart,
+            final long colEnd,
+            final SpanVisitor visitor
+    ) {
+        long columnStart = Math.max(mMinCol, colStart);
+        long columnEnd   = Math.min(mMaxCol, colEnd);
+        if (columnStart > columnEnd) return;
+        for (long r = Math.max(mMinRow, rowStart), end = Math.min(mMaxRow, rowEnd); r <= end; r++) {
+            // 同一行连续列的网格 key 连续存储
+            long keyStart = r * mColumns + columnStart;
+            long keyEnd   = r * mColumns + columnEnd;
+            int  cell     = Arrays.binarySearch(mCellKeys, keyStart);
+            if (cell < 0) cell = -cell - 1;
+            int last = cell;
+            while (last < mCellKeys.length && mCellKeys[last] <= keyEnd) last++;
+            if (last > cell) visitor.visit(mCellStarts[cell], mCellStarts[last]);
+        }
+    }
+
+    /**
+     * 计算第 ring 圈以外坐标的最小距离
+     * <pre>
+     *     剩余坐标位于坐标范围内、已遍历网格上下左右四个区域, 取到各区域的最小球面距离
+     * </pre>
+     * @param radLat 纬度弧度
+     * @param cosLat 纬度余弦
+     * @param radLng 经度弧度
+     * @param row    中心行
+     * @param col    中心列
+     * @param ring   圈数
+     * @return 最小距离 ( 单位: 米 ), 全部网格已遍历则返回 Infinity
+     */
+    private double outsideBound(
+            final double radLat,
+            final double cosLat,
+            final double radLng,
+            final long row,
+            final long col,
+            final long ring
+    ) {
+        double latLow  = (row - ring) * mCellSize - 90D;
+        double latHigh = (row + ring + 1L) * mCellSize - 90D;
+        double lngLow  = (col - ring) * mCellSize - 180D;
+        double lngHigh = (col + ring + 1L) * mCellSize - 180D;
+        double bound   = Double.POSITIVE_INFINITY;
+        if (row - ring > mMinRow) {
+            bound = Math.min(bound, rectDistance(
+                    radLat, cosLat, radLng, mMinLat, Math.min(latLow, mMaxLat), mMinLng, mMaxLng
+            ));
+        }
+        if (row + ring < mMaxRow) {
+            bound = Math.min(bound, rectDistance(
+                    radLat, cosLat, radLng, Math.max(latHigh, mMinLat), mMaxLat, mMinLng, mMaxLng
+            ));
+        }
+        if (col - ring > mMinCol) {
+            bound = Math.min(bound, rectDistance(
+                    radLat, cosLat, radLng, mMinLat, mMaxLat, mMinLng, Math.min(lngLow, mMaxLng)
+            ));
+        }
+        if (col + ring < mMaxCol) {
+            bound = Math.min(bound, rectDistance(
+                    radLat, cosLat, radLng, mMinLat, mMaxLat, Math.max(lngHigh, mMinLng), mMaxLng
+            ));
+        }
+        return bound;
+    }
+
+    /**
+     * 计算坐标到经纬度矩形区域的最小距离
+     * <pre>
+     *     经度在区域内: 纬度差距离
+     *     经度在区域外: 到左右边界经线段的最小距离
+     * </pre>
+     * @param radLat  纬度弧度
+     * @param cosLat  纬度余弦
+     * @param radLng  经度弧度
+     * @param latLow  区域最小纬度
+     * @param latHigh 区域最大纬度
+     * @param lngLow  区域最小经度
+     * @param lngHigh 区域最大经度
+     * @return 最小距离 ( 单位: 米 )
+     */
+    private static double rectDistance(
+            final double radLat,
+            final double cosLat,
+            final double radLng,
+            final double latLow,
+            final double latHigh,
+            final double lngLow,
+            final double lngHigh
+    ) {
+        double low  = CoordinateUtils.rad(latLow);
+        double high = CoordinateUtils.rad(latHigh);
+        double west = CoordinateUtils.rad(lngLow);
+        double east = CoordinateUtils.rad(lngHigh);
+        if (radLng >= west && radLng <= east) {
+            double gap = Math.max(0D, Math.max(low - radLat, radLat - high));
+            return gap * EARTH_RADIUS_M;
+        }
+        return Math.min(
+                meridianDistance(radLat, cosLat, radLng, west, low, high),
+                meridianDistance(radLat, cosLat, radLng, east, low, high)
+        );
+    }
+
+    /**
+     * 计算坐标到经线段的最小距离
+     * <pre>
+     *     经线上距离最近的纬度为 atan2(sin(lat), cos(lat) * cos(经度差)), 不在经线段范围内则取较近端点
+     * </pre>
+     * @param radLat 纬度弧度
+     * @param cosLat 纬度余弦
+     * @param radLng 经度弧度
+     * @param lng    经线经度弧度
+     * @param low    经线段最小纬度弧度
+     * @param high   经线段最大纬度弧度
+     * @return 最小距离 ( 单位: 米 )
+     */
+    private static double meridianDistance(
+            final double radLat,
+            final double cosLat,
+            final double radLng,
+            final double lng,
+            final double low,
+            final double high
+    ) {
+        double nearest = Math.atan2(Math.sin(radLat), cosLat * Math.cos(radLng - lng));
+        if (nearest >= low && nearest <= high) {
+            return CoordinateUtils.distance(
+                    radLat, cosLat, radLng, nearest, Math.cos(nearest), lng
+            ) * 1000D;
+        }
+        // 距离沿经线单峰变化, 不在范围内则取较近端点
+        return Math.min(
+                CoordinateUtils.distance(radLat, cosLat, radLng, low, Math.cos(low), lng),
+                CoordinateUtils.distance(radLat, cosLat, radLng, high, Math.cos(high), lng)
+        ) * 1000D;
+    }
+
+    /**
+     * 按距离升序排序坐标索引
+     * @param points    坐标索引
+     * @param distances 距离
+     * @param size      数量
+     * @return 排序后的坐标索引
+     */
+    private static int[] sortByDistance(
+            final int[] points,
+            final double[] distances,
+            final int size
+    ) {
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            // 非负 double 的 bits 顺序与数值顺序一致
+            order[i] = Double.doubleToLongBits(distances[i]);
+        }
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (index1, index2) -> Long.compare(order[index1], order[index2]));
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = points[positions[i]];
+        }
+        return result;
+    }
+
+    /**
+     * detail: 网格坐标遍历
+     * @author Ttt
+     */
+    private interface SpanVisitor {
+
+        /**
+         * 遍历排序后坐标索引区间
+         * @param start 起始位置
+         * @param end   结束位置 ( 不包含 )
+         */
+        void visit(
+                int start,
+                int end
+        );
+    }
+
+    /**
+     * detail: 最近坐标结果 ( 固定容量最大堆 )
+     * @author Ttt
+     */
+    private static final class Heap {
+
+        // 坐标索引
+        private final int[]    points;
+        // 距离
+        private final double[] distances;
+        // 当前数量
+        private       int      size;
+
+        Heap(final int capacity) {
+            this.points    = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        double peekDistance() {
+            return distances[0];
+        }
+
+        void offer(
+                final int point,
+                final double distance
+        ) {
+            if (size < points.length) {
+                int index = size++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (distances[parent] >= distance) break;
+                    points[index]    = points[parent];
+                    distances[index] = distances[parent];
+                    index            = parent;
+                }
+                points[index]    = point;
+                distances[index] = distance;
+            } else if (distance < distances[0]) {
+                int index = 0;
+                while (true) {
+                    int child = index * 2 + 1;
+                    if (child >= size) break;
+                    if (child + 1 < size && distances[child + 1] > distances[child]) child++;
+                    if (distances[child] <= distance) break;
+                    points[index]    = points[child];
+                    distances[index] = distances[child];
+                    index            = child;
+                }
+                points[index]    = point;
+                distances[index] = distance;
+            }
+        }
+
+        int[] sorted() {
+            return sortByDistance(points, distances, size);
+        }
+    }
+}
\ No newline at end of file
@@ -13,6 +13,9 @@ import dev.utils.JCLogUtils;
 /**
  * detail: 变量字段工具类
  * @author Ttt
+ * <pre>
+ *     Field 查找结果按 Class 缓存 ( 包括查找失败 ), 返回的 Field 均为副本, 不共享缓存对象
+ * </pre>
  */
 public final class FieldUtils {
 
@@ -52,7 +55,9 @@ public final class FieldUtils {
     ) {
         if (clazz != null && name != null) {
             try {
-                return clazz.getField(name);
+                Field field = ReflectCache.getField(clazz, name);
+                if (field == null) throw new NoSuchFieldException(name);
+                return ReflectCache.copy(field);
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "getField");
             }
@@ -90,7 +95,9 @@ public final class FieldUtils {
     ) {
         if (clazz != null && name != null) {
             try {
-                return clazz.getDeclaredField(name);
+                Field field = ReflectCache.getDeclaredField(clazz, name);
+                if (field == null) throw new NoSuchFieldException(name);
+                return ReflectCache.copy(field);
             } catch (Exception e) {
                 JCLogUtils.eTag(TAG, e, "getDeclaredField");
             }
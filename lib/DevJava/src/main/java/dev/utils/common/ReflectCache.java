@@ -0,0 +1,486 @@
+package dev.utils.common;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * detail: 反射元数据缓存
+ * @author Ttt
+ * <pre>
+ *     按 Class 缓存 Field、Method、Constructor 查找结果 ( 包括查找失败 ), 同一类只解析一次
+ *     读取无锁 ( ConcurrentHashMap ), 仅未命中时加锁创建元数据并清理已回收的 key
+ *     Class 为弱引用 key, 元数据为软引用且持有 Class 及其成员, 内存不足时释放
+ *     因此类卸载需等待元数据软引用被回收, 不会在类不可达后立即卸载
+ *     缓存的成员在解析时 setAccessible 一次, 为共享对象, 仅供内部使用, 不可修改其可访问状态、modifiers
+ *     对外公开的 Field 需通过 {@link #copy(Field)} 重新获取副本, 返回的数组为内部数组, 不可对外公开
+ * </pre>
+ */
+final class ReflectCache {
+
+    private ReflectCache() {
+    }
+
+    // 查找失败标记
+    private static final Object                                NONE  = new Object();
+    // 类元数据缓存
+    private static final Map<Object, SoftReference<ClassMeta>> CACHE = new ConcurrentHashMap<>();
+    // 已回收 Class key 队列
+    private static final ReferenceQueue<Class<?>>              QUEUE = new ReferenceQueue<>();
+
+    /**
+     * 获取类元数据
+     * @param clazz {@link Class}
+     * @return {@link ClassMeta}
+     */
+    private static ClassMeta meta(final Class<?> clazz) {
+        SoftReference<ClassMeta> reference = CACHE.get(new LookupKey(clazz));
+        ClassMeta                meta      = (reference != null) ? reference.get() : null;
+        if (meta != null) return meta;
+        synchronized (QUEUE) {
+            expunge();
+            reference = CACHE.get(new LookupKey(clazz));
+            meta      = (reference != null) ? reference.get() : null;
+            if (meta == null) {
+                meta = new ClassMeta(clazz);
+                CACHE.put(new WeakKey(clazz, QUEUE), new SoftReference<>(meta));
+            }
+            return meta;
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    static void clear() {
+        synchronized (QUEUE) {
+            expunge();
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * 移除 Class 已回收的缓存
+     */
+    private static void expunge() {
+        Reference<? extends Class<?>> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            CACHE.remove(reference);
+        }
+    }
+
+    // =========
+    // = Field =
+    // =========
+
+    /**
+     * 获取 public 变量 ( 包括基类 )
+     * @param clazz {@link Class}
+     * @param name  变量名
+     * @return {@link Field}, 不存在则返回 null
+     */
+    static Field getField(
+            final Class<?> clazz,
+            final String name
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Field) meta.resolve(meta.mFieldMap, name);
+    }
+
+    /**
+     * 获取本类声明的变量
+     * @param clazz {@link Class}
+     * @param name  变量名
+     * @return {@link Field}, 不存在则返回 null
+     */
+    static Field getDeclaredField(
+            final Class<?> clazz,
+            final String name
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Field) meta.resolve(meta.mDeclaredFieldMap, name);
+    }
+
+    /**
+     * 获取全部 public 变量 ( 包括基类 )
+     * @param clazz {@link Class}
+     * @return 内部数组, 不可修改
+     */
+    static Field[] getFields(final Class<?> clazz) {
+        ClassMeta meta   = meta(clazz);
+        Field[]   fields = meta.mFields;
+        if (fields == null) {
+            fields = accessible(clazz.getFields());
+            meta.mFields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * 获取本类声明的全部变量
+     * @param clazz {@link Class}
+     * @return 内部数组, 不可修改
+     */
+    static Field[] getDeclaredFields(final Class<?> clazz) {
+        ClassMeta meta   = meta(clazz);
+        Field[]   fields = meta.mDeclaredFields;
+        if (fields == null) {
+            fields = accessible(clazz.getDeclaredFields());
+            meta.mDeclaredFields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * 获取变量副本 ( 与 JDK 返回的 Field 一致, 未设置可访问 )
+     * <pre>
+     *     缓存仅用于查找, 对外返回、需修改 modifiers 时使用副本, 避免影响共享对象
+     * </pre>
+     * @param field 缓存的 {@link Field}
+     * @return {@link Field} 副本
+     * @throws NoSuchFieldException 变量不存在
+     */
+    static Field copy(final Field field)
+            throws NoSuchFieldException {
+        return field.getDeclaringClass().getDeclaredField(field.getName());
+    }
+
+    // ==========
+    // = Method =
+    // ==========
+
+    /**
+     * 获取 public 方法 ( 包括基类 )
+     * @param clazz {@link Class}
+     * @param name  方法名
+     * @param types 参数类型
+     * @return {@link Method}, 不存在则返回 null
+     */
+    static Method getMethod(
+            final Class<?> clazz,
+            final String name,
+            final Class<?>... types
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Method) meta.resolve(meta.mMethodMap, new MemberKey(name, types));
+    }
+
+    /**
+     * 获取本类声明的方法
+     * @param clazz {@link Class}
+     * @param name  方法名
+     * @param types 参数类型
+     * @return {@link Method}, 不存在则返回 null
+     */
+    static Method getDeclaredMethod(
+            final Class<?> clazz,
+            final String name,
+            final Class<?>... types
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Method) meta.resolve(meta.mDeclaredMethodMap, new MemberKey(name, types));
+    }
+
+    /**
+     * 获取全部 public 方法 ( 包括基类 )
+     * @param clazz {@link Class}
+     * @return 内部数组, 不可修改
+     */
+    static Method[] getMethods(final Class<?> clazz) {
+        ClassMeta meta    = meta(clazz);
+        Method[]  methods = meta.mMethods;
+        if (methods == null) {
+            methods = accessible(clazz.getMethods());
+            meta.mMethods = methods;
+        }
+        return methods;
+    }
+
+    /**
+     * 获取本类声明的全部方法
+     * @param clazz {@link Class}
+     * @return 内部数组, 不可修改
+     */
+    static Method[] getDeclaredMethods(final Class<?> clazz) {
+        ClassMeta meta    = meta(clazz);
+        Method[]  methods = meta.mDeclaredMethods;
+        if (methods == null) {
+            methods = accessible(clazz.getDeclaredMethods());
+            meta.mDeclaredMethods = methods;
+        }
+        return methods;
+    }
+
+    // ===============
+    // = Constructor =
+    // ===============
+
+    /**
+     * 获取 public 构造函数
+     * @param clazz {@link Class}
+     * @param types 参数类型
+     * @return {@link Constructor}, 不存在则返回 null
+     */
+    static Constructor<?> getConstructor(
+            final Class<?> clazz,
+            final Class<?>... types
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Constructor<?>) meta.resolve(meta.mConstructorMap, new MemberKey(null, types));
+    }
+
+    /**
+     * 获取本类声明的构造函数
+     * @param clazz {@link Class}
+     * @param types 参数类型
+     * @return {@link Constructor}, 不存在则返回 null
+     */
+    static Constructor<?> getDeclaredConstructor(
+            final Class<?> clazz,
+            final Class<?>... types
+    ) {
+        ClassMeta meta = meta(clazz);
+        return (Constructor<?>) meta.resolve(meta.mDeclaredConstructorMap, new MemberKey(null, types));
+    }
+
+    /**
+     * 获取本类声明的全部构造函数
+     * @param clazz {@link Class}
+     * @return 内部数组, 不可修改
+     */
+    static Constructor<?>[] getDeclaredConstructors(final Class<?> clazz) {
+        ClassMeta        meta         = meta(clazz);
+        Constructor<?>[] constructors = meta.mDeclaredConstructors;
+        if (constructors == null) {
+            constructors = accessible(clazz.getDeclaredConstructors());
+            meta.mDeclaredConstructors = constructors;
+        }
+        return constructors;
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 设置对象可访问 ( 失败则保持原状态, 由调用时抛出异常 )
+     * @param accessible 对象
+     * @param <T>        泛型
+     * @return 传入的对象
+     */
+    private static <T extends AccessibleObject> T accessible(final T accessible) {
+        try {
+            accessible.setAccessible(true);
+        } catch (Exception ignored) {
+        }
+        return accessible;
+    }
+
+    /**
+     * 设置数组对象可访问
+     * @param array 数组
+     * @param <T>   泛型
+     * @return 传入的数组
+     */
+    private static <T extends AccessibleObject> T[] accessible(final T[] array) {
+        for (T accessible : array) {
+            accessible(accessible);
+        }
+        return array;
+    }
+
+    /**
+     * detail: 类元数据
+     * @author Ttt
+     */
+    private static final class ClassMeta {
+
+        // 类
+        private final    Class<?>               mClass;
+        // public 变量 ( 变量名 - Field )
+        private final    Map<String, Object>    mFieldMap               = new ConcurrentHashMap<>();
+        // 本类声明变量 ( 变量名 - Field )
+        private final    Map<String, Object>    mDeclaredFieldMap       = new ConcurrentHashMap<>();
+        // public 方法 ( 方法签名 - Method )
+        private final    Map<MemberKey, Object> mMethodMap              = new ConcurrentHashMap<>();
+        // 本类声明方法 ( 方法签名 - Method )
+        private final    Map<MemberKey, Object> mDeclaredMethodMap      = new ConcurrentHashMap<>();
+        // public 构造函数 ( 参数签名 - Constructor )
+        private final    Map<MemberKey, Object> mConstructorMap         = new ConcurrentHashMap<>();
+        // 本类声明构造函数 ( 参数签名 - Constructor )
+        private final    Map<MemberKey, Object> mDeclaredConstructorMap = new ConcurrentHashMap<>();
+        // 全部 public 变量
+        private volatile Field[]                mFields;
+        // 全部本类声明变量
+        private volatile Field[]                mDeclaredFields;
+        // 全部 public 方法
+        private volatile Method[]               mMethods;
+        // 全部本类声明方法
+        private volatile Method[]               mDeclaredMethods;
+        // 全部本类声明构造函数
+        private volatile Constructor<?>[]       mDeclaredConstructors;
+
+        private ClassMeta(final Class<?> clazz) {
+            this.mClass = clazz;
+        }
+
+        /**
+         * 获取缓存成员, 未缓存则查找并缓存
+         * @param map 缓存
+         * @param key 缓存 key
+         * @param <K> 泛型
+         * @return 成员对象, 不存在则返回 null
+         */
+        private <K> Object resolve(
+                final Map<K, Object> map,
+                final K key
+        ) {
+            Object value = map.get(key);
+            if (value == null) {
+                value = lookup(map, key);
+                map.put(key, value);
+            }
+            return (value != NONE) ? value : null;
+        }
+
+        /**
+         * 查找成员
+         * @param map 缓存
+         * @param key 缓存 key
+         * @param <K> 泛型
+         * @return 成员对象, 不存在则返回 {@link #NONE}
+         */
+        private <K> Object lookup(
+                final Map<K, Object> map,
+                final K key
+        ) {
+            try {
+                if (map == mFieldMap) {
+                    return accessible(mClass.getField((String) key));
+                } else if (map == mDeclaredFieldMap) {
+                    return accessible(mClass.getDeclaredField((String) key));
+                }
+                MemberKey memberKey = (MemberKey) key;
+                if (map == mMethodMap) {
+                    return accessible(mClass.getMethod(memberKey.mName, memberKey.mTypes));
+                } else if (map == mDeclaredMethodMap) {
+                    return accessible(mClass.getDeclaredMethod(memberKey.mName, memberKey.mTypes));
+                } else if (map == mConstructorMap) {
+                    return accessible(mClass.getConstructor(memberKey.mTypes));
+                } else {
+                    return accessible(mClass.getDeclaredConstructor(memberKey.mTypes));
+                }
+            } catch (Exception | LinkageError ignored) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * detail: Class 弱引用 key
+     * @author Ttt
+     * <pre>
+     *     Class 回收后仅与自身相等, 用于从缓存中移除
+     * </pre>
+     */
+    private static final class WeakKey
+            extends WeakReference<Class<?>> {
+
+        // hashCode
+        private final int mHash;
+
+        private WeakKey(
+                final Class<?> clazz,
+                final ReferenceQueue<Class<?>> queue
+        ) {
+            super(clazz, queue);
+            this.mHash = System.identityHashCode(clazz);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            Class<?> clazz = get();
+            if (clazz == null) return false;
+            if (object instanceof LookupKey) return clazz == ((LookupKey) object).mClass;
+            return object instanceof WeakKey && clazz == ((WeakKey) object).get();
+        }
+    }
+
+    /**
+     * detail: Class 查找 key ( 强引用, 仅查找时临时使用 )
+     * @author Ttt
+     */
+    private static final class LookupKey {
+
+        // 类
+        private final Class<?> mClass;
+
+        private LookupKey(final Class<?> clazz) {
+            this.mClass = clazz;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(mClass);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (object instanceof WeakKey) return mClass == ((WeakKey) object).get();
+            return object instanceof LookupKey && mClass == ((LookupKey) object).mClass;
+        }
+    }
+
+    /**
+     * detail: 成员签名 ( 名称 + 参数类型 )
+     * @author Ttt
+     */
+    private static final class MemberKey {
+
+        // 名称 ( 构造函数为 null )
+        private final String     mName;
+        // 参数类型
+        private final Class<?>[] mTypes;
+        // hashCode
+        private final int        mHash;
+
+        private MemberKey(
+                final String name,
+                final Class<?>[] types
+        ) {
+            this.mName  = name;
+            this.mTypes = (types != null) ? types.clone() : new Class<?>[0];
+            this.mHash  = 31 * (name != null ? name.hashCode() : 0) + Arrays.hashCode(mTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (!(object instanceof MemberKey)) return false;
+            MemberKey other = (MemberKey) object;
+            return mHash == other.mHash
+                    && (mName != null ? mName.equals(other.mName) : other.mName == null)
+                    && Arrays.equals(mTypes, other.mTypes);
+        }
+    }
+}
\ No newline at end of file
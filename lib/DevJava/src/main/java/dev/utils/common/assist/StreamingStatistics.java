@@ -0,0 +1,218 @@
+package dev.utils.common.assist;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * detail: 流式统计辅助类
+ * @author Ttt
+ * <pre>
+ *     在线统计数量、总和、均值、方差、最小值、最大值及分位数, 不保存原始数据
+ *     计数、求和使用 LongAdder、DoubleAdder 分段累加, 多线程 add 无锁竞争
+ *     <p></p>
+ *     方差按首个数值平移后的平方和计算, 减少大数值、小波动时的精度损失
+ *     分位数使用 {@link QuantileHistogram}, 相对误差约 3%
+ *     读取方法为近似快照, 与 add 并发时各统计值可能不属于同一时刻
+ * </pre>
+ */
+public class StreamingStatistics {
+
+    // 平移基准未设置
+    private static final long UNSET = Double.doubleToRawLongBits(Double.NaN);
+
+    // 数量
+    private final LongAdder         mCount     = new LongAdder();
+    // 平移后总和
+    private final DoubleAdder       mSum       = new DoubleAdder();
+    // 平移后平方和
+    private final DoubleAdder       mSumSquare = new DoubleAdder();
+    // 最小值
+    private final DoubleAccumulator mMin       = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+    // 最大值
+    private final DoubleAccumulator mMax       = new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+    // 平移基准 ( double bits )
+    private final AtomicLong        mShift     = new AtomicLong(UNSET);
+    // 分位数统计
+    private final QuantileHistogram mHistogram = new QuantileHistogram();
+
+    /**
+     * 添加一个数值
+     * @param value 数值 ( NaN、Infinity 忽略 )
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics add(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return this;
+        double shifted = value - shift(value);
+        mSum.add(shifted);
+        mSumSquare.add(shifted * shifted);
+        mMin.accumulate(value);
+        mMax.accumulate(value);
+        mHistogram.add(value);
+        mCount.increment();
+        return this;
+    }
+
+    /**
+     * 添加一个数字
+     * @param number Number
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics add(final Number number) {
+        if (number == null) return this;
+        return add(number.doubleValue());
+    }
+
+    /**
+     * 合并其他统计数据
+     * @param other {@link StreamingStatistics}
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics merge(final StreamingStatistics other) {
+        if (other == null || other == this) return this;
+        long count = other.mCount.sum();
+        if (count == 0L) return this;
+        // 转换为本实例平移基准: Σ(x - a) = Σ(x - b) + n(b - a)
+        double otherShift = Double.longBitsToDouble(other.mShift.get());
+        double delta      = otherShift - shift(otherShift);
+        double sum        = other.mSum.sum();
+        mSum.add(sum + count * delta);
+        mSumSquare.add(other.mSumSquare.sum() + 2D * delta * sum + count * delta * delta);
+        mMin.accumulate(other.mMin.get());
+        mMax.accumulate(other.mMax.get());
+        mHistogram.merge(other.mHistogram);
+        mCount.add(count);
+        return this;
+    }
+
+    /**
+     * 清除全部
+     * <pre>
+     *     与 add 并发调用时, 并发写入的数据可能部分保留
+     * </pre>
+     * @return {@link StreamingStatistics}
+     */
+    public StreamingStatistics clear() {
+        mCount.reset();
+        mSum.reset();
+        mSumSquare.reset();
+        mMin.reset();
+        mMax.reset();
+        mHistogram.clear();
+        mShift.set(UNSET);
+        return this;
+    }
+
+    /**
+     * 获取数值个数
+     * @return 数值个数
+     */
+    public long getCount() {
+        return mCount.sum();
+    }
+
+    /**
+     * 获取总和
+     * @return 总和
+     */
+    public double getSum() {
+        long count = mCount.sum();
+        if (count == 0L) return 0D;
+        return mSum.sum() + count * Double.longBitsToDouble(mShift.get());
+    }
+
+    /**
+     * 获取平均数
+     * @return 平均数, 无数据则返回 0
+     */
+    public double getMean() {
+        long count = mCount.sum();
+        if (count == 0L) return 0D;
+        return mSum.sum() / count + Double.longBitsToDouble(mShift.get());
+    }
+
+    /**
+     * 获取方差 ( 总体方差 )
+     * @return 方差, 无数据则返回 0
+     */
+    public double getVariance() {
+        long count = mCount.sum();
+        if (count == 0L) return 0D;
+        double mean = mSum.sum() / count;
+        return Math.max(0D, mSumSquare.sum() / count - mean * mean);
+    }
+
+    /**
+     * 获取标准差 ( 总体标准差 )
+     * @return 标准差, 无数据则返回 0
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * 获取最小值
+     * @return 最小值, 无数据则返回 NaN
+     */
+    public double getMin() {
+        return mCount.sum() == 0L ? Double.NaN : mMin.get();
+    }
+
+    /**
+     * 获取最大值
+     * @return 最大值, 无数据则返回 NaN
+     */
+    public double getMax() {
+        return mCount.sum() == 0L ? Double.NaN : mMax.get();
+    }
+
+    /**
+     * 获取分位数
+     * <pre>
+     *     结果限制在 [最小值, 最大值] 范围内, 如 getQuantile(0.5D) 获取中位数
+     * </pre>
+     * @param quantile 分位 [0, 1]
+     * @return 分位数, 无数据则返回 NaN
+     */
+    public double getQuantile(final double quantile) {
+        double value = mHistogram.getQuantile(quantile);
+        if (Double.isNaN(value)) return value;
+        return Math.min(mMax.get(), Math.max(mMin.get(), value));
+    }
+
+    /**
+     * 获取分位数统计直方图
+     * @return {@link QuantileHistogram}
+     */
+    public QuantileHistogram getHistogram() {
+        return mHistogram;
+    }
+
+    @Override
+    public String toString() {
+        return "count: " + getCount() + ", mean: " + getMean()
+                + ", stdDev: " + getStandardDeviation()
+                + ", min: " + getMin() + ", max: " + getMax()
+                + ", p50: " + getQuantile(0.5D) + ", p99: " + getQuantile(0.99D);
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取平移基准 ( 未设置则使用传入数值 )
+     * @param value 数值
+     * @return 平移基准
+     */
+    private double shift(final double value) {
+        long bits = mShift.get();
+        if (bits == UNSET) {
+            long create = Double.doubleToRawLongBits(value);
+            if (mShift.compareAndSet(UNSET, create)) return value;
+            bits = mShift.get();
+        }
+        return Double.longBitsToDouble(bits);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,308 @@
+package dev.utils.common.assist.primitive;
+
+import java.util.Arrays;
+
+/**
+ * detail: double List
+ * @author Ttt
+ * <pre>
+ *     直接存储 double[] 不装箱, 容量不足时按 1.5 倍扩容
+ *     求和、最值计算直接遍历数组, 数据量较大时可使用并行求和
+ *     非线程安全
+ * </pre>
+ */
+public final class DoubleList {
+
+    // 默认容量
+    private static final int DEFAULT_CAPACITY   = 10;
+    // 并行计算阈值
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // 数据
+    private double[] mData;
+    // 数量
+    private int      mSize;
+
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造函数
+     * @param capacity 初始容量
+     */
+    public DoubleList(final int capacity) {
+        mData = new double[Math.max(0, capacity)];
+    }
+
+    /**
+     * 创建 List 并添加数组全部值
+     * @param values double[]
+     * @return {@link DoubleList}
+     */
+    public static DoubleList of(final double... values) {
+        DoubleList list = new DoubleList(values == null ? 0 : values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * 获取数量
+     * @return 数量
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * 判断是否为空
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * 获取指定索引值
+     * @param index 索引
+     * @return 值
+     */
+    public double get(final int index) {
+        checkIndex(index);
+        return mData[index];
+    }
+
+    /**
+     * 设置指定索引值
+     * @param index 索引
+     * @param value 值
+     * @return 原值
+     */
+    public double set(
+            final int index,
+            final double value
+    ) {
+        checkIndex(index);
+        double old = mData[index];
+        mData[index] = value;
+        return old;
+    }
+
+    /**
+     * 添加值
+     * @param value 值
+     * @return {@link DoubleList}
+     */
+    public DoubleList add(final double value) {
+        if (mSize == mData.length) grow(mSize + 1);
+        mData[mSize++] = value;
+        return this;
+    }
+
+    /**
+     * 添加数组全部值
+     * @param values double[]
+     * @return {@link DoubleList}
+     */
+    public DoubleList addAll(final double... values) {
+        if (values != null && values.length != 0) {
+            grow(mSize + values.length);
+            System.arraycopy(values, 0, mData, mSize, values.length);
+            mSize += values.length;
+        }
+        return this;
+    }
+
+    /**
+     * 添加 List 全部值
+     * @param list {@link DoubleList}
+     * @return {@link DoubleList}
+     */
+    public DoubleList addAll(final DoubleList list) {
+        if (list != null && list.mSize != 0) {
+            int count = list.mSize;
+            grow(mSize + count);
+            System.arraycopy(list.mData, 0, mData, mSize, count);
+            mSize += count;
+        }
+        return this;
+    }
+
+    /**
+     * 移除指定索引值
+     * @param index 索引
+     * @return 移除的值
+     */
+    public double removeAt(final int index) {
+        checkIndex(index);
+        double old   = mData[index];
+        int    moved = mSize - index - 1;
+        if (moved > 0) System.arraycopy(mData, index + 1, mData, index, moved);
+        mSize--;
+        return old;
+    }
+
+    /**
+     * 清除全部
+     * @return {@link DoubleList}
+     */
+    public DoubleList clear() {
+        mSize = 0;
+        return this;
+    }
+
+    /**
+     * 获取值第一次出现的索引
+     * @param value 值
+     * @return 索引, 不存在则返回 -1
+     */
+    public int indexOf(final double value) {
+        final double[] data = mData;
+        for (int i = 0, len = mSize; i < len; i++) {
+            if (data[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 获取值最后一次出现的索引
+     * @param value 值
+     * @return 索引, 不存在则返回 -1
+     */
+    public int lastIndexOf(final int value) {
+        final double[] data = mData;
+        for (int i = mSize - 1; i >= 0; i--) {
+            if (data[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 判断是否包含值
+     * @param value 值
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean contains(final double value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * 升序排序
+     * @return {@link DoubleList}
+     */
+    public DoubleList sort() {
+        Arrays.sort(mData, 0, mSize);
+        return this;
+    }
+
+    /**
+     * 计算总和
+     * @return 总和
+     */
+    public double sum() {
+        final double[] data  = mData;
+        double         total = 0D;
+        for (int i = 0, len = mSize; i < len; i++) {
+            total += data[i];
+        }
+        return total;
+    }
+
+    /**
+     * 计算总和 ( 数据量较大时并行计算 )
+     * <pre>
+     *     并行累加顺序不同, 结果与 {@link #sum()} 可能存在浮点误差
+     * </pre>
+     * @return 总和
+     */
+    public double sumParallel() {
+        if (mSize < PARALLEL_THRESHOLD) return sum();
+        return Arrays.stream(mData, 0, mSize).parallel().sum();
+    }
+
+    /**
+     * 获取最小值
+     * @return 最小值, 无数据则返回 0
+     */
+    public double min() {
+        if (mSize == 0) return 0D;
+        final double[] data   = mData;
+        double         result = data[0];
+        for (int i = 1, len = mSize; i < len; i++) {
+            if (data[i] < result) result = data[i];
+        }
+        return result;
+    }
+
+    /**
+     * 获取最大值
+     * @return 最大值, 无数据则返回 0
+     */
+    public double max() {
+        if (mSize == 0) return 0D;
+        final double[] data   = mData;
+        double         result = data[0];
+        for (int i = 1, len = mSize; i < len; i++) {
+            if (data[i] > result) result = data[i];
+        }
+        return result;
+    }
+
+    /**
+     * 转换为数组
+     * @return double[]
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(mData, mSize);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) return true;
+        if (!(object instanceof DoubleList)) return false;
+        DoubleList other = (DoubleList) object;
+        if (mSize != other.mSize) return false;
+        for (int i = 0; i < mSize; i++) {
+            if (Double.compare(mData[i], other.mData[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < mSize; i++) {
+            hash = 31 * hash + Double.hashCode(mData[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 扩容 ( 至少 1.5 倍 )
+     * @param capacity 所需容量
+     */
+    private void grow(final int capacity) {
+        if (capacity <= mData.length) return;
+        int length = Math.max(capacity, mData.length + (mData.length >> 1));
+        mData = Arrays.copyOf(mData, Math.max(length, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * 检查索引
+     * @param index 索引
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + mSize);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,370 @@
+package dev.utils.common.assist.record;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import dev.utils.JCLogUtils;
+import dev.utils.common.FileUtils;
+import dev.utils.common.StringUtils;
+
+/**
+ * detail: 文件记录异步写入器
+ * @author Ttt
+ * <pre>
+ *     调用线程只拼接日志内容并放入有界队列, 由单个写入线程按刷新间隔批量写入
+ *     同一文件的多条记录合并为一次追加写入, 避免每条记录都打开文件写入
+ *     <p></p>
+ *     队列已满时根据 {@link Policy} 丢弃记录或阻塞调用线程
+ *     入队与关闭互斥 ( 读写锁 ), 关闭前已入队的记录、flush 标记都会由写入线程处理
+ *     FileRecordUtils.setWriter(new FileRecordWriter());
+ * </pre>
+ */
+public final class FileRecordWriter {
+
+    // 日志 TAG
+    private static final String TAG = FileRecordWriter.class.getSimpleName();
+
+    // 默认队列容量
+    public static final int  DEFAULT_CAPACITY       = 1024;
+    // 默认刷新间隔 ( 毫秒 )
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+
+    // 记录队列
+    private final ArrayBlockingQueue<Item> mQueue;
+    // 刷新间隔 ( 毫秒 )
+    private final long                     mFlushInterval;
+    // 队列已满处理策略
+    private final Policy                   mPolicy;
+    // 丢弃记录数
+    private final AtomicLong               mDroppedCount = new AtomicLong();
+    // 写入线程
+    private final Thread                   mThread;
+    // 入队 ( 读锁 )、关闭 ( 写锁 ) 互斥锁
+    private final ReentrantReadWriteLock   mLock         = new ReentrantReadWriteLock();
+    // 是否已关闭
+    private volatile boolean               mShutdown;
+
+    /**
+     * detail: 队列已满处理策略
+     * @author Ttt
+     */
+    public enum Policy {
+
+        DROP, // 丢弃当前记录
+
+        BLOCK, // 阻塞调用线程直到队列可用
+    }
+
+    public FileRecordWriter() {
+        this(DEFAULT_CAPACITY, DEFAULT_FLUSH_INTERVAL, Policy.DROP);
+    }
+
+    /**
+     * 构造函数
+     * @param capacity      队列容量
+     * @param flushInterval 刷新间隔 ( 毫秒 )
+     * @param policy        队列已满处理策略
+     */
+    public FileRecordWriter(
+            final int capacity,
+            final long flushInterval,
+            final Policy policy
+    ) {
+        this.mQueue         = new ArrayBlockingQueue<>(capacity > 0 ? capacity : DEFAULT_CAPACITY);
+        this.mFlushInterval = Math.max(flushInterval, 0L);
+        this.mPolicy        = (policy != null) ? policy : Policy.DROP;
+        this.mThread        = new Thread(this::loop, TAG);
+        this.mThread.setDaemon(true);
+        this.mThread.start();
+    }
+
+    // =============
+    // = 对外公开方法 =
+    // =============
+
+    /**
+     * 获取队列已满处理策略
+     * @return {@link Policy}
+     */
+    public Policy getPolicy() {
+        return mPolicy;
+    }
+
+    /**
+     * 获取刷新间隔 ( 毫秒 )
+     * @return 刷新间隔 ( 毫秒 )
+     */
+    public long getFlushInterval() {
+        return mFlushInterval;
+    }
+
+    /**
+     * 获取待写入记录数
+     * @return 待写入记录数
+     */
+    public int getPendingCount() {
+        return mQueue.size();
+    }
+
+    /**
+     * 获取丢弃记录数
+     * @return 丢弃记录数
+     */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * 是否已关闭
+     * @return {@code true} yes, {@code false} no
+     */
+    public boolean isShutdown() {
+        return mShutdown;
+    }
+
+    /**
+     * 等待当前已入队记录全部写入
+     * @param timeout 超时时间 ( 毫秒 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public boolean flush(final long timeout) {
+        Item item = new Item(null, null, null, null, null, null);
+        item.latch = new CountDownLatch(1);
+        try {
+            mLock.readLock().lock();
+            try {
+                if (mShutdown) return false;
+                if (!mQueue.offer(item, timeout, TimeUnit.MILLISECONDS)) return false;
+            } finally {
+                mLock.readLock().unlock();
+            }
+            return item.latch.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * 关闭写入器 ( 写入剩余记录后结束写入线程 )
+     * @param timeout 等待超时时间 ( 毫秒 )
+     */
+    public void shutdown(final long timeout) {
+        // 等待进行中的入队完成, 之后不再有记录入队
+        mLock.writeLock().lock();
+        try {
+            if (mShutdown) return;
+            mShutdown = true;
+        } finally {
+            mLock.writeLock().unlock();
+        }
+        mThread.interrupt();
+        try {
+            mThread.join(Math.max(timeout, 0L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 记录入队
+     * @param item 记录信息
+     * @return {@code true} success, {@code false} fail
+     */
+    boolean enqueue(final Item item) {
+        mLock.readLock().lock();
+        try {
+            if (mShutdown) return false;
+            if (mPolicy == Policy.BLOCK) {
+                try {
+                    mQueue.put(item);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else if (mQueue.offer(item)) {
+                return true;
+            }
+        } finally {
+            mLock.readLock().unlock();
+        }
+        mDroppedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 写入线程循环
+     */
+    private void loop() {
+        List<Item> batch = new ArrayList<>();
+        while (!mShutdown || !mQueue.isEmpty()) {
+            try {
+                Item first = mShutdown ? mQueue.poll() : mQueue.take();
+                if (first == null) break;
+                batch.add(first);
+                // 等待刷新间隔内的后续记录
+                long deadline = System.currentTimeMillis() + mFlushInterval;
+                long remain;
+                while (!mShutdown && (remain = deadline - System.currentTimeMillis()) > 0L) {
+                    Item item = mQueue.poll(remain, TimeUnit.MILLISECONDS);
+                    if (item == null) break;
+                    batch.add(item);
+                    mQueue.drainTo(batch);
+                }
+            } catch (InterruptedException ignored) {
+                // shutdown 中断等待, 继续写入剩余记录
+            }
+            mQueue.drainTo(batch);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 批量写入记录 ( 按文件分组, 保持记录顺序 )
+     * @param batch 待写入记录
+     */
+    private void writeBatch(final List<Item> batch) {
+        Map<String, List<Item>> groups = new LinkedHashMap<>();
+        List<Item>              marks  = new ArrayList<>();
+        for (Item item : batch) {
+            if (item.latch != null) {
+                marks.add(item);
+                continue;
+            }
+            String     key   = item.filePath + File.separator + item.fileName;
+            List<Item> lists = groups.get(key);
+            if (lists == null) {
+                lists = new ArrayList<>();
+                groups.put(key, lists);
+            }
+            lists.add(item);
+        }
+        for (List<Item> lists : groups.values()) {
+            writeFile(lists);
+        }
+        for (Item item : marks) {
+            item.latch.countDown();
+        }
+    }
+
+    /**
+     * 写入同一文件的记录
+     * @param lists 同一文件的记录
+     */
+    private void writeFile(final List<Item> lists) {
+        Item first = lists.get(0);
+        File file  = FileUtils.getFile(first.filePath, first.fileName);
+        FileUtils.createFolder(first.filePath);
+
+        long                  maxFileSize = first.config.getMaxFileSize();
+        long                  fileLength  = FileUtils.getFileLength(file);
+        ByteArrayOutputStream buffer      = new ByteArrayOutputStream();
+        List<Item>            pending     = new ArrayList<>();
+        for (Item item : lists) {
+            byte[] bytes = StringUtils.getBytes(item.logContent);
+            if (bytes == null) continue;
+            // 超出单个文件最大大小则先写入已有内容再滚动文件
+            if (maxFileSize > 0L && fileLength + buffer.size() > 0L
+                    && fileLength + buffer.size() + bytes.length > maxFileSize) {
+                fileLength = flushBuffer(file, buffer, pending, fileLength);
+                if (FileRecordUtils.rotateFile(file)) fileLength = 0L;
+            }
+            // 新文件先写入文件信息 ( 一个文件只会添加一次文件信息, 且在最顶部 )
+            if (fileLength + buffer.size() == 0L && item.fileInfo != null) {
+                byte[] fileInfo = StringUtils.getBytes(item.fileInfo);
+                if (fileInfo != null) buffer.write(fileInfo, 0, fileInfo.length);
+            }
+            buffer.write(bytes, 0, bytes.length);
+            pending.add(item);
+        }
+        flushBuffer(file, buffer, pending, fileLength);
+    }
+
+    /**
+     * 追加写入缓冲数据并回调结果
+     * @param file       文件
+     * @param buffer     缓冲数据
+     * @param pending    缓冲数据对应的记录
+     * @param fileLength 写入前文件大小
+     * @return 写入后文件大小
+     */
+    private long flushBuffer(
+            final File file,
+            final ByteArrayOutputStream buffer,
+            final List<Item> pending,
+            final long fileLength
+    ) {
+        if (pending.isEmpty()) return fileLength;
+        boolean result = FileUtils.appendFile(file, buffer.toByteArray());
+        long    length = result ? fileLength + buffer.size() : FileUtils.getFileLength(file);
+        for (Item item : pending) {
+            try {
+                FileRecordUtils.dispatchCompleted(
+                        result, item.config, item.filePath,
+                        item.fileName, item.logContent, item.logs
+                );
+            } catch (Exception e) {
+                JCLogUtils.eTag(TAG, e, "flushBuffer");
+            }
+        }
+        buffer.reset();
+        pending.clear();
+        return length;
+    }
+
+    // ========
+    // = 实体类 =
+    // ========
+
+    /**
+     * detail: 记录信息
+     * @author Ttt
+     */
+    static final class Item {
+
+        // 日志记录配置信息
+        final RecordConfig   config;
+        // 存储路径
+        final String         filePath;
+        // 文件名 ( 含后缀 )
+        final String         fileName;
+        // 文件信息
+        final String         fileInfo;
+        // 日志信息
+        final String         logContent;
+        // 原始日志内容数组
+        final Object[]       logs;
+        // flush 标记
+        CountDownLatch       latch;
+
+        Item(
+                RecordConfig config,
+                String filePath,
+                String fileName,
+                String fileInfo,
+                String logContent,
+                Object[] logs
+        ) {
+            this.config     = config;
+            this.filePath   = filePath;
+            this.fileName   = fileName;
+            this.fileInfo   = fileInfo;
+            this.logContent = logContent;
+            this.logs       = logs;
+        }
+    }
+}
\ No newline at end of file
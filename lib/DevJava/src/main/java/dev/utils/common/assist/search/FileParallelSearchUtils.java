@@ -0,0 +1,398 @@
+package dev.utils.common.assist.search;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.utils.JCLogUtils;
+import dev.utils.common.assist.search.FileBreadthFirstSearchUtils.FileItem;
+import dev.utils.common.assist.search.FileBreadthFirstSearchUtils.SearchHandler;
+
+/**
+ * detail: 文件并行搜索算法 ( ForkJoin 工作窃取, 搜索某个目录下的全部文件 )
+ * @author Ttt
+ * <pre>
+ *     每个目录拆分为一个 {@link RecursiveAction} 任务, 空闲线程自动窃取其他线程的子目录任务
+ *     无需轮询队列、无固定延迟等待, 全部任务执行完毕后立即触发 onSearchComplete
+ *     <p></p>
+ *     使用 File.listFiles() 遍历目录, 子节点只判断一次 isDirectory(), 不再额外调用 exists()
+ *     ( 不使用 java.nio.file, 兼容 Android API 26 以下 )
+ *     <p></p>
+ *     不跟随指向其他位置的目录符号链接 ( 对比规范路径, 避免目录环 )
+ *     ForkJoinPool 首次搜索时创建并复用, 修改并行线程数后重新创建
+ *     回调与 {@link FileBreadthFirstSearchUtils} 一致, 可通过 {@link CollectListener} 实时获取搜索结果
+ *     注意: shouldVisitFile、shouldCollectFile、onCollect 会在多个工作线程中并发回调
+ * </pre>
+ */
+public final class FileParallelSearchUtils {
+
+    // 日志 TAG
+    private static final String TAG = FileParallelSearchUtils.class.getSimpleName();
+
+    /**
+     * 构造函数
+     */
+    public FileParallelSearchUtils() {
+    }
+
+    /**
+     * 构造函数
+     * @param searchHandler 搜索处理接口
+     */
+    public FileParallelSearchUtils(final SearchHandler searchHandler) {
+        this.mSearchHandler = searchHandler;
+    }
+
+    /**
+     * detail: 搜索结果实时回调
+     * @author Ttt
+     */
+    public interface CollectListener {
+
+        /**
+         * 添加文件到集合回调 ( 工作线程 )
+         * @param file       文件
+         * @param parentItem 所在文件夹信息对象
+         */
+        void onCollect(
+                File file,
+                FileItem parentItem
+        );
+    }
+
+    // 搜索处理接口
+    private SearchHandler   mSearchHandler;
+    // 搜索结果实时回调
+    private CollectListener mCollectListener;
+
+    /**
+     * 设置搜索处理接口
+     * @param searchHandler 搜索处理接口
+     * @return {@link FileParallelSearchUtils}
+     */
+    public FileParallelSearchUtils setSearchHandler(final SearchHandler searchHandler) {
+        this.mSearchHandler = searchHandler;
+        return this;
+    }
+
+    /**
+     * 设置搜索结果实时回调
+     * @param collectListener 搜索结果实时回调
+     * @return {@link FileParallelSearchUtils}
+     */
+    public FileParallelSearchUtils setCollectListener(final CollectListener collectListener) {
+        this.mCollectListener = collectListener;
+        return this;
+    }
+
+    /**
+     * 获取并行线程数
+     * @return 并行线程数
+     */
+    public int getParallelism() {
+        return mParallelism;
+    }
+
+    /**
+     * 设置并行线程数
+     * @param parallelism 并行线程数
+     * @return {@link FileParallelSearchUtils}
+     */
+    public synchronized FileParallelSearchUtils setParallelism(final int parallelism) {
+        if (mRunning || parallelism <= 0) {
+            return this;
+        }
+        if (mParallelism != parallelism && mPool != null) {
+            mPool.shutdown();
+            mPool = null;
+        }
+        this.mParallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 是否搜索中
+     * @return {@code true} 搜索 / 运行中, {@code false} 非搜索 / 运行中
+     */
+    public boolean isRunning() {
+        return mRunning;
+    }
+
+    /**
+     * 停止搜索
+     */
+    public void stop() {
+        mStop = true;
+    }
+
+    /**
+     * 是否停止搜索
+     * @return {@code true} 已停止搜索, {@code false} 搜索中
+     */
+    public boolean isStop() {
+        return mStop;
+    }
+
+    /**
+     * 获取开始搜索时间 ( 毫秒 )
+     * @return 开始搜索时间 ( 毫秒 )
+     */
+    public long getStartTime() {
+        return mStartTime;
+    }
+
+    /**
+     * 获取结束搜索时间 ( 毫秒 )
+     * @return 结束搜索时间 ( 毫秒 )
+     */
+    public long getEndTime() {
+        return mEndTime;
+    }
+
+    /**
+     * 获取已遍历文件夹数量
+     * @return 已遍历文件夹数量
+     */
+    public long getDirectoryCount() {
+        return mDirectoryCount.get();
+    }
+
+    /**
+     * 获取已添加文件数量
+     * @return 已添加文件数量
+     */
+    public long getCollectCount() {
+        return mCollectCount.get();
+    }
+
+    // =
+
+    // 根目录对象
+    private          FileItem     mRootFileItem;
+    // 判断是否运行中
+    private volatile boolean      mRunning        = false;
+    // 是否停止搜索
+    private volatile boolean      mStop           = false;
+    // 开始搜索时间
+    private          long         mStartTime      = 0L;
+    // 结束搜索时间
+    private          long         mEndTime        = 0L;
+    // 并行线程数
+    private          int          mParallelism    = Runtime.getRuntime().availableProcessors();
+    // 并行线程池 ( 复用 )
+    private          ForkJoinPool mPool;
+    // 已遍历文件夹数量
+    private final    AtomicLong   mDirectoryCount = new AtomicLong();
+    // 已添加文件数量
+    private final    AtomicLong   mCollectCount   = new AtomicLong();
+
+    /**
+     * 搜索目录
+     * @param path 根目录路径
+     */
+    public synchronized void query(final String path) {
+        if (mRunning) {
+            return;
+        } else if (path == null || path.trim().length() == 0) {
+            // 触发结束回调
+            onSearchComplete(null);
+            return;
+        }
+        // 表示运行中
+        mRunning = true;
+        mStop    = false;
+        mDirectoryCount.set(0L);
+        mCollectCount.set(0L);
+        // 设置开始搜索时间
+        mStartTime = System.currentTimeMillis();
+        try {
+            // 获取根目录 File
+            final File file = new File(path);
+            // 初始化根目录
+            mRootFileItem = new FileItem(file);
+            // 判断是否文件夹
+            if (!file.isDirectory()) {
+                // 触发结束回调
+                onSearchComplete(mRootFileItem);
+                return;
+            }
+            if (mPool == null) {
+                mPool = new ForkJoinPool(mParallelism);
+            }
+            mPool.execute(new RootTask(file, mRootFileItem));
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "query");
+            // 触发结束回调
+            onSearchComplete(mRootFileItem);
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 是否访问该节点
+     * @param file 文件或目录
+     * @return {@code true} 访问该节点, {@code false} 跳过该节点及其子树
+     */
+    private boolean shouldVisitFile(final File file) {
+        if (mSearchHandler != null) {
+            return mSearchHandler.shouldVisitFile(file);
+        }
+        return true;
+    }
+
+    /**
+     * 添加文件到集合
+     * @param file       文件
+     * @param parentItem 所在文件夹信息对象
+     */
+    private void collectFile(
+            final File file,
+            final FileItem parentItem
+    ) {
+        if (mSearchHandler != null && !mSearchHandler.shouldCollectFile(file)) {
+            return;
+        }
+        parentItem.put(file);
+        mCollectCount.incrementAndGet();
+        CollectListener listener = mCollectListener;
+        if (listener != null) {
+            try {
+                listener.onCollect(file, parentItem);
+            } catch (Exception e) {
+                JCLogUtils.eTag(TAG, e, "collectFile");
+            }
+        }
+    }
+
+    /**
+     * 搜索结束
+     * @param rootFileItem 根文件信息 {@link FileItem}
+     */
+    private void onSearchComplete(final FileItem rootFileItem) {
+        long startTime = (rootFileItem != null) ? mStartTime : -1;
+        mEndTime = (rootFileItem != null) ? System.currentTimeMillis() : -1;
+        // 表示非搜索中
+        mRunning = false;
+        // 触发回调
+        if (mSearchHandler != null) {
+            mSearchHandler.onSearchComplete(rootFileItem, startTime, mEndTime);
+        }
+    }
+
+    /**
+     * 获取规范路径
+     * @param file 文件
+     * @return 规范路径, 获取失败则返回绝对路径
+     */
+    private static String getCanonicalPath(final File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (Exception e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    /**
+     * detail: 根目录搜索任务 ( 全部子任务执行完毕后触发结束回调 )
+     * @author Ttt
+     */
+    private final class RootTask
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = 4150937262918725903L;
+
+        // 根目录
+        private final File     dir;
+        // 根目录信息对象
+        private final FileItem fileItem;
+
+        RootTask(
+                File dir,
+                FileItem fileItem
+        ) {
+            this.dir      = dir;
+            this.fileItem = fileItem;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (shouldVisitFile(dir)) {
+                    new DirectoryTask(dir, getCanonicalPath(dir), fileItem).invoke();
+                }
+            } catch (Exception e) {
+                JCLogUtils.eTag(TAG, e, "query");
+            } finally {
+                // 触发结束回调
+                onSearchComplete(fileItem);
+            }
+        }
+    }
+
+    /**
+     * detail: 文件夹遍历任务
+     * @author Ttt
+     */
+    private final class DirectoryTask
+            extends RecursiveAction {
+
+        private static final long serialVersionUID = -6452310897420716548L;
+
+        // 当前遍历文件夹
+        private final File     dir;
+        // 当前文件夹规范路径 ( 以分隔符结尾 )
+        private final String   canonicalPath;
+        // 当前文件夹信息对象
+        private final FileItem fileItem;
+
+        DirectoryTask(
+                File dir,
+                String canonicalPath,
+                FileItem fileItem
+        ) {
+            this.dir           = dir;
+            this.canonicalPath = canonicalPath.endsWith(File.separator)
+                    ? canonicalPath : canonicalPath + File.separator;
+            this.fileItem      = fileItem;
+        }
+
+        @Override
+        protected void compute() {
+            if (mStop) return;
+            mDirectoryCount.incrementAndGet();
+            File[] files = dir.listFiles();
+            if (files == null) return;
+            List<DirectoryTask> tasks = null;
+            for (File file : files) {
+                if (mStop) break;
+                if (file.isDirectory()) {
+                    // 规范路径不等于 父目录规范路径 + 名称 则为指向其他位置的符号链接, 跳过
+                    String childPath = getCanonicalPath(file);
+                    if (!childPath.equals(canonicalPath + file.getName())) {
+                        continue;
+                    }
+                    if (!shouldVisitFile(file)) continue;
+                    FileItem subFileItem = fileItem.put(file);
+                    if (tasks == null) tasks = new ArrayList<>();
+                    DirectoryTask task = new DirectoryTask(file, childPath, subFileItem);
+                    // 立即 fork 使子目录可被空闲线程窃取
+                    task.fork();
+                    tasks.add(task);
+                } else {
+                    collectFile(file, fileItem);
+                }
+            }
+            if (tasks != null) {
+                for (DirectoryTask task : tasks) {
+                    task.join();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
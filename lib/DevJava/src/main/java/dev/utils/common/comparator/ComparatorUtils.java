@@ -1,13 +1,16 @@
 package dev.utils.common.comparator;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 import dev.utils.common.CollectionUtils;
 import dev.utils.common.FileUtils;
+import dev.utils.common.comparator.sort.CollationKeyComparator;
 import dev.utils.common.comparator.sort.DateSort;
 import dev.utils.common.comparator.sort.DateSortAsc;
 import dev.utils.common.comparator.sort.DateSortDesc;
@@ -52,6 +55,10 @@ import dev.utils.common.comparator.sort.WindowsExplorerStringSimpleComparator2;
  *     视情况可用以下方法清空 null 数据
  *     {@link CollectionUtils#clearNull(Collection)}
  *     <p></p>
+ *     {@link CollationKeyComparator} 比较器 ( 文件名、Windows 目录排序等 ) 使用排序 Key 排序
+ *     每个元素只计算一次排序 Key, 数据量较大时并行计算、并行排序 ( 稳定排序 )
+ *     {@link #sortByCollationKey(List, CollationKeyComparator)}
+ *     <p></p>
  *     File 排序可直接使用以下方法获取 List
  *     {@link FileUtils#listOrEmpty(File)}
  *     {@link FileUtils#listFilesOrEmpty(File)}
@@ -62,6 +69,9 @@ public final class ComparatorUtils {
     private ComparatorUtils() {
     }
 
+    // 并行排序阈值
+    private static final int PARALLEL_THRESHOLD = 8192;
+
     /**
      * List 反转处理
      * @param list 集合
@@ -82,10 +92,16 @@ public final class ComparatorUtils {
      * @param <T>        泛型
      * @return {@code true} success, {@code false} fail
      */
+    @SuppressWarnings("unchecked")
     public static <T> boolean sort(
             final List<T> list,
             final Comparator<? super T> comparator
     ) {
+        if (comparator instanceof CollationKeyComparator) {
+            return sortByCollationKey(
+                    list, (CollationKeyComparator<? super T, Object>) comparator
+            );
+        }
         if (list != null) {
             Collections.sort(list, comparator);
             return true;
@@ -93,6 +109,49 @@ public final class ComparatorUtils {
         return false;
     }
 
+    /**
+     * List 排序处理 ( 使用排序 Key )
+     * <pre>
+     *     先计算全部元素排序 Key, 再对 Key 排序, 最后按顺序写回 List
+     *     避免 compare 中重复计算 ( 文件名分词、File 属性读取 )
+     * </pre>
+     * @param list       集合
+     * @param comparator 排序 Key 比较器
+     * @param <T>        泛型
+     * @param <K>        排序 Key 类型
+     * @return {@code true} success, {@code false} fail
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K> boolean sortByCollationKey(
+            final List<T> list,
+            final CollationKeyComparator<? super T, K> comparator
+    ) {
+        if (list == null || comparator == null) return false;
+        final Object[]            values  = list.toArray();
+        final CollationEntry<K>[] entries = (CollationEntry<K>[]) new CollationEntry<?>[values.length];
+        final Comparator<CollationEntry<K>> entryComparator = (entry1, entry2) ->
+                comparator.compareCollationKey(entry1.key, entry2.key);
+        if (values.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(entries, index -> new CollationEntry<>(
+                    values[index], comparator.getCollationKey((T) values[index])
+            ));
+            Arrays.parallelSort(entries, entryComparator);
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                entries[i] = new CollationEntry<>(
+                        values[i], comparator.getCollationKey((T) values[i])
+                );
+            }
+            Arrays.sort(entries, entryComparator);
+        }
+        ListIterator<T> iterator = list.listIterator();
+        for (CollationEntry<K> entry : entries) {
+            iterator.next();
+            iterator.set((T) entry.value);
+        }
+        return true;
+    }
+
     /**
      * List 升序处理
      * @param list 集合
@@ -476,4 +535,28 @@ public final class ComparatorUtils {
         if (result) reverse(list);
         return result;
     }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * detail: 排序数据及其排序 Key
+     * @author Ttt
+     */
+    private static final class CollationEntry<K> {
+
+        // 排序数据
+        private final Object value;
+        // 排序 Key
+        private final K      key;
+
+        private CollationEntry(
+                final Object value,
+                final K key
+        ) {
+            this.value = value;
+            this.key   = key;
+        }
+    }
 }
\ No newline at end of file
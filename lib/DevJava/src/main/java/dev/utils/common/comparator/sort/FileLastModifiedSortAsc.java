@@ -1,14 +1,13 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: 文件修改时间升序排序
  * @author Ttt
  */
 public class FileLastModifiedSortAsc
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, Long> {
 
     @Override
     public int compare(
@@ -19,4 +18,17 @@ public class FileLastModifiedSortAsc
         long value2 = (f1 != null) ? f1.lastModified() : 0L;
         return Long.compare(value1, value2);
     }
+
+    @Override
+    public Long getCollationKey(File value) {
+        return (value != null) ? value.lastModified() : 0L;
+    }
+
+    @Override
+    public int compareCollationKey(
+            Long key1,
+            Long key2
+    ) {
+        return Long.compare(key1, key2);
+    }
 }
\ No newline at end of file
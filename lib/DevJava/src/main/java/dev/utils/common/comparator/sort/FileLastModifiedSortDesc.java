@@ -1,14 +1,13 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: 文件修改时间降序排序
  * @author Ttt
  */
 public class FileLastModifiedSortDesc
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, Long> {
 
     @Override
     public int compare(
@@ -19,4 +18,17 @@ public class FileLastModifiedSortDesc
         long value2 = (f1 != null) ? f1.lastModified() : 0L;
         return Long.compare(value2, value1);
     }
+
+    @Override
+    public Long getCollationKey(File value) {
+        return (value != null) ? value.lastModified() : 0L;
+    }
+
+    @Override
+    public int compareCollationKey(
+            Long key1,
+            Long key2
+    ) {
+        return Long.compare(key2, key1);
+    }
 }
\ No newline at end of file
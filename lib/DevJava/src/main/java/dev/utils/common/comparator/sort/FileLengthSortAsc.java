@@ -1,7 +1,6 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: 文件大小升序排序
@@ -11,7 +10,7 @@ import java.util.Comparator;
  * </pre>
  */
 public class FileLengthSortAsc
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, Long> {
 
     @Override
     public int compare(
@@ -22,4 +21,17 @@ public class FileLengthSortAsc
         long value2 = (f1 != null) ? f1.length() : 0L;
         return Long.compare(value1, value2);
     }
+
+    @Override
+    public Long getCollationKey(File value) {
+        return (value != null) ? value.length() : 0L;
+    }
+
+    @Override
+    public int compareCollationKey(
+            Long key1,
+            Long key2
+    ) {
+        return Long.compare(key1, key2);
+    }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: 文件名升序排序
  * @author Ttt
  */
 public class FileNameSortAsc
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, FileNameSortAsc.CollationKey> {
 
     @Override
     public int compare(
@@ -26,4 +25,47 @@ public class FileNameSortAsc
         }
         return f.getName().compareTo(f1.getName());
     }
+
+    @Override
+    public CollationKey getCollationKey(File value) {
+        if (value == null) return null;
+        return new CollationKey(value);
+    }
+
+    @Override
+    public int compareCollationKey(
+            CollationKey key1,
+            CollationKey key2
+    ) {
+        if (key1 == null || key2 == null) {
+            return -1;
+        }
+        if (key1.directory && key2.file) {
+            return -1;
+        }
+        if (key1.file && key2.directory) {
+            return 1;
+        }
+        return key1.name.compareTo(key2.name);
+    }
+
+    /**
+     * detail: 排序 Key ( 文件类型、文件名 )
+     * @author Ttt
+     */
+    public static final class CollationKey {
+
+        // 是否文件夹
+        final boolean directory;
+        // 是否文件
+        final boolean file;
+        // 文件名
+        final String  name;
+
+        CollationKey(File file) {
+            this.directory = file.isDirectory();
+            this.file      = file.isFile();
+            this.name      = file.getName();
+        }
+    }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package dev.utils.common.comparator.sort;
 
 import java.io.File;
-import java.util.Comparator;
 
 /**
  * detail: 文件名降序排序
  * @author Ttt
  */
 public class FileNameSortDesc
-        implements Comparator<File> {
+        implements CollationKeyComparator<File, FileNameSortAsc.CollationKey> {
 
     @Override
     public int compare(
@@ -26,4 +25,27 @@ public class FileNameSortDesc
         }
         return f1.getName().compareTo(f.getName());
     }
+
+    @Override
+    public FileNameSortAsc.CollationKey getCollationKey(File value) {
+        if (value == null) return null;
+        return new FileNameSortAsc.CollationKey(value);
+    }
+
+    @Override
+    public int compareCollationKey(
+            FileNameSortAsc.CollationKey key1,
+            FileNameSortAsc.CollationKey key2
+    ) {
+        if (key1 == null || key2 == null) {
+            return 0;
+        }
+        if (key1.directory && key2.file) {
+            return 1;
+        }
+        if (key1.file && key2.directory) {
+            return -1;
+        }
+        return key2.name.compareTo(key1.name);
+    }
 }
\ No newline at end of file
@@ -1,13 +1,11 @@
 package dev.utils.common.comparator.sort;
 
-import java.util.Comparator;
-
 /**
  * detail: String Windows 排序比较器简单实现
  * @author Ttt
  */
 public class StringSortWindowsSimple<T extends StringSort>
-        implements Comparator<T> {
+        implements CollationKeyComparator<T, WindowsExplorerStringSimpleComparator.SplitFileName> {
 
     private final WindowsExplorerStringSimpleComparator COMPARATOR = new WindowsExplorerStringSimpleComparator();
 
@@ -22,4 +20,19 @@ public class StringSortWindowsSimple<T extends StringSort>
         if (value2 == null) value2 = "";
         return COMPARATOR.compare(value1, value2);
     }
+
+    @Override
+    public WindowsExplorerStringSimpleComparator.SplitFileName getCollationKey(T value) {
+        String sortValue = (value != null) ? value.getStringSortValue() : null;
+        if (sortValue == null) sortValue = "";
+        return COMPARATOR.getCollationKey(sortValue);
+    }
+
+    @Override
+    public int compareCollationKey(
+            WindowsExplorerStringSimpleComparator.SplitFileName key1,
+            WindowsExplorerStringSimpleComparator.SplitFileName key2
+    ) {
+        return COMPARATOR.compareCollationKey(key1, key2);
+    }
 }
\ No newline at end of file
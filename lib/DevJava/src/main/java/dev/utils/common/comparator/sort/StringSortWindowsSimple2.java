@@ -1,13 +1,11 @@
 package dev.utils.common.comparator.sort;
 
-import java.util.Comparator;
-
 /**
  * detail: String Windows 排序比较器简单实现
  * @author Ttt
  */
 public class StringSortWindowsSimple2<T extends StringSort>
-        implements Comparator<T> {
+        implements CollationKeyComparator<T, WindowsExplorerStringSimpleComparator2.CollationKey> {
 
     private final WindowsExplorerStringSimpleComparator2 COMPARATOR = new WindowsExplorerStringSimpleComparator2();
 
@@ -22,4 +20,19 @@ public class StringSortWindowsSimple2<T extends StringSort>
         if (value2 == null) value2 = "";
         return COMPARATOR.compare(value1, value2);
     }
+
+    @Override
+    public WindowsExplorerStringSimpleComparator2.CollationKey getCollationKey(T value) {
+        String sortValue = (value != null) ? value.getStringSortValue() : null;
+        if (sortValue == null) sortValue = "";
+        return COMPARATOR.getCollationKey(sortValue);
+    }
+
+    @Override
+    public int compareCollationKey(
+            WindowsExplorerStringSimpleComparator2.CollationKey key1,
+            WindowsExplorerStringSimpleComparator2.CollationKey key2
+    ) {
+        return COMPARATOR.compareCollationKey(key1, key2);
+    }
 }
\ No newline at end of file
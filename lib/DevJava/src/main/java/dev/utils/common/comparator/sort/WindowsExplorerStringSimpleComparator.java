@@ -1,6 +1,5 @@
 package dev.utils.common.comparator.sort;
 
-import java.util.Comparator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,13 +12,14 @@ import dev.utils.common.StringUtils;
  * <pre>
  *     非完全符合 Windows 目录页排序结果 ( 一定程度上相似 )
  *     用于目录页对比排序, 而非全部子目录完整路径对比
+ *     文件名拆分结果 ( 名称、数字、后缀 ) 作为排序 Key, 排序时每个文件名只拆分一次
  *     <p></p>
  *     代码来源
  *     @see <a href="https://stackoverflow.com/questions/23205020/java-sort-strings-like-windows-explorer"/>
  * </pre>
  */
 public class WindowsExplorerStringSimpleComparator
-        implements Comparator<String> {
+        implements CollationKeyComparator<String, WindowsExplorerStringSimpleComparator.SplitFileName> {
 
     @Override
     public int compare(
@@ -29,22 +29,36 @@ public class WindowsExplorerStringSimpleComparator
         if (o1 == null || o2 == null) {
             return -1;
         }
-        return compareExplorerStyleNames(o1, o2);
+        return compareCollationKey(getCollationKey(o1), getCollationKey(o2));
+    }
+
+    @Override
+    public SplitFileName getCollationKey(String value) {
+        if (value == null) return null;
+        return getSplitFileName(value);
+    }
+
+    @Override
+    public int compareCollationKey(
+            SplitFileName key1,
+            SplitFileName key2
+    ) {
+        if (key1 == null || key2 == null) {
+            return -1;
+        }
+        return compareExplorerStyleNames(key1, key2);
     }
 
     // ==========
     // = 具体实现 =
     // ==========
 
-    private final Pattern splitPattern = Pattern.compile("^(.*?)(\\d*)(?:\\.([^.]*))?$");
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("^(.*?)(\\d*)(?:\\.([^.]*))?$");
 
     private int compareExplorerStyleNames(
-            String str1,
-            String str2
+            SplitFileName data1,
+            SplitFileName data2
     ) {
-        SplitFileName data1 = getSplitFileName(str1);
-        SplitFileName data2 = getSplitFileName(str2);
-
         // Compare the name part case insensitive.
         int result = data1.name.compareToIgnoreCase(data2.name);
         // If name is equal, then compare by number
@@ -64,7 +78,7 @@ public class WindowsExplorerStringSimpleComparator
     }
 
     private SplitFileName getSplitFileName(String fileName) {
-        Matcher matcher = splitPattern.matcher(fileName);
+        Matcher matcher = SPLIT_PATTERN.matcher(fileName);
         if (matcher.matches()) {
             return new SplitFileName(matcher.group(1), matcher.group(2), matcher.group(3));
         } else {
@@ -72,14 +86,18 @@ public class WindowsExplorerStringSimpleComparator
         }
     }
 
-    private static class SplitFileName {
+    /**
+     * detail: 排序 Key ( 文件名拆分结果 )
+     * @author Ttt
+     */
+    public static final class SplitFileName {
 
-        String name;
-        Long   number;
-        String numberText;
-        String ext;
+        private final String name;
+        private final Long   number;
+        private final String numberText;
+        private final String ext;
 
-        public SplitFileName(
+        private SplitFileName(
                 String name,
                 String numberText,
                 String ext
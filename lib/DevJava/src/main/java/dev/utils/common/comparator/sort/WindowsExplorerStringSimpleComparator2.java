@@ -1,11 +1,7 @@
 package dev.utils.common.comparator.sort;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * detail: Windows 目录资源文件名排序比较器
@@ -13,13 +9,14 @@ import java.util.regex.Pattern;
  * <pre>
  *     非完全符合 Windows 目录页排序结果 ( 一定程度上相似 )
  *     用于目录页对比排序, 而非全部子目录完整路径对比
+ *     分词 ( 数字、'.'、空白字符分隔 ) 结果作为排序 Key, 排序时每个文件名只分词一次
  *     <p></p>
  *     代码来源
  *     @see <a href="https://stackoverflow.com/questions/23205020/java-sort-strings-like-windows-explorer"/>
  * </pre>
  */
 public class WindowsExplorerStringSimpleComparator2
-        implements Comparator<String> {
+        implements CollationKeyComparator<String, WindowsExplorerStringSimpleComparator2.CollationKey> {
 
     @Override
     public int compare(
@@ -29,46 +26,48 @@ public class WindowsExplorerStringSimpleComparator2
         if (o1 == null || o2 == null) {
             return -1;
         }
-        return compareExplorerStyleNames(o1, o2);
+        return compareCollationKey(getCollationKey(o1), getCollationKey(o2));
+    }
+
+    @Override
+    public CollationKey getCollationKey(String value) {
+        if (value == null) return null;
+        return new CollationKey(splitStringPreserveDelimiter(value));
+    }
+
+    @Override
+    public int compareCollationKey(
+            CollationKey key1,
+            CollationKey key2
+    ) {
+        if (key1 == null || key2 == null) {
+            return -1;
+        }
+        return compareExplorerStyleNames(key1, key2);
     }
 
     // ==========
     // = 具体实现 =
     // ==========
 
-    private final Pattern splitPattern = Pattern.compile("\\d+|\\.|\\s");
-
     private int compareExplorerStyleNames(
-            String str1,
-            String str2
+            CollationKey key1,
+            CollationKey key2
     ) {
-        Iterator<String> i1 = splitStringPreserveDelimiter(str1).iterator();
-        Iterator<String> i2 = splitStringPreserveDelimiter(str2).iterator();
-        while (true) {
-            // Til here all is equal.
-            if (!i1.hasNext() && !i2.hasNext()) {
-                return 0;
-            }
-            // first has no more parts -> comes first
-            if (!i1.hasNext() && i2.hasNext()) {
-                return -1;
-            }
-            // first has more parts than i2 -> comes after
-            if (i1.hasNext() && !i2.hasNext()) {
-                return 1;
-            }
-
-            String data1 = i1.next();
-            String data2 = i2.next();
+        int length1 = key1.tokens.length;
+        int length2 = key2.tokens.length;
+        for (int i = 0, len = Math.min(length1, length2); i < len; i++) {
+            String data1 = key1.tokens[i];
+            String data2 = key2.tokens[i];
             int    result;
-            try {
+            if (key1.numeric[i] && key2.numeric[i]) {
                 // If both datas are numbers, then compare numbers
-                result = Long.compare(Long.parseLong(data1), Long.parseLong(data2));
+                result = Long.compare(key1.numbers[i], key2.numbers[i]);
                 // If numbers are equal than longer comes first
                 if (result == 0) {
                     result = -Integer.compare(data1.length(), data2.length());
                 }
-            } catch (NumberFormatException ex) {
+            } else {
                 // compare text case insensitive
                 result = data1.compareToIgnoreCase(data2);
             }
@@ -77,18 +76,89 @@ public class WindowsExplorerStringSimpleComparator2
                 return result;
             }
         }
+        // first has no more parts -> comes first
+        return Integer.compare(length1, length2);
     }
 
-    private List<String> splitStringPreserveDelimiter(String str) {
-        Matcher      matcher = splitPattern.matcher(str);
-        List<String> list    = new ArrayList<>();
-        int          pos     = 0;
-        while (matcher.find()) {
-            list.add(str.substring(pos, matcher.start()));
-            list.add(matcher.group());
-            pos = matcher.end();
+    /**
+     * 拆分字符串并保留分隔符 ( 分隔符: 数字串、'.'、空白字符 )
+     * @param str 待拆分字符串
+     * @return 拆分后的集合
+     */
+    private static List<String> splitStringPreserveDelimiter(String str) {
+        List<String> list = new ArrayList<>();
+        int          pos  = 0;
+        int          i    = 0;
+        int          len  = str.length();
+        while (i < len) {
+            char c = str.charAt(i);
+            int  end;
+            if (c >= '0' && c <= '9') {
+                end = i + 1;
+                while (end < len && str.charAt(end) >= '0' && str.charAt(end) <= '9') {
+                    end++;
+                }
+            } else if (c == '.' || c == ' ' || c == '\t' || c == '\n'
+                    || c == '\u000B' || c == '\f' || c == '\r') {
+                end = i + 1;
+            } else {
+                i++;
+                continue;
+            }
+            list.add(str.substring(pos, i));
+            list.add(str.substring(i, end));
+            pos = end;
+            i   = end;
         }
         list.add(str.substring(pos));
         return list;
     }
+
+    /**
+     * detail: 排序 Key ( 文件名分词结果 )
+     * @author Ttt
+     */
+    public static final class CollationKey {
+
+        // 分词
+        private final String[]  tokens;
+        // 分词数值
+        private final long[]    numbers;
+        // 分词是否数值
+        private final boolean[] numeric;
+
+        private CollationKey(List<String> list) {
+            int size = list.size();
+            tokens  = list.toArray(new String[size]);
+            numbers = new long[size];
+            numeric = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                String token = tokens[i];
+                if (isNumberCandidate(token)) {
+                    try {
+                        numbers[i] = Long.parseLong(token);
+                        numeric[i] = true;
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * 是否可能为数值 ( 过滤必定解析失败的分词, 避免异常 )
+         * @param token 分词
+         * @return {@code true} yes, {@code false} no
+         */
+        private static boolean isNumberCandidate(String token) {
+            int len = token.length();
+            if (len == 0) return false;
+            char first = token.charAt(0);
+            int  start = (first == '-' || first == '+') ? 1 : 0;
+            if (start == len) return false;
+            for (int i = start; i < len; i++) {
+                if (!Character.isDigit(token.charAt(i))) return false;
+            }
+            return true;
+        }
+    }
 }
\ No newline at end of file
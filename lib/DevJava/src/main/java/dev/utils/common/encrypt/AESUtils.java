@@ -1,9 +1,12 @@
 package dev.utils.common.encrypt;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 
 import dev.utils.JCLogUtils;
 
@@ -13,6 +16,12 @@ import dev.utils.JCLogUtils;
  * <pre>
  *     Advanced Encryption Standard 高级数据加密标准 ( 对称加密算法 )
  *     AES 算法可以有效抵制针对 DES 的攻击算法
+ *     <p></p>
+ *     Cipher 按线程、密钥缓存复用, 流式方法按 64KB 分块处理, 不需要将完整数据读入内存
+ *     GCM 方法为认证加密, 数据被篡改、截断时解密失败
+ *     byte[] 格式: IV (12 byte) + 密文 + 认证标签 (16 byte)
+ *     流格式: 分段大小 + salt + nonce 前缀 + 每个分段独立认证的密文 ( 与 byte[] 格式不通用 )
+ *     每个流使用随机 salt 派生独立子密钥, 同一密钥加密大量流时 nonce 不会冲突
  * </pre>
  */
 public final class AESUtils {
@@ -23,6 +32,14 @@ public final class AESUtils {
     // 日志 TAG
     private static final String TAG = AESUtils.class.getSimpleName();
 
+    // 加密方式
+    private static final String TRANSFORMATION = "AES";
+    // 密钥算法
+    private static final String ALGORITHM      = "AES";
+
+    // GCM 分段流默认分段大小
+    public static final int GCM_SEGMENT_SIZE = 64 * 1024;
+
     /**
      * 生成密钥
      * @return 密钥 byte[]
@@ -51,10 +68,9 @@ public final class AESUtils {
     ) {
         if (data == null || key == null) return null;
         try {
-            SecretKey secretKey = new SecretKeySpec(key, "AES");
-            Cipher    cipher    = Cipher.getInstance("AES");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, data
+            );
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "encrypt");
         }
@@ -73,13 +89,222 @@ public final class AESUtils {
     ) {
         if (data == null || key == null) return null;
         try {
-            SecretKey secretKey = new SecretKeySpec(key, "AES");
-            Cipher    cipher    = Cipher.getInstance("AES");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, data
+            );
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "decrypt");
         }
         return null;
     }
+
+    /**
+     * AES 加密 ByteBuffer
+     * @param input  待加密数据 ( position 至 limit )
+     * @param output 加密数据写入 ( 剩余空间需大于待加密数据长度 + 16 )
+     * @param key    密钥
+     * @return 写入 output 字节数, 失败则返回 -1
+     */
+    public static int encrypt(
+            final ByteBuffer input,
+            final ByteBuffer output,
+            final byte[] key
+    ) {
+        if (input == null || output == null || key == null) return -1;
+        try {
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, input, output
+            );
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encrypt");
+        }
+        return -1;
+    }
+
+    /**
+     * AES 解密 ByteBuffer
+     * @param input  待解密数据 ( position 至 limit )
+     * @param output 解密数据写入 ( 剩余空间需大于等于待解密数据长度 )
+     * @param key    密钥
+     * @return 写入 output 字节数, 失败则返回 -1
+     */
+    public static int decrypt(
+            final ByteBuffer input,
+            final ByteBuffer output,
+            final byte[] key
+    ) {
+        if (input == null || output == null || key == null) return -1;
+        try {
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, input, output
+            );
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decrypt");
+        }
+        return -1;
+    }
+
+    /**
+     * AES 加密流 ( 分块处理, 结果与 byte[] 加密一致, 不关闭传入的流 )
+     * @param inputStream  待加密输入流
+     * @param outputStream 加密输出流
+     * @param key          密钥
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean encrypt(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, inputStream, outputStream
+            );
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encrypt");
+        }
+        return false;
+    }
+
+    /**
+     * AES 解密流 ( 分块处理, 结果与 byte[] 解密一致, 不关闭传入的流 )
+     * @param inputStream  待解密输入流
+     * @param outputStream 解密输出流
+     * @param key          密钥
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean decrypt(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, inputStream, outputStream
+            );
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decrypt");
+        }
+        return false;
+    }
+
+    // =======
+    // = GCM =
+    // =======
+
+    /**
+     * AES/GCM 加密
+     * @param data 待加密数据
+     * @param key  密钥
+     * @param aad  附加认证数据 ( 不加密, 解密时需一致, 可为 null )
+     * @return IV + 密文 + 认证标签
+     */
+    public static byte[] encryptGCM(
+            final byte[] data,
+            final byte[] key,
+            final byte[] aad
+    ) {
+        if (data == null || key == null) return null;
+        try {
+            return CipherSession.encryptGCM(key, data, aad);
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encryptGCM");
+        }
+        return null;
+    }
+
+    /**
+     * AES/GCM 解密
+     * @param data IV + 密文 + 认证标签
+     * @param key  密钥
+     * @param aad  附加认证数据 ( 可为 null )
+     * @return 解密后的 byte[], 认证失败则返回 null
+     */
+    public static byte[] decryptGCM(
+            final byte[] data,
+            final byte[] key,
+            final byte[] aad
+    ) {
+        if (data == null || key == null) return null;
+        try {
+            return CipherSession.decryptGCM(key, data, aad);
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decryptGCM");
+        }
+        return null;
+    }
+
+    /**
+     * AES/GCM 分段加密流 ( 不关闭传入的流 )
+     * @param inputStream  待加密输入流
+     * @param outputStream 加密输出流
+     * @param key          密钥
+     * @param aad          附加认证数据 ( 可为 null )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean encryptGCM(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key,
+            final byte[] aad
+    ) {
+        return encryptGCM(inputStream, outputStream, key, aad, GCM_SEGMENT_SIZE);
+    }
+
+    /**
+     * AES/GCM 分段加密流 ( 不关闭传入的流 )
+     * @param inputStream  待加密输入流
+     * @param outputStream 加密输出流
+     * @param key          密钥
+     * @param aad          附加认证数据 ( 可为 null )
+     * @param segmentSize  分段大小 ( 最大 16MB, 解密时从流中读取 )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean encryptGCM(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key,
+            final byte[] aad,
+            final int segmentSize
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.encryptGCM(key, aad, segmentSize, inputStream, outputStream);
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encryptGCM");
+        }
+        return false;
+    }
+
+    /**
+     * AES/GCM 分段解密流 ( 不关闭传入的流 )
+     * <pre>
+     *     每个分段认证通过后写入, 返回 false 时输出流可能已写入部分明文, 需丢弃
+     * </pre>
+     * @param inputStream  待解密输入流
+     * @param outputStream 解密输出流
+     * @param key          密钥
+     * @param aad          附加认证数据 ( 可为 null )
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean decryptGCM(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key,
+            final byte[] aad
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.decryptGCM(key, aad, inputStream, outputStream);
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decryptGCM");
+        }
+        return false;
+    }
 }
\ No newline at end of file
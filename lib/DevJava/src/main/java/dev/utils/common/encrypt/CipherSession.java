@@ -0,0 +1,619 @@
+package dev.utils.common.encrypt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * detail: 对称加密 Cipher 会话
+ * @author Ttt
+ * <pre>
+ *     按线程缓存 Cipher ( 算法 + 加解密模式 + 密钥 ), 避免每次调用 Cipher.getInstance、构建密钥
+ *     使用时从缓存取出, 成功后归还, 异常时丢弃 ( 避免复用状态异常的 Cipher )
+ *     <p></p>
+ *     流式处理按固定大小分块, 不需要将完整数据读入内存
+ *     GCM 分段流格式: 分段大小 (4 byte) + salt (16 byte) + nonce 前缀 (7 byte) + 分段密文 ...
+ *     每个流使用 HKDF-SHA256 ( 密钥 + 随机 salt ) 派生独立子密钥, 同一密钥加密的流之间 nonce 不会冲突
+ *     每段独立认证, nonce = 前缀 + 分段索引 (4 byte) + 是否最后分段 (1 byte), 可检测截断、重排
+ *     流处理不关闭传入的输入输出流
+ * </pre>
+ */
+final class CipherSession {
+
+    private CipherSession() {
+    }
+
+    // 流式处理分块大小
+    static final int    BUFFER_SIZE        = 64 * 1024;
+    // GCM IV 长度
+    static final int    GCM_IV_LENGTH      = 12;
+    // GCM 认证标签长度
+    static final int    GCM_TAG_LENGTH     = 16;
+    // GCM 分段流 nonce 前缀长度
+    static final int    GCM_PREFIX_LENGTH  = 7;
+    // GCM 分段流子密钥派生 salt 长度
+    static final int    GCM_SALT_LENGTH    = 16;
+    // GCM 分段流头部长度 ( 分段大小 + salt + nonce 前缀 )
+    static final int    GCM_HEADER_LENGTH  = 4 + GCM_SALT_LENGTH + GCM_PREFIX_LENGTH;
+    // GCM 分段流最大分段大小
+    static final int    GCM_MAX_SEGMENT    = 16 * 1024 * 1024;
+    // GCM 加密方式
+    static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    // 每个线程缓存 Cipher 数量
+    private static final int    POOL_SIZE     = 8;
+    // GCM 分段流子密钥派生 info
+    private static final byte[] GCM_HKDF_INFO = "dev.utils.AES-GCM-Stream".getBytes(StandardCharsets.UTF_8);
+
+    // 随机数生成 ( IV、salt、nonce 前缀 )
+    private static final SecureRandom                                      RANDOM = new SecureRandom();
+    // 线程 Cipher 缓存
+    private static final ThreadLocal<LinkedHashMap<PoolKey, PooledCipher>> POOL   = new ThreadLocal<LinkedHashMap<PoolKey, PooledCipher>>() {
+        @Override
+        protected LinkedHashMap<PoolKey, PooledCipher> initialValue() {
+            return new LinkedHashMap<PoolKey, PooledCipher>(POOL_SIZE, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PoolKey, PooledCipher> eldest) {
+                    return size() > POOL_SIZE;
+                }
+            };
+        }
+    };
+
+    // ==========
+    // = 缓存操作 =
+    // ==========
+
+    /**
+     * 取出 Cipher ( 未缓存则创建 )
+     * @param transformation 加密方式
+     * @param algorithm      密钥算法
+     * @param mode           加解密模式
+     * @param key            密钥
+     * @param init           是否使用密钥初始化 ( 需要 IV 的模式由调用方初始化 )
+     * @return {@link PooledCipher}
+     * @throws GeneralSecurityException 创建失败
+     */
+    static PooledCipher acquire(
+            final String transformation,
+            final String algorithm,
+            final int mode,
+            final byte[] key,
+            final boolean init
+    )
+            throws GeneralSecurityException {
+        PoolKey      poolKey = new PoolKey(transformation, mode, key);
+        PooledCipher entry   = POOL.get().remove(poolKey);
+        if (entry == null) {
+            entry = new PooledCipher(
+                    poolKey, Cipher.getInstance(transformation),
+                    new SecretKeySpec(key, algorithm)
+            );
+            if (init) entry.cipher.init(mode, entry.keySpec);
+        }
+        return entry;
+    }
+
+    /**
+     * 归还 Cipher
+     * @param entry {@link PooledCipher}
+     */
+    static void release(final PooledCipher entry) {
+        POOL.get().put(entry.poolKey, entry);
+    }
+
+    /**
+     * 清空当前线程缓存
+     */
+    static void clear() {
+        POOL.get().clear();
+    }
+
+    // ==========
+    // = 整体处理 =
+    // ==========
+
+    /**
+     * 加解密 byte[]
+     * @param transformation 加密方式
+     * @param algorithm      密钥算法
+     * @param mode           加解密模式
+     * @param key            密钥
+     * @param data           数据
+     * @return 处理后的 byte[]
+     * @throws GeneralSecurityException 处理失败
+     */
+    static byte[] doFinal(
+            final String transformation,
+            final String algorithm,
+            final int mode,
+            final byte[] key,
+            final byte[] data
+    )
+            throws GeneralSecurityException {
+        PooledCipher entry  = acquire(transformation, algorithm, mode, key, true);
+        byte[]       result = entry.cipher.doFinal(data);
+        release(entry);
+        return result;
+    }
+
+    /**
+     * 加解密 ByteBuffer
+     * @param transformation 加密方式
+     * @param algorithm      密钥算法
+     * @param mode           加解密模式
+     * @param key            密钥
+     * @param input          输入数据 ( position 至 limit )
+     * @param output         输出数据 ( 从 position 开始写入 )
+     * @return 写入 output 字节数
+     * @throws GeneralSecurityException 处理失败 ( output 剩余空间不足等 )
+     */
+    static int doFinal(
+            final String transformation,
+            final String algorithm,
+            final int mode,
+            final byte[] key,
+            final ByteBuffer input,
+            final ByteBuffer output
+    )
+            throws GeneralSecurityException {
+        PooledCipher entry  = acquire(transformation, algorithm, mode, key, true);
+        int          result = entry.cipher.doFinal(input, output);
+        release(entry);
+        return result;
+    }
+
+    /**
+     * 分块加解密流
+     * @param transformation 加密方式
+     * @param algorithm      密钥算法
+     * @param mode           加解密模式
+     * @param key            密钥
+     * @param inputStream    输入流
+     * @param outputStream   输出流
+     * @throws GeneralSecurityException 处理失败
+     * @throws IOException              读写失败
+     */
+    static void doFinal(
+            final String transformation,
+            final String algorithm,
+            final int mode,
+            final byte[] key,
+            final InputStream inputStream,
+            final OutputStream outputStream
+    )
+            throws GeneralSecurityException, IOException {
+        PooledCipher entry  = acquire(transformation, algorithm, mode, key, true);
+        Cipher       cipher = entry.cipher;
+        byte[]       buffer = new byte[BUFFER_SIZE];
+        byte[]       output = new byte[cipher.getOutputSize(BUFFER_SIZE)];
+        int          len;
+        while ((len = inputStream.read(buffer)) != -1) {
+            int count = cipher.update(buffer, 0, len, output);
+            if (count > 0) outputStream.write(output, 0, count);
+        }
+        int count = cipher.doFinal(output, 0);
+        if (count > 0) outputStream.write(output, 0, count);
+        outputStream.flush();
+        release(entry);
+    }
+
+    // =======
+    // = GCM =
+    // =======
+
+    /**
+     * GCM 加密 byte[]
+     * @param key  密钥
+     * @param data 待加密数据
+     * @param aad  附加认证数据 ( 可为 null )
+     * @return IV + 密文 + 认证标签
+     * @throws GeneralSecurityException 加密失败
+     */
+    static byte[] encryptGCM(
+            final byte[] key,
+            final byte[] data,
+            final byte[] aad
+    )
+            throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        PooledCipher entry  = acquireGCM(Cipher.ENCRYPT_MODE, key, iv, 0, aad);
+        Cipher       cipher = entry.cipher;
+        byte[]       result = new byte[GCM_IV_LENGTH + cipher.getOutputSize(data.length)];
+        System.arraycopy(iv, 0, result, 0, GCM_IV_LENGTH);
+        int count = cipher.doFinal(data, 0, data.length, result, GCM_IV_LENGTH);
+        release(entry);
+        return (GCM_IV_LENGTH + count == result.length) ? result
+                : Arrays.copyOf(result, GCM_IV_LENGTH + count);
+    }
+
+    /**
+     * GCM 解密 byte[]
+     * @param key  密钥
+     * @param data IV + 密文 + 认证标签
+     * @param aad  附加认证数据 ( 可为 null )
+     * @return 解密后的 byte[]
+     * @throws GeneralSecurityException 解密失败、认证失败
+     */
+    static byte[] decryptGCM(
+            final byte[] key,
+            final byte[] data,
+            final byte[] aad
+    )
+            throws GeneralSecurityException {
+        if (data.length < GCM_IV_LENGTH + GCM_TAG_LENGTH) {
+            throw new AEADBadTagException("data too short");
+        }
+        PooledCipher entry  = acquireGCM(Cipher.DECRYPT_MODE, key, data, 0, aad);
+        byte[]       result = entry.cipher.doFinal(data, GCM_IV_LENGTH, data.length - GCM_IV_LENGTH);
+        release(entry);
+        return result;
+    }
+
+    /**
+     * GCM 分段加密流
+     * @param key          密钥
+     * @param aad          附加认证数据 ( 可为 null, 每个分段均认证 )
+     * @param segmentSize  明文分段大小
+     * @param inputStream  输入流
+     * @param outputStream 输出流
+     * @throws GeneralSecurityException 加密失败
+     * @throws IOException              读写失败
+     */
+    static void encryptGCM(
+            final byte[] key,
+            final byte[] aad,
+            final int segmentSize,
+            final InputStream inputStream,
+            final OutputStream outputStream
+    )
+            throws GeneralSecurityException, IOException {
+        if (segmentSize <= 0 || segmentSize > GCM_MAX_SEGMENT) {
+            throw new IllegalArgumentException("segmentSize: " + segmentSize);
+        }
+        // 写入头部 ( 分段大小 + salt + nonce 前缀 )
+        byte[] header = new byte[GCM_HEADER_LENGTH];
+        RANDOM.nextBytes(header);
+        writeInt(header, 0, segmentSize);
+        byte[] nonce = new byte[GCM_IV_LENGTH];
+        System.arraycopy(header, 4 + GCM_SALT_LENGTH, nonce, 0, GCM_PREFIX_LENGTH);
+        // 派生当前流子密钥 ( 不放入 Cipher 缓存 )
+        PooledCipher entry = acquireStream(key, header);
+        outputStream.write(header);
+
+        byte[] current       = new byte[segmentSize];
+        byte[] next          = new byte[segmentSize];
+        byte[] output        = new byte[segmentSize + GCM_TAG_LENGTH];
+        int    currentLength = readFully(inputStream, current);
+        int    index         = 0;
+        while (true) {
+            int nextLength = (currentLength == segmentSize) ? readFully(inputStream, next) : 0;
+            boolean last   = (nextLength == 0);
+            segmentNonce(nonce, index, last);
+            initGCM(entry, Cipher.ENCRYPT_MODE, nonce, 0, aad);
+            int count = entry.cipher.doFinal(current, 0, currentLength, output, 0);
+            outputStream.write(output, 0, count);
+            if (last) break;
+            if (++index == 0) throw new GeneralSecurityException("too many segments");
+            byte[] temp = current;
+            current       = next;
+            next          = temp;
+            currentLength = nextLength;
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * GCM 分段解密流
+     * <pre>
+     *     分段认证通过后才写入输出流, 认证失败时输出流可能已写入之前分段的明文, 调用方需丢弃
+     * </pre>
+     * @param key          密钥
+     * @param aad          附加认证数据 ( 可为 null )
+     * @param inputStream  输入流
+     * @param outputStream 输出流
+     * @throws GeneralSecurityException 解密失败、认证失败、数据被截断
+     * @throws IOException              读写失败
+     */
+    static void decryptGCM(
+            final byte[] key,
+            final byte[] aad,
+            final InputStream inputStream,
+            final OutputStream outputStream
+    )
+            throws GeneralSecurityException, IOException {
+        byte[] header = new byte[GCM_HEADER_LENGTH];
+        if (readFully(inputStream, header) != header.length) {
+            throw new AEADBadTagException("header truncated");
+        }
+        int segmentSize = readInt(header, 0);
+        if (segmentSize <= 0 || segmentSize > GCM_MAX_SEGMENT) {
+            throw new AEADBadTagException("segmentSize: " + segmentSize);
+        }
+        byte[] nonce = new byte[GCM_IV_LENGTH];
+        System.arraycopy(header, 4 + GCM_SALT_LENGTH, nonce, 0, GCM_PREFIX_LENGTH);
+        // 派生当前流子密钥 ( 不放入 Cipher 缓存 )
+        PooledCipher entry = acquireStream(key, header);
+
+        int    cipherSize    = segmentSize + GCM_TAG_LENGTH;
+        byte[] current       = new byte[cipherSize];
+        byte[] next          = new byte[cipherSize];
+        byte[] output        = new byte[cipherSize];
+        int    currentLength = readFully(inputStream, current);
+        int    index         = 0;
+        while (true) {
+            if (currentLength < GCM_TAG_LENGTH) {
+                throw new AEADBadTagException("segment truncated");
+            }
+            int nextLength = (currentLength == cipherSize) ? readFully(inputStream, next) : 0;
+            boolean last   = (nextLength == 0);
+            segmentNonce(nonce, index, last);
+            initGCM(entry, Cipher.DECRYPT_MODE, nonce, 0, aad);
+            int count = entry.cipher.doFinal(current, 0, currentLength, output, 0);
+            outputStream.write(output, 0, count);
+            if (last) break;
+            if (++index == 0) throw new AEADBadTagException("too many segments");
+            byte[] temp = current;
+            current       = next;
+            next          = temp;
+            currentLength = nextLength;
+        }
+        outputStream.flush();
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 取出 GCM Cipher 并使用 IV 初始化
+     * @param mode   加解密模式
+     * @param key    密钥
+     * @param iv     IV 所在数组
+     * @param offset IV 起始索引
+     * @param aad    附加认证数据 ( 可为 null )
+     * @return {@link PooledCipher}
+     * @throws GeneralSecurityException 初始化失败
+     */
+    private static PooledCipher acquireGCM(
+            final int mode,
+            final byte[] key,
+            final byte[] iv,
+            final int offset,
+            final byte[] aad
+    )
+            throws GeneralSecurityException {
+        PooledCipher entry = acquire(GCM_TRANSFORMATION, "AES", mode, key, false);
+        initGCM(entry, mode, iv, offset, aad);
+        return entry;
+    }
+
+    /**
+     * 使用 IV 初始化 GCM Cipher
+     * @param entry  {@link PooledCipher}
+     * @param mode   加解密模式
+     * @param iv     IV 所在数组
+     * @param offset IV 起始索引
+     * @param aad    附加认证数据 ( 可为 null )
+     * @throws GeneralSecurityException 初始化失败
+     */
+    private static void initGCM(
+            final PooledCipher entry,
+            final int mode,
+            final byte[] iv,
+            final int offset,
+            final byte[] aad
+    )
+            throws GeneralSecurityException {
+        entry.cipher.init(mode, entry.keySpec, new GCMParameterSpec(
+                GCM_TAG_LENGTH * 8, iv, offset, GCM_IV_LENGTH
+        ));
+        if (aad != null && aad.length != 0) entry.cipher.updateAAD(aad);
+    }
+
+    /**
+     * 创建 GCM 分段流 Cipher ( 使用头部 salt 派生子密钥 )
+     * <pre>
+     *     子密钥每个流唯一, 不放入线程缓存, 避免挤出可复用的 Cipher
+     * </pre>
+     * @param key    密钥
+     * @param header 分段流头部
+     * @return {@link PooledCipher}
+     * @throws GeneralSecurityException 创建失败
+     */
+    private static PooledCipher acquireStream(
+            final byte[] key,
+            final byte[] header
+    )
+            throws GeneralSecurityException {
+        byte[] salt   = Arrays.copyOfRange(header, 4, 4 + GCM_SALT_LENGTH);
+        byte[] subKey = hkdfSha256(key, salt, GCM_HKDF_INFO, key.length);
+        return new PooledCipher(
+                null, Cipher.getInstance(GCM_TRANSFORMATION),
+                new SecretKeySpec(subKey, "AES")
+        );
+    }
+
+    /**
+     * HKDF-SHA256 密钥派生 ( RFC 5869 )
+     * @param ikm    原始密钥
+     * @param salt   salt
+     * @param info   上下文信息
+     * @param length 派生密钥长度
+     * @return 派生密钥
+     * @throws GeneralSecurityException 派生失败
+     */
+    private static byte[] hkdfSha256(
+            final byte[] ikm,
+            final byte[] salt,
+            final byte[] info,
+            final int length
+    )
+            throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        // extract
+        mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+        byte[] prk = mac.doFinal(ikm);
+        // expand
+        mac.init(new SecretKeySpec(prk, "HmacSHA256"));
+        byte[] result = new byte[length];
+        byte[] block  = new byte[0];
+        int    offset = 0;
+        for (int i = 1; offset < length; i++) {
+            mac.update(block);
+            mac.update(info);
+            mac.update((byte) i);
+            block = mac.doFinal();
+            int count = Math.min(block.length, length - offset);
+            System.arraycopy(block, 0, result, offset, count);
+            offset += count;
+        }
+        return result;
+    }
+
+    /**
+     * 设置分段 nonce ( 前缀 + 分段索引 + 是否最后分段 )
+     * @param nonce nonce
+     * @param index 分段索引
+     * @param last  是否最后分段
+     */
+    private static void segmentNonce(
+            final byte[] nonce,
+            final int index,
+            final boolean last
+    ) {
+        writeInt(nonce, GCM_PREFIX_LENGTH, index);
+        nonce[GCM_IV_LENGTH - 1] = (byte) (last ? 1 : 0);
+    }
+
+    /**
+     * 读取数据直到填满数组或流结束
+     * @param inputStream 输入流
+     * @param buffer      数组
+     * @return 读取字节数
+     * @throws IOException 读取失败
+     */
+    private static int readFully(
+            final InputStream inputStream,
+            final byte[] buffer
+    )
+            throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int len = inputStream.read(buffer, total, buffer.length - total);
+            if (len == -1) break;
+            total += len;
+        }
+        return total;
+    }
+
+    /**
+     * 写入 int ( 大端序 )
+     * @param buffer 数组
+     * @param offset 起始索引
+     * @param value  int 值
+     */
+    private static void writeInt(
+            final byte[] buffer,
+            final int offset,
+            final int value
+    ) {
+        buffer[offset]     = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    /**
+     * 读取 int ( 大端序 )
+     * @param buffer 数组
+     * @param offset 起始索引
+     * @return int 值
+     */
+    private static int readInt(
+            final byte[] buffer,
+            final int offset
+    ) {
+        return ((buffer[offset] & 0xFF) << 24) | ((buffer[offset + 1] & 0xFF) << 16)
+                | ((buffer[offset + 2] & 0xFF) << 8) | (buffer[offset + 3] & 0xFF);
+    }
+
+    /**
+     * detail: 缓存 Cipher
+     * @author Ttt
+     */
+    static final class PooledCipher {
+
+        // 缓存 key
+        final PoolKey       poolKey;
+        // Cipher
+        final Cipher        cipher;
+        // 密钥
+        final SecretKeySpec keySpec;
+
+        PooledCipher(
+                final PoolKey poolKey,
+                final Cipher cipher,
+                final SecretKeySpec keySpec
+        ) {
+            this.poolKey = poolKey;
+            this.cipher  = cipher;
+            this.keySpec = keySpec;
+        }
+    }
+
+    /**
+     * detail: 缓存 key ( 加密方式 + 加解密模式 + 密钥 )
+     * @author Ttt
+     */
+    static final class PoolKey {
+
+        // 加密方式
+        private final String transformation;
+        // 加解密模式
+        private final int    mode;
+        // 密钥
+        private final byte[] key;
+        // hashCode
+        private final int    hash;
+
+        PoolKey(
+                final String transformation,
+                final int mode,
+                final byte[] key
+        ) {
+            this.transformation = transformation;
+            this.mode           = mode;
+            this.key            = key.clone();
+            this.hash           = (transformation.hashCode() * 31 + mode) * 31 + Arrays.hashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (!(object instanceof PoolKey)) return false;
+            PoolKey other = (PoolKey) object;
+            return hash == other.hash && mode == other.mode
+                    && transformation.equals(other.transformation)
+                    && Arrays.equals(key, other.key);
+        }
+    }
+}
\ No newline at end of file
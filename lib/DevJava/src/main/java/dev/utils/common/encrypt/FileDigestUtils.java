@@ -0,0 +1,386 @@
+package dev.utils.common.encrypt;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.utils.JCLogUtils;
+import dev.utils.common.CloseUtils;
+import dev.utils.common.ConvertUtils;
+import dev.utils.common.file.FilePartAssist;
+import dev.utils.common.file.FilePartItem;
+
+/**
+ * detail: 文件摘要工具类 ( 单次读取多摘要、分片并行摘要 )
+ * @author Ttt
+ * <pre>
+ *     单次读取文件同时计算多个摘要, 避免 MD5、SHA256、CRC32 分别读取整个文件
+ *     FileDigestUtils.digest(file, null, "MD5", "SHA-256", FileDigestUtils.CRC32);
+ *     <p></p>
+ *     分片摘要按 {@link FilePartAssist} 分片布局并行计算每个分片摘要 ( 多线程定位读取同一 FileChannel )
+ *     根摘要 = 按分片顺序拼接的分片摘要再计算一次摘要 ( 树形摘要, 与普通文件摘要值不同 )
+ *     FileDigestUtils.digestParts(new FilePartAssist(file, 8), "SHA-256", 4, listener);
+ * </pre>
+ */
+public final class FileDigestUtils {
+
+    private FileDigestUtils() {
+    }
+
+    // 日志 TAG
+    private static final String TAG = FileDigestUtils.class.getSimpleName();
+
+    // CRC32 算法名 ( 非 MessageDigest 算法, 结果为 4 字节大端序 )
+    public static final String CRC32       = "CRC32";
+    // 读取缓冲大小
+    public static final int    BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * detail: 摘要进度回调
+     * @author Ttt
+     */
+    public interface ProgressListener {
+
+        /**
+         * 进度回调 ( 分片摘要时会在多个线程中回调 )
+         * @param current 已读取字节数
+         * @param total   总字节数
+         */
+        void onProgress(
+                long current,
+                long total
+        );
+    }
+
+    /**
+     * detail: 分片摘要结果
+     * @author Ttt
+     */
+    public static final class PartDigest {
+
+        // 摘要算法
+        private final String       algorithm;
+        // 分片摘要集合 ( 按分片索引排序 )
+        private final List<byte[]> partDigests;
+        // 根摘要
+        private final byte[]       rootDigest;
+
+        PartDigest(
+                final String algorithm,
+                final List<byte[]> partDigests,
+                final byte[] rootDigest
+        ) {
+            this.algorithm   = algorithm;
+            this.partDigests = partDigests;
+            this.rootDigest  = rootDigest;
+        }
+
+        /**
+         * 获取摘要算法
+         * @return 摘要算法
+         */
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * 获取分片摘要集合
+         * @return 分片摘要集合
+         */
+        public List<byte[]> getPartDigests() {
+            return partDigests;
+        }
+
+        /**
+         * 获取指定分片摘要十六进制字符串
+         * @param partIndex 分片索引
+         * @return 分片摘要十六进制字符串
+         */
+        public String getPartDigestToHexString(final int partIndex) {
+            if (partIndex < 0 || partIndex >= partDigests.size()) return null;
+            return ConvertUtils.toHexString(partDigests.get(partIndex));
+        }
+
+        /**
+         * 获取根摘要
+         * @return 根摘要
+         */
+        public byte[] getRootDigest() {
+            return rootDigest;
+        }
+
+        /**
+         * 获取根摘要十六进制字符串
+         * @return 根摘要十六进制字符串
+         */
+        public String getRootDigestToHexString() {
+            return ConvertUtils.toHexString(rootDigest);
+        }
+    }
+
+    // ========
+    // = 多摘要 =
+    // ========
+
+    /**
+     * 单次读取文件计算多个摘要
+     * @param file       文件
+     * @param listener   摘要进度回调
+     * @param algorithms 摘要算法 ( MD5、SHA-1、SHA-256、{@link #CRC32} 等 )
+     * @return 算法 - 摘要 Map
+     */
+    public static Map<String, byte[]> digest(
+            final File file,
+            final ProgressListener listener,
+            final String... algorithms
+    ) {
+        if (file == null || algorithms == null || algorithms.length == 0) return null;
+        RandomAccessFile raf = null;
+        try {
+            Digester[] digesters = createDigesters(algorithms);
+            raf = new RandomAccessFile(file, "r");
+            FileChannel channel = raf.getChannel();
+            long        total   = channel.size();
+            readRange(channel, 0L, total, digesters, listener, null, total);
+            Map<String, byte[]> maps = new LinkedHashMap<>();
+            for (int i = 0; i < algorithms.length; i++) {
+                maps.put(algorithms[i], digesters[i].digest());
+            }
+            return maps;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "digest");
+            return null;
+        } finally {
+            CloseUtils.closeIOQuietly(raf);
+        }
+    }
+
+    /**
+     * 单次读取文件计算多个摘要
+     * @param file       文件
+     * @param listener   摘要进度回调
+     * @param algorithms 摘要算法 ( MD5、SHA-1、SHA-256、{@link #CRC32} 等 )
+     * @return 算法 - 摘要十六进制字符串 Map
+     */
+    public static Map<String, String> digestToHexString(
+            final File file,
+            final ProgressListener listener,
+            final String... algorithms
+    ) {
+        Map<String, byte[]> maps = digest(file, listener, algorithms);
+        if (maps == null) return null;
+        Map<String, String> hexMaps = new LinkedHashMap<>();
+        for (Map.Entry<String, byte[]> entry : maps.entrySet()) {
+            hexMaps.put(entry.getKey(), ConvertUtils.toHexString(entry.getValue()));
+        }
+        return hexMaps;
+    }
+
+    // ==========
+    // = 分片摘要 =
+    // ==========
+
+    /**
+     * 并行计算文件分片摘要
+     * @param filePartAssist 文件分片辅助类
+     * @param algorithm      摘要算法 ( MD5、SHA-1、SHA-256、{@link #CRC32} 等 )
+     * @param threadCount    并行线程数 ( 小于等于 0 则使用 CPU 核数 )
+     * @param listener       摘要进度回调
+     * @return {@link PartDigest}
+     */
+    public static PartDigest digestParts(
+            final FilePartAssist filePartAssist,
+            final String algorithm,
+            final int threadCount,
+            final ProgressListener listener
+    ) {
+        if (filePartAssist == null || !filePartAssist.existsPart()
+                || filePartAssist.getFile() == null || algorithm == null) {
+            return null;
+        }
+        List<FilePartItem> items = filePartAssist.getFilePartItems();
+        int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        threads = Math.max(1, Math.min(threads, items.size()));
+
+        RandomAccessFile raf      = null;
+        ExecutorService  executor = null;
+        try {
+            raf = new RandomAccessFile(filePartAssist.getFile(), "r");
+            final FileChannel channel = raf.getChannel();
+            final long        total   = channel.size();
+            final AtomicLong  current = new AtomicLong();
+            List<Callable<byte[]>> tasks = new ArrayList<>(items.size());
+            for (final FilePartItem item : items) {
+                tasks.add(() -> {
+                    Digester[] digesters = createDigesters(algorithm);
+                    readRange(channel, item.start, item.end, digesters, listener, current, total);
+                    return digesters[0].digest();
+                });
+            }
+            executor = Executors.newFixedThreadPool(threads);
+            List<byte[]> partDigests = new ArrayList<>(items.size());
+            Digester     root        = createDigesters(algorithm)[0];
+            for (Future<byte[]> future : executor.invokeAll(tasks)) {
+                byte[] partDigest = future.get();
+                partDigests.add(partDigest);
+                root.update(partDigest, 0, partDigest.length);
+            }
+            return new PartDigest(algorithm, partDigests, root.digest());
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "digestParts");
+            return null;
+        } finally {
+            if (executor != null) executor.shutdownNow();
+            CloseUtils.closeIOQuietly(raf);
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 定位读取文件区间并更新摘要
+     * @param channel   文件通道
+     * @param start     开始位置
+     * @param end       结束位置 ( 不包含 )
+     * @param digesters 摘要计算集合
+     * @param listener  摘要进度回调
+     * @param current   已读取字节数 ( 多分片共享, 可为 null )
+     * @param total     总字节数
+     * @throws Exception 读取异常
+     */
+    private static void readRange(
+            final FileChannel channel,
+            final long start,
+            final long end,
+            final Digester[] digesters,
+            final ProgressListener listener,
+            final AtomicLong current,
+            final long total
+    ) throws Exception {
+        byte[]     bytes    = new byte[BUFFER_SIZE];
+        ByteBuffer buffer   = ByteBuffer.wrap(bytes);
+        long       position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(bytes.length, end - position));
+            // 定位读取, 多线程共享 FileChannel 无需同步
+            int read = channel.read(buffer, position);
+            // 文件在计算过程中被截断, 摘要不完整
+            if (read < 0) {
+                throw new EOFException("unexpected end of file at " + position + ", expected " + end);
+            }
+            for (Digester digester : digesters) {
+                digester.update(bytes, 0, read);
+            }
+            position += read;
+            if (listener != null) {
+                long readLength = (current != null) ? current.addAndGet(read) : position;
+                listener.onProgress(readLength, total);
+            }
+        }
+    }
+
+    /**
+     * 创建摘要计算集合
+     * @param algorithms 摘要算法
+     * @return 摘要计算集合
+     * @throws Exception 不支持的算法
+     */
+    private static Digester[] createDigesters(final String... algorithms)
+            throws Exception {
+        Digester[] digesters = new Digester[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++) {
+            if (CRC32.equalsIgnoreCase(algorithms[i])) {
+                digesters[i] = new CRC32Digester();
+            } else {
+                digesters[i] = new MessageDigester(MessageDigest.getInstance(algorithms[i]));
+            }
+        }
+        return digesters;
+    }
+
+    /**
+     * detail: 摘要计算
+     * @author Ttt
+     */
+    private interface Digester {
+
+        void update(
+                byte[] bytes,
+                int offset,
+                int length
+        );
+
+        byte[] digest();
+    }
+
+    /**
+     * detail: MessageDigest 摘要计算
+     * @author Ttt
+     */
+    private static final class MessageDigester
+            implements Digester {
+
+        private final MessageDigest mDigest;
+
+        MessageDigester(final MessageDigest digest) {
+            this.mDigest = digest;
+        }
+
+        @Override
+        public void update(
+                byte[] bytes,
+                int offset,
+                int length
+        ) {
+            mDigest.update(bytes, offset, length);
+        }
+
+        @Override
+        public byte[] digest() {
+            return mDigest.digest();
+        }
+    }
+
+    /**
+     * detail: CRC32 摘要计算
+     * @author Ttt
+     */
+    private static final class CRC32Digester
+            implements Digester {
+
+        private final java.util.zip.CRC32 mCRC32 = new java.util.zip.CRC32();
+
+        @Override
+        public void update(
+                byte[] bytes,
+                int offset,
+                int length
+        ) {
+            mCRC32.update(bytes, offset, length);
+        }
+
+        @Override
+        public byte[] digest() {
+            long value = mCRC32.getValue();
+            return new byte[]{
+                    (byte) (value >>> 24), (byte) (value >>> 16),
+                    (byte) (value >>> 8), (byte) value
+            };
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package dev.utils.common.encrypt;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 
 import dev.utils.JCLogUtils;
 
@@ -12,6 +15,8 @@ import dev.utils.JCLogUtils;
  * @author Ttt
  * <pre>
  *     Triple DES、DESede 进行了三重 DES 加密的算法 ( 对称加密算法 )
+ *     <p></p>
+ *     Cipher 按线程、密钥缓存复用, 流式方法按 64KB 分块处理, 不需要将完整数据读入内存
  * </pre>
  */
 public final class TripleDESUtils {
@@ -22,6 +27,11 @@ public final class TripleDESUtils {
     // 日志 TAG
     private static final String TAG = TripleDESUtils.class.getSimpleName();
 
+    // 加密方式
+    private static final String TRANSFORMATION = "DESede/ECB/PKCS5Padding";
+    // 密钥算法
+    private static final String ALGORITHM      = "DESede";
+
     /**
      * 生成密钥
      * @return 密钥 byte[]
@@ -50,10 +60,9 @@ public final class TripleDESUtils {
     ) {
         if (data == null || key == null) return null;
         try {
-            SecretKey secretKey = new SecretKeySpec(key, "DESede");
-            Cipher    cipher    = Cipher.getInstance("DESede/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, data
+            );
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "encrypt");
         }
@@ -72,13 +81,106 @@ public final class TripleDESUtils {
     ) {
         if (data == null || key == null) return null;
         try {
-            SecretKey secretKey = new SecretKeySpec(key, "DESede");
-            Cipher    cipher    = Cipher.getInstance("DESede/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            return cipher.doFinal(data);
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, data
+            );
         } catch (Exception e) {
             JCLogUtils.eTag(TAG, e, "decrypt");
         }
         return null;
     }
+
+    /**
+     * 3DES 加密 ByteBuffer
+     * @param input  待加密数据 ( position 至 limit )
+     * @param output 加密数据写入 ( 剩余空间需大于待加密数据长度 + 8 )
+     * @param key    密钥
+     * @return 写入 output 字节数, 失败则返回 -1
+     */
+    public static int encrypt(
+            final ByteBuffer input,
+            final ByteBuffer output,
+            final byte[] key
+    ) {
+        if (input == null || output == null || key == null) return -1;
+        try {
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, input, output
+            );
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encrypt");
+        }
+        return -1;
+    }
+
+    /**
+     * 3DES 解密 ByteBuffer
+     * @param input  待解密数据 ( position 至 limit )
+     * @param output 解密数据写入 ( 剩余空间需大于等于待解密数据长度 )
+     * @param key    密钥
+     * @return 写入 output 字节数, 失败则返回 -1
+     */
+    public static int decrypt(
+            final ByteBuffer input,
+            final ByteBuffer output,
+            final byte[] key
+    ) {
+        if (input == null || output == null || key == null) return -1;
+        try {
+            return CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, input, output
+            );
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decrypt");
+        }
+        return -1;
+    }
+
+    /**
+     * 3DES 加密流 ( 分块处理, 结果与 byte[] 加密一致, 不关闭传入的流 )
+     * @param inputStream  待加密输入流
+     * @param outputStream 加密输出流
+     * @param key          密钥
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean encrypt(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.ENCRYPT_MODE, key, inputStream, outputStream
+            );
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "encrypt");
+        }
+        return false;
+    }
+
+    /**
+     * 3DES 解密流 ( 分块处理, 结果与 byte[] 解密一致, 不关闭传入的流 )
+     * @param inputStream  待解密输入流
+     * @param outputStream 解密输出流
+     * @param key          密钥
+     * @return {@code true} success, {@code false} fail
+     */
+    public static boolean decrypt(
+            final InputStream inputStream,
+            final OutputStream outputStream,
+            final byte[] key
+    ) {
+        if (inputStream == null || outputStream == null || key == null) return false;
+        try {
+            CipherSession.doFinal(
+                    TRANSFORMATION, ALGORITHM, Cipher.DECRYPT_MODE, key, inputStream, outputStream
+            );
+            return true;
+        } catch (Exception e) {
+            JCLogUtils.eTag(TAG, e, "decrypt");
+        }
+        return false;
+    }
 }
\ No newline at end of file
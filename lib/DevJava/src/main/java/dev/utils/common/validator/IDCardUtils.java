@@ -4,6 +4,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import dev.utils.DevFinal;
 import dev.utils.JCLogUtils;
@@ -37,6 +38,12 @@ public final class IDCardUtils {
     private static final Map<String, Integer> sTWFirstCodeMaps    = new HashMap<>();
     // 香港身份首字母对应数字
     private static final Map<String, Integer> sHKFirstCodeMaps    = new HashMap<>();
+    // 台湾身份证号码正则
+    private static final Pattern              TW_PATTERN          = Pattern.compile("^[a-zA-Z][0-9]{9}$");
+    // 澳门身份证号码正则
+    private static final Pattern              MACAO_PATTERN       = Pattern.compile("^[1|5|7][0-9]{6}\\(?[0-9A-Z]\\)?$");
+    // 香港身份证号码正则
+    private static final Pattern              HK_PATTERN          = Pattern.compile("^[A-Z]{1,2}[0-9]{6}\\(?[0-9A]\\)?$");
 
     static {
         sCityCodeMaps.put("11", "北京");
@@ -150,28 +157,8 @@ public final class IDCardUtils {
      * @return {@code true} yes, {@code false} no
      */
     public static boolean validateIdCard18(final String idCard) {
-        if (idCard != null && idCard.length() == CHINA_ID_MAX_LENGTH) {
-            // 前 17 位
-            String code17 = idCard.substring(0, 17);
-            // 第 18 位
-            String code18 = idCard.substring(17, CHINA_ID_MAX_LENGTH);
-            // 判断前 17 位是否数字
-            if (isNumber(code17)) {
-                try {
-                    int[] cardArrays = convertCharToInt(code17.toCharArray());
-                    int   sum17      = getPowerSum(cardArrays);
-                    // 获取校验位
-                    String str = getCheckCode18(sum17);
-                    // 判断最后一位是否一样
-                    if (str.length() > 0 && str.equalsIgnoreCase(code18)) {
-                        return true;
-                    }
-                } catch (Exception e) {
-                    JCLogUtils.eTag(TAG, e, "validateIdCard18");
-                }
-            }
-        }
-        return false;
+        // 前 17 位数字加权求和, 与第 18 位校验位比较
+        return idCard != null && ValidatorScanner.isIdCard18(idCard, POWER);
     }
 
     /**
@@ -292,7 +279,7 @@ public final class IDCardUtils {
         info[2] = "false"; // 默认非法
         try {
             // 属于 8, 9, 10 长度范围内
-            if (idCard.matches("^[a-zA-Z][0-9]{9}$")) { // 台湾
+            if (TW_PATTERN.matcher(idCard).matches()) { // 台湾
                 info[0] = "台湾";
                 String char2 = idCard.substring(1, 2);
                 if (char2.equals("1")) {
@@ -305,11 +292,11 @@ public final class IDCardUtils {
                     return info;
                 }
                 info[2] = validateTWCard(idCard) ? "true" : "false";
-            } else if (idCard.matches("^[1|5|7][0-9]{6}\\(?[0-9A-Z]\\)?$")) { // 澳门
+            } else if (MACAO_PATTERN.matcher(idCard).matches()) { // 澳门
                 info[0] = "澳门";
                 info[1] = "N";
                 // TODO
-            } else if (idCard.matches("^[A-Z]{1,2}[0-9]{6}\\(?[0-9A]\\)?$")) { // 香港
+            } else if (HK_PATTERN.matcher(idCard).matches()) { // 香港
                 info[0] = "香港";
                 info[1] = "N";
                 info[2] = validateHKCard(idCard) ? "true" : "false";
@@ -644,6 +631,6 @@ public final class IDCardUtils {
      * @return {@code true} yes, {@code false} no
      */
     private static boolean isNumber(final String str) {
-        return !StringUtils.isEmpty(str) && str.matches("^[0-9]*$");
+        return !StringUtils.isEmpty(str) && ValidatorScanner.isNumber(str);
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package dev
 
 import dev.capture.BuildConfig
+import dev.capture.CaptureBodyConfig
 import dev.capture.CaptureInfo
 import dev.capture.CaptureItem
+import dev.capture.CaptureStorageConfig
 import dev.capture.UtilsPublic
 import dev.capture.interceptor.StorageInterceptor
 import dev.capture.interfaces.HttpCaptureEventImpl
@@ -100,6 +102,8 @@ object DevHttpCapture {
      * @param httpFilter Http 拦截过滤器
      * @param capture    是否进行 Http 抓包拦截
      * @param eventImpl  Http 抓包事件回调
+     * @param storageConfig 抓包存储配置
+     * @param bodyConfig 响应体抓包配置
      * @return `true` success, `false` fail
      */
     fun addInterceptor(
@@ -111,13 +115,16 @@ object DevHttpCapture {
         eventImpl: IHttpCaptureEvent = object : HttpCaptureEventImpl() {
             override fun callEnd(info: CaptureInfo) {
             }
-        }
+        },
+        storageConfig: CaptureStorageConfig = CaptureStorageConfig.DEFAULT,
+        bodyConfig: CaptureBodyConfig = CaptureBodyConfig.DEFAULT
     ): Boolean {
         if (StringUtils.isNotEmpty(moduleName)) {
             if (!sCaptureMaps.containsKey(moduleName)) {
                 val interceptor = StorageInterceptor(
                     moduleName, encrypt, httpFilter,
-                    capture, eventImpl
+                    capture, eventImpl, mStorageConfig = storageConfig,
+                    mBodyConfig = bodyConfig
                 )
                 // 添加抓包拦截
                 builder.addInterceptor(interceptor)
@@ -0,0 +1,364 @@
+package dev.capture
+
+import dev.DevHttpCapture
+import dev.utils.LogPrintUtils
+import dev.utils.common.FileUtils
+import java.io.File
+import java.io.FileOutputStream
+
+/**
+ * detail: 抓包目录
+ * @author Ttt
+ * 每个模块一个目录文件 ( 模块/catalog.idx ), 每行一条 [CaptureFile] JSON ( 链接、方法、状态、时间、大小、文件位置 )
+ * 写入抓包数据时追加记录, 首次使用时加载到内存并按时间排序, 列表、分页、筛选直接查询内存目录
+ * ============
+ * 目录文件不存在 ( 旧版本抓包数据 ) 时由首次查询遍历模块文件夹重建一次
+ * 重建遍历不持有任何锁, 期间追加的记录合并后整体发布, 期间存在删除则重新遍历
+ * 清理过期文件夹、删除抓包记录时重写目录文件
+ * 目录数据使用目录锁, 不持有 [CaptureWriter.LOCK], 查询不会阻塞抓包写入
+ */
+internal object CaptureCatalog {
+
+    // 目录文件名
+    private const val CATALOG_FILE = "catalog.idx"
+
+    // 目录文件头 ( 版本 )
+    private const val HEADER = "#catalog-v1"
+
+    // 目录锁 ( 目录数据、目录文件读写 )
+    private val LOCK = Any()
+
+    // 模块目录缓存
+    private val sCatalogs = hashMapOf<String, ModuleCatalog>()
+
+    // 重建中模块目录
+    private val sRebuilds = hashMapOf<String, Rebuild>()
+
+    /**
+     * detail: 模块目录重建状态
+     * @author Ttt
+     */
+    private class Rebuild {
+        // 重建期间追加的抓包记录
+        val appended = ArrayList<CaptureFile>()
+
+        // 重建期间删除次数 ( 变化则重新遍历 )
+        var removals = 0
+    }
+
+    /**
+     * detail: 模块目录
+     * @author Ttt
+     */
+    private class ModuleCatalog(
+        val file: File
+    ) {
+        // 抓包存储文件 ( 按时间升序 )
+        val entries = ArrayList<CaptureFile>()
+
+        // 是否需要重新排序
+        var unsorted = false
+
+        /**
+         * 按时间升序排序
+         */
+        fun sort() {
+            if (unsorted) {
+                entries.sortBy { it.getTime() }
+                unsorted = false
+            }
+        }
+
+        /**
+         * 添加抓包存储文件
+         * @param captureFile 抓包存储文件
+         */
+        fun add(captureFile: CaptureFile) {
+            if (entries.isNotEmpty() && entries.last().getTime() > captureFile.getTime()) {
+                unsorted = true
+            }
+            entries.add(captureFile)
+        }
+    }
+
+    // ==========
+    // = 对外方法 =
+    // ==========
+
+    /**
+     * 追加抓包记录
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @param lists      抓包存储文件集合
+     */
+    fun append(
+        moduleName: String,
+        lists: List<CaptureFile>
+    ) {
+        if (lists.isEmpty()) return
+        synchronized(LOCK) {
+            val catalog = loaded(moduleName)
+            if (catalog == null) {
+                // 未加载则由重建遍历得到, 重建中则暂存合并
+                sRebuilds[moduleName]?.let { rebuild ->
+                    lists.forEach { rebuild.appended.add(it.copy()) }
+                }
+                return
+            }
+            val builder = StringBuilder()
+            lists.forEach { captureFile ->
+                builder.append(captureFile.toJson()).append('\n')
+                catalog.add(captureFile.copy())
+            }
+            if (catalog.file.isFile) {
+                write(catalog.file, builder.toString(), true)
+            } else {
+                rewrite(catalog)
+            }
+        }
+    }
+
+    /**
+     * 移除抓包记录
+     * @param captureFile 抓包存储文件
+     */
+    fun remove(captureFile: CaptureFile) {
+        synchronized(LOCK) {
+            val catalog = loaded(captureFile.getModuleName())
+            if (catalog == null) {
+                sRebuilds[captureFile.getModuleName()]?.let { it.removals++ }
+                return
+            }
+            val removed = catalog.entries.removeAll {
+                it.getTime() == captureFile.getTime() &&
+                        it.getFileName() == captureFile.getFileName() &&
+                        it.getSegmentOffset() == captureFile.getSegmentOffset()
+            }
+            if (removed) rewrite(catalog)
+        }
+    }
+
+    /**
+     * 移除指定时间之前的抓包记录 ( 清理过期文件夹后调用 )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @param time       时间 ( 不包含 )
+     */
+    fun removeBefore(
+        moduleName: String,
+        time: Long
+    ) {
+        synchronized(LOCK) {
+            val catalog = loaded(moduleName)
+            if (catalog == null) {
+                sRebuilds[moduleName]?.let { it.removals++ }
+                return
+            }
+            if (catalog.entries.removeAll { it.getTime() < time }) {
+                rewrite(catalog)
+            }
+        }
+    }
+
+    /**
+     * 清除目录缓存 ( 删除模块文件后调用 )
+     */
+    fun clear() {
+        synchronized(LOCK) {
+            sCatalogs.clear()
+            sRebuilds.clear()
+        }
+    }
+
+    /**
+     * 查询抓包记录 ( 最新的在最前面 )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @param isEncrypt  是否加密数据
+     * @param query      查询条件
+     * @param offset     跳过数量
+     * @param limit      最大数量
+     * @return 抓包存储文件集合
+     */
+    fun query(
+        moduleName: String,
+        isEncrypt: Boolean,
+        query: CaptureQuery? = null,
+        offset: Int = 0,
+        limit: Int = Int.MAX_VALUE
+    ): MutableList<CaptureFile> {
+        val lists = mutableListOf<CaptureFile>()
+        if (limit <= 0) return lists
+        val catalog = catalog(moduleName)
+        synchronized(LOCK) {
+            catalog.sort()
+            val entries = catalog.entries
+            // 按时间二分查找范围
+            val start = if (query != null && query.startTime > 0L) {
+                lowerBound(entries, query.startTime)
+            } else 0
+            val end = if (query != null && query.endTime > 0L) {
+                lowerBound(entries, query.endTime)
+            } else entries.size
+            var skip = offset
+            for (i in end - 1 downTo start) {
+                val captureFile = entries[i]
+                if (captureFile.isEncrypt() != isEncrypt) continue
+                if (query != null && !query.match(captureFile)) continue
+                if (skip > 0) {
+                    skip--
+                    continue
+                }
+                lists.add(captureFile.copy())
+                if (lists.size >= limit) break
+            }
+        }
+        return lists
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 获取模块目录 ( 未加载则加载, 目录文件无效则遍历模块文件夹重建 )
+     * 调用时不能持有 [LOCK]、[CaptureWriter.LOCK]
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @return [ModuleCatalog]
+     */
+    private fun catalog(moduleName: String): ModuleCatalog {
+        while (true) {
+            val rebuild: Rebuild
+            val removals: Int
+            synchronized(LOCK) {
+                loaded(moduleName)?.let { return it }
+                rebuild = sRebuilds.getOrPut(moduleName) { Rebuild() }
+                removals = rebuild.removals
+            }
+            // 遍历模块文件夹不持有锁
+            val scanned = Utils.scanModuleHttpCaptures(moduleName)
+            synchronized(LOCK) {
+                sCatalogs[moduleName]?.let { return it }
+                // 重建期间未清除缓存、未删除记录则发布, 否则重新遍历
+                if (sRebuilds[moduleName] === rebuild && rebuild.removals == removals) {
+                    val catalog = ModuleCatalog(catalogFile(moduleName))
+                    val keys = HashSet<String>()
+                    scanned.forEach {
+                        keys.add(entryKey(it))
+                        catalog.add(it)
+                    }
+                    rebuild.appended.forEach {
+                        if (keys.add(entryKey(it))) catalog.add(it)
+                    }
+                    catalog.sort()
+                    if (catalog.entries.isNotEmpty() || FileUtils.isFileExists(catalog.file.parentFile)) {
+                        rewrite(catalog)
+                    }
+                    sRebuilds.remove(moduleName)
+                    sCatalogs[moduleName] = catalog
+                    return catalog
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取已加载模块目录 ( 未加载则读取目录文件, 需持有 [LOCK] )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @return [ModuleCatalog], 目录文件无效 ( 需重建 ) 则返回 null
+     */
+    private fun loaded(moduleName: String): ModuleCatalog? {
+        sCatalogs[moduleName]?.let { return it }
+        val catalog = ModuleCatalog(catalogFile(moduleName))
+        val lines = try {
+            if (catalog.file.isFile) catalog.file.readLines() else emptyList()
+        } catch (e: Exception) {
+            LogPrintUtils.eTag(DevHttpCapture.TAG, e, "catalog")
+            emptyList()
+        }
+        if (lines.firstOrNull() != HEADER) return null
+        for (i in 1 until lines.size) {
+            val line = lines[i]
+            if (line.isNotEmpty()) {
+                Utils.fromJson(line, CaptureFile::class.java)?.let {
+                    catalog.add(it)
+                }
+            }
+        }
+        catalog.sort()
+        sRebuilds.remove(moduleName)
+        sCatalogs[moduleName] = catalog
+        return catalog
+    }
+
+    /**
+     * 获取目录文件
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @return 目录文件
+     */
+    private fun catalogFile(moduleName: String): File {
+        return FileUtils.getFile(Utils.getModulePath(moduleName), CATALOG_FILE)
+    }
+
+    /**
+     * 获取抓包记录唯一标识 ( 时间、文件名、分段偏移 )
+     * @param captureFile 抓包存储文件
+     * @return 唯一标识
+     */
+    private fun entryKey(captureFile: CaptureFile): String {
+        return "${captureFile.getTime()}|${captureFile.getFileName()}|${captureFile.getSegmentOffset()}"
+    }
+
+    /**
+     * 重写目录文件
+     * @param catalog 模块目录
+     */
+    private fun rewrite(catalog: ModuleCatalog) {
+        val builder = StringBuilder(HEADER).append('\n')
+        catalog.entries.forEach { captureFile ->
+            builder.append(captureFile.toJson()).append('\n')
+        }
+        write(catalog.file, builder.toString(), false)
+    }
+
+    /**
+     * 写入目录文件
+     * @param file    目录文件
+     * @param content 写入内容
+     * @param append  是否追加
+     */
+    private fun write(
+        file: File,
+        content: String,
+        append: Boolean
+    ) {
+        try {
+            FileUtils.createFolder(file.parentFile)
+            FileOutputStream(file, append).use {
+                it.write(content.toByteArray(Charsets.UTF_8))
+            }
+        } catch (e: Exception) {
+            LogPrintUtils.eTag(DevHttpCapture.TAG, e, "catalog write")
+        }
+    }
+
+    /**
+     * 获取第一个时间不小于指定时间的索引
+     * @param entries 抓包存储文件 ( 按时间升序 )
+     * @param time    时间
+     * @return 索引
+     */
+    private fun lowerBound(
+        entries: List<CaptureFile>,
+        time: Long
+    ): Int {
+        var low = 0
+        var high = entries.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (entries[mid].getTime() < time) {
+                low = mid + 1
+            } else {
+                high = mid
+            }
+        }
+        return low
+    }
+}
\ No newline at end of file
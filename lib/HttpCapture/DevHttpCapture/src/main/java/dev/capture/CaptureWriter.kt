@@ -0,0 +1,554 @@
+package dev.capture
+
+import dev.DevHttpCapture
+import dev.utils.DevFinal
+import dev.utils.LogPrintUtils
+import dev.utils.common.CloseUtils
+import dev.utils.common.DateUtils
+import dev.utils.common.FileUtils
+import dev.utils.common.ThrowableUtils
+import dev.utils.common.cipher.Encrypt
+import java.io.BufferedOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.io.RandomAccessFile
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * detail: 抓包数据后台写入
+ * @author Ttt
+ * 请求线程只将抓包数据放入有界队列, 由单个后台线程批量序列化、加密并追加写入分段文件
+ * 队列已满时直接丢弃新的抓包数据 ( 记录丢弃数量 ), 不阻塞请求线程
+ * 单条数据序列化、写入失败时仅丢弃该条数据 ( 记录丢弃数量 ), 不影响同批次其他数据
+ * ============
+ * 存储结构: 模块/yyyyMMdd/HHmm/seg_时间戳.idx + seg_时间戳.seg
+ * .idx 每行一条 [CaptureFile] JSON ( 记录数据偏移、长度 ), .seg 顺序存储抓包数据
+ * 分段文件达到 [CaptureStorageConfig.segmentBytes] 或进入新的时间文件夹时滚动创建
+ * ============
+ * 每次批量写入后按 [CaptureStorageConfig] 清理模块超出大小、超出保存时长的最早时间文件夹
+ * 清理 ( 统计大小、删除文件夹 ) 不持有 [LOCK], 仅分段写入、写入状态及索引缓存更新持有
+ */
+internal object CaptureWriter {
+
+    // 写入队列容量
+    private const val QUEUE_CAPACITY = 512
+
+    // 单次批量写入最大数量
+    private const val BATCH_SIZE = 64
+
+    // 保存时长检查间隔 ( 毫秒 )
+    private const val AGE_CHECK_INTERVAL = 60L * 1000L
+
+    // 时间文件夹间隔 ( 毫秒 )
+    private const val TIME_FOLDER_INTERVAL = 10L * 60L * 1000L
+
+    // 分段文件锁 ( 写入、读取索引、删除互斥 )
+    val LOCK = Any()
+
+    // 写入队列
+    private val sQueue = ArrayBlockingQueue<Task>(QUEUE_CAPACITY)
+
+    // 丢弃数量
+    private val sDroppedCount = AtomicLong()
+
+    // 模块写入状态
+    private val sStates = hashMapOf<String, ModuleState>()
+
+    // 写入线程
+    @Volatile
+    private var sThread: Thread? = null
+
+    /**
+     * detail: 写入任务
+     * @author Ttt
+     */
+    private class Task(
+        val captureFile: CaptureFile,
+        val info: CaptureInfo,
+        val encrypt: Encrypt?,
+        val config: CaptureStorageConfig
+    )
+
+    /**
+     * detail: 模块写入状态
+     * @author Ttt
+     */
+    private class ModuleState(
+        val moduleName: String,
+        val modulePath: String
+    ) {
+        // 当前时间文件夹
+        var folder: String? = null
+
+        // 当前分段文件名 ( 不含后缀 )
+        var segmentName: String? = null
+
+        // 模块存储大小 ( -1 表示未统计 )
+        var moduleBytes = -1L
+
+        // 上次保存时长检查时间
+        var lastAgeCheck = 0L
+    }
+
+    // ==========
+    // = 对外方法 =
+    // ==========
+
+    /**
+     * 添加抓包数据写入任务
+     * @param captureFile 抓包存储文件
+     * @param info        抓包信息封装类
+     * @param encrypt     抓包数据加密中间层
+     * @param config      抓包存储配置
+     * @return `true` success, `false` 队列已满丢弃
+     */
+    fun offer(
+        captureFile: CaptureFile,
+        info: CaptureInfo,
+        encrypt: Encrypt?,
+        config: CaptureStorageConfig
+    ): Boolean {
+        ensureThread()
+        if (sQueue.offer(Task(captureFile, info, encrypt, config))) {
+            return true
+        }
+        sDroppedCount.incrementAndGet()
+        return false
+    }
+
+    /**
+     * 获取因队列已满、写入失败丢弃的抓包数量
+     * @return 丢弃数量
+     */
+    fun getDroppedCount(): Long {
+        return sDroppedCount.get()
+    }
+
+    /**
+     * 重置模块写入状态 ( 删除模块文件后调用 )
+     */
+    fun resetState() {
+        synchronized(LOCK) {
+            sStates.clear()
+            CaptureCatalog.clear()
+        }
+    }
+
+    /**
+     * 读取分段索引文件
+     * @param file 分段索引文件
+     * @return 抓包存储文件集合
+     */
+    fun readSegmentIndex(file: File): MutableList<CaptureFile> {
+        val lists = mutableListOf<CaptureFile>()
+        val lines = synchronized(LOCK) {
+            try {
+                file.readLines()
+            } catch (e: Exception) {
+                LogPrintUtils.eTag(DevHttpCapture.TAG, e, "readSegmentIndex")
+                emptyList()
+            }
+        }
+        lines.forEach { line ->
+            if (line.isNotEmpty()) {
+                Utils.fromJson(line, CaptureFile::class.java)?.let {
+                    lists.add(it)
+                }
+            }
+        }
+        return lists
+    }
+
+    /**
+     * 读取分段数据
+     * @param file   分段数据文件
+     * @param offset 数据偏移
+     * @param length 数据长度
+     * @return 抓包数据
+     */
+    fun readSegment(
+        file: File,
+        offset: Long,
+        length: Int
+    ): String? {
+        if (!FileUtils.isFile(file) || length < 0) return null
+        var raf: RandomAccessFile? = null
+        try {
+            raf = RandomAccessFile(file, "r")
+            val bytes = ByteArray(length)
+            raf.seek(offset)
+            raf.readFully(bytes)
+            return String(bytes, Charsets.UTF_8)
+        } catch (e: Exception) {
+            LogPrintUtils.eTag(DevHttpCapture.TAG, e, "readSegment")
+        } finally {
+            CloseUtils.closeIOQuietly(raf)
+        }
+        return null
+    }
+
+    /**
+     * 删除分段索引记录
+     * @param captureFile 抓包存储文件
+     * @return `true` success, `false` fail
+     */
+    fun deleteSegmentRecord(captureFile: CaptureFile): Boolean {
+        val file = captureFile.getFile()
+        val offset = captureFile.getSegmentOffset()
+        synchronized(LOCK) {
+            CaptureCatalog.remove(captureFile)
+            if (!FileUtils.isFile(file)) return false
+            try {
+                val lines = file.readLines().filter { line ->
+                    line.isNotEmpty() && Utils.fromJson(
+                        line, CaptureFile::class.java
+                    )?.getSegmentOffset() != offset
+                }
+                if (lines.isEmpty()) {
+                    FileUtils.deleteFile(file)
+                    return FileUtils.deleteFile(
+                        FileUtils.getFile(segmentDataPath(file))
+                    )
+                }
+                file.writeText(lines.joinToString("\n", postfix = "\n"))
+                return true
+            } catch (e: Exception) {
+                LogPrintUtils.eTag(DevHttpCapture.TAG, e, "deleteSegmentRecord")
+            }
+            return false
+        }
+    }
+
+    // ==========
+    // = 内部方法 =
+    // ==========
+
+    /**
+     * 确保写入线程已启动
+     */
+    private fun ensureThread() {
+        if (sThread != null) return
+        synchronized(this) {
+            if (sThread == null) {
+                val thread = Thread({ loop() }, "${DevHttpCapture.TAG}-Writer")
+                thread.isDaemon = true
+                thread.priority = Thread.MIN_PRIORITY
+                thread.start()
+                sThread = thread
+            }
+        }
+    }
+
+    /**
+     * 写入线程循环
+     */
+    private fun loop() {
+        val batch = ArrayList<Task>(BATCH_SIZE)
+        while (true) {
+            try {
+                batch.add(sQueue.take())
+                sQueue.drainTo(batch, BATCH_SIZE - 1)
+                writeBatch(batch)
+            } catch (_: InterruptedException) {
+                return
+            } catch (e: Throwable) {
+                LogPrintUtils.eTag(DevHttpCapture.TAG, e, "CaptureWriter loop")
+            } finally {
+                batch.clear()
+            }
+        }
+    }
+
+    /**
+     * 批量写入抓包数据
+     * @param batch 写入任务集合
+     */
+    private fun writeBatch(batch: List<Task>) {
+        // 序列化、加密不持有锁
+        val records = batch.mapNotNull { task ->
+            try {
+                task to toCaptureData(task)
+            } catch (e: Exception) {
+                LogPrintUtils.eTag(DevHttpCapture.TAG, e, "writeBatch toCaptureData")
+                sDroppedCount.incrementAndGet()
+                null
+            }
+        }
+        // 按模块分组, 同一分段文件只打开一次
+        val groups = records.groupBy { it.first.captureFile.getModuleName() }
+        val now = System.currentTimeMillis()
+        // 需要清理的模块
+        val trims = mutableListOf<Pair<ModuleState, CaptureStorageConfig>>()
+        synchronized(LOCK) {
+            groups.forEach { (moduleName, list) ->
+                val state = sStates.getOrPut(moduleName) {
+                    ModuleState(moduleName, Utils.getModulePath(moduleName))
+                }
+                val appended = mutableListOf<CaptureFile>()
+                var written = 0L
+                var appender: SegmentAppender? = null
+                try {
+                    list.forEach { (task, data) ->
+                        try {
+                            val folder = Utils.getTimeFile(
+                                state.modulePath, task.captureFile.getTime()
+                            )
+                            val current = appender
+                            if (current == null || folder != state.folder ||
+                                current.length >= task.config.segmentBytes
+                            ) {
+                                // 先置空, 打开失败时不会重复关闭
+                                appender = null
+                                current?.close()
+                                appender = openAppender(
+                                    state, folder, task.captureFile.isEncrypt(),
+                                    task.config.segmentBytes
+                                )
+                            }
+                            written += appender!!.append(task.captureFile, data)
+                            appended.add(task.captureFile)
+                        } catch (e: Exception) {
+                            LogPrintUtils.eTag(DevHttpCapture.TAG, e, "writeBatch")
+                            sDroppedCount.incrementAndGet()
+                            // 输出流可能已损坏, 下一条数据重新打开分段文件
+                            appender?.close()
+                            appender = null
+                        }
+                    }
+                } finally {
+                    appender?.close()
+                }
+                CaptureCatalog.append(moduleName, appended)
+                if (state.moduleBytes >= 0L) state.moduleBytes += written
+                val config = list.last().first.config
+                if (shouldTrim(state, config, now)) trims.add(state to config)
+            }
+        }
+        // 统计大小、删除文件夹不持有锁
+        trims.forEach { (state, config) ->
+            trimModule(state, config, now)
+        }
+    }
+
+    /**
+     * 获取抓包数据 ( 序列化并加密 )
+     * @param task 写入任务
+     * @return 抓包数据
+     */
+    private fun toCaptureData(task: Task): ByteArray {
+        var httpCaptureData = task.info.toJson()
+        // 如果存在加密则进行处理
+        task.encrypt?.let { encrypt ->
+            httpCaptureData = try {
+                val bytes = encrypt.encrypt(httpCaptureData?.toByteArray())
+                String(bytes)
+            } catch (e: Exception) {
+                ThrowableUtils.getThrowable(e)
+            }
+        }
+        return (httpCaptureData ?: "").toByteArray(Charsets.UTF_8)
+    }
+
+    /**
+     * 打开分段文件追加写入
+     * @param state        模块写入状态
+     * @param folder       时间文件夹路径
+     * @param isEncrypt    是否加密数据
+     * @param segmentBytes 单个分段文件最大大小
+     * @return [SegmentAppender]
+     */
+    private fun openAppender(
+        state: ModuleState,
+        folder: String,
+        isEncrypt: Boolean,
+        segmentBytes: Long
+    ): SegmentAppender {
+        FileUtils.createFolder(folder)
+        var name = state.segmentName
+        if (name == null || folder != state.folder || FileUtils.getFileLength(
+                FileUtils.getFile(folder, name + Utils.SEGMENT_DATA_EXTENSION)
+            ) >= segmentBytes
+        ) {
+            name = newSegmentName(folder, isEncrypt)
+        }
+        state.folder = folder
+        state.segmentName = name
+        return SegmentAppender(
+            FileUtils.getFile(folder, name + Utils.SEGMENT_INDEX_EXTENSION),
+            FileUtils.getFile(folder, name + Utils.SEGMENT_DATA_EXTENSION)
+        )
+    }
+
+    /**
+     * 获取新的分段文件名 ( 不含后缀 )
+     * @param folder    时间文件夹路径
+     * @param isEncrypt 是否加密数据
+     * @return 分段文件名
+     */
+    private fun newSegmentName(
+        folder: String,
+        isEncrypt: Boolean
+    ): String {
+        // 属于加密的文件名前加前缀
+        val prefix = if (isEncrypt) "encrypt_seg_" else "seg_"
+        var millis = System.currentTimeMillis()
+        while (FileUtils.isFileExists(
+                FileUtils.getFile(folder, prefix + millis + Utils.SEGMENT_INDEX_EXTENSION)
+            )
+        ) {
+            millis++
+        }
+        return prefix + millis
+    }
+
+    /**
+     * 获取分段数据文件路径
+     * @param indexFile 分段索引文件
+     * @return 分段数据文件路径
+     */
+    private fun segmentDataPath(indexFile: File): String {
+        return indexFile.absolutePath.removeSuffix(
+            Utils.SEGMENT_INDEX_EXTENSION
+        ) + Utils.SEGMENT_DATA_EXTENSION
+    }
+
+    /**
+     * detail: 分段文件追加写入
+     * @author Ttt
+     * 数据直接写入文件, 索引缓冲至关闭时写入, 读取索引时对应数据已完整
+     */
+    private class SegmentAppender(
+        private val indexFile: File,
+        dataFile: File
+    ) {
+        // 数据文件输出流
+        private val dataStream = FileOutputStream(dataFile, true)
+
+        // 索引文件输出流
+        private val indexStream = BufferedOutputStream(
+            FileOutputStream(indexFile, true)
+        )
+
+        // 数据文件长度
+        var length = dataFile.length()
+            private set
+
+        /**
+         * 追加写入抓包数据
+         * @param captureFile 抓包存储文件
+         * @param data        抓包数据
+         * @return 写入字节数
+         */
+        fun append(
+            captureFile: CaptureFile,
+            data: ByteArray
+        ): Long {
+            dataStream.write(data)
+            captureFile.setFileName(indexFile.name)
+                .setSegment(length, data.size)
+                .setSize(data.size.toLong())
+            val line = ((captureFile.toJson() ?: "") + "\n").toByteArray(Charsets.UTF_8)
+            indexStream.write(line)
+            length += data.size
+            return (data.size + line.size).toLong()
+        }
+
+        /**
+         * 关闭输出流
+         */
+        fun close() {
+            CloseUtils.closeIOQuietly(dataStream, indexStream)
+        }
+    }
+
+    // ==========
+    // = 存储清理 =
+    // ==========
+
+    /**
+     * 判断模块是否需要清理 ( 持有 [LOCK] 调用 )
+     * @param state  模块写入状态
+     * @param config 抓包存储配置
+     * @param now    当前时间
+     * @return `true` yes, `false` no
+     */
+    private fun shouldTrim(
+        state: ModuleState,
+        config: CaptureStorageConfig,
+        now: Long
+    ): Boolean {
+        val checkAge = config.maxAgeMillis > 0L &&
+                now - state.lastAgeCheck >= AGE_CHECK_INTERVAL
+        val checkBytes = config.maxModuleBytes > 0L &&
+                (state.moduleBytes < 0L || state.moduleBytes > config.maxModuleBytes)
+        if (checkAge) state.lastAgeCheck = now
+        return checkAge || checkBytes
+    }
+
+    /**
+     * 清理模块超出大小、超出保存时长的时间文件夹
+     * <pre>
+     *     仅在写入线程调用且不持有 [LOCK], 写入状态只由写入线程修改
+     *     正在写入的时间文件夹及之后的文件夹不清理, 与并发读取、删除记录仅在文件不存在时失败
+     * </pre>
+     * @param state  模块写入状态
+     * @param config 抓包存储配置
+     * @param now    当前时间
+     */
+    private fun trimModule(
+        state: ModuleState,
+        config: CaptureStorageConfig,
+        now: Long
+    ) {
+        var total = FileUtils.getDirLength(state.modulePath)
+        val expireTime = now - config.maxAgeMillis
+        // 已清理文件夹的结束时间
+        var removeTime = 0L
+        for (folder in listTimeFolders(state.modulePath)) {
+            // 不清理正在写入的时间文件夹
+            if (FileUtils.getAbsolutePath(folder.first) == state.folder) break
+            val expired = config.maxAgeMillis > 0L &&
+                    folder.second + TIME_FOLDER_INTERVAL < expireTime
+            val oversize = config.maxModuleBytes > 0L && total > config.maxModuleBytes
+            if (!expired && !oversize) break
+            val length = FileUtils.getDirLength(folder.first)
+            if (FileUtils.deleteDir(folder.first)) total -= length
+            removeTime = folder.second + TIME_FOLDER_INTERVAL
+            // 年月日文件夹已无内容则删除
+            val parent = folder.first.parentFile
+            if (parent != null && parent.list().isNullOrEmpty()) {
+                FileUtils.deleteDir(parent)
+            }
+        }
+        synchronized(LOCK) {
+            state.moduleBytes = total
+            if (removeTime > 0L) {
+                CaptureCatalog.removeBefore(state.moduleName, removeTime)
+            }
+        }
+    }
+
+    /**
+     * 获取模块全部时间文件夹 ( 从早到晚 )
+     * @param modulePath 模块路径
+     * @return 时间文件夹及开始时间集合
+     */
+    private fun listTimeFolders(modulePath: String): List<Pair<File, Long>> {
+        val lists = mutableListOf<Pair<File, Long>>()
+        FileUtils.getFile(modulePath).listFiles()?.forEach { ymdFile ->
+            if (ymdFile.isDirectory && ymdFile.name.length == 8) {
+                ymdFile.listFiles()?.forEach { hmFile ->
+                    if (hmFile.isDirectory && hmFile.name.length == 4) {
+                        val time = DateUtils.parseLong(
+                            ymdFile.name + hmFile.name, DevFinal.TIME.yyyyMMddHHmm
+                        )
+                        if (time > 0L) lists.add(hmFile to time)
+                    }
+                }
+            }
+        }
+        lists.sortBy { it.second }
+        return lists
+    }
+}
\ No newline at end of file
@@ -52,6 +52,77 @@ class CaptureRedact(
     }
 }
 
+/**
+ * detail: 抓包存储配置
+ * @author Ttt
+ * 抓包数据由后台线程批量追加写入分段文件, 并按模块限制存储大小、保存时长
+ * 写入队列已满时丢弃新的抓包数据, 不阻塞请求线程
+ */
+class CaptureStorageConfig(
+    // 单个模块最大存储大小 ( 字节, <= 0 不限制 )
+    val maxModuleBytes: Long = 64L * 1024L * 1024L,
+    // 最长保存时长 ( 毫秒, <= 0 不限制 )
+    val maxAgeMillis: Long = 7L * 24L * 60L * 60L * 1000L,
+    // 单个分段文件最大大小 ( 字节 )
+    val segmentBytes: Long = 4L * 1024L * 1024L
+) {
+    companion object {
+
+        // 默认存储配置
+        @JvmField
+        val DEFAULT = CaptureStorageConfig()
+    }
+}
+
+/**
+ * detail: 响应体抓包配置
+ * @author Ttt
+ * 默认读取完整响应体后再返回给调用方, 大文件下载、流式响应会完整驻留内存
+ * 开启 [streaming] 后包装响应体数据源, 调用方读取时同步复制到抓包缓存 ( 最多 [maxBodyBytes] 字节 )
+ * 响应体读取完毕或关闭时结束抓包, 未读取、未关闭的响应体不会触发抓包结束回调
+ */
+class CaptureBodyConfig(
+    // 是否流式抓包响应体
+    val streaming: Boolean = false,
+    // 单个请求响应体最大抓包字节数 ( 流式抓包时生效, 超出部分不记录 )
+    val maxBodyBytes: Long = 256L * 1024L
+) {
+    companion object {
+
+        // 默认响应体抓包配置
+        @JvmField
+        val DEFAULT = CaptureBodyConfig()
+    }
+}
+
+/**
+ * detail: 抓包数据查询条件
+ * @author Ttt
+ * 通过抓包目录查询, 不读取抓包数据文件
+ */
+class CaptureQuery(
+    // 请求链接包含字符串 ( 为空不过滤 )
+    val url: String? = null,
+    // 响应状态前缀 ( 如 "200"、"5", 为空不过滤 )
+    val status: String? = null,
+    // 开始时间 ( 包含, <= 0 不限制 )
+    val startTime: Long = 0L,
+    // 结束时间 ( 不包含, <= 0 不限制 )
+    val endTime: Long = 0L
+) {
+
+    /**
+     * 判断抓包存储文件是否符合条件 ( 不判断时间 )
+     * @param captureFile 抓包存储文件
+     * @return `true` yes, `false` no
+     */
+    internal fun match(captureFile: CaptureFile): Boolean {
+        if (!url.isNullOrEmpty() && !captureFile.getUrl().contains(url)) return false
+        if (!status.isNullOrEmpty() && !captureFile.getStatus().startsWith(status)) return false
+        return true
+    }
+}
+
 /**
  * detail: 抓包存储 Item
  * @author Ttt
@@ -132,6 +203,18 @@ class CaptureFile {
     // 模块名
     private var moduleName: String = ""
 
+    // 响应状态
+    private var status: String = ""
+
+    // 抓包数据大小
+    private var size: Long = 0
+
+    // 抓包数据在分段文件中的偏移 ( -1 表示独立数据文件 )
+    private var segmentOffset: Long = -1L
+
+    // 抓包数据在分段文件中的长度
+    private var segmentLength: Int = 0
+
     // =======
     // = get =
     // =======
@@ -160,6 +243,18 @@ class CaptureFile {
         return moduleName
     }
 
+    fun getStatus(): String {
+        return status
+    }
+
+    fun getSize(): Long {
+        return size
+    }
+
+    internal fun getSegmentOffset(): Long {
+        return segmentOffset
+    }
+
     // =======
     // = set =
     // =======
@@ -194,6 +289,49 @@ class CaptureFile {
         return this
     }
 
+    internal fun setStatus(status: String): CaptureFile {
+        this.status = status
+        return this
+    }
+
+    internal fun setSize(size: Long): CaptureFile {
+        this.size = size
+        return this
+    }
+
+    internal fun setSegment(
+        offset: Long,
+        length: Int
+    ): CaptureFile {
+        this.segmentOffset = offset
+        this.segmentLength = length
+        return this
+    }
+
+    /**
+     * 复制抓包存储文件信息 ( 不包含抓包数据 )
+     * @return [CaptureFile]
+     */
+    internal fun copy(): CaptureFile {
+        return CaptureFile().setUrl(url)
+            .setMethod(method)
+            .setEncrypt(encrypt)
+            .setTime(time)
+            .setFileName(fileName)
+            .setModuleName(moduleName)
+            .setStatus(status)
+            .setSize(size)
+            .setSegment(segmentOffset, segmentLength)
+    }
+
+    /**
+     * 是否存储在分段文件中
+     * @return `true` yes, `false` no
+     */
+    internal fun isSegment(): Boolean {
+        return segmentOffset >= 0L
+    }
+
     // ==========
     // = 抓包数据 =
     // ==========
@@ -204,7 +342,11 @@ class CaptureFile {
 
     fun getHttpCaptureData(): String? {
         if (httpCaptureData == null) {
-            httpCaptureData = FileUtils.readFile(getDataFile())
+            httpCaptureData = if (isSegment()) {
+                CaptureWriter.readSegment(getDataFile(), segmentOffset, segmentLength)
+            } else {
+                FileUtils.readFile(getDataFile())
+            }
         }
         return httpCaptureData
     }
@@ -247,8 +389,15 @@ class CaptureFile {
      * @return `true` success, `false` fail
      */
     fun deleteFile(): Boolean {
+        // 分段文件只移除索引记录, 数据随分段文件过期清理
+        if (isSegment()) {
+            return CaptureWriter.deleteSegmentRecord(this)
+        }
+        // 先删除文件再移除目录记录, 避免重建目录时遍历到已删除的文件
         FileUtils.deleteFile(getDataFile())
-        return FileUtils.deleteFile(getFile())
+        val result = FileUtils.deleteFile(getFile())
+        CaptureCatalog.remove(this)
+        return result
     }
 
     /**
@@ -3,11 +3,11 @@ package dev.capture
 import com.google.gson.GsonBuilder
 import dev.DevHttpCapture
 import dev.capture.Utils.getModulePath
+import dev.capture.interfaces.HttpCaptureEventImpl
 import dev.utils.DevFinal
 import dev.utils.LogPrintUtils
 import dev.utils.app.PathUtils
 import dev.utils.common.*
-import dev.utils.common.encrypt.MD5Utils
 import dev.utils.common.validator.ValidatorUtils
 import java.io.File
 
@@ -76,6 +76,27 @@ class UtilsPublic private constructor() {
         return Utils.getAllModule(isEncrypt)
     }
 
+    /**
+     * 查询指定模块抓包数据 ( 最新的在最前面 )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @param isEncrypt  是否加密数据
+     * @param query      查询条件
+     * @param offset     跳过数量 ( 分页 )
+     * @param limit      最大数量 ( 分页 )
+     * @return 抓包存储文件集合
+     */
+    fun queryModuleHttpCaptures(
+        moduleName: String,
+        isEncrypt: Boolean,
+        query: CaptureQuery? = null,
+        offset: Int = 0,
+        limit: Int = Int.MAX_VALUE
+    ): MutableList<CaptureFile> {
+        return Utils.queryModuleHttpCaptures(
+            moduleName, isEncrypt, query, offset, limit
+        )
+    }
+
     // ======================
     // = 耗时操作需开启线程执行 =
     // ======================
@@ -86,7 +107,10 @@ class UtilsPublic private constructor() {
      * @return `true` success, `false` fail
      */
     fun deleteModule(moduleName: String): Boolean {
-        return FileUtils.deleteAllInDir(getModulePath(moduleName))
+        synchronized(CaptureWriter.LOCK) {
+            CaptureWriter.resetState()
+            return FileUtils.deleteAllInDir(getModulePath(moduleName))
+        }
     }
 
     /**
@@ -94,7 +118,10 @@ class UtilsPublic private constructor() {
      * @return `true` success, `false` fail
      */
     fun deleteAllModule(): Boolean {
-        return FileUtils.deleteAllInDir(getStoragePath())
+        synchronized(CaptureWriter.LOCK) {
+            CaptureWriter.resetState()
+            return FileUtils.deleteAllInDir(getStoragePath())
+        }
     }
 
     /**
@@ -130,6 +157,14 @@ class UtilsPublic private constructor() {
     fun getAllModuleFileLength(): Long {
         return FileUtils.getDirLength(getStoragePath())
     }
+
+    /**
+     * 获取因写入队列已满、写入失败丢弃的抓包数量
+     * @return 丢弃数量
+     */
+    fun getDroppedCount(): Long {
+        return CaptureWriter.getDroppedCount()
+    }
 }
 
 // ===============
@@ -183,28 +218,6 @@ internal object Utils {
         return null
     }
 
-    // =======
-    // = 排序 =
-    // =======
-
-    /**
-     * 通过文件名进行排序
-     * @param files 待排序文件数组
-     * @return 排序后的文件名
-     */
-    private fun sortFileByName(files: Array<File>?): MutableList<File> {
-        val lists = mutableListOf<File>()
-        if (files != null) {
-            lists.addAll(files.toMutableList())
-            lists.sortWith { file1, file2 ->
-                val value1 = ConvertUtils.toInt(file1.name)
-                val value2 = ConvertUtils.toInt(file2.name)
-                value2.compareTo(value1)
-            }
-        }
-        return lists
-    }
-
     // =============
     // = 文件操作相关 =
     // =============
@@ -216,6 +229,10 @@ internal object Utils {
     private const val FILE_EXTENSION = ".json"
     private const val DATA_FILE_EXTENSION = "_data.json"
 
+    // 分段文件后缀 ( 索引、数据 )
+    const val SEGMENT_INDEX_EXTENSION = ".idx"
+    const val SEGMENT_DATA_EXTENSION = ".seg"
+
     /**
      * 获取抓包存储路径
      * @return 抓包存储路径
@@ -272,52 +289,45 @@ internal object Utils {
     fun getModuleHttpCaptureDataFile(
         captureFile: CaptureFile
     ): File {
-        val filePath = StringUtils.replaceEndsWith(
-            FileUtils.getAbsolutePath(getModuleHttpCaptureFile(captureFile)),
-            FILE_EXTENSION, DATA_FILE_EXTENSION
-        )
+        val filePath = if (captureFile.isSegment()) {
+            StringUtils.replaceEndsWith(
+                FileUtils.getAbsolutePath(getModuleHttpCaptureFile(captureFile)),
+                SEGMENT_INDEX_EXTENSION, SEGMENT_DATA_EXTENSION
+            )
+        } else {
+            StringUtils.replaceEndsWith(
+                FileUtils.getAbsolutePath(getModuleHttpCaptureFile(captureFile)),
+                FILE_EXTENSION, DATA_FILE_EXTENSION
+            )
+        }
         return FileUtils.getFile(filePath)
     }
 
     // =
 
-    /**
-     * 获取唯一文件名
-     * @param filePath  文件路径 [getModulePath]
-     * @param isEncrypt 是否加密数据
-     * @return 唯一文件名
-     */
-    private fun getUniqueFileName(
-        filePath: String,
-        isEncrypt: Boolean
-    ): String? {
-        if (StringUtils.isEmpty(filePath)) return null
-        while (true) {
-            val md5Value = MD5Utils.md5(DevCommonUtils.getRandomUUIDToString())
-            // 属于加密的文件名前加前缀
-            val fileName = if (isEncrypt) {
-                "encrypt_$md5Value$FILE_EXTENSION"
-            } else {
-                md5Value + FILE_EXTENSION
-            }
-            // 文件不存在才返回文件名
-            if (!FileUtils.isFileExists(filePath, fileName)) {
-                return fileName
-            }
-        }
-    }
-
     /**
      * 获取时间间隔文件夹路径
      * @param modulePath 模块名
      * @param millis     创建时间 ( 本地时间戳 )
      * @return 时间间隔文件夹路径
      */
-    private fun getTimeFile(
+    fun getTimeFile(
         modulePath: String,
         millis: Long
     ): String {
         val yyyyMMdd = DateUtils.formatTime(millis, DevFinal.TIME.yyyyMMdd)
+        // 存储文件夹路径
+        return FileUtils.getAbsolutePath(
+            FileUtils.getFile(modulePath, yyyyMMdd + File.separator + getTimeFolderName(millis))
+        )
+    }
+
+    /**
+     * 获取时间间隔文件夹名 ( HHmm )
+     * @param millis 创建时间 ( 本地时间戳 )
+     * @return 时间间隔文件夹名
+     */
+    fun getTimeFolderName(millis: Long): String {
         val HH = DateUtils.formatTime(millis, DevFinal.TIME.HH)
         val mm = ConvertUtils.toInt(DateUtils.formatTime(millis, DevFinal.TIME.mm))
         // 存储间隔以 10 分钟为单位
@@ -334,42 +344,7 @@ internal object Utils {
         } else { // 50-59
             "50"
         }
-        // 存储文件夹路径
-        return FileUtils.getAbsolutePath(
-            FileUtils.getFile(modulePath, yyyyMMdd + File.separator + HH + mmStr)
-        )
-    }
-
-    /**
-     * 存储 Http 抓包数据
-     * @param captureFile 抓包存储文件
-     * @return `true` success, `false` fail
-     */
-    fun saveHttpCaptureFile(captureFile: CaptureFile): Boolean {
-        // 获取指定模块抓包存储路径
-        val modulePath = getModulePath(captureFile.getModuleName())
-        // 存储文件夹路径
-        val filePath = getTimeFile(modulePath, captureFile.getTime())
-        // 创建文件夹
-        FileUtils.createFolder(filePath)
-        // 获取文件名
-        val fileName = getUniqueFileName(filePath, captureFile.isEncrypt())
-        if (fileName != null) {
-            captureFile.setFileName(fileName)
-            // 将对象转换为 JSON String
-            val json = captureFile.toJson()
-            // 存储抓包数据文件
-            FileUtils.saveFile(
-                captureFile.getDataFile(),
-                StringUtils.getBytes(captureFile.httpCaptureData)
-            )
-            // 存储处理
-            return FileUtils.saveFile(
-                getModuleHttpCaptureFile(filePath, fileName),
-                StringUtils.getBytes(json)
-            )
-        }
-        return false
+        return HH + mmStr
     }
 
     /**
@@ -416,76 +391,83 @@ internal object Utils {
         isEncrypt: Boolean
     ): MutableList<CaptureItem> {
         val lists = mutableListOf<CaptureItem>()
-        // 获取指定模块抓包存储路径
-        val filePath = getModulePath(moduleName)
-        val moduleFile = FileUtils.getFile(filePath)
-        if (FileUtils.isFileExists(moduleFile)) {
-            // 循环年月日文件夹
-            val yyyyMMddFiles = sortFileByName(moduleFile.listFiles())
-            yyyyMMddFiles.forEach { ymdFile ->
-                // 验证是否 yyyyMMdd 8 位数数字文件名
-                if (validateFileName(ymdFile, 8)) {
-                    val ymdName = ymdFile.name
-                    // 循环时分文件夹
-                    val hhmmFiles = sortFileByName(ymdFile.listFiles())
-                    if (hhmmFiles.isNotEmpty()) {
-                        val captureItem = CaptureItem(ymdName)
-                        hhmmFiles.forEach { hmFile ->
-                            // 验证是否 hhmm 4 位数数字文件名
-                            if (validateFileName(hmFile, 4)) {
-                                val hmName = hmFile.name
-                                // 循环抓包存储文件
-                                val files = hmFile.listFiles()
-                                if (files != null && files.isNotEmpty()) {
-                                    val captureList = mutableListOf<CaptureFile>()
-                                    files.forEach { file ->
-                                        if (FileUtils.isFile(file)) {
-                                            val fileName = file.name
-                                            // 不属于数据文件才读取
-                                            if (!fileName.endsWith(DATA_FILE_EXTENSION)) {
-                                                // 判断是否加密文件
-                                                val isEncryptFile = fileName.startsWith(
-                                                    "encrypt_"
-                                                )
-                                                if (isEncrypt) {
-                                                    // 要求获取加密文件并且属于加密文件才处理
-                                                    if (isEncryptFile) {
-                                                        fromCaptureFile(file)?.let {
-                                                            captureList.add(it)
-                                                        }
-                                                    }
-                                                } else {
-                                                    // 要求获取非加密文件并且属于非加密文件才处理
-                                                    if (!isEncryptFile) {
-                                                        fromCaptureFile(file)?.let {
-                                                            captureList.add(it)
-                                                        }
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                    if (captureList.isNotEmpty()) {
-                                        // 最新的在最前面
-                                        captureList.sortWith { o1, o2 ->
-                                            val diff = o1.getTime() - o2.getTime()
-                                            if (diff > 0) {
-                                                -1
-                                            } else if (diff < 0) {
-                                                1
-                                            } else {
-                                                0
-                                            }
-                                        }
-                                        // 存储数据 - 时分
-                                        captureItem.data[hmName] = captureList
-                                    }
+        var captureItem: CaptureItem? = null
+        // 抓包目录查询结果最新的在最前面, 按年月日、时分依次分组
+        for (captureFile in CaptureCatalog.query(moduleName, isEncrypt)) {
+            val time = captureFile.getTime()
+            val yyyyMMdd = DateUtils.formatTime(time, DevFinal.TIME.yyyyMMdd)
+            val item = captureItem?.takeIf {
+                it.yyyyMMdd == yyyyMMdd
+            } ?: CaptureItem(yyyyMMdd).also {
+                lists.add(it)
+                captureItem = it
+            }
+            item.data.getOrPut(getTimeFolderName(time)) {
+                mutableListOf()
+            }.add(captureFile)
+        }
+        return lists
+    }
+
+    /**
+     * 查询指定模块抓包数据 ( 最新的在最前面 )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @param isEncrypt  是否加密数据
+     * @param query      查询条件
+     * @param offset     跳过数量
+     * @param limit      最大数量
+     * @return 抓包存储文件集合
+     */
+    fun queryModuleHttpCaptures(
+        moduleName: String,
+        isEncrypt: Boolean,
+        query: CaptureQuery?,
+        offset: Int,
+        limit: Int
+    ): MutableList<CaptureFile> {
+        return CaptureCatalog.query(moduleName, isEncrypt, query, offset, limit)
+    }
+
+    /**
+     * 遍历模块文件夹获取全部抓包存储文件 ( 重建抓包目录使用 )
+     * @param moduleName 模块名 ( 要求唯一性 )
+     * @return 全部抓包存储文件 ( 包含加密、非加密 )
+     */
+    fun scanModuleHttpCaptures(moduleName: String): MutableList<CaptureFile> {
+        val lists = mutableListOf<CaptureFile>()
+        val moduleFile = FileUtils.getFile(getModulePath(moduleName))
+        // 循环年月日文件夹 ( yyyyMMdd 8 位数数字文件名 )
+        moduleFile.listFiles()?.forEach { ymdFile ->
+            if (validateFileName(ymdFile, 8)) {
+                // 循环时分文件夹 ( hhmm 4 位数数字文件名 )
+                ymdFile.listFiles()?.forEach { hmFile ->
+                    if (validateFileName(hmFile, 4)) {
+                        hmFile.listFiles()?.forEach { file ->
+                            val fileName = file.name
+                            if (!FileUtils.isFile(file)) {
+                                return@forEach
+                            }
+                            if (fileName.endsWith(SEGMENT_INDEX_EXTENSION)) {
+                                // 分段索引文件
+                                lists.addAll(CaptureWriter.readSegmentIndex(file))
+                            } else if (fileName.endsWith(FILE_EXTENSION)
+                                && !fileName.endsWith(DATA_FILE_EXTENSION)
+                            ) {
+                                // 独立抓包文件, 补充响应状态、数据大小
+                                fromCaptureFile(file)?.let { captureFile ->
+                                    val info = captureFile.getCaptureInfo()
+                                    captureFile.setStatus(
+                                        info?.responseStatus?.get(
+                                            HttpCaptureEventImpl.STATUS
+                                        ) ?: ""
+                                    ).setSize(
+                                        FileUtils.getFileLength(captureFile.getDataFile())
+                                    )
+                                    // 复制信息, 不保留已读取的抓包数据
+                                    lists.add(captureFile.copy())
                                 }
                             }
                         }
-                        if (captureItem.data.isNotEmpty()) {
-                            lists.add(captureItem)
-                        }
                     }
                 }
             }
@@ -1,6 +1,7 @@
 package dev.capture.interceptor
 
 import dev.capture.CaptureInfo
+import dev.capture.interfaces.HttpCaptureEventImpl
 import dev.capture.interfaces.HttpCaptureStorageEngine
 import dev.capture.interfaces.IHttpCapture
 import dev.capture.interfaces.IHttpCaptureEvent
@@ -8,6 +9,7 @@ import dev.capture.interfaces.IHttpCaptureEventFilter
 import okhttp3.Interceptor
 import okhttp3.Protocol
 import okhttp3.Response
+import okhttp3.internal.http.promisesBody
 import java.util.concurrent.TimeUnit
 
 /**
@@ -216,6 +218,33 @@ abstract class BaseInterceptor(
                 request, response, responseHeaders, responseBody
             )
         ) {
+            val bodyConfig = getBodyConfig()
+            if (bodyConfig.streaming && response.promisesBody() &&
+                !HttpCaptureEventImpl.bodyHasUnknownEncoding(responseHeaders)
+            ) {
+                // 流式抓包, 响应体读取完毕或关闭时再进行存储
+                return response.newBuilder().body(
+                    CaptureResponseBody(
+                        responseBody, bodyConfig.maxBodyBytes
+                    ) { buffer, byteCount, exhausted, error ->
+                        if (error != null) {
+                            if (!eventFilter.filterResponseBodyFailed(request, error)) {
+                                captureInfo.responseBody = eventImpl.callResponseBodyFailed(
+                                    request, error
+                                )
+                            }
+                        } else {
+                            //【响应数据】
+                            captureInfo.responseBody = eventImpl.callResponseBodyStreaming(
+                                request, response, responseBody,
+                                buffer, byteCount, exhausted
+                            )
+                        }
+                        // 抓包数据存储
+                        storageEngine.captureStorage(this, captureInfo, requestTime)
+                    }
+                ).build()
+            }
             //【响应数据】
             captureInfo.responseBody = eventImpl.callResponseBody(
                 request, response, responseBody
@@ -1,5 +1,6 @@
 package dev.capture.interceptor
 
+import dev.capture.CaptureBodyConfig
 import dev.capture.CaptureInfo
 import dev.capture.CaptureItem
 import dev.capture.CaptureRedact
@@ -22,7 +23,9 @@ open class CallbackInterceptor(
         }
     },
     // Http 抓包事件处理拦截
-    eventFilter: IHttpCaptureEventFilter = object : IHttpCaptureEventFilter {}
+    eventFilter: IHttpCaptureEventFilter = object : IHttpCaptureEventFilter {},
+    // 响应体抓包配置
+    @JvmField protected val mBodyConfig: CaptureBodyConfig = CaptureBodyConfig.DEFAULT
 ) : BaseInterceptor(false, eventImpl, eventFilter) {
 
     // 抓包信息隐藏字段（m 前缀避免与 [captureRedact] 方法 JVM 签名冲突）
@@ -67,4 +70,8 @@ open class CallbackInterceptor(
     override fun getHttpFilter(): IHttpFilter? {
         return null
     }
+
+    override fun getBodyConfig(): CaptureBodyConfig {
+        return mBodyConfig
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package dev.capture.interceptor
+
+import okhttp3.MediaType
+import okhttp3.ResponseBody
+import okio.Buffer
+import okio.BufferedSource
+import okio.ForwardingSource
+import okio.Source
+import okio.buffer
+import java.io.IOException
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * detail: 流式抓包响应体
+ * @author Ttt
+ * 包装原响应体数据源, 调用方读取时同步复制到抓包缓存 ( 最多 maxBytes 字节, 超出部分只计数 )
+ * 读取完毕、读取异常或关闭时触发一次 complete 回调
+ */
+internal class CaptureResponseBody(
+    // 原响应体
+    private val delegate: ResponseBody,
+    // 最大抓包字节数
+    private val maxBytes: Long,
+    // 抓包结束回调 ( 抓包数据, 已读取字节数, 是否读取完毕, 读取异常 )
+    private val complete: (Buffer, Long, Boolean, IOException?) -> Unit
+) : ResponseBody() {
+
+    // 抓包数据
+    private val captured = Buffer()
+
+    // 已读取字节数
+    private var byteCount = 0L
+
+    // 是否已结束抓包
+    private val finished = AtomicBoolean(false)
+
+    // 包装后的数据源
+    private val source: BufferedSource by lazy {
+        TeeSource(delegate.source()).buffer()
+    }
+
+    override fun contentType(): MediaType? {
+        return delegate.contentType()
+    }
+
+    override fun contentLength(): Long {
+        return delegate.contentLength()
+    }
+
+    override fun source(): BufferedSource {
+        return source
+    }
+
+    /**
+     * 结束抓包
+     * @param exhausted 是否读取完毕
+     * @param error     读取异常
+     */
+    private fun finish(
+        exhausted: Boolean,
+        error: IOException?
+    ) {
+        if (finished.compareAndSet(false, true)) {
+            try {
+                complete(captured, byteCount, exhausted, error)
+            } catch (_: Exception) {
+            }
+        }
+    }
+
+    /**
+     * detail: 读取时复制数据
+     * @author Ttt
+     */
+    private inner class TeeSource(
+        delegate: Source
+    ) : ForwardingSource(delegate) {
+
+        override fun read(
+            sink: Buffer,
+            byteCount: Long
+        ): Long {
+            val read = try {
+                super.read(sink, byteCount)
+            } catch (e: IOException) {
+                finish(false, e)
+                throw e
+            }
+            if (read == -1L) {
+                finish(true, null)
+                return read
+            }
+            val copy = minOf(read, maxBytes - captured.size)
+            if (copy > 0L) {
+                sink.copyTo(captured, sink.size - read, copy)
+            }
+            this@CaptureResponseBody.byteCount += read
+            return read
+        }
+
+        override fun close() {
+            super.close()
+            finish(false, null)
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,10 @@
 package dev.capture.interceptor
 
+import dev.capture.CaptureBodyConfig
 import dev.capture.CaptureInfo
 import dev.capture.CaptureItem
 import dev.capture.CaptureRedact
+import dev.capture.CaptureStorageConfig
 import dev.capture.Utils
 import dev.capture.interfaces.*
 import dev.utils.common.cipher.Encrypt
@@ -10,7 +12,8 @@ import dev.utils.common.cipher.Encrypt
 /**
  * detail: Http 抓包拦截器 ( 存在存储抓包数据逻辑 )
  * @author Ttt
- * 写入本地文件 ( 未开启线程，如果有性能要求可使用 [CallbackInterceptor]、[SimpleInterceptor] )
+ * 写入本地文件 ( 后台线程批量写入分段文件，队列已满时丢弃抓包数据，不阻塞请求 )
+ * 通过 [CaptureStorageConfig] 限制模块存储大小、保存时长
  * 可以通过 [IHttpCaptureEnd] 回调信息 [CaptureInfo] 自行写入本地文件、数据库
  * ============
  * 该抓包拦截器适用于敏捷开发，搭配 DevHttpCaptureCompiler 可视化功能库
@@ -19,8 +22,6 @@ import dev.utils.common.cipher.Encrypt
  * ============
  * 该拦截器与 [CallbackInterceptor] 最大的区别在于 [BaseInterceptor] 中调用
  * storageEngine.captureStorage() 进行存储操作
- * ============
- * 后续不会重构 [StorageInterceptor] 拦截器存储逻辑，如有性能要求自行实现存储逻辑、UI 可视化功能
  */
 open class StorageInterceptor(
     // 模块名 ( 要求唯一性 )（m 前缀避免与 [getModuleName] 等 JVM 签名冲突）
@@ -37,7 +38,11 @@ open class StorageInterceptor(
         }
     },
     // Http 抓包事件处理拦截
-    eventFilter: IHttpCaptureEventFilter = object : IHttpCaptureEventFilter {}
+    eventFilter: IHttpCaptureEventFilter = object : IHttpCaptureEventFilter {},
+    // 抓包存储配置
+    @JvmField protected val mStorageConfig: CaptureStorageConfig = CaptureStorageConfig.DEFAULT,
+    // 响应体抓包配置
+    @JvmField protected val mBodyConfig: CaptureBodyConfig = CaptureBodyConfig.DEFAULT
 ) : BaseInterceptor(true, eventImpl, eventFilter) {
 
     // 抓包信息隐藏字段（m 前缀避免与 [captureRedact] 方法 JVM 签名冲突）
@@ -72,6 +77,14 @@ open class StorageInterceptor(
         return mCaptureRedact
     }
 
+    override fun getStorageConfig(): CaptureStorageConfig {
+        return mStorageConfig
+    }
+
+    override fun getBodyConfig(): CaptureBodyConfig {
+        return mBodyConfig
+    }
+
     override fun getModulePath(): String {
         return Utils.getModulePath(mModuleName)
     }
@@ -1,8 +1,10 @@
 package dev.capture.interfaces
 
+import dev.capture.CaptureBodyConfig
 import dev.capture.CaptureInfo
 import dev.capture.CaptureItem
 import dev.capture.CaptureRedact
+import dev.capture.CaptureStorageConfig
 import dev.utils.common.cipher.Encrypt
 import okhttp3.*
 import okio.Buffer
@@ -77,6 +79,18 @@ interface IHttpCapture {
      */
     fun captureRedact(): CaptureRedact
 
+    /**
+     * 获取抓包存储配置
+     * @return [CaptureStorageConfig]
+     */
+    fun getStorageConfig(): CaptureStorageConfig = CaptureStorageConfig.DEFAULT
+
+    /**
+     * 获取响应体抓包配置
+     * @return [CaptureBodyConfig]
+     */
+    fun getBodyConfig(): CaptureBodyConfig = CaptureBodyConfig.DEFAULT
+
     // ==========
     // = 获取操作 =
     // ==========
@@ -220,6 +234,32 @@ interface IHttpCaptureEvent : IHttpCaptureEnd {
         responseBody: ResponseBody,
     ): String
 
+    /**
+     * 生成响应体信息 ( 流式抓包 )
+     * 默认只记录读取字节数, 解析响应体内容由 [HttpCaptureEventImpl] 实现
+     * @param request 请求对象
+     * @param response 响应对象
+     * @param responseBody 响应体
+     * @param buffer 已抓包数据 ( 未解压, 最多 [CaptureBodyConfig.maxBodyBytes] 字节 )
+     * @param byteCount 调用方已读取字节数
+     * @param exhausted 是否已读取完毕 ( `false` 表示读取完前已关闭 )
+     * @return 响应体信息
+     */
+    fun callResponseBodyStreaming(
+        request: Request,
+        response: Response,
+        responseBody: ResponseBody,
+        buffer: Buffer,
+        byteCount: Long,
+        exhausted: Boolean
+    ): String {
+        return if (exhausted) {
+            "END HTTP ( streaming $byteCount-byte body )"
+        } else {
+            "END HTTP ( closed before end of body, $byteCount-byte read )"
+        }
+    }
+
     // ==========
     // = 转换处理 =
     // ==========
@@ -3,13 +3,13 @@ package dev.capture.interfaces
 import dev.capture.CaptureFile
 import dev.capture.CaptureInfo
 import dev.capture.CaptureRedact
-import dev.capture.Utils
+import dev.capture.CaptureWriter
 import dev.capture.interceptor.BaseInterceptor
-import dev.utils.common.ThrowableUtils
 import okhttp3.*
 import okhttp3.internal.http.promisesBody
 import okio.Buffer
 import okio.GzipSource
+import java.io.IOException
 import java.nio.charset.Charset
 
 /**
@@ -198,6 +198,53 @@ abstract class HttpCaptureEventImpl : IHttpCaptureEvent {
         }
     }
 
+    override fun callResponseBodyStreaming(
+        request: Request,
+        response: Response,
+        responseBody: ResponseBody,
+        buffer: Buffer,
+        byteCount: Long,
+        exhausted: Boolean
+    ): String {
+        // 已抓包字节数 ( 小于已读取字节数表示超出抓包上限 )
+        val capturedSize = buffer.size
+        var body = buffer
+        var gzippedLength: Long? = null
+        if (GZIP.equals(response.headers[CONTENT_ENCODING], ignoreCase = true)) {
+            gzippedLength = byteCount
+            body = Buffer()
+            try {
+                GzipSource(buffer).use { gzippedResponseBody ->
+                    while (gzippedResponseBody.read(body, 8192L) != -1L) {
+                    }
+                }
+            } catch (_: IOException) {
+                // 抓包数据不完整, 保留已解压部分
+            }
+        }
+
+        val contentType = responseBody.contentType()
+        val charset = contentType?.charset(UTF_8) ?: UTF_8
+
+        if (!isProbablyUtf8(body)) {
+            return "END HTTP ( binary $byteCount-byte body omitted )"
+        }
+
+        val bodySize = if (gzippedLength != null) {
+            "${body.size}-byte, $gzippedLength-gzipped-byte"
+        } else {
+            "$byteCount-byte"
+        }
+        val builder = StringBuilder(body.readString(charset))
+        if (byteCount > capturedSize) {
+            builder.append("\nEND HTTP ( $bodySize body truncated )")
+        }
+        if (!exhausted) {
+            builder.append("\nEND HTTP ( closed before end of body, $byteCount-byte read )")
+        }
+        return builder.toString()
+    }
+
     // ==========
     // = 转换处理 =
     // ==========
@@ -462,21 +509,12 @@ internal class HttpCaptureStorageEngine(
                     .setEncrypt(base.getEncrypt() != null)
                     .setModuleName(base.getModuleName())
                     .setTime(requestTime)
+                    .setStatus(info.responseStatus[HttpCaptureEventImpl.STATUS] ?: "")
 
-                var httpCaptureData = info.toJson()
-                // 如果存在加密则进行处理
-                base.getEncrypt()?.let { encrypt ->
-                    httpCaptureData = try {
-                        val bytes = encrypt.encrypt(httpCaptureData?.toByteArray())
-                        String(bytes)
-                    } catch (e: Exception) {
-                        ThrowableUtils.getThrowable(e)
-                    }
-                }
-                // 保存抓包数据
-                captureFile.httpCaptureData = httpCaptureData
-                // 存储文件
-                Utils.saveHttpCaptureFile(captureFile)
+                // 交由后台线程序列化、加密并写入文件 ( 队列已满则丢弃 )
+                CaptureWriter.offer(
+                    captureFile, info, base.getEncrypt(), base.getStorageConfig()
+                )
             }
         }
         // 抓包结束